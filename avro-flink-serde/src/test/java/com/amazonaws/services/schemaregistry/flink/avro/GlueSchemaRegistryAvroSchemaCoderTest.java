@@ -198,11 +198,7 @@ public class GlueSchemaRegistryAvroSchemaCoderTest {
         assertThat(headerVersionByte, equalTo(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE));
         assertThat(schemaVersionId, equalTo(testGenericSchemaVersionId));
 
-        if (AWSSchemaRegistryConstants.COMPRESSION.NONE.name().equals(compressionType.name())) {
-            assertThat(compressionByte, equalTo(AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE));
-        } else {
-            assertThat(compressionByte, equalTo(AWSSchemaRegistryConstants.COMPRESSION_BYTE));
-        }
+        assertThat(compressionByte, equalTo(compressionType.getCompressionByte()));
     }
 
     private ByteArrayInputStream buildByteArrayInputStream() {
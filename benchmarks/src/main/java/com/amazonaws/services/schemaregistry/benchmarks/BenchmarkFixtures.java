@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.benchmarks;
+
+import com.amazonaws.services.schemaregistry.common.SchemaByDefinitionFetcher;
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.deserializers.GlueSchemaRegistryDeserializationFacade;
+import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistrySerializationFacade;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the serde objects shared by the benchmarks, all wired to a {@link BenchmarkSchemaRegistryClient}.
+ */
+public final class BenchmarkFixtures {
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Configuration map used by all the benchmarks.
+     *
+     * @param compression name of the {@link AWSSchemaRegistryConstants.COMPRESSION} to use
+     * @param recordType  record type the deserializer returns
+     * @return configuration map
+     */
+    public static Map<String, Object> configs(String compression, BenchmarkRecord.RecordType recordType) {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-east-1");
+        configs.put(AWSSchemaRegistryConstants.REGISTRY_NAME, "benchmark-registry");
+        configs.put(AWSSchemaRegistryConstants.COMPRESSION_TYPE, compression);
+        configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, recordType.getAvroRecordType().getName());
+        configs.put(AWSSchemaRegistryConstants.PROTOBUF_MESSAGE_TYPE, recordType.getProtobufMessageType().getName());
+        return configs;
+    }
+
+    public static GlueSchemaRegistrySerializationFacade serializationFacade(Map<String, Object> configs,
+                                                                           BenchmarkSchemaRegistryClient client) {
+        GlueSchemaRegistryConfiguration configuration = new GlueSchemaRegistryConfiguration(configs);
+        return GlueSchemaRegistrySerializationFacade.builder()
+            .credentialProvider(AnonymousCredentialsProvider.create())
+            .glueSchemaRegistryConfiguration(configuration)
+            .schemaByDefinitionFetcher(new SchemaByDefinitionFetcher(client, configuration))
+            .build();
+    }
+
+    public static GlueSchemaRegistryDeserializationFacade deserializationFacade(Map<String, Object> configs,
+                                                                               BenchmarkSchemaRegistryClient client) {
+        return GlueSchemaRegistryDeserializationFacade.builder()
+            .credentialProvider(AnonymousCredentialsProvider.create())
+            .configs(configs)
+            .schemaRegistryClient(client)
+            .build();
+    }
+}
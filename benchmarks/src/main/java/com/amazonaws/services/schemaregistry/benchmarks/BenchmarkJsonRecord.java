@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kjetland.jackson.jsonSchema.annotations.JsonSchemaInject;
+import com.kjetland.jackson.jsonSchema.annotations.JsonSchemaString;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * JSON counterpart of the generated Avro and Protobuf benchmark records. The injected {@code className} makes the
+ * deserializer read records back into this class instead of a {@link com.fasterxml.jackson.databind.JsonNode}.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonSchemaInject(strings = {@JsonSchemaString(path = "className",
+    value = "com.amazonaws.services.schemaregistry.benchmarks.BenchmarkJsonRecord")})
+public class BenchmarkJsonRecord {
+    @JsonProperty
+    private long id;
+
+    @JsonProperty
+    private String name;
+
+    @JsonProperty
+    private double score;
+
+    @JsonProperty
+    private boolean active;
+
+    @JsonProperty
+    private List<String> tags;
+
+    @JsonProperty
+    private String payload;
+}
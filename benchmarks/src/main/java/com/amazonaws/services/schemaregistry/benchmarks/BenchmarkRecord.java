@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.benchmarks;
+
+import com.amazonaws.services.schemaregistry.benchmarks.protobuf.BenchmarkRecordProtos;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.serializers.json.JsonDataWithSchema;
+import com.amazonaws.services.schemaregistry.utils.AvroRecordType;
+import com.amazonaws.services.schemaregistry.utils.ProtobufMessageType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import software.amazon.awssdk.services.glue.model.DataFormat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds a record of the requested data format and record type whose variable length field is sized to approximately
+ * the requested number of bytes. All formats share the same logical shape so numbers are comparable across data
+ * formats. Specific records are generated from {@code src/main/avro} and {@code src/main/proto}.
+ */
+@Getter
+public final class BenchmarkRecord {
+    public static final String SCHEMA_NAME = "BenchmarkRecord";
+
+    private static final int TAG_COUNT = 8;
+
+    private static final String JSON_SCHEMA = "{"
+        + "\"$schema\": \"http://json-schema.org/draft-07/schema#\", \"type\": \"object\", \"properties\": {"
+        + "\"id\": {\"type\": \"integer\"},"
+        + "\"name\": {\"type\": \"string\"},"
+        + "\"score\": {\"type\": \"number\"},"
+        + "\"active\": {\"type\": \"boolean\"},"
+        + "\"tags\": {\"type\": \"array\", \"items\": {\"type\": \"string\"}},"
+        + "\"payload\": {\"type\": \"string\"}"
+        + "}, \"required\": [\"id\", \"name\", \"payload\"]}";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final DataFormat dataFormat;
+    private final Object record;
+
+    private BenchmarkRecord(DataFormat dataFormat, Object record) {
+        this.dataFormat = dataFormat;
+        this.record = record;
+    }
+
+    /**
+     * Kind of record handed to the serializer and returned by the deserializer.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum RecordType {
+        /**
+         * Avro {@link GenericRecord}, Protobuf {@link DynamicMessage} and {@link JsonDataWithSchema}.
+         */
+        GENERIC(AvroRecordType.GENERIC_RECORD, ProtobufMessageType.DYNAMIC_MESSAGE),
+        /**
+         * Generated Avro and Protobuf classes and the {@link BenchmarkJsonRecord} POJO.
+         */
+        SPECIFIC(AvroRecordType.SPECIFIC_RECORD, ProtobufMessageType.POJO);
+
+        private final AvroRecordType avroRecordType;
+        private final ProtobufMessageType protobufMessageType;
+    }
+
+    /**
+     * Creates a record for the given data format.
+     *
+     * @param dataFormat  data format of the record
+     * @param recordType  whether to create a generic or a specific record
+     * @param payloadSize approximate size of the variable length field in bytes
+     * @return benchmark record
+     */
+    public static BenchmarkRecord of(DataFormat dataFormat, RecordType recordType, int payloadSize) {
+        final String payload = payload(payloadSize);
+        final boolean specific = RecordType.SPECIFIC.equals(recordType);
+        switch (dataFormat) {
+            case AVRO:
+                return new BenchmarkRecord(dataFormat, specific ? avroSpecificRecord(payload) : avroRecord(payload));
+            case JSON:
+                return new BenchmarkRecord(dataFormat, specific ? jsonPojo(payload) : jsonRecord(payload));
+            case PROTOBUF:
+                return new BenchmarkRecord(dataFormat, specific ? protobufPojo(payload) : protobufRecord(payload));
+            default:
+                throw new AWSSchemaRegistryException("Unsupported data format: " + dataFormat);
+        }
+    }
+
+    private static com.amazonaws.services.schemaregistry.benchmarks.avro.BenchmarkRecord avroSpecificRecord(
+        String payload) {
+        return com.amazonaws.services.schemaregistry.benchmarks.avro.BenchmarkRecord.newBuilder()
+            .setId(42L)
+            .setName("benchmark")
+            .setScore(99.5d)
+            .setActive(true)
+            .setTags(tags())
+            .setPayload(payload)
+            .build();
+    }
+
+    private static GenericRecord avroRecord(String payload) {
+        GenericRecord record = new GenericData.Record(
+            com.amazonaws.services.schemaregistry.benchmarks.avro.BenchmarkRecord.getClassSchema());
+        record.put("id", 42L);
+        record.put("name", "benchmark");
+        record.put("score", 99.5d);
+        record.put("active", true);
+        record.put("tags", tags());
+        record.put("payload", payload);
+        return record;
+    }
+
+    private static JsonDataWithSchema jsonRecord(String payload) {
+        ObjectNode node = OBJECT_MAPPER.createObjectNode();
+        node.put("id", 42L);
+        node.put("name", "benchmark");
+        node.put("score", 99.5d);
+        node.put("active", true);
+        ArrayNode tags = node.putArray("tags");
+        tags().forEach(tags::add);
+        node.put("payload", payload);
+        return JsonDataWithSchema.builder(JSON_SCHEMA, node.toString()).build();
+    }
+
+    private static BenchmarkJsonRecord jsonPojo(String payload) {
+        return BenchmarkJsonRecord.builder()
+            .id(42L)
+            .name("benchmark")
+            .score(99.5d)
+            .active(true)
+            .tags(tags())
+            .payload(payload)
+            .build();
+    }
+
+    private static BenchmarkRecordProtos.BenchmarkRecord protobufPojo(String payload) {
+        return BenchmarkRecordProtos.BenchmarkRecord.newBuilder()
+            .setId(42L)
+            .setName("benchmark")
+            .setScore(99.5d)
+            .setActive(true)
+            .addAllTags(tags())
+            .setPayload(payload)
+            .build();
+    }
+
+    private static DynamicMessage protobufRecord(String payload) {
+        Descriptors.Descriptor descriptor = BenchmarkRecordProtos.BenchmarkRecord.getDescriptor();
+        DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor)
+            .setField(descriptor.findFieldByName("id"), 42L)
+            .setField(descriptor.findFieldByName("name"), "benchmark")
+            .setField(descriptor.findFieldByName("score"), 99.5d)
+            .setField(descriptor.findFieldByName("active"), true)
+            .setField(descriptor.findFieldByName("payload"), payload);
+        Descriptors.FieldDescriptor tagsField = descriptor.findFieldByName("tags");
+        tags().forEach(tag -> builder.addRepeatedField(tagsField, tag));
+        return builder.build();
+    }
+
+    private static List<String> tags() {
+        List<String> tags = new ArrayList<>(TAG_COUNT);
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add("tag-" + i);
+        }
+        return tags;
+    }
+
+    private static String payload(int payloadSize) {
+        char[] chars = new char[payloadSize];
+        Arrays.fill(chars, 'x');
+        return new String(chars);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.benchmarks;
+
+import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryClient;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory stand-in for {@link AWSSchemaRegistryClient} so that benchmarks measure the serde code paths without
+ * any network calls. Schemas are registered up front using {@link #register(String, String, String)}.
+ */
+public class BenchmarkSchemaRegistryClient extends AWSSchemaRegistryClient {
+    private static final String SCHEMA_ARN_FORMAT = "arn:aws:glue:us-east-1:111111111111:schema/benchmark-registry/%s";
+
+    private final Map<String, UUID> schemaVersionIdsByDefinition = new ConcurrentHashMap<>();
+    private final Map<UUID, GetSchemaVersionResponse> schemaVersionsById = new ConcurrentHashMap<>();
+
+    public BenchmarkSchemaRegistryClient() {
+        super(new NoOpGlueClient());
+    }
+
+    /**
+     * Registers the schema definition and returns the schema version id assigned to it.
+     *
+     * @param schemaDefinition Schema Definition
+     * @param schemaName       Schema Name
+     * @param dataFormat       Data Format
+     * @return schema version id
+     */
+    public UUID register(String schemaDefinition, String schemaName, String dataFormat) {
+        return schemaVersionIdsByDefinition.computeIfAbsent(schemaDefinition, definition -> {
+            UUID schemaVersionId = UUID.randomUUID();
+            schemaVersionsById.put(schemaVersionId, GetSchemaVersionResponse.builder()
+                .schemaVersionId(schemaVersionId.toString())
+                .schemaDefinition(definition)
+                .dataFormat(dataFormat)
+                .schemaArn(String.format(SCHEMA_ARN_FORMAT, schemaName))
+                .status("AVAILABLE")
+                .build());
+            return schemaVersionId;
+        });
+    }
+
+    @Override
+    public UUID getSchemaVersionIdByDefinition(String schemaDefinition, String schemaName, String dataFormat) {
+        UUID schemaVersionId = schemaVersionIdsByDefinition.get(schemaDefinition);
+        if (schemaVersionId == null) {
+            throw new AWSSchemaRegistryException(
+                String.format("Schema is not registered with the benchmark client, schema name = %s", schemaName));
+        }
+        return schemaVersionId;
+    }
+
+    @Override
+    public GetSchemaVersionResponse getSchemaVersionResponse(String schemaVersionId) {
+        GetSchemaVersionResponse response = schemaVersionsById.get(UUID.fromString(schemaVersionId));
+        if (response == null) {
+            throw new AWSSchemaRegistryException(
+                String.format("Failed to get schema version Id = %s", schemaVersionId));
+        }
+        return response;
+    }
+
+    private static class NoOpGlueClient implements GlueClient {
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
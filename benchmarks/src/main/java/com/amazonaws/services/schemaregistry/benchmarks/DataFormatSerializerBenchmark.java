@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.benchmarks;
+
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatSerializer;
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistrySerializerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.model.DataFormat;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Avro, JSON and Protobuf {@link GlueSchemaRegistryDataFormatSerializer} implementations in isolation,
+ * without header encoding or schema version lookups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataFormatSerializerBenchmark {
+    @Param({"AVRO", "JSON", "PROTOBUF"})
+    private String dataFormat;
+
+    @Param({"GENERIC", "SPECIFIC"})
+    private BenchmarkRecord.RecordType recordType;
+
+    @Param({"64", "1024", "16384"})
+    private int payloadSize;
+
+    private Object record;
+    private GlueSchemaRegistryDataFormatSerializer serializer;
+
+    @Setup
+    public void setup() {
+        DataFormat format = DataFormat.fromValue(dataFormat);
+        record = BenchmarkRecord.of(format, recordType, payloadSize).getRecord();
+        serializer = new GlueSchemaRegistrySerializerFactory().getInstance(format,
+            new GlueSchemaRegistryConfiguration(BenchmarkFixtures.configs("NONE", recordType)));
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(record);
+    }
+
+    @Benchmark
+    public String getSchemaDefinition() {
+        return serializer.getSchemaDefinition(record);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.benchmarks;
+
+import com.amazonaws.services.schemaregistry.common.AWSDeserializerInput;
+import com.amazonaws.services.schemaregistry.deserializers.GlueSchemaRegistryDeserializationFacade;
+import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistrySerializationFacade;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.model.DataFormat;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GlueSchemaRegistryDeserializationFacade#deserialize(AWSDeserializerInput)} for records that were
+ * serialized with the same data format and compression settings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeserializationFacadeBenchmark {
+    @Param({"AVRO", "JSON", "PROTOBUF"})
+    private String dataFormat;
+
+    @Param({"NONE", "ZLIB", "LZ4", "ZSTD", "SNAPPY"})
+    private String compression;
+
+    @Param({"GENERIC", "SPECIFIC"})
+    private BenchmarkRecord.RecordType recordType;
+
+    @Param({"64", "1024", "16384"})
+    private int payloadSize;
+
+    private byte[] serializedRecord;
+    private GlueSchemaRegistryDeserializationFacade facade;
+
+    @Setup
+    public void setup() {
+        BenchmarkSchemaRegistryClient client = new BenchmarkSchemaRegistryClient();
+        Map<String, Object> configs = BenchmarkFixtures.configs(compression, recordType);
+        DataFormat format = DataFormat.fromValue(dataFormat);
+        Object record = BenchmarkRecord.of(format, recordType, payloadSize).getRecord();
+
+        GlueSchemaRegistrySerializationFacade serializationFacade =
+            BenchmarkFixtures.serializationFacade(configs, client);
+        UUID schemaVersionId = client.register(
+            serializationFacade.getSchemaDefinition(format, record), BenchmarkRecord.SCHEMA_NAME, dataFormat);
+        serializedRecord = serializationFacade.serialize(format, record, schemaVersionId);
+
+        facade = BenchmarkFixtures.deserializationFacade(configs, client);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return facade.deserialize(AWSDeserializerInput.builder()
+            .buffer(ByteBuffer.wrap(serializedRecord))
+            .transportName("benchmark-topic")
+            .build());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.benchmarks;
+
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.deserializers.GlueSchemaRegistryDeserializerDataParser;
+import com.amazonaws.services.schemaregistry.serializers.SerializationDataEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Schema Registry header encoding and parsing, including compression when enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeaderEncodingBenchmark {
+    @Param({"NONE", "ZLIB", "LZ4", "ZSTD", "SNAPPY"})
+    private String compression;
+
+    @Param({"64", "1024", "16384"})
+    private int payloadSize;
+
+    private final UUID schemaVersionId = UUID.randomUUID();
+    private final GlueSchemaRegistryDeserializerDataParser dataParser =
+        GlueSchemaRegistryDeserializerDataParser.getInstance();
+
+    private byte[] payload;
+    private byte[] encoded;
+    private SerializationDataEncoder encoder;
+
+    @Setup
+    public void setup() {
+        // Half random, half constant so that compression has realistic work to do.
+        payload = new byte[payloadSize];
+        new Random(payloadSize).nextBytes(payload);
+        for (int i = payloadSize / 2; i < payloadSize; i++) {
+            payload[i] = 'x';
+        }
+        encoder = new SerializationDataEncoder(new GlueSchemaRegistryConfiguration(
+            BenchmarkFixtures.configs(compression, BenchmarkRecord.RecordType.GENERIC)));
+        encoded = encoder.write(payload, schemaVersionId);
+    }
+
+    @Benchmark
+    public byte[] write() {
+        return encoder.write(payload, schemaVersionId);
+    }
+
+    @Benchmark
+    public byte[] getPlainData() {
+        return dataParser.getPlainData(ByteBuffer.wrap(encoded));
+    }
+
+    @Benchmark
+    public UUID getSchemaVersionId() {
+        return dataParser.getSchemaVersionId(ByteBuffer.wrap(encoded));
+    }
+}
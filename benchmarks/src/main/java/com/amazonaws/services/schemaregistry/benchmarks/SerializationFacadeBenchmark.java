@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.benchmarks;
+
+import com.amazonaws.services.schemaregistry.common.AWSSerializerInput;
+import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistrySerializationFacade;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.model.DataFormat;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GlueSchemaRegistrySerializationFacade#serialize(DataFormat, Object, UUID)} with and without the
+ * schema version lookup that the Kafka serializer performs for every record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationFacadeBenchmark {
+    @Param({"AVRO", "JSON", "PROTOBUF"})
+    private String dataFormat;
+
+    @Param({"NONE", "ZLIB", "LZ4", "ZSTD", "SNAPPY"})
+    private String compression;
+
+    @Param({"GENERIC", "SPECIFIC"})
+    private BenchmarkRecord.RecordType recordType;
+
+    @Param({"64", "1024", "16384"})
+    private int payloadSize;
+
+    private DataFormat format;
+    private Object record;
+    private UUID schemaVersionId;
+    private GlueSchemaRegistrySerializationFacade facade;
+
+    @Setup
+    public void setup() {
+        BenchmarkSchemaRegistryClient client = new BenchmarkSchemaRegistryClient();
+        format = DataFormat.fromValue(dataFormat);
+        record = BenchmarkRecord.of(format, recordType, payloadSize).getRecord();
+        facade = BenchmarkFixtures.serializationFacade(BenchmarkFixtures.configs(compression, recordType), client);
+        schemaVersionId =
+            client.register(facade.getSchemaDefinition(format, record), BenchmarkRecord.SCHEMA_NAME, dataFormat);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return facade.serialize(format, record, schemaVersionId);
+    }
+
+    @Benchmark
+    public byte[] getOrRegisterSchemaVersionAndSerialize() {
+        AWSSerializerInput serializerInput = AWSSerializerInput.builder()
+            .schemaDefinition(facade.getSchemaDefinition(format, record))
+            .schemaName(BenchmarkRecord.SCHEMA_NAME)
+            .dataFormat(dataFormat)
+            .transportName("benchmark-topic")
+            .build();
+        UUID resolvedSchemaVersionId = facade.getOrRegisterSchemaVersion(serializerInput);
+        return facade.serialize(format, record, resolvedSchemaVersionId);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.caching;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.Weigher;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GlueSchemaRegistryLoadingCache} backed by a Caffeine {@link LoadingCache}. Caffeine evicts with W-TinyLFU,
+ * which keeps frequently used schemas cached when there are more schemas than cache entries.
+ * <p>
+ * Caffeine is an optional dependency and has to be added by applications selecting this implementation.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class CaffeineGlueSchemaRegistryCache<K, V> implements GlueSchemaRegistryLoadingCache<K, V> {
+    private final LoadingCache<K, V> cache;
+
+    /**
+     * Creates a cache bounded by the number of entries.
+     *
+     * @param maximumSize             maximum number of entries
+     * @param refreshAfterWriteMillis time after which entries are refreshed in the background, 0 disables refresh
+     * @param refreshExecutor         executor running the refreshes and the cache maintenance
+     * @param loader                  loads and refreshes values
+     */
+    public CaffeineGlueSchemaRegistryCache(long maximumSize,
+                                           long refreshAfterWriteMillis,
+                                           @NonNull Executor refreshExecutor,
+                                           @NonNull CacheLoader<K, V> loader) {
+        this(maximumSize, null, refreshAfterWriteMillis, refreshExecutor, loader, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of its entries, without refresh.
+     *
+     * @param maximumWeight   maximum total weight of the entries
+     * @param weigher         computes the weight of an entry
+     * @param refreshExecutor executor running the cache maintenance
+     * @param loader          loads values
+     */
+    public CaffeineGlueSchemaRegistryCache(long maximumWeight,
+                                           @NonNull Weigher<? super K, ? super V> weigher,
+                                           @NonNull Executor refreshExecutor,
+                                           @NonNull CacheLoader<K, V> loader) {
+        this(maximumWeight, weigher, 0L, refreshExecutor, loader, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    CaffeineGlueSchemaRegistryCache(long maximum,
+                                    Weigher<? super K, ? super V> weigher,
+                                    long refreshAfterWriteMillis,
+                                    Executor refreshExecutor,
+                                    CacheLoader<K, V> loader,
+                                    Ticker ticker) {
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .executor(refreshExecutor)
+                .ticker(ticker::read)
+                .recordStats();
+        if (weigher == null) {
+            caffeine.maximumSize(maximum);
+        } else {
+            caffeine.maximumWeight(maximum).weigher(weigher::weigh);
+        }
+        if (refreshAfterWriteMillis > 0) {
+            caffeine.refreshAfterWrite(refreshAfterWriteMillis, TimeUnit.MILLISECONDS);
+        }
+        this.cache = caffeine.build(new CaffeineCacheLoader<>(loader));
+    }
+
+    @Override
+    public V get(K key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public V getOrLoad(K key) throws ExecutionException {
+        try {
+            return cache.get(key);
+        } catch (CompletionException e) {
+            throw new ExecutionException(e.getCause());
+        } catch (RuntimeException e) {
+            throw new ExecutionException(e);
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public void refresh(K key) {
+        cache.refresh(key);
+    }
+
+    @Override
+    public void delete(K key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void flushCache() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public long getCacheSize() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        CacheStats stats = cache.stats();
+        return GlueSchemaRegistryCacheStats.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .loadSuccessCount(stats.loadSuccessCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .totalLoadTimeNanos(stats.totalLoadTime())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+    /**
+     * Adapts the Guava loader used by the other cache implementations to Caffeine.
+     */
+    @RequiredArgsConstructor
+    private static class CaffeineCacheLoader<K, V> implements com.github.benmanes.caffeine.cache.CacheLoader<K, V> {
+        private final CacheLoader<K, V> loader;
+
+        @Override
+        public V load(K key) throws Exception {
+            return loader.load(key);
+        }
+
+        @Override
+        public V reload(K key, V oldValue) throws Exception {
+            try {
+                return loader.reload(key, oldValue).get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof Exception ? (Exception) cause : e;
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.caching;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Point in time statistics of a {@link GlueSchemaRegistryLoadingCache}, independent of the cache implementation.
+ */
+@Value
+@Builder
+public class GlueSchemaRegistryCacheStats {
+    /**
+     * Number of lookups that found a cached value.
+     */
+    private long hitCount;
+    /**
+     * Number of lookups that did not find a cached value.
+     */
+    private long missCount;
+    /**
+     * Number of values loaded successfully.
+     */
+    private long loadSuccessCount;
+    /**
+     * Number of loads that failed.
+     */
+    private long loadFailureCount;
+    /**
+     * Total time spent loading values, in nanoseconds.
+     */
+    private long totalLoadTimeNanos;
+    /**
+     * Number of values evicted from the cache.
+     */
+    private long evictionCount;
+
+    /**
+     * Get the total number of lookups.
+     *
+     * @return hits plus misses
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Get the ratio of lookups that found a cached value, 1.0 when there was no lookup yet.
+     *
+     * @return hit rate between 0.0 and 1.0
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Get the average time spent loading a value, 0.0 when nothing was loaded yet.
+     *
+     * @return average load time in nanoseconds
+     */
+    public double getAverageLoadPenaltyNanos() {
+        long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0 ? 0.0 : (double) totalLoadTimeNanos / loadCount;
+    }
+}
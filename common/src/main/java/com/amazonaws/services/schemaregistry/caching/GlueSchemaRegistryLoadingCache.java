@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.caching;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cache that loads missing values on demand and refreshes them in the background.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public interface GlueSchemaRegistryLoadingCache<K, V> extends GlueSchemaRegistryCache<K, V, GlueSchemaRegistryCacheStats> {
+
+    /**
+     * Get the Value corresponding to the key, loading it if it is not present.
+     *
+     * @param key key for cache entry
+     * @return Value associated with the key
+     * @throws ExecutionException wrapping the exception thrown while loading the value
+     */
+    V getOrLoad(K key) throws ExecutionException;
+
+    /**
+     * Get the Value corresponding to the key, loading it if it is not present.
+     *
+     * @param key key for cache entry
+     * @return Value associated with the key
+     * @throws AWSSchemaRegistryException wrapping the exception thrown while loading the value
+     */
+    default V getOrLoadUnchecked(K key) {
+        try {
+            return getOrLoad(key);
+        } catch (ExecutionException e) {
+            throw new AWSSchemaRegistryException(e.getCause());
+        }
+    }
+
+    /**
+     * Loads a new value for the key in the background, the current value is served until the load completes and is
+     * kept if the load fails.
+     *
+     * @param key key for cache entry
+     */
+    void refresh(K key);
+}
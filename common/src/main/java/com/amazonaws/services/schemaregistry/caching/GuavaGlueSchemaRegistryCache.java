@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.caching;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.NonNull;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GlueSchemaRegistryLoadingCache} backed by a Guava {@link LoadingCache} with LRU eviction.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class GuavaGlueSchemaRegistryCache<K, V> implements GlueSchemaRegistryLoadingCache<K, V> {
+    private final LoadingCache<K, V> cache;
+
+    /**
+     * Creates a cache bounded by the number of entries.
+     *
+     * @param maximumSize             maximum number of entries
+     * @param refreshAfterWriteMillis time after which entries are refreshed in the background, 0 disables refresh
+     * @param refreshExecutor         executor running the refreshes
+     * @param loader                  loads and refreshes values
+     */
+    public GuavaGlueSchemaRegistryCache(long maximumSize,
+                                        long refreshAfterWriteMillis,
+                                        @NonNull Executor refreshExecutor,
+                                        @NonNull CacheLoader<K, V> loader) {
+        this(maximumSize, null, refreshAfterWriteMillis, refreshExecutor, loader, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of its entries, without refresh.
+     *
+     * @param maximumWeight   maximum total weight of the entries
+     * @param weigher         computes the weight of an entry
+     * @param refreshExecutor executor running the refreshes
+     * @param loader          loads values
+     */
+    public GuavaGlueSchemaRegistryCache(long maximumWeight,
+                                        @NonNull Weigher<? super K, ? super V> weigher,
+                                        @NonNull Executor refreshExecutor,
+                                        @NonNull CacheLoader<K, V> loader) {
+        this(maximumWeight, weigher, 0L, refreshExecutor, loader, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    GuavaGlueSchemaRegistryCache(long maximum,
+                                 Weigher<? super K, ? super V> weigher,
+                                 long refreshAfterWriteMillis,
+                                 Executor refreshExecutor,
+                                 CacheLoader<K, V> loader,
+                                 Ticker ticker) {
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder()
+                .ticker(ticker)
+                .recordStats();
+        if (weigher == null) {
+            cacheBuilder.maximumSize(maximum);
+        } else {
+            cacheBuilder.maximumWeight(maximum).weigher(weigher);
+        }
+        CacheLoader<K, V> cacheLoader = loader;
+        if (refreshAfterWriteMillis > 0) {
+            cacheBuilder.refreshAfterWrite(refreshAfterWriteMillis, TimeUnit.MILLISECONDS);
+            cacheLoader = CacheLoader.asyncReloading(loader, refreshExecutor);
+        }
+        this.cache = cacheBuilder.build(cacheLoader);
+    }
+
+    @Override
+    public V get(K key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public V getOrLoad(K key) throws ExecutionException {
+        try {
+            return cache.get(key);
+        } catch (UncheckedExecutionException e) {
+            throw new ExecutionException(e.getCause());
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public void refresh(K key) {
+        cache.refresh(key);
+    }
+
+    @Override
+    public void delete(K key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void flushCache() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public long getCacheSize() {
+        return cache.size();
+    }
+
+    @Override
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        CacheStats stats = cache.stats();
+        return GlueSchemaRegistryCacheStats.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .loadSuccessCount(stats.loadSuccessCount())
+                .loadFailureCount(stats.loadExceptionCount())
+                .totalLoadTimeNanos(stats.totalLoadTime())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
@@ -0,0 +1,505 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetricNames;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
+import software.amazon.awssdk.services.glue.GlueAsyncClientBuilder;
+import software.amazon.awssdk.services.glue.model.AlreadyExistsException;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking counterpart of {@link AWSSchemaRegistryClient} built on {@link GlueAsyncClient}.
+ *
+ * Every operation returns a {@link CompletableFuture} that completes with the same result the synchronous client
+ * would return, or exceptionally with an {@link AWSSchemaRegistryException} wrapping the underlying failure. No
+ * calling thread is blocked: the schema evolution check that follows a pending registration is polled from a
+ * scheduler instead of sleeping.
+ */
+@Slf4j
+public class AWSSchemaRegistryAsyncClient implements Closeable {
+
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long MAX_WAIT_INTERVAL = 3000;
+    private static final long RETRY_INTERVAL = 300;
+
+    private final GlueAsyncClient client;
+    private final GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration;
+    private final ScheduledExecutorService scheduler;
+    private final long initialWaitIntervalMillis;
+    private final long retryIntervalMillis;
+
+    /**
+     * Create Amazon Schema Registry asynchronous Client.
+     *
+     * @param credentialsProvider             credentials provider
+     * @param glueSchemaRegistryConfiguration schema registry configuration elements
+     * @param retryPolicy                     retry policy applied to the Glue calls
+     * @throws AWSSchemaRegistryException on any error while building the client
+     */
+    public AWSSchemaRegistryAsyncClient(@NonNull AwsCredentialsProvider credentialsProvider,
+                                        @NonNull GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration,
+                                        @NonNull RetryPolicy retryPolicy) {
+        this(buildGlueAsyncClient(credentialsProvider, glueSchemaRegistryConfiguration, retryPolicy),
+             glueSchemaRegistryConfiguration);
+    }
+
+    /**
+     * Create Amazon Schema Registry asynchronous Client.
+     *
+     * @param credentialsProvider             credentials provider
+     * @param glueSchemaRegistryConfiguration schema registry configuration elements
+     * @throws AWSSchemaRegistryException on any error while building the client
+     */
+    public AWSSchemaRegistryAsyncClient(@NonNull AwsCredentialsProvider credentialsProvider,
+                                        @NonNull GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration) {
+        this(credentialsProvider, glueSchemaRegistryConfiguration, RetryPolicy.defaultRetryPolicy());
+    }
+
+    public AWSSchemaRegistryAsyncClient(@NonNull GlueAsyncClient glueAsyncClient,
+                                        @NonNull GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration) {
+        this(glueAsyncClient, glueSchemaRegistryConfiguration, createScheduler(), MAX_WAIT_INTERVAL, RETRY_INTERVAL);
+    }
+
+    @VisibleForTesting
+    AWSSchemaRegistryAsyncClient(@NonNull GlueAsyncClient glueAsyncClient,
+                                 @NonNull GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration,
+                                 @NonNull ScheduledExecutorService scheduler,
+                                 long initialWaitIntervalMillis,
+                                 long retryIntervalMillis) {
+        this.client = glueAsyncClient;
+        this.glueSchemaRegistryConfiguration = glueSchemaRegistryConfiguration;
+        this.scheduler = scheduler;
+        this.initialWaitIntervalMillis = initialWaitIntervalMillis;
+        this.retryIntervalMillis = retryIntervalMillis;
+    }
+
+    private static GlueAsyncClient buildGlueAsyncClient(AwsCredentialsProvider credentialsProvider,
+                                                        GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration,
+                                                        RetryPolicy retryPolicy) {
+        return buildGlueAsyncClient(credentialsProvider, glueSchemaRegistryConfiguration, retryPolicy,
+                                    isNettyAvailable());
+    }
+
+    /**
+     * Builds the Glue client on the Netty HTTP client when netty-nio-client is on the classpath. Otherwise the SDK
+     * discovers the asynchronous HTTP client to use, which does not support the configured proxy.
+     */
+    @VisibleForTesting
+    static GlueAsyncClient buildGlueAsyncClient(AwsCredentialsProvider credentialsProvider,
+                                                GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration,
+                                                RetryPolicy retryPolicy,
+                                                boolean nettyAvailable) {
+        ClientOverrideConfiguration overrideConfiguration = ClientOverrideConfiguration.builder()
+                .retryPolicy(retryPolicy)
+                .addExecutionInterceptor(new GlueSchemaRegistryUserAgentInterceptor(glueSchemaRegistryConfiguration))
+                .addExecutionInterceptor(new GlueSchemaRegistryMetricsInterceptor(glueSchemaRegistryConfiguration.getMetrics()))
+                .build();
+
+        GlueAsyncClientBuilder glueAsyncClientBuilder = GlueAsyncClient
+                .builder()
+                .credentialsProvider(credentialsProvider)
+                .overrideConfiguration(overrideConfiguration)
+                .region(Region.of(glueSchemaRegistryConfiguration.getRegion()));
+
+        URI proxyUrl = glueSchemaRegistryConfiguration.getProxyUrl();
+        if (nettyAvailable) {
+            glueAsyncClientBuilder.httpClient(GlueSchemaRegistryNettyHttpClients.create(proxyUrl));
+        } else if (proxyUrl != null) {
+            throw new AWSSchemaRegistryException(String.format(
+                    "Proxy %s requires software.amazon.awssdk:netty-nio-client on the classpath of the asynchronous "
+                    + "client", proxyUrl));
+        }
+
+        if (glueSchemaRegistryConfiguration.getEndPoint() != null) {
+            try {
+                glueAsyncClientBuilder.endpointOverride(new URI(glueSchemaRegistryConfiguration.getEndPoint()));
+            } catch (URISyntaxException e) {
+                String message = String.format("Malformed uri : %s, please pass the valid uri for creating the client",
+                                               glueSchemaRegistryConfiguration.getEndPoint());
+                throw new AWSSchemaRegistryException(message, e);
+            }
+        }
+
+        try {
+            return glueAsyncClientBuilder.build();
+        } catch (SdkClientException e) {
+            throw new AWSSchemaRegistryException("The asynchronous client requires an asynchronous HTTP client on the "
+                                                 + "classpath, such as software.amazon.awssdk:netty-nio-client", e);
+        }
+    }
+
+    @VisibleForTesting
+    static boolean isNettyAvailable() {
+        try {
+            Class.forName(GlueSchemaRegistryNettyHttpClients.NETTY_CLASS_NAME, false,
+                          AWSSchemaRegistryAsyncClient.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("glue-schema-registry-evolution-check-%d")
+                .build());
+    }
+
+    /**
+     * Get Schema Version ID by passing the schema definition.
+     * @param schemaDefinition Schema Definition
+     * @param schemaName       Schema Name
+     * @param dataFormat       Data Format
+     * @return                 future completing with the Schema Version ID
+     */
+    public CompletableFuture<UUID> getSchemaVersionIdByDefinition(@NonNull String schemaDefinition,
+                                                                  @NonNull String schemaName,
+                                                                  @NonNull String dataFormat) {
+        log.debug("Getting Schema Version Id for : schemaDefinition = {}, schemaName = {}, dataFormat = {}",
+                  schemaDefinition, schemaName, dataFormat);
+        String errorMessage =
+                String.format("Failed to get schemaVersionId by schema definition for schema name = %s ", schemaName);
+        return invoke(() -> client.getSchemaByDefinition(buildGetSchemaByDefinitionRequest(schemaDefinition, schemaName)),
+                      errorMessage)
+                .thenApply(response -> returnSchemaVersionIdIfAvailable(response, errorMessage));
+    }
+
+    /**
+     * Get the schema definition by passing the schema id.
+     *
+     * @param schemaVersionId schema version id
+     * @return                future completing with the schema version response corresponding to the schema id
+     */
+    public CompletableFuture<GetSchemaVersionResponse> getSchemaVersionResponse(@NonNull String schemaVersionId) {
+        String errorMessage = String.format("Failed to get schema version Id = %s", schemaVersionId);
+        GetSchemaVersionRequest request = GlueSchemaRegistryRequestBuilder.getGetSchemaVersionRequest(schemaVersionId);
+        return invoke(() -> client.getSchemaVersion(request), errorMessage)
+                .thenApply(response -> {
+                    if (response == null || response.schemaVersionId() == null) {
+                        String message = String.format("Schema definition is not present for the schema id = %s",
+                                                       schemaVersionId);
+                        throw new AWSSchemaRegistryException(errorMessage, new AWSSchemaRegistryException(message));
+                    }
+                    return response;
+                });
+    }
+
+    /**
+     * Create a schema and return its schema version id. When the schema already exists, typically because several
+     * producers raced to auto-create it, the definition is registered as a new version instead.
+     *
+     * @param schemaName       Schema Name
+     * @param dataFormat       Data Format
+     * @param schemaDefinition Schema Definition
+     * @param metadata         schema version metadata
+     * @return                 future completing with the schema version id
+     */
+    public CompletableFuture<UUID> createSchema(String schemaName,
+                                                String dataFormat,
+                                                String schemaDefinition,
+                                                Map<String, String> metadata) {
+        log.info("Auto Creating schema with schemaName: {} and schemaDefinition : {}", schemaName, schemaDefinition);
+        String errorMessage = String.format(
+                "Create schema :: Call failed when creating the schema with the schema registry for"
+                + " schema name = %s", schemaName);
+
+        CompletableFuture<UUID> created;
+        try {
+            created = client.createSchema(GlueSchemaRegistryRequestBuilder.getCreateSchemaRequestObject(
+                    glueSchemaRegistryConfiguration, schemaName, dataFormat, schemaDefinition))
+                    .thenApply(response -> UUID.fromString(response.schemaVersionId()));
+        } catch (Exception e) {
+            return failedFuture(new AWSSchemaRegistryException(errorMessage, e));
+        }
+
+        return created
+                .handle((schemaVersionId, throwable) -> {
+                    if (throwable == null) {
+                        return CompletableFuture.completedFuture(schemaVersionId);
+                    }
+                    Throwable cause = unwrap(throwable);
+                    if (cause instanceof AlreadyExistsException) {
+                        log.warn("Schema is already created, this could be caused by multiple producers racing to "
+                                 + "auto-create schema.");
+                        return registerSchemaVersion(schemaDefinition, schemaName, dataFormat)
+                                .thenApply(response -> UUID.fromString(response.schemaVersionId()));
+                    }
+                    return AWSSchemaRegistryAsyncClient.<UUID>failedFuture(
+                            new AWSSchemaRegistryException(errorMessage, cause));
+                })
+                .thenCompose(future -> future)
+                .thenCompose(schemaVersionId -> putSchemaVersionMetadata(schemaVersionId, metadata)
+                        .thenApply(ignored -> schemaVersionId));
+    }
+
+    /**
+     * Register the schema and return schema version Id once it is available.
+     * @param schemaDefinition Schema Definition
+     * @param schemaName       Schema Name
+     * @param dataFormat       Data Format
+     * @param metadata         Metadata Map
+     * @return                 future completing with the unique schema version ID
+     */
+    public CompletableFuture<UUID> registerSchemaVersion(String schemaDefinition, String schemaName, String dataFormat,
+                                                         Map<String, String> metadata) {
+        return registerSchemaVersion(schemaDefinition, schemaName, dataFormat)
+                .thenApply(response -> UUID.fromString(response.schemaVersionId()))
+                .thenCompose(schemaVersionId -> putSchemaVersionMetadata(schemaVersionId, metadata)
+                        .thenApply(ignored -> schemaVersionId));
+    }
+
+    /**
+     * Register the schema and return get schema version response once it is available. If the registry reports
+     * the version as pending, the evolution check is polled on the scheduler until it settles.
+     *
+     * @param schemaDefinition Schema Definition
+     * @param schemaName       Schema Name
+     * @param dataFormat       Data Format
+     * @return                 future completing with the GetSchemaVersionResponse object
+     */
+    public CompletableFuture<GetSchemaVersionResponse> registerSchemaVersion(String schemaDefinition,
+                                                                             String schemaName,
+                                                                             String dataFormat) {
+        String errorMessage = String.format("Register schema :: Call failed when registering the schema with the "
+                                            + "schema registry for schema name = %s", schemaName);
+        RegisterSchemaVersionRequest request = GlueSchemaRegistryRequestBuilder.getRegisterSchemaVersionRequest(
+                glueSchemaRegistryConfiguration, schemaDefinition, schemaName);
+        return invoke(() -> client.registerSchemaVersion(request), errorMessage)
+                .thenCompose(registerSchemaVersionResponse -> {
+                    log.info("Registered the schema version with schema version id = {} and with version number = {} "
+                             + "and status {}", registerSchemaVersionResponse.schemaVersionId(),
+                             registerSchemaVersionResponse.versionNumber(),
+                             registerSchemaVersionResponse.statusAsString());
+
+                    if (AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE.toString()
+                            .equals(registerSchemaVersionResponse.statusAsString())) {
+                        return CompletableFuture.completedFuture(
+                                transformToGetSchemaVersionResponse(registerSchemaVersionResponse));
+                    }
+
+                    return waitForSchemaEvolutionCheckToComplete(
+                            GlueSchemaRegistryRequestBuilder.getGetSchemaVersionRequest(
+                                    registerSchemaVersionResponse.schemaVersionId()), errorMessage);
+                });
+    }
+
+    /**
+     * Put metadata to schema version. Failures for individual entries are logged and do not fail the returned
+     * future, matching {@link AWSSchemaRegistryClient#putSchemaVersionMetadata(UUID, Map)}.
+     *
+     * @param schemaVersionId Schema Version Id
+     * @param metadata        Metadata Map
+     * @return                future completing once every entry has been attempted
+     */
+    public CompletableFuture<Void> putSchemaVersionMetadata(UUID schemaVersionId, Map<String, String> metadata) {
+        CompletableFuture<?>[] puts = metadata.entrySet()
+                .stream()
+                .map(GlueSchemaRegistryRequestBuilder::createMetadataKeyValuePair)
+                .map(metadataKeyValuePair -> invoke(
+                        () -> client.putSchemaVersionMetadata(
+                                GlueSchemaRegistryRequestBuilder.createPutSchemaVersionMetadataRequest(
+                                        schemaVersionId, metadataKeyValuePair)),
+                        String.format("Put schema version metadata :: Call failed when put metadata key = %s value = "
+                                      + "%s to schema for schema version id = %s", metadataKeyValuePair.metadataKey(),
+                                      metadataKeyValuePair.metadataValue(), schemaVersionId.toString()))
+                        .handle((response, throwable) -> {
+                            if (throwable != null) {
+                                log.warn(unwrap(throwable).getMessage());
+                            }
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(puts);
+    }
+
+    /**
+     * Create a request to get a schema using the schema definition and the schema name.
+     *
+     * @param schemaDefinition Schema Definition
+     * @param schemaName       Schema Name
+     * @return                 GetSchemaByDefinitionRequest object
+     */
+    public GetSchemaByDefinitionRequest buildGetSchemaByDefinitionRequest(String schemaDefinition, String schemaName) {
+        return GlueSchemaRegistryRequestBuilder.getSchemaByDefinitionRequest(schemaDefinition, schemaName,
+                                                                     glueSchemaRegistryConfiguration.getRegistryName());
+    }
+
+    /**
+     * Releases the evolution check scheduler and the underlying Glue client.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        client.close();
+    }
+
+    /**
+     * Polls the schema version until its evolution check is complete. The first poll happens after the initial
+     * wait interval; subsequent polls of a still pending version are spaced by the retry interval.
+     */
+    private CompletableFuture<GetSchemaVersionResponse> waitForSchemaEvolutionCheckToComplete(
+            GetSchemaVersionRequest getSchemaVersionRequest, String errorMessage) {
+        CompletableFuture<GetSchemaVersionResponse> result = new CompletableFuture<>();
+        long startNanos = System.nanoTime();
+        scheduleEvolutionCheck(getSchemaVersionRequest, 1, initialWaitIntervalMillis, result);
+        return result
+                .whenComplete((response, throwable) -> glueSchemaRegistryConfiguration.getMetrics().recordTime(
+                        GlueSchemaRegistryMetricNames.REGISTRATION_WAIT_TIME, System.nanoTime() - startNanos))
+                .exceptionally(throwable -> {
+                    throw new AWSSchemaRegistryException(errorMessage, unwrap(throwable));
+                });
+    }
+
+    private void scheduleEvolutionCheck(GetSchemaVersionRequest getSchemaVersionRequest, int attempt, long delayMillis,
+                                        CompletableFuture<GetSchemaVersionResponse> result) {
+        try {
+            scheduler.schedule(() -> pollEvolutionCheck(getSchemaVersionRequest, attempt, result),
+                               delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(evolutionCheckFailure(getSchemaVersionRequest, e));
+        }
+    }
+
+    private void pollEvolutionCheck(GetSchemaVersionRequest getSchemaVersionRequest, int attempt,
+                                    CompletableFuture<GetSchemaVersionResponse> result) {
+        CompletableFuture<GetSchemaVersionResponse> poll;
+        try {
+            poll = client.getSchemaVersion(getSchemaVersionRequest);
+        } catch (Exception e) {
+            result.completeExceptionally(evolutionCheckFailure(getSchemaVersionRequest, e));
+            return;
+        }
+
+        poll.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(evolutionCheckFailure(getSchemaVersionRequest, unwrap(throwable)));
+            } else if (AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE.toString()
+                    .equals(response.statusAsString())) {
+                result.complete(response);
+            } else if (!AWSSchemaRegistryConstants.SchemaVersionStatus.PENDING.toString()
+                    .equals(response.statusAsString())) {
+                result.completeExceptionally(evolutionCheckFailure(getSchemaVersionRequest,
+                        new AWSSchemaRegistryException(String.format("Schema evolution check failed. "
+                                                                     + "schemaVersionId %s is in %s status.",
+                                                                     getSchemaVersionRequest.schemaVersionId(),
+                                                                     response.statusAsString()))));
+            } else if (attempt >= MAX_ATTEMPTS) {
+                result.completeExceptionally(evolutionCheckFailure(getSchemaVersionRequest,
+                        new AWSSchemaRegistryException(String.format("Retries exhausted for schema evolution check "
+                                                                     + "for schemaVersionId = %s",
+                                                                     getSchemaVersionRequest.schemaVersionId()))));
+            } else {
+                scheduleEvolutionCheck(getSchemaVersionRequest, attempt + 1, retryIntervalMillis, result);
+            }
+        });
+    }
+
+    private AWSSchemaRegistryException evolutionCheckFailure(GetSchemaVersionRequest getSchemaVersionRequest,
+                                                             Throwable cause) {
+        String message =
+                String.format("Exception occurred, while performing schema evolution check for schemaVersionId = "
+                              + "%s", getSchemaVersionRequest.schemaVersionId());
+        return new AWSSchemaRegistryException(message, cause);
+    }
+
+    /**
+     * Issues a Glue call and maps both synchronous and asynchronous failures to an
+     * {@link AWSSchemaRegistryException} carrying the given message.
+     */
+    private <T> CompletableFuture<T> invoke(GlueCall<T> call, String errorMessage) {
+        CompletableFuture<T> future;
+        try {
+            future = call.execute();
+        } catch (Exception e) {
+            return failedFuture(new AWSSchemaRegistryException(errorMessage, e));
+        }
+        return future.exceptionally(throwable -> {
+            throw new AWSSchemaRegistryException(errorMessage, unwrap(throwable));
+        });
+    }
+
+    private UUID returnSchemaVersionIdIfAvailable(GetSchemaByDefinitionResponse response, String errorMessage) {
+        if (response.schemaVersionId() != null
+                && response.statusAsString().equals(AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE.toString())) {
+            return UUID.fromString(response.schemaVersionId());
+        }
+        String msg = String.format("Schema Found but status is %s", response.statusAsString());
+        throw new AWSSchemaRegistryException(errorMessage, new AWSSchemaRegistryException(msg));
+    }
+
+    private GetSchemaVersionResponse transformToGetSchemaVersionResponse(
+            RegisterSchemaVersionResponse registerSchemaVersionResponse) {
+        return GetSchemaVersionResponse.builder()
+                .schemaVersionId(registerSchemaVersionResponse.schemaVersionId())
+                .status(registerSchemaVersionResponse.statusAsString())
+                .versionNumber(registerSchemaVersionResponse.versionNumber())
+                .build();
+    }
+
+
+
+
+
+
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    @FunctionalInterface
+    private interface GlueCall<T> {
+        CompletableFuture<T> execute();
+    }
+}
@@ -17,19 +17,15 @@ package com.amazonaws.services.schemaregistry.common;
 
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetricNames;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.metrics.NoOpGlueSchemaRegistryMetrics;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.ImmutableMap;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
-import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
-import software.amazon.awssdk.core.ApiName;
-import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
-import software.amazon.awssdk.core.interceptor.Context;
-import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
-import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.urlconnection.ProxyConfiguration;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
@@ -37,30 +33,23 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.GlueClientBuilder;
 import software.amazon.awssdk.services.glue.model.AlreadyExistsException;
-import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
 import software.amazon.awssdk.services.glue.model.CreateSchemaResponse;
-import software.amazon.awssdk.services.glue.model.DataFormat;
 import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionResponse;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
 import software.amazon.awssdk.services.glue.model.GetTagsRequest;
 import software.amazon.awssdk.services.glue.model.GetTagsResponse;
-import software.amazon.awssdk.services.glue.model.GlueRequest;
 import software.amazon.awssdk.services.glue.model.MetadataKeyValuePair;
-import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataRequest;
 import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataResponse;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
-import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
-import software.amazon.awssdk.services.glue.model.RegistryId;
-import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Map;
-import java.util.StringJoiner;
 import java.util.UUID;
 
 /**
@@ -89,6 +78,7 @@ public class AWSSchemaRegistryClient {
         ClientOverrideConfiguration overrideConfiguration = ClientOverrideConfiguration.builder()
                 .retryPolicy(retryPolicy)
                 .addExecutionInterceptor(new UserAgentRequestInterceptor())
+                .addExecutionInterceptor(new GlueSchemaRegistryMetricsInterceptor(glueSchemaRegistryConfiguration.getMetrics()))
                 .build();
         UrlConnectionHttpClient.Builder urlConnectionHttpClientBuilder = UrlConnectionHttpClient.builder();
         if (glueSchemaRegistryConfiguration.getProxyUrl() != null) {
@@ -170,7 +160,8 @@ public class AWSSchemaRegistryClient {
         GetSchemaVersionResponse schemaVersionResponse = null;
 
         try {
-            schemaVersionResponse = client.getSchemaVersion(getSchemaVersionRequest(schemaVersionId));
+            schemaVersionResponse =
+                    client.getSchemaVersion(GlueSchemaRegistryRequestBuilder.getGetSchemaVersionRequest(schemaVersionId));
             validateSchemaVersionResponse(schemaVersionResponse, schemaVersionId);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to get schema version Id = %s", schemaVersionId);
@@ -180,12 +171,36 @@ public class AWSSchemaRegistryClient {
         return schemaVersionResponse;
     }
 
-    private GetSchemaVersionRequest getSchemaVersionRequest(String schemaVersionId) {
-        GetSchemaVersionRequest getSchemaVersionRequest = GetSchemaVersionRequest.builder()
-                .schemaVersionId(schemaVersionId).build();
-        return getSchemaVersionRequest;
+    /**
+     * Get the latest schema version of a schema.
+     *
+     * @param schemaName   schema name
+     * @param registryName registry name
+     * @return             schema version response for the latest version of the schema
+     * @throws AWSSchemaRegistryException on any errors during schema retrieval from service
+     */
+    public GetSchemaVersionResponse getLatestSchemaVersionResponse(@NonNull String schemaName,
+                                                                   @NonNull String registryName)
+            throws AWSSchemaRegistryException {
+        GetSchemaVersionResponse schemaVersionResponse = null;
+
+        try {
+            GetSchemaVersionRequest request = GetSchemaVersionRequest.builder()
+                    .schemaId(GlueSchemaRegistryRequestBuilder.getSchemaIdRequestObject(schemaName, registryName))
+                    .schemaVersionNumber(SchemaVersionNumber.builder().latestVersion(true).build())
+                    .build();
+            schemaVersionResponse = client.getSchemaVersion(request);
+            validateSchemaVersionResponse(schemaVersionResponse, schemaName);
+        } catch (Exception e) {
+            String errorMessage = String.format("Failed to get latest schema version for schema name = %s in registry = %s",
+                                                schemaName, registryName);
+            throw new AWSSchemaRegistryException(errorMessage, e);
+        }
+
+        return schemaVersionResponse;
     }
 
+
     private void validateSchemaVersionResponse(GetSchemaVersionResponse schemaVersionResponse, String schemaVersionId) {
         if (schemaVersionResponse == null || schemaVersionResponse.schemaVersionId() == null) {
             String message = String.format("Schema definition is not present for the schema id = %s", schemaVersionId);
@@ -224,10 +239,7 @@ public class AWSSchemaRegistryClient {
      */
     public GetSchemaByDefinitionRequest buildGetSchemaByDefinitionRequest(String schemaDefinition, String schemaName,
                                                                           String registryName) {
-        GetSchemaByDefinitionRequest request = GetSchemaByDefinitionRequest.builder()
-                .schemaId(getSchemaIdRequestObject(schemaName, registryName))
-                .schemaDefinition(schemaDefinition).build();
-        return request;
+        return GlueSchemaRegistryRequestBuilder.getSchemaByDefinitionRequest(schemaDefinition, schemaName, registryName);
     }
 
     /**
@@ -248,7 +260,8 @@ public class AWSSchemaRegistryClient {
             log.info("Auto Creating schema with schemaName: {} and schemaDefinition : {}", schemaName,
                       schemaDefinition);
             CreateSchemaResponse createSchemaResponse =
-                    client.createSchema(getCreateSchemaRequestObject(schemaName, dataFormat, schemaDefinition));
+                    client.createSchema(GlueSchemaRegistryRequestBuilder.getCreateSchemaRequestObject(
+                            glueSchemaRegistryConfiguration, schemaName, dataFormat, schemaDefinition));
             schemaVersionId = UUID.fromString(createSchemaResponse.schemaVersionId());
         } catch (AlreadyExistsException e) {
             log.warn("Schema is already created, this could be caused by multiple producers racing to "
@@ -297,7 +310,8 @@ public class AWSSchemaRegistryClient {
 
         try {
             RegisterSchemaVersionResponse registerSchemaVersionResponse =
-                    client.registerSchemaVersion(getRegisterSchemaVersionRequest(schemaDefinition, schemaName));
+                    client.registerSchemaVersion(GlueSchemaRegistryRequestBuilder.getRegisterSchemaVersionRequest(
+                            glueSchemaRegistryConfiguration, schemaDefinition, schemaName));
 
             log.info("Registered the schema version with schema version id = {} and with version number = {} and "
                      + "status {}", registerSchemaVersionResponse.schemaVersionId(),
@@ -309,7 +323,8 @@ public class AWSSchemaRegistryClient {
             }
 
             schemaVersionResponse = waitForSchemaEvolutionCheckToComplete(
-                    getGetSchemaVersionRequest(registerSchemaVersionResponse.schemaVersionId()));
+                    GlueSchemaRegistryRequestBuilder.getGetSchemaVersionRequest(
+                            registerSchemaVersionResponse.schemaVersionId()));
 
         } catch (Exception e) {
             String errorMessage = String.format("Register schema :: Call failed when registering the schema with the schema registry for schema name = %s",
@@ -329,41 +344,9 @@ public class AWSSchemaRegistryClient {
                 .build();
     }
 
-    private CreateSchemaRequest getCreateSchemaRequestObject(String schemaName, String dataFormat, String schemaDefinition) {
-        return CreateSchemaRequest
-                .builder()
-                .dataFormat(DataFormat.valueOf(dataFormat))
-                .description(glueSchemaRegistryConfiguration.getDescription())
-                .registryId(RegistryId.builder().registryName(glueSchemaRegistryConfiguration.getRegistryName()).build())
-                .schemaName(schemaName)
-                .schemaDefinition(schemaDefinition)
-                .compatibility(glueSchemaRegistryConfiguration.getCompatibilitySetting())
-                .tags(glueSchemaRegistryConfiguration.getTags())
-                .build();
-    }
 
-    private RegisterSchemaVersionRequest getRegisterSchemaVersionRequest(String schemaDefinition, String schemaName) {
-        return RegisterSchemaVersionRequest
-                .builder()
-                .schemaDefinition(schemaDefinition)
-                .schemaId(getSchemaIdRequestObject(schemaName, glueSchemaRegistryConfiguration.getRegistryName()))
-                .build();
-    }
 
-    private SchemaId getSchemaIdRequestObject(@NonNull String schemaName, @NonNull String registryName) {
-        return SchemaId
-                .builder()
-                .schemaName(schemaName)
-                .registryName(registryName)
-                .build();
-    }
 
-    private GetSchemaVersionRequest getGetSchemaVersionRequest(String schemaVersionId) {
-        return GetSchemaVersionRequest
-                .builder()
-                .schemaVersionId(schemaVersionId)
-                .build();
-    }
 
     /**
      * Get schema version response of asynchronous operation.
@@ -373,6 +356,7 @@ public class AWSSchemaRegistryClient {
     private GetSchemaVersionResponse waitForSchemaEvolutionCheckToComplete(GetSchemaVersionRequest getSchemaVersionRequest) {
 
         GetSchemaVersionResponse response;
+        long startNanos = System.nanoTime();
 
         try {
             int retries = 0;
@@ -406,10 +390,18 @@ public class AWSSchemaRegistryClient {
                     String.format("Exception occurred, while performing schema evolution check for schemaVersionId = "
                                   + "%s", getSchemaVersionRequest.schemaVersionId());
             throw new AWSSchemaRegistryException(message, ex);
+        } finally {
+            getMetrics().recordTime(GlueSchemaRegistryMetricNames.REGISTRATION_WAIT_TIME, System.nanoTime() - startNanos);
         }
         return response;
     }
 
+    private GlueSchemaRegistryMetrics getMetrics() {
+        return glueSchemaRegistryConfiguration == null
+            ? NoOpGlueSchemaRegistryMetrics.INSTANCE
+            : glueSchemaRegistryConfiguration.getMetrics();
+    }
+
     /**
      * Put metadata to schema version asynchronously
      * @param schemaVersionId Schema Version Id
@@ -418,7 +410,7 @@ public class AWSSchemaRegistryClient {
     public void putSchemaVersionMetadata(UUID schemaVersionId, Map<String, String> metadata) {
         metadata.entrySet()
                 .parallelStream()
-                .map(this::createMetadataKeyValuePair)
+                .map(GlueSchemaRegistryRequestBuilder::createMetadataKeyValuePair)
                 .forEach((metadataKeyValuePair -> {
                     try {
                         putSchemaVersionMetadata(schemaVersionId, metadataKeyValuePair);
@@ -440,7 +432,8 @@ public class AWSSchemaRegistryClient {
         PutSchemaVersionMetadataResponse response = null;
         try {
             response =
-                    client.putSchemaVersionMetadata(createPutSchemaVersionMetadataRequest(schemaVersionId, metadataKeyValuePair));
+                    client.putSchemaVersionMetadata(GlueSchemaRegistryRequestBuilder.createPutSchemaVersionMetadataRequest(
+                            schemaVersionId, metadataKeyValuePair));
         } catch (Exception e) {
             String errorMessage =
                     String.format("Put schema version metadata :: Call failed when put metadata key = %s value = %s to schema for schema version id = %s",
@@ -450,21 +443,7 @@ public class AWSSchemaRegistryClient {
         return response;
     }
 
-    private PutSchemaVersionMetadataRequest createPutSchemaVersionMetadataRequest(UUID schemaVersionId, MetadataKeyValuePair metadataKeyValuePair) {
-        return PutSchemaVersionMetadataRequest
-                .builder()
-                .schemaVersionId(schemaVersionId.toString())
-                .metadataKeyValue(metadataKeyValuePair)
-                .build();
-    }
 
-    private MetadataKeyValuePair createMetadataKeyValuePair(Map.Entry<String, String> metadataEntry) {
-        return MetadataKeyValuePair
-                .builder()
-                .metadataKey(metadataEntry.getKey())
-                .metadataValue(metadataEntry.getValue())
-                .build();
-    }
 
     /**
      * Query metadata for schema version and return the response object
@@ -520,53 +499,9 @@ public class AWSSchemaRegistryClient {
      * AWS SDK Request interceptor that adds additional data to the UserAgent of Glue API requests.
      */
     @VisibleForTesting
-    protected class UserAgentRequestInterceptor implements ExecutionInterceptor {
-        private static final String ONE = "1";
-        private static final String ZERO = "0";
-
-        @Override
-        public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
-            if (!(context.request() instanceof GlueRequest)) {
-                //Only applies to Glue requests.
-                return context.request();
-            }
-
-            GlueRequest request = (GlueRequest) context.request();
-            AwsRequestOverrideConfiguration overrideConfiguration =
-                request.overrideConfiguration().map(config ->
-                    config
-                        .toBuilder()
-                        .addApiName(getApiName())
-                        .build())
-                    .orElse((AwsRequestOverrideConfiguration.builder()
-                        .addApiName(getApiName())
-                        .build()));
-
-            return request.toBuilder().overrideConfiguration(overrideConfiguration).build();
-        }
-
-        private ApiName getApiName() {
-            return ApiName.builder()
-                .version(com.amazonaws.services.schemaregistry.common.MavenPackaging.VERSION)
-                .name(buildUserAgentSuffix())
-                .build();
-        }
-
-        private String buildUserAgentSuffix() {
-            Map<String, String> userAgentSuffixItems = ImmutableMap.of(
-                "autoreg", glueSchemaRegistryConfiguration.isSchemaAutoRegistrationEnabled() ? ONE : ZERO,
-                "compress", glueSchemaRegistryConfiguration.getCompressionType().equals(
-                    AWSSchemaRegistryConstants.COMPRESSION.ZLIB) ? ONE : ZERO,
-                "secdeser", glueSchemaRegistryConfiguration.getSecondaryDeserializer() != null ? ONE : ZERO,
-                "app", glueSchemaRegistryConfiguration.getUserAgentApp()
-            );
-
-            StringJoiner userAgentSuffix = new StringJoiner(":");
-
-            userAgentSuffixItems
-                .forEach((key, value) -> userAgentSuffix.add(key + "/" + value));
-
-            return userAgentSuffix.toString();
+    protected class UserAgentRequestInterceptor extends GlueSchemaRegistryUserAgentInterceptor {
+        protected UserAgentRequestInterceptor() {
+            super(glueSchemaRegistryConfiguration);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.caching.CaffeineGlueSchemaRegistryCache;
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
+import com.amazonaws.services.schemaregistry.caching.GuavaGlueSchemaRegistryCache;
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.NonNull;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the schema caches shared by the serializers and de-serializers, using the configured
+ * {@link AWSSchemaRegistryConstants.CacheProvider cache provider}.
+ * <p>
+ * Entries are refreshed with stale-while-revalidate semantics: once an entry is older than its time to live, the next
+ * read returns the cached value and triggers a refresh on a dedicated executor. A failed refresh keeps the cached value,
+ * so records keep flowing while the schema registry is throttling or unreachable. The time to live is jittered per
+ * cache so that clients started together do not refresh together.
+ */
+public final class GlueSchemaRegistryCaches {
+    private static final int REFRESH_THREADS = 2;
+    private static final String CAFFEINE_CLASS_NAME = "com.github.benmanes.caffeine.cache.Caffeine";
+    private static final ExecutorService REFRESH_EXECUTOR = createRefreshExecutor();
+
+    private GlueSchemaRegistryCaches() {
+    }
+
+    /**
+     * Builds a schema cache refreshing entries after the jittered configured time to live.
+     *
+     * @param configuration configuration providing the cache provider, size, time to live and jitter
+     * @param loader        loads and refreshes values
+     * @param <K>           key type
+     * @param <V>           value type
+     * @return refreshing cache
+     */
+    public static <K, V> GlueSchemaRegistryLoadingCache<K, V> newRefreshingCache(
+            @NonNull GlueSchemaRegistryConfiguration configuration, @NonNull CacheLoader<K, V> loader) {
+        long refreshMillis = jitteredTimeToLiveMillis(configuration.getTimeToLiveMillis(),
+                                                      configuration.getCacheRefreshJitterPercent());
+        return newCache(configuration.getCacheProviderType(), configuration.getCacheSize(), refreshMillis, loader);
+    }
+
+    /**
+     * Builds a cache that never refreshes its entries, used for values derived from immutable schema definitions.
+     *
+     * @param cacheProvider cache implementation
+     * @param maximumSize   maximum number of entries
+     * @param loader        loads values
+     * @param <K>           key type
+     * @param <V>           value type
+     * @return cache
+     */
+    public static <K, V> GlueSchemaRegistryLoadingCache<K, V> newCache(
+            @NonNull AWSSchemaRegistryConstants.CacheProvider cacheProvider,
+            long maximumSize,
+            @NonNull CacheLoader<K, V> loader) {
+        return newCache(cacheProvider, maximumSize, 0L, loader);
+    }
+
+    /**
+     * Builds a data format cache that never refreshes its entries. When a maximum weight is given the cache is bounded
+     * by the total weight of its entries, which approximates their size in bytes, instead of by their number.
+     *
+     * @param cacheProvider      cache implementation
+     * @param maximumSize        maximum number of entries, used when no maximum weight is given
+     * @param maximumWeightBytes approximate maximum size of the cache in bytes, 0 bounds the cache by entry count
+     * @param weigher            approximates the size in bytes of an entry
+     * @param loader             loads values
+     * @param <K>                key type
+     * @param <V>                value type
+     * @return cache
+     */
+    public static <K, V> GlueSchemaRegistryLoadingCache<K, V> newCache(
+            @NonNull AWSSchemaRegistryConstants.CacheProvider cacheProvider,
+            long maximumSize,
+            long maximumWeightBytes,
+            @NonNull Weigher<? super K, ? super V> weigher,
+            @NonNull CacheLoader<K, V> loader) {
+        if (maximumWeightBytes <= 0) {
+            return newCache(cacheProvider, maximumSize, loader);
+        }
+        switch (cacheProvider) {
+            case CAFFEINE:
+                checkCaffeineAvailable();
+                return new CaffeineGlueSchemaRegistryCache<>(maximumWeightBytes, weigher, REFRESH_EXECUTOR, loader);
+            case GUAVA:
+            default:
+                return new GuavaGlueSchemaRegistryCache<>(maximumWeightBytes, weigher, REFRESH_EXECUTOR, loader);
+        }
+    }
+
+    private static <K, V> GlueSchemaRegistryLoadingCache<K, V> newCache(
+            AWSSchemaRegistryConstants.CacheProvider cacheProvider,
+            long maximumSize,
+            long refreshAfterWriteMillis,
+            CacheLoader<K, V> loader) {
+        switch (cacheProvider) {
+            case CAFFEINE:
+                checkCaffeineAvailable();
+                return new CaffeineGlueSchemaRegistryCache<>(maximumSize, refreshAfterWriteMillis, REFRESH_EXECUTOR,
+                                                             loader);
+            case GUAVA:
+            default:
+                return new GuavaGlueSchemaRegistryCache<>(maximumSize, refreshAfterWriteMillis, REFRESH_EXECUTOR,
+                                                          loader);
+        }
+    }
+
+    private static void checkCaffeineAvailable() {
+        if (!isCaffeineAvailable()) {
+            throw new AWSSchemaRegistryException(
+                "Caffeine cache provider requires com.github.ben-manes.caffeine:caffeine on the classpath");
+        }
+    }
+
+    /**
+     * Approximates the memory held by a cache entry derived from a schema definition, such as a parsed schema or a
+     * datum reader, with the size in bytes of the definition it was built from.
+     *
+     * @param schemaDefinition schema definition of the entry
+     * @return approximate weight of the entry in bytes
+     */
+    public static int weighSchemaDefinition(@NonNull String schemaDefinition) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) schemaDefinition.length() * Character.BYTES);
+    }
+
+    /**
+     * Builds a cache remembering schemas that were not found in the schema registry for the configured negative cache
+     * time to live, so that repeated lookups of a missing schema do not each call the schema registry.
+     *
+     * @param configuration configuration providing the cache size and negative cache time to live
+     * @param <K>           key type
+     * @return negative cache holding the not found error of each missing schema
+     */
+    public static <K> Cache<K, Throwable> newNotFoundCache(@NonNull GlueSchemaRegistryConfiguration configuration) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(configuration.getCacheSize())
+                .expireAfterWrite(configuration.getNegativeCacheTimeToLiveMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Checks whether the error, or one of its causes, is the schema registry reporting a missing entity.
+     *
+     * @param throwable error to inspect
+     * @return true if the error was caused by a missing schema or schema version
+     */
+    public static boolean isNotFound(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof EntityNotFoundException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @VisibleForTesting
+    static boolean isCaffeineAvailable() {
+        try {
+            Class.forName(CAFFEINE_CLASS_NAME, false, GlueSchemaRegistryCaches.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @VisibleForTesting
+    static long jitteredTimeToLiveMillis(long timeToLiveMillis, int jitterPercent) {
+        long maxJitterMillis = (long) (timeToLiveMillis * (jitterPercent / 100.0));
+        if (maxJitterMillis <= 0) {
+            return timeToLiveMillis;
+        }
+        return timeToLiveMillis - ThreadLocalRandom.current().nextLong(maxJitterMillis + 1);
+    }
+
+    /**
+     * Executor refreshing cache entries in the background, also used to pre-load schemas into the caches.
+     *
+     * @return shared refresh executor
+     */
+    static ExecutorService refreshExecutor() {
+        return REFRESH_EXECUTOR;
+    }
+
+    private static ExecutorService createRefreshExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("glue-schema-registry-cache-refresh-%d")
+                        .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -12,19 +12,54 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package com.amazonaws.services.schemaregistry.common;
 
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory to create the compression object.
+ * Compression handlers are registered by the compression byte written in the data header, so data compressed
+ * with any supported algorithm can be read regardless of the compression configured for writing.
  */
 public class GlueSchemaRegistryCompressionFactory {
+    private static final String LZ4_CLASS_NAME = "net.jpountz.lz4.LZ4Factory";
+    private static final String ZSTD_CLASS_NAME = "com.github.luben.zstd.Zstd";
+    private static final String SNAPPY_CLASS_NAME = "org.xerial.snappy.Snappy";
+
+    /**
+     * Registry of initialized compression handlers, keyed by compression byte.
+     */
+    private final Map<Byte, GlueSchemaRegistryCompressionHandler> compressionHandlers = new ConcurrentHashMap<>();
 
-    private GlueSchemaRegistryDefaultCompression zlibCompression;
+    /**
+     * Maximum number of idle Deflater / Inflater instances pooled by the Zlib handler; 0 disables pooling.
+     */
+    private final int compressionPoolSize;
+
+    /**
+     * Maximum decompressed length accepted by the compression handlers.
+     */
+    private final int maxDecompressedSize;
 
     public GlueSchemaRegistryCompressionFactory() {
+        this.compressionPoolSize = 0;
+        this.maxDecompressedSize = AWSSchemaRegistryConstants.DEFAULT_MAX_DECOMPRESSED_SIZE;
+    }
+
+    /**
+     * Creates a factory honouring the compression settings of the configuration.
+     *
+     * @param configs configuration elements
+     */
+    public GlueSchemaRegistryCompressionFactory(GlueSchemaRegistryConfiguration configs) {
+        this.compressionPoolSize = configs.getCompressionPoolSize();
+        this.maxDecompressedSize = configs.getMaxDecompressedSize();
     }
 
     /**
@@ -34,11 +69,10 @@ public class GlueSchemaRegistryCompressionFactory {
      * @return GlueSchemaRegistryCompressionHandler {@link GlueSchemaRegistryCompressionHandler}
      */
     public GlueSchemaRegistryCompressionHandler getCompressionHandler(AWSSchemaRegistryConstants.COMPRESSION compressionType) {
-        if (compressionType != null && AWSSchemaRegistryConstants.COMPRESSION.ZLIB.name()
-              .equalsIgnoreCase(compressionType.name())) {
-            return getZlibCompression();
+        if (compressionType == null) {
+            return null;
         }
-        return null;
+        return getCompressionHandler(compressionType.getCompressionByte());
     }
 
     /**
@@ -49,19 +83,51 @@ public class GlueSchemaRegistryCompressionFactory {
      * @return GlueSchemaRegistryCompressionHandler {@link GlueSchemaRegistryCompressionHandler}
      */
     public GlueSchemaRegistryCompressionHandler getCompressionHandler(byte compressionByte) {
-        if (AWSSchemaRegistryConstants.COMPRESSION_BYTE == compressionByte) {
-            return getZlibCompression();
+        AWSSchemaRegistryConstants.COMPRESSION compressionType =
+            AWSSchemaRegistryConstants.COMPRESSION.fromCompressionByte(compressionByte);
+        if (compressionType == null || AWSSchemaRegistryConstants.COMPRESSION.NONE.equals(compressionType)) {
+            return null;
         }
 
-        return null;
+        return compressionHandlers.computeIfAbsent(compressionByte, key -> createCompressionHandler(compressionType));
     }
 
-    private synchronized GlueSchemaRegistryCompressionHandler getZlibCompression() {
-        if (zlibCompression == null) {
-            zlibCompression = new GlueSchemaRegistryDefaultCompression();
+    private GlueSchemaRegistryCompressionHandler createCompressionHandler(
+        AWSSchemaRegistryConstants.COMPRESSION compressionType) {
+        switch (compressionType) {
+            case ZLIB:
+                return compressionPoolSize > 0
+                    ? new GlueSchemaRegistryPooledCompression(compressionPoolSize, maxDecompressedSize)
+                    : new GlueSchemaRegistryDefaultCompression(maxDecompressedSize);
+            case LZ4:
+                requireCodec(compressionType, LZ4_CLASS_NAME, "org.lz4:lz4-java");
+                return new GlueSchemaRegistryLz4Compression(maxDecompressedSize);
+            case ZSTD:
+                requireCodec(compressionType, ZSTD_CLASS_NAME, "com.github.luben:zstd-jni");
+                return new GlueSchemaRegistryZstdCompression(maxDecompressedSize);
+            case SNAPPY:
+                requireCodec(compressionType, SNAPPY_CLASS_NAME, "org.xerial.snappy:snappy-java");
+                return new GlueSchemaRegistrySnappyCompression(maxDecompressedSize);
+            default:
+                throw new AWSSchemaRegistryException("Unsupported compression type: " + compressionType);
         }
+    }
 
-        return zlibCompression;
+    private static void requireCodec(AWSSchemaRegistryConstants.COMPRESSION compressionType, String className,
+                                     String artifact) {
+        if (!isCodecAvailable(className)) {
+            throw new AWSSchemaRegistryException(
+                String.format("%s compression requires %s on the classpath", compressionType, artifact));
+        }
     }
 
+    @VisibleForTesting
+    static boolean isCodecAvailable(String className) {
+        try {
+            Class.forName(className, false, GlueSchemaRegistryCompressionFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
 }
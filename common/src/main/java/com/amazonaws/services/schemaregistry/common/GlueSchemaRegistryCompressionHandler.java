@@ -57,15 +57,24 @@ public interface GlueSchemaRegistryCompressionHandler {
     }
 
     static byte[] writeToByteArrayOutputStream(Inflater inflater, ByteArrayOutputStream outputStream) throws IOException {
+        return writeToByteArrayOutputStream(inflater, outputStream, Integer.MAX_VALUE);
+    }
+
+    static byte[] writeToByteArrayOutputStream(Inflater inflater, ByteArrayOutputStream outputStream,
+                                               int maxDecompressedSize) throws IOException {
         byte[] buffer = new byte[BUFFER_SIZE];
         while (!inflater.finished()) {
             int count;
             try {
                 count = inflater.inflate(buffer);
+                if (count == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Compressed data is truncated or requires a dictionary");
+                }
             } catch (DataFormatException e) {
                 String message = "Bytes received is not compressed properly";
                 throw new AWSSchemaRegistryException(message, e);
             }
+            checkDecompressedLength((long) outputStream.size() + count, maxDecompressedSize);
             outputStream.write(buffer, 0, count);
         }
 
@@ -73,6 +82,50 @@ public interface GlueSchemaRegistryCompressionHandler {
         return outputStream.toByteArray();
     }
 
+    static void inflateInto(Inflater inflater, GlueSchemaRegistryDecompressionBuffer output) {
+        inflateInto(inflater, output, Integer.MAX_VALUE);
+    }
+
+    static void inflateInto(Inflater inflater, GlueSchemaRegistryDecompressionBuffer output, int maxDecompressedSize) {
+        output.reset();
+        byte[] buffer = output.array();
+        int length = 0;
+        while (!inflater.finished()) {
+            if (length == buffer.length) {
+                buffer = output.ensureCapacity(length + BUFFER_SIZE);
+            }
+            try {
+                int count = inflater.inflate(buffer, length, buffer.length - length);
+                if (count == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Compressed data is truncated or requires a dictionary");
+                }
+                length += count;
+            } catch (DataFormatException e) {
+                String message = "Bytes received is not compressed properly";
+                throw new AWSSchemaRegistryException(message, e);
+            }
+            checkDecompressedLength(length, maxDecompressedSize);
+        }
+        output.setSize(length);
+    }
+
+    /**
+     * Validates the decompressed length declared by a compressed record before memory is allocated for it, or the
+     * length inflated so far for ZLIB records, which do not declare it.
+     *
+     * @param length decompressed length read from the compressed record
+     * @param maxDecompressedSize maximum accepted decompressed length
+     * @return the length as an int
+     */
+    static int checkDecompressedLength(long length, int maxDecompressedSize) {
+        if (length < 0 || length > maxDecompressedSize) {
+            String message = String.format("Decompressed length %d is not within the maximum decompressed size %d",
+                                           length, maxDecompressedSize);
+            throw new AWSSchemaRegistryException(message);
+        }
+        return (int) length;
+    }
+
     /**
      * Compresses the record.
      *
@@ -103,4 +156,22 @@ public interface GlueSchemaRegistryCompressionHandler {
         inflator.end();
         return decompressed;
     }
+
+    /**
+     * Decompresses the specified bytes into the given re-usable buffer, replacing its content.
+     * The default implementation decompresses into a new array and copies it; implementations
+     * should write directly into the buffer where possible.
+     *
+     * @param compressedRecord
+     * @param start
+     * @param end
+     * @param output buffer receiving the decompressed bytes
+     * @throws IOException
+     */
+    default void decompressInto(byte[] compressedRecord, int start, int end,
+                                GlueSchemaRegistryDecompressionBuffer output) throws IOException {
+        byte[] decompressed = decompress(compressedRecord, start, end);
+        output.reset();
+        output.write(decompressed, 0, decompressed.length);
+    }
 }
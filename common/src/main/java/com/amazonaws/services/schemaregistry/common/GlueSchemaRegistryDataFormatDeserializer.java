@@ -15,9 +15,12 @@
 
 package com.amazonaws.services.schemaregistry.common;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
 import lombok.NonNull;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Interface for all schemaType/protocol/dataformat specific de-serializer implementations.
@@ -31,4 +34,51 @@ public interface GlueSchemaRegistryDataFormatDeserializer {
      * @return de-serialized object
      */
     Object deserialize(@NonNull ByteBuffer data, @NonNull Schema schema);
+
+    /**
+     * De-serializes the given ByteBuffer, filling the given instance where the data format supports it. The
+     * returned object is the instance to use, which can be a new one when the given instance is not compatible
+     * with the schema.
+     *
+     * @param data   data to de-serialize
+     * @param schema schema for the data
+     * @param reuse  previously de-serialized instance to fill, or null
+     * @return de-serialized object
+     */
+    default Object deserialize(@NonNull ByteBuffer data, @NonNull Schema schema, Object reuse) {
+        return deserialize(data, schema);
+    }
+
+    /**
+     * De-serializes records written with the same schema. Implementations can look up their per schema state once
+     * and re-use decoding state across the records.
+     *
+     * @param data   data of each record to de-serialize
+     * @param schema schema of all records
+     * @return de-serialized objects, in the order of the given data
+     */
+    default List<Object> deserializeBatch(@NonNull List<ByteBuffer> data, @NonNull Schema schema) {
+        List<Object> results = new ArrayList<>(data.size());
+        for (ByteBuffer buffer : data) {
+            results.add(deserialize(buffer, schema));
+        }
+        return results;
+    }
+
+    /**
+     * Prepares any per schema state, such as parsed schemas or readers, ahead of the first message for the schema.
+     *
+     * @param schema schema to prepare
+     */
+    default void preload(@NonNull Schema schema) {
+    }
+
+    /**
+     * Statistics of the per schema cache kept by this de-serializer, including the number of evicted entries.
+     *
+     * @return cache statistics, empty statistics for implementations without a cache
+     */
+    default GlueSchemaRegistryCacheStats getCacheStats() {
+        return GlueSchemaRegistryCacheStats.builder().build();
+    }
 }
@@ -15,6 +15,7 @@
 
 package com.amazonaws.services.schemaregistry.common;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
 import lombok.NonNull;
 
 /**
@@ -29,6 +30,22 @@ public interface GlueSchemaRegistryDataFormatSerializer {
      */
     byte[] serialize(@NonNull Object data);
 
+    /**
+     * Serializes the given Object to a byte array that starts with the given number of reserved bytes, followed by
+     * the serialized data. Callers fill the reserved bytes with a header, so implementations that write into their
+     * own buffers can avoid copying the data once more to prepend it.
+     *
+     * @param data       data to serialize
+     * @param headerSize number of leading bytes to reserve
+     * @return byte array with the reserved bytes followed by the serialized data
+     */
+    default byte[] serialize(@NonNull Object data, int headerSize) {
+        byte[] serializedBytes = serialize(data);
+        byte[] bytes = new byte[headerSize + serializedBytes.length];
+        System.arraycopy(serializedBytes, 0, bytes, headerSize, serializedBytes.length);
+        return bytes;
+    }
+
     /**
      * Gets schema definition from Object
      *
@@ -37,6 +54,18 @@ public interface GlueSchemaRegistryDataFormatSerializer {
      */
     String getSchemaDefinition(@NonNull Object object);
 
+    /**
+     * Gets an object identifying the schema of the given data, such as the schema object the data references, that is
+     * cheaper to obtain than its schema definition. Data with equal schema identities have the same schema
+     * definition. Used to resolve the schema of a batch of records once per distinct schema.
+     *
+     * @param object data whose schema identity is needed
+     * @return schema identity, the schema definition by default
+     */
+    default Object getSchemaIdentity(@NonNull Object object) {
+        return getSchemaDefinition(object);
+    }
+
     /**
      * Validate the given data against the schema definition if the implementing format supports it.
      *
@@ -50,4 +79,13 @@ public interface GlueSchemaRegistryDataFormatSerializer {
      * @param data DataFormat specific object.
      */
     void validate(@NonNull Object data);
-}
\ No newline at end of file
+
+    /**
+     * Statistics of the per schema cache kept by this serializer, including the number of evicted entries.
+     *
+     * @return cache statistics, empty statistics for implementations without a cache
+     */
+    default GlueSchemaRegistryCacheStats getCacheStats() {
+        return GlueSchemaRegistryCacheStats.builder().build();
+    }
+}
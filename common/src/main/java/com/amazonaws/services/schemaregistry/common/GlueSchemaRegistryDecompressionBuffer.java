@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer that decompressed records are written into, so the same backing array can be re-used
+ * across records instead of allocating a new array per record.
+ * This class is not thread safe.
+ */
+public class GlueSchemaRegistryDecompressionBuffer {
+
+    private byte[] buffer;
+
+    private int size;
+
+    public GlueSchemaRegistryDecompressionBuffer(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Discards the content, retaining the backing array.
+     */
+    public void reset() {
+        this.size = 0;
+    }
+
+    /**
+     * Discards the content and replaces the backing array with one of the given capacity.
+     *
+     * @param capacity new capacity
+     */
+    public void reset(int capacity) {
+        this.buffer = new byte[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Ensures the backing array can hold at least the given number of bytes, retaining the content.
+     *
+     * @param capacity minimum capacity
+     * @return backing array, which might be a new one
+     */
+    public byte[] ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+        }
+        return buffer;
+    }
+
+    /**
+     * Appends bytes to the content, growing the backing array if needed.
+     */
+    public void write(byte[] bytes, int offset, int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * @return backing array, holding the content in its first {@link #size()} bytes
+     */
+    public byte[] array() {
+        return buffer;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets the content size after bytes have been written directly into the backing array.
+     *
+     * @param size number of valid bytes in the backing array
+     */
+    public void setSize(int size) {
+        if (size < 0 || size > buffer.length) {
+            throw new IndexOutOfBoundsException("Invalid size " + size + " for capacity " + buffer.length);
+        }
+        this.size = size;
+    }
+
+    /**
+     * @return view over the content, sharing the backing array. It is only valid until the buffer is written again.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(buffer, 0, size).slice();
+    }
+}
@@ -16,9 +16,13 @@
 package com.amazonaws.services.schemaregistry.common;
 
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayOutputStream;
+import java.util.zip.Inflater;
+
 /**
  * Compresses and Decompresses records using the Zlib algorithm.
  */
@@ -27,6 +31,19 @@ public class GlueSchemaRegistryDefaultCompression implements GlueSchemaRegistryC
 
     private static final String KILO_BYTES = "KB";
 
+    private final int maxDecompressedSize;
+
+    public GlueSchemaRegistryDefaultCompression() {
+        this(AWSSchemaRegistryConstants.DEFAULT_MAX_DECOMPRESSED_SIZE);
+    }
+
+    /**
+     * @param maxDecompressedSize maximum length a compressed record is inflated to.
+     */
+    public GlueSchemaRegistryDefaultCompression(int maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
     @Override
     public byte[] compress(byte[] record) {
         byte[] compressed = null;
@@ -49,7 +66,13 @@ public class GlueSchemaRegistryDefaultCompression implements GlueSchemaRegistryC
         byte[] deCompressedRecord = null;
 
         try {
-            deCompressedRecord = GlueSchemaRegistryCompressionHandler.super.decompress(compressedRecord, start, end);
+            Inflater inflater = GlueSchemaRegistryCompressionHandler.getInflatorObject(compressedRecord, start, end);
+            try {
+                deCompressedRecord = GlueSchemaRegistryCompressionHandler.writeToByteArrayOutputStream(inflater,
+                    new ByteArrayOutputStream(compressedRecord.length), maxDecompressedSize);
+            } finally {
+                inflater.end();
+            }
             log.debug("Decompression :: Compressed record length: {}", formatDataLengthInKB(compressedRecord.length));
             log.debug("Decompression :: Decompressed record length: {}",
                     formatDataLengthInKB(deCompressedRecord.length));
@@ -62,6 +85,21 @@ public class GlueSchemaRegistryDefaultCompression implements GlueSchemaRegistryC
         return deCompressedRecord;
     }
 
+    @Override
+    public void decompressInto(byte[] compressedRecord, int start, int end,
+                               GlueSchemaRegistryDecompressionBuffer output) {
+        Inflater inflater = GlueSchemaRegistryCompressionHandler.getInflatorObject(compressedRecord, start, end);
+        try {
+            GlueSchemaRegistryCompressionHandler.inflateInto(inflater, output, maxDecompressedSize);
+        } catch (Exception e) {
+            String message = "Error while decompressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
     private String formatDataLengthInKB(int dataLength) {
         return (dataLength / 1024) + KILO_BYTES;
     }
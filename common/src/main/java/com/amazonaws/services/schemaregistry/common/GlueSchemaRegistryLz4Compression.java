@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compresses and Decompresses records using the LZ4 block format.
+ * The compressed record is prefixed with the 4 byte big-endian length of the original record.
+ */
+@Slf4j
+public class GlueSchemaRegistryLz4Compression implements GlueSchemaRegistryCompressionHandler {
+
+    private static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+    private final int maxDecompressedSize;
+
+    public GlueSchemaRegistryLz4Compression() {
+        this(AWSSchemaRegistryConstants.DEFAULT_MAX_DECOMPRESSED_SIZE);
+    }
+
+    /**
+     * @param maxDecompressedSize maximum decompressed length accepted from a compressed record.
+     */
+    public GlueSchemaRegistryLz4Compression(int maxDecompressedSize) {
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.safeDecompressor();
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    @Override
+    public byte[] compress(byte[] record) {
+        try {
+            int maxCompressedLength = compressor.maxCompressedLength(record.length);
+            byte[] compressed = new byte[LENGTH_PREFIX_SIZE + maxCompressedLength];
+            ByteBuffer.wrap(compressed).putInt(record.length);
+
+            int compressedLength = compressor.compress(record, 0, record.length, compressed, LENGTH_PREFIX_SIZE,
+                                                       maxCompressedLength);
+
+            return Arrays.copyOf(compressed, LENGTH_PREFIX_SIZE + compressedLength);
+        } catch (Exception e) {
+            String message = "Error while compressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] compressedRecord, int start, int length) {
+        try {
+            int originalLength = readLength(compressedRecord, start, length);
+            byte[] decompressed = new byte[originalLength];
+            int decompressedLength = decompressor.decompress(compressedRecord, start + LENGTH_PREFIX_SIZE,
+                                                             length - LENGTH_PREFIX_SIZE, decompressed, 0,
+                                                             originalLength);
+            checkLength(decompressedLength, originalLength);
+            return decompressed;
+        } catch (AWSSchemaRegistryException e) {
+            throw e;
+        } catch (Exception e) {
+            String message = "Error while decompressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    @Override
+    public void decompressInto(byte[] compressedRecord, int start, int length,
+                               GlueSchemaRegistryDecompressionBuffer output) {
+        try {
+            int originalLength = readLength(compressedRecord, start, length);
+            output.reset();
+            byte[] buffer = output.ensureCapacity(originalLength);
+            int decompressedLength = decompressor.decompress(compressedRecord, start + LENGTH_PREFIX_SIZE,
+                                                             length - LENGTH_PREFIX_SIZE, buffer, 0, originalLength);
+            checkLength(decompressedLength, originalLength);
+            output.setSize(originalLength);
+        } catch (AWSSchemaRegistryException e) {
+            throw e;
+        } catch (Exception e) {
+            String message = "Error while decompressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    private int readLength(byte[] compressedRecord, int start, int length) {
+        if (length < LENGTH_PREFIX_SIZE) {
+            throw new IllegalArgumentException("Compressed record is too short: " + length);
+        }
+        int originalLength = ByteBuffer.wrap(compressedRecord, start, LENGTH_PREFIX_SIZE).getInt();
+        return GlueSchemaRegistryCompressionHandler.checkDecompressedLength(originalLength, maxDecompressedSize);
+    }
+
+    private static void checkLength(int decompressedLength, int length) {
+        if (decompressedLength != length) {
+            throw new IllegalArgumentException(
+                String.format("Decompressed %d bytes, expected %d", decompressedLength, length));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetricNames;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics;
+import lombok.NonNull;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * AWS SDK interceptor recording the latency and errors of each Glue API call, including its retries.
+ * Shared by the synchronous and asynchronous schema registry clients.
+ */
+class GlueSchemaRegistryMetricsInterceptor implements ExecutionInterceptor {
+    private static final ExecutionAttribute<Long> START_NANOS =
+        new ExecutionAttribute<>("GlueSchemaRegistryMetricsStartNanos");
+
+    private final GlueSchemaRegistryMetrics metrics;
+
+    GlueSchemaRegistryMetricsInterceptor(@NonNull GlueSchemaRegistryMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        recordCall(executionAttributes, GlueSchemaRegistryMetricNames.OUTCOME_SUCCESS);
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        recordCall(executionAttributes, GlueSchemaRegistryMetricNames.OUTCOME_ERROR);
+        metrics.increment(GlueSchemaRegistryMetricNames.API_CALL_ERRORS,
+                          GlueSchemaRegistryMetricNames.TAG_OPERATION, operationName(executionAttributes),
+                          GlueSchemaRegistryMetricNames.TAG_ERROR_TYPE, context.exception().getClass().getSimpleName());
+    }
+
+    private void recordCall(ExecutionAttributes executionAttributes, String outcome) {
+        Long startNanos = executionAttributes.getAttribute(START_NANOS);
+        if (startNanos == null) {
+            return;
+        }
+        metrics.recordTime(GlueSchemaRegistryMetricNames.API_CALL_TIME, System.nanoTime() - startNanos,
+                           GlueSchemaRegistryMetricNames.TAG_OPERATION, operationName(executionAttributes),
+                           GlueSchemaRegistryMetricNames.TAG_OUTCOME, outcome);
+    }
+
+    private static String operationName(ExecutionAttributes executionAttributes) {
+        String operationName = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        return operationName == null ? "Unknown" : operationName;
+    }
+}
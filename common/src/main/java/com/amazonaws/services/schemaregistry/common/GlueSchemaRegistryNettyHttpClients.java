@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.ProxyConfiguration;
+
+import java.net.URI;
+
+/**
+ * Creates the Netty based HTTP client of {@link AWSSchemaRegistryAsyncClient}. Netty is an optional dependency, this
+ * class is only loaded once its presence has been checked.
+ */
+@Slf4j
+final class GlueSchemaRegistryNettyHttpClients {
+    static final String NETTY_CLASS_NAME = "software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient";
+
+    private GlueSchemaRegistryNettyHttpClients() {
+    }
+
+    static SdkAsyncHttpClient create(URI proxyUrl) {
+        NettyNioAsyncHttpClient.Builder nettyHttpClientBuilder = NettyNioAsyncHttpClient.builder();
+        if (proxyUrl != null) {
+            log.debug("Creating async http client using proxy {}", proxyUrl.toString());
+            ProxyConfiguration proxy = ProxyConfiguration.builder()
+                    .scheme(proxyUrl.getScheme())
+                    .host(proxyUrl.getHost())
+                    .port(proxyUrl.getPort())
+                    .build();
+            nettyHttpClientBuilder.proxyConfiguration(proxy);
+        }
+        return nettyHttpClientBuilder.build();
+    }
+}
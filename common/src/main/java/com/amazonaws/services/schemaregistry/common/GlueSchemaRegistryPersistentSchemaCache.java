@@ -0,0 +1,230 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of schemas keyed by schema version id, used as a persistent tier behind the in-memory schema
+ * caches so that restarted deserializers do not have to fetch every schema from the registry again.
+ *
+ * Schema versions are immutable once registered, so entries never expire. The file starts with a magic number and a
+ * format version, followed by records of the form {@code length | crc32 | uuid | definition | dataFormat | name}.
+ * The file is read once when opened; a truncated or corrupt tail, for example from a process killed mid write, is
+ * dropped. Appends and the initial read are guarded by a file lock, so several processes can share the same file.
+ */
+@Slf4j
+public final class GlueSchemaRegistryPersistentSchemaCache {
+    private static final int MAGIC = 0x47535243;
+    private static final byte FORMAT_VERSION = 1;
+    private static final int FILE_HEADER_SIZE = Integer.BYTES + Byte.BYTES;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+    private static final int MIN_PAYLOAD_SIZE = Long.BYTES * 2 + Integer.BYTES * 3;
+
+    private static final Map<Path, GlueSchemaRegistryPersistentSchemaCache> INSTANCES = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final Map<UUID, Schema> schemas = new ConcurrentHashMap<>();
+
+    @VisibleForTesting
+    GlueSchemaRegistryPersistentSchemaCache(@NonNull Path path) {
+        this.path = path;
+        load();
+    }
+
+    /**
+     * Returns the cache backed by the given file, opening it on first use. Instances are shared per file so that
+     * schemas written by one deserializer are visible to the others in the same process.
+     *
+     * @param path location of the cache file, created if it does not exist
+     * @return persistent schema cache for the file
+     * @throws AWSSchemaRegistryException if the file cannot be created or read
+     */
+    public static GlueSchemaRegistryPersistentSchemaCache getInstance(@NonNull String path) {
+        Path normalizedPath = Paths.get(path).toAbsolutePath().normalize();
+        return INSTANCES.computeIfAbsent(normalizedPath, GlueSchemaRegistryPersistentSchemaCache::new);
+    }
+
+    /**
+     * Looks up a persisted schema.
+     *
+     * @param schemaVersionId schema version id
+     * @return persisted schema or null if the schema version is not in the file
+     */
+    public Schema get(@NonNull UUID schemaVersionId) {
+        return schemas.get(schemaVersionId);
+    }
+
+    /**
+     * Persists a schema. Failures to write are logged and leave the in-memory view updated, as the file is only an
+     * optimization over fetching from the registry.
+     *
+     * @param schemaVersionId schema version id
+     * @param schema          schema for the version id
+     */
+    public void put(@NonNull UUID schemaVersionId, @NonNull Schema schema) {
+        Schema previous = schemas.put(schemaVersionId, schema);
+        if (schema.equals(previous)) {
+            return;
+        }
+
+        ByteBuffer record = encodeRecord(schemaVersionId, schema);
+        synchronized (this) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                 FileLock ignored = channel.lock()) {
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+            } catch (IOException e) {
+                log.warn("Failed to persist schema version id {} to {}", schemaVersionId, path, e);
+            }
+        }
+    }
+
+    /**
+     * @return number of schemas known to the cache
+     */
+    public int size() {
+        return schemas.size();
+    }
+
+    private void load() {
+        try {
+            Path parent = path.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                        StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                ByteBuffer contents = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+                int read = 0;
+                while (contents.hasRemaining() && read >= 0) {
+                    read = channel.read(contents, contents.position());
+                }
+                contents.flip();
+
+                long validLength = readRecords(contents);
+                if (validLength != channel.size()) {
+                    log.warn("Discarding {} unreadable bytes at the end of persistent schema cache {}",
+                             channel.size() - validLength, path);
+                    channel.truncate(validLength);
+                }
+                if (validLength == 0) {
+                    ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).putInt(MAGIC).put(FORMAT_VERSION);
+                    header.flip();
+                    while (header.hasRemaining()) {
+                        channel.write(header, header.position());
+                    }
+                }
+            }
+        } catch (IOException | ArithmeticException e) {
+            String message = String.format("Failed to open persistent schema cache %s", path);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+        log.info("Loaded {} schemas from persistent schema cache {}", schemas.size(), path);
+    }
+
+    /**
+     * Reads all complete records from the file contents.
+     *
+     * @return length of the valid prefix of the file, 0 if the file header is missing or not recognized
+     */
+    private long readRecords(ByteBuffer contents) {
+        if (contents.remaining() < FILE_HEADER_SIZE
+            || contents.getInt() != MAGIC
+            || contents.get() != FORMAT_VERSION) {
+            return 0;
+        }
+
+        while (contents.remaining() >= RECORD_HEADER_SIZE) {
+            int recordStart = contents.position();
+            int payloadLength = contents.getInt();
+            int checksum = contents.getInt();
+            if (payloadLength < MIN_PAYLOAD_SIZE || payloadLength > contents.remaining()) {
+                contents.position(recordStart);
+                break;
+            }
+
+            ByteBuffer payload = contents.slice();
+            payload.limit(payloadLength);
+            if (checksum(payload) != checksum) {
+                contents.position(recordStart);
+                break;
+            }
+
+            try {
+                UUID schemaVersionId = new UUID(payload.getLong(), payload.getLong());
+                Schema schema = new Schema(readString(payload), readString(payload), readString(payload));
+                schemas.put(schemaVersionId, schema);
+            } catch (RuntimeException e) {
+                contents.position(recordStart);
+                break;
+            }
+            contents.position(recordStart + RECORD_HEADER_SIZE + payloadLength);
+        }
+        return contents.position();
+    }
+
+    private static ByteBuffer encodeRecord(UUID schemaVersionId, Schema schema) {
+        byte[] definition = schema.getSchemaDefinition().getBytes(StandardCharsets.UTF_8);
+        byte[] dataFormat = schema.getDataFormat().getBytes(StandardCharsets.UTF_8);
+        byte[] schemaName = schema.getSchemaName().getBytes(StandardCharsets.UTF_8);
+        int payloadLength = MIN_PAYLOAD_SIZE + definition.length + dataFormat.length + schemaName.length;
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payloadLength);
+        record.position(RECORD_HEADER_SIZE);
+        record.putLong(schemaVersionId.getMostSignificantBits())
+            .putLong(schemaVersionId.getLeastSignificantBits())
+            .putInt(definition.length).put(definition)
+            .putInt(dataFormat.length).put(dataFormat)
+            .putInt(schemaName.length).put(schemaName);
+
+        record.position(RECORD_HEADER_SIZE);
+        int checksum = checksum(record.slice());
+        record.putInt(0, payloadLength).putInt(Integer.BYTES, checksum);
+        record.position(0);
+        return record;
+    }
+
+    private static String readString(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.getInt()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload.duplicate());
+        return (int) crc32.getValue();
+    }
+}
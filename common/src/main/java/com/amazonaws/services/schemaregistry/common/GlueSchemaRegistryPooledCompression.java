@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses and Decompresses records using the Zlib algorithm, re-using Deflater / Inflater instances and their
+ * output buffers across records instead of allocating new native zlib state per record.
+ * The output is wire compatible with {@link GlueSchemaRegistryDefaultCompression}.
+ * This class is thread safe, each caller borrows an instance from a bounded pool for the duration of the call.
+ */
+@Slf4j
+public class GlueSchemaRegistryPooledCompression implements GlueSchemaRegistryCompressionHandler {
+
+    /**
+     * Output buffers larger than this are not retained in the pool, to avoid pinning memory after an outlier record.
+     */
+    static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private final BlockingQueue<DeflaterContext> deflaters;
+    private final BlockingQueue<InflaterContext> inflaters;
+    private final int maxDecompressedSize;
+
+    /**
+     * @param poolSize maximum number of idle Deflater and Inflater instances retained.
+     */
+    public GlueSchemaRegistryPooledCompression(int poolSize) {
+        this(poolSize, AWSSchemaRegistryConstants.DEFAULT_MAX_DECOMPRESSED_SIZE);
+    }
+
+    /**
+     * @param poolSize            maximum number of idle Deflater and Inflater instances retained.
+     * @param maxDecompressedSize maximum length a compressed record is inflated to.
+     */
+    public GlueSchemaRegistryPooledCompression(int poolSize, int maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+        if (poolSize <= 0) {
+            throw new AWSSchemaRegistryException("Compression pool size must be positive: " + poolSize);
+        }
+        this.deflaters = new ArrayBlockingQueue<>(poolSize);
+        this.inflaters = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    @Override
+    public byte[] compress(byte[] record) {
+        DeflaterContext context = deflaters.poll();
+        if (context == null) {
+            context = new DeflaterContext();
+        }
+
+        boolean reusable = false;
+        try {
+            Deflater deflater = context.deflater;
+            deflater.setInput(record);
+            deflater.finish();
+
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == context.buffer.length) {
+                    context.buffer = Arrays.copyOf(context.buffer, context.buffer.length * 2);
+                }
+                length += deflater.deflate(context.buffer, length, context.buffer.length - length);
+            }
+            reusable = true;
+            return Arrays.copyOf(context.buffer, length);
+        } catch (Exception e) {
+            String message = "Error while compressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        } finally {
+            release(context, reusable);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] compressedRecord, int start, int end) {
+        InflaterContext context = inflaters.poll();
+        if (context == null) {
+            context = new InflaterContext();
+        }
+
+        boolean reusable = false;
+        try {
+            Inflater inflater = context.inflater;
+            inflater.setInput(compressedRecord, start, end);
+
+            int length = 0;
+            while (!inflater.finished()) {
+                if (length == context.buffer.length) {
+                    context.buffer = Arrays.copyOf(context.buffer, context.buffer.length * 2);
+                }
+                int count = inflater.inflate(context.buffer, length, context.buffer.length - length);
+                if (count == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Compressed data is truncated or requires a dictionary");
+                }
+                length += count;
+                GlueSchemaRegistryCompressionHandler.checkDecompressedLength(length, maxDecompressedSize);
+            }
+            reusable = true;
+            return Arrays.copyOf(context.buffer, length);
+        } catch (DataFormatException e) {
+            String message = "Bytes received is not compressed properly";
+            throw new AWSSchemaRegistryException(message, e);
+        } catch (AWSSchemaRegistryException e) {
+            throw e;
+        } catch (Exception e) {
+            String message = "Error while decompressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        } finally {
+            release(context, reusable);
+        }
+    }
+
+    @Override
+    public void decompressInto(byte[] compressedRecord, int start, int end,
+                               GlueSchemaRegistryDecompressionBuffer output) {
+        InflaterContext context = inflaters.poll();
+        if (context == null) {
+            context = new InflaterContext();
+        }
+
+        boolean reusable = false;
+        try {
+            context.inflater.setInput(compressedRecord, start, end);
+            GlueSchemaRegistryCompressionHandler.inflateInto(context.inflater, output, maxDecompressedSize);
+            reusable = true;
+        } catch (AWSSchemaRegistryException e) {
+            throw e;
+        } catch (Exception e) {
+            String message = "Error while decompressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        } finally {
+            release(context, reusable);
+        }
+    }
+
+    private void release(DeflaterContext context, boolean reusable) {
+        if (reusable && context.buffer.length <= MAX_RETAINED_BUFFER_SIZE) {
+            context.deflater.reset();
+            if (deflaters.offer(context)) {
+                return;
+            }
+        }
+        context.deflater.end();
+    }
+
+    private void release(InflaterContext context, boolean reusable) {
+        if (reusable && context.buffer.length <= MAX_RETAINED_BUFFER_SIZE) {
+            context.inflater.reset();
+            if (inflaters.offer(context)) {
+                return;
+            }
+        }
+        context.inflater.end();
+    }
+
+    /**
+     * Deflater and the output buffer it last used. The buffer keeps the size reached by previous records.
+     */
+    private static final class DeflaterContext {
+        private final Deflater deflater = new Deflater();
+        private byte[] buffer = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Inflater and the output buffer it last used. The buffer keeps the size reached by previous records.
+     */
+    private static final class InflaterContext {
+        private final Inflater inflater = new Inflater();
+        private byte[] buffer = new byte[BUFFER_SIZE];
+    }
+}
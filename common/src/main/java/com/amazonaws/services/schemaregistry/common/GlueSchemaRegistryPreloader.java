@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Loads schemas into the serializer and de-serializer caches ahead of traffic, issuing the loads in parallel on the
+ * executor that refreshes the schema caches, so pre-loading does not start threads of its own.
+ * Failures are logged and skipped so that a schema that cannot be pre-loaded is simply fetched lazily later.
+ */
+@Slf4j
+public final class GlueSchemaRegistryPreloader {
+    private GlueSchemaRegistryPreloader() {
+    }
+
+    /**
+     * Applies the loader to every item and waits for all of them. Loads that are still pending when the calling
+     * thread is interrupted are cancelled.
+     *
+     * @param items  items to pre-load
+     * @param loader loads a single item into the caches
+     * @param <T>    type of the items
+     * @return number of items loaded successfully
+     */
+    public static <T> int preload(@NonNull Collection<T> items, @NonNull Consumer<T> loader) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        ExecutorService executorService = GlueSchemaRegistryCaches.refreshExecutor();
+        List<Future<?>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executorService.submit(() -> loader.accept(item)));
+        }
+
+        int loaded = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+                loaded++;
+            } catch (ExecutionException e) {
+                log.warn("Failed to pre-load schema, it will be loaded on first use", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while pre-loading schemas");
+                futures.forEach(pending -> pending.cancel(true));
+                break;
+            }
+        }
+        log.info("Pre-loaded {} of {} schemas", loaded, items.size());
+        return loaded;
+    }
+
+    /**
+     * Applies the loader to every item without waiting for them.
+     *
+     * @param items  items to pre-load
+     * @param loader loads a single item into the caches
+     * @param <T>    type of the items
+     * @return future completed with the number of items loaded successfully, once all loads are done
+     */
+    public static <T> CompletableFuture<Integer> preloadAsync(@NonNull Collection<T> items,
+                                                              @NonNull Consumer<T> loader) {
+        if (items.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        ExecutorService executorService = GlueSchemaRegistryCaches.refreshExecutor();
+        List<CompletableFuture<Boolean>> loads = new ArrayList<>(items.size());
+        for (T item : items) {
+            loads.add(CompletableFuture.supplyAsync(() -> {
+                loader.accept(item);
+                return true;
+            }, executorService).exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                log.warn("Failed to pre-load schema, it will be loaded on first use", cause);
+                return false;
+            }));
+        }
+
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            int loaded = (int) loads.stream().filter(CompletableFuture::join).count();
+            log.info("Pre-loaded {} of {} schemas", loaded, items.size());
+            return loaded;
+        });
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import lombok.NonNull;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.DataFormat;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.MetadataKeyValuePair;
+import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds the Glue requests issued by {@link AWSSchemaRegistryClient} and {@link AWSSchemaRegistryAsyncClient}, so
+ * both clients send identical requests.
+ */
+final class GlueSchemaRegistryRequestBuilder {
+
+    private GlueSchemaRegistryRequestBuilder() {
+    }
+
+    static CreateSchemaRequest getCreateSchemaRequestObject(GlueSchemaRegistryConfiguration configs,
+                                                            String schemaName, String dataFormat,
+                                                            String schemaDefinition) {
+        return CreateSchemaRequest
+                .builder()
+                .dataFormat(DataFormat.valueOf(dataFormat))
+                .description(configs.getDescription())
+                .registryId(RegistryId.builder().registryName(configs.getRegistryName()).build())
+                .schemaName(schemaName)
+                .schemaDefinition(schemaDefinition)
+                .compatibility(configs.getCompatibilitySetting())
+                .tags(configs.getTags())
+                .build();
+    }
+
+    static RegisterSchemaVersionRequest getRegisterSchemaVersionRequest(GlueSchemaRegistryConfiguration configs,
+                                                                        String schemaDefinition, String schemaName) {
+        return RegisterSchemaVersionRequest
+                .builder()
+                .schemaDefinition(schemaDefinition)
+                .schemaId(getSchemaIdRequestObject(schemaName, configs.getRegistryName()))
+                .build();
+    }
+
+    static GetSchemaByDefinitionRequest getSchemaByDefinitionRequest(String schemaDefinition, String schemaName,
+                                                                     String registryName) {
+        return GetSchemaByDefinitionRequest
+                .builder()
+                .schemaId(getSchemaIdRequestObject(schemaName, registryName))
+                .schemaDefinition(schemaDefinition)
+                .build();
+    }
+
+    static SchemaId getSchemaIdRequestObject(@NonNull String schemaName, @NonNull String registryName) {
+        return SchemaId
+                .builder()
+                .schemaName(schemaName)
+                .registryName(registryName)
+                .build();
+    }
+
+    static GetSchemaVersionRequest getGetSchemaVersionRequest(String schemaVersionId) {
+        return GetSchemaVersionRequest
+                .builder()
+                .schemaVersionId(schemaVersionId)
+                .build();
+    }
+
+    static PutSchemaVersionMetadataRequest createPutSchemaVersionMetadataRequest(
+            UUID schemaVersionId, MetadataKeyValuePair metadataKeyValuePair) {
+        return PutSchemaVersionMetadataRequest
+                .builder()
+                .schemaVersionId(schemaVersionId.toString())
+                .metadataKeyValue(metadataKeyValuePair)
+                .build();
+    }
+
+    static MetadataKeyValuePair createMetadataKeyValuePair(Map.Entry<String, String> metadataEntry) {
+        return MetadataKeyValuePair
+                .builder()
+                .metadataKey(metadataEntry.getKey())
+                .metadataValue(metadataEntry.getValue())
+                .build();
+    }
+}
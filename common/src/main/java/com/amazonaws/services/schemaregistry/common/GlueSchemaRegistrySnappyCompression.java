@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.xerial.snappy.Snappy;
+
+import java.io.IOException;
+
+/**
+ * Compresses and Decompresses records using the Snappy block format.
+ */
+@Slf4j
+public class GlueSchemaRegistrySnappyCompression implements GlueSchemaRegistryCompressionHandler {
+
+    private final int maxDecompressedSize;
+
+    public GlueSchemaRegistrySnappyCompression() {
+        this(AWSSchemaRegistryConstants.DEFAULT_MAX_DECOMPRESSED_SIZE);
+    }
+
+    /**
+     * @param maxDecompressedSize maximum decompressed length accepted from a compressed record.
+     */
+    public GlueSchemaRegistrySnappyCompression(int maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    @Override
+    public byte[] compress(byte[] record) {
+        try {
+            return Snappy.compress(record);
+        } catch (Exception e) {
+            String message = "Error while compressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] compressedRecord, int start, int length) {
+        try {
+            byte[] decompressed = new byte[readLength(compressedRecord, start, length)];
+            Snappy.uncompress(compressedRecord, start, length, decompressed, 0);
+            return decompressed;
+        } catch (AWSSchemaRegistryException e) {
+            throw e;
+        } catch (Exception e) {
+            String message = "Error while decompressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    @Override
+    public void decompressInto(byte[] compressedRecord, int start, int length,
+                               GlueSchemaRegistryDecompressionBuffer output) {
+        try {
+            int originalLength = readLength(compressedRecord, start, length);
+            output.reset();
+            Snappy.uncompress(compressedRecord, start, length, output.ensureCapacity(originalLength), 0);
+            output.setSize(originalLength);
+        } catch (AWSSchemaRegistryException e) {
+            throw e;
+        } catch (Exception e) {
+            String message = "Error while decompressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    private int readLength(byte[] compressedRecord, int start, int length) throws IOException {
+        int originalLength = Snappy.uncompressedLength(compressedRecord, start, length);
+        return GlueSchemaRegistryCompressionHandler.checkDecompressedLength(originalLength, maxDecompressedSize);
+    }
+}
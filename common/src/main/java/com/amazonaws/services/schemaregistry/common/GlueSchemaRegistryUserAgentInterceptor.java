@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.collect.ImmutableMap;
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.services.glue.model.GlueRequest;
+
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * AWS SDK Request interceptor that adds additional data to the UserAgent of Glue API requests.
+ * Shared by the synchronous and asynchronous schema registry clients.
+ */
+class GlueSchemaRegistryUserAgentInterceptor implements ExecutionInterceptor {
+    private static final String ONE = "1";
+    private static final String ZERO = "0";
+
+    private final GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration;
+
+    GlueSchemaRegistryUserAgentInterceptor(@NonNull GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration) {
+        this.glueSchemaRegistryConfiguration = glueSchemaRegistryConfiguration;
+    }
+
+    @Override
+    public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+        if (!(context.request() instanceof GlueRequest)) {
+            //Only applies to Glue requests.
+            return context.request();
+        }
+
+        GlueRequest request = (GlueRequest) context.request();
+        AwsRequestOverrideConfiguration overrideConfiguration =
+            request.overrideConfiguration().map(config ->
+                config
+                    .toBuilder()
+                    .addApiName(getApiName())
+                    .build())
+                .orElse((AwsRequestOverrideConfiguration.builder()
+                    .addApiName(getApiName())
+                    .build()));
+
+        return request.toBuilder().overrideConfiguration(overrideConfiguration).build();
+    }
+
+    private ApiName getApiName() {
+        return ApiName.builder()
+            .version(com.amazonaws.services.schemaregistry.common.MavenPackaging.VERSION)
+            .name(buildUserAgentSuffix())
+            .build();
+    }
+
+    private String buildUserAgentSuffix() {
+        Map<String, String> userAgentSuffixItems = ImmutableMap.of(
+            "autoreg", glueSchemaRegistryConfiguration.isSchemaAutoRegistrationEnabled() ? ONE : ZERO,
+            "compress", !glueSchemaRegistryConfiguration.getCompressionType().equals(
+                AWSSchemaRegistryConstants.COMPRESSION.NONE) ? ONE : ZERO,
+            "secdeser", glueSchemaRegistryConfiguration.getSecondaryDeserializer() != null ? ONE : ZERO,
+            "app", glueSchemaRegistryConfiguration.getUserAgentApp()
+        );
+
+        StringJoiner userAgentSuffix = new StringJoiner(":");
+
+        userAgentSuffixItems
+            .forEach((key, value) -> userAgentSuffix.add(key + "/" + value));
+
+        return userAgentSuffix.toString();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.github.luben.zstd.Zstd;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compresses and Decompresses records using the Zstandard frame format.
+ */
+@Slf4j
+public class GlueSchemaRegistryZstdCompression implements GlueSchemaRegistryCompressionHandler {
+
+    private final int maxDecompressedSize;
+
+    public GlueSchemaRegistryZstdCompression() {
+        this(AWSSchemaRegistryConstants.DEFAULT_MAX_DECOMPRESSED_SIZE);
+    }
+
+    /**
+     * @param maxDecompressedSize maximum decompressed length accepted from a compressed record.
+     */
+    public GlueSchemaRegistryZstdCompression(int maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    @Override
+    public byte[] compress(byte[] record) {
+        try {
+            return Zstd.compress(record);
+        } catch (Exception e) {
+            String message = "Error while compressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] compressedRecord, int start, int length) {
+        try {
+            int originalLength = readLength(compressedRecord, start, length);
+            byte[] decompressed = new byte[originalLength];
+            decompress(compressedRecord, start, length, decompressed, originalLength);
+            return decompressed;
+        } catch (AWSSchemaRegistryException e) {
+            throw e;
+        } catch (Exception e) {
+            String message = "Error while decompressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    @Override
+    public void decompressInto(byte[] compressedRecord, int start, int length,
+                               GlueSchemaRegistryDecompressionBuffer output) {
+        try {
+            int originalLength = readLength(compressedRecord, start, length);
+            output.reset();
+            decompress(compressedRecord, start, length, output.ensureCapacity(originalLength), originalLength);
+            output.setSize(originalLength);
+        } catch (AWSSchemaRegistryException e) {
+            throw e;
+        } catch (Exception e) {
+            String message = "Error while decompressing data";
+            log.error(message, e);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    private int readLength(byte[] compressedRecord, int start, int length) {
+        //Frames written by compress() always carry the content size.
+        long originalLength = Zstd.decompressedSize(compressedRecord, start, length);
+        return GlueSchemaRegistryCompressionHandler.checkDecompressedLength(originalLength, maxDecompressedSize);
+    }
+
+    private static void decompress(byte[] compressedRecord, int start, int length, byte[] destination,
+                                   int originalLength) {
+        long result = Zstd.decompressByteArray(destination, 0, originalLength, compressedRecord, start, length);
+        if (Zstd.isError(result)) {
+            throw new IllegalArgumentException(Zstd.getErrorName(result));
+        }
+        if (result != originalLength) {
+            throw new IllegalArgumentException(
+                String.format("Decompressed %d bytes, expected %d", result, originalLength));
+        }
+    }
+}
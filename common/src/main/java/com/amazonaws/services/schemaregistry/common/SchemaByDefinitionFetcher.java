@@ -1,19 +1,24 @@
 package com.amazonaws.services.schemaregistry.common;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Fetches the schema version for the given schema definition optionally registering the schema if required.
@@ -27,7 +32,22 @@ public class SchemaByDefinitionFetcher {
 
     @NonNull
     @VisibleForTesting
-    protected final LoadingCache<Schema, UUID> schemaDefinitionToVersionCache;
+    protected final GlueSchemaRegistryLoadingCache<Schema, UUID> schemaDefinitionToVersionCache;
+
+    /**
+     * Schemas recently found to be missing from the registry while auto registration is disabled, so that producers
+     * failing on an unregistered schema do not call the registry for every record.
+     */
+    @NonNull
+    @VisibleForTesting
+    protected final Cache<Schema, Throwable> schemaNotFoundCache;
+
+    /**
+     * Schemas whose lookup or registration is currently in progress. Concurrent callers that miss the cache for the
+     * same schema wait on the in-flight request instead of issuing their own remote calls.
+     */
+    @VisibleForTesting
+    protected final ConcurrentMap<Schema, CompletableFuture<UUID>> inFlightRequests = new ConcurrentHashMap<>();
 
     public SchemaByDefinitionFetcher(
         final AWSSchemaRegistryClient awsSchemaRegistryClient,
@@ -35,10 +55,9 @@ public class SchemaByDefinitionFetcher {
         this.awsSchemaRegistryClient = awsSchemaRegistryClient;
         this.glueSchemaRegistryConfiguration = glueSchemaRegistryConfiguration;
 
-        this.schemaDefinitionToVersionCache = CacheBuilder.newBuilder()
-            .maximumSize(glueSchemaRegistryConfiguration.getCacheSize())
-            .refreshAfterWrite(glueSchemaRegistryConfiguration.getTimeToLiveMillis(), TimeUnit.MILLISECONDS)
-            .build(new SchemaDefinitionToVersionCache());
+        this.schemaDefinitionToVersionCache = GlueSchemaRegistryCaches.newRefreshingCache(
+            glueSchemaRegistryConfiguration, new SchemaDefinitionToVersionCache());
+        this.schemaNotFoundCache = GlueSchemaRegistryCaches.newNotFoundCache(glueSchemaRegistryConfiguration);
     }
 
     /**
@@ -53,6 +72,9 @@ public class SchemaByDefinitionFetcher {
      * else if schema does not exist
      * then
      * 2.2) create schema and register schema version
+     * <p>
+     * Concurrent callers that miss the cache for the same schema are coalesced, so only one of them performs the
+     * remote lookup and registration while the others wait for its result.
      *
      * @param schemaDefinition Schema Definition
      * @param schemaName       Schema Name
@@ -67,42 +89,101 @@ public class SchemaByDefinitionFetcher {
         @NonNull String schemaName,
         @NonNull String dataFormat,
         @NonNull Map<String, String> metadata) throws AWSSchemaRegistryException {
-        UUID schemaVersionId;
         final Schema schema = new Schema(schemaDefinition, dataFormat, schemaName);
 
+        UUID cachedSchemaVersionId = schemaDefinitionToVersionCache.get(schema);
+        if (cachedSchemaVersionId != null) {
+            return cachedSchemaVersionId;
+        }
+
+        CompletableFuture<UUID> request = new CompletableFuture<>();
+        CompletableFuture<UUID> inFlightRequest = inFlightRequests.putIfAbsent(schema, request);
+        if (inFlightRequest != null) {
+            try {
+                return inFlightRequest.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+
         try {
-            return schemaDefinitionToVersionCache.get(schema);
-        } catch (Exception ex) {
-            Throwable schemaRegistryException = ex.getCause();
-            String exceptionCauseMessage = schemaRegistryException.getCause().getMessage();
-
-            if (exceptionCauseMessage.contains(AWSSchemaRegistryConstants.SCHEMA_VERSION_NOT_FOUND_MSG)) {
-                if (!glueSchemaRegistryConfiguration.isSchemaAutoRegistrationEnabled()) {
-                    throw new AWSSchemaRegistryException(AWSSchemaRegistryConstants.AUTO_REGISTRATION_IS_DISABLED_MSG,
-                        schemaRegistryException);
-                }
-                schemaVersionId =
-                    awsSchemaRegistryClient.registerSchemaVersion(schemaDefinition, schemaName, dataFormat, metadata);
-            } else if (exceptionCauseMessage.contains(AWSSchemaRegistryConstants.SCHEMA_NOT_FOUND_MSG)) {
-                if (!glueSchemaRegistryConfiguration.isSchemaAutoRegistrationEnabled()) {
-                    throw new AWSSchemaRegistryException(AWSSchemaRegistryConstants.AUTO_REGISTRATION_IS_DISABLED_MSG,
-                        schemaRegistryException);
-                }
-
-                schemaVersionId =
-                    awsSchemaRegistryClient.createSchema(schemaName, dataFormat, schemaDefinition, metadata);
-            } else {
-                String msg =
-                    String.format(
-                        "Exception occurred while fetching or registering schema definition = %s, schema name = %s ",
-                        schemaDefinition, schemaName);
-                throw new AWSSchemaRegistryException(msg, schemaRegistryException);
+            UUID schemaVersionId = fetchOrRegisterSchemaVersionId(schema, metadata);
+            request.complete(schemaVersionId);
+            return schemaVersionId;
+        } catch (Throwable e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(schema, request);
+        }
+    }
+
+    @SneakyThrows
+    private UUID fetchOrRegisterSchemaVersionId(Schema schema, Map<String, String> metadata) {
+        final String schemaDefinition = schema.getSchemaDefinition();
+        final String schemaName = schema.getSchemaName();
+        final String dataFormat = schema.getDataFormat();
+        UUID schemaVersionId;
+
+        Throwable schemaRegistryException = schemaNotFoundCache.getIfPresent(schema);
+        if (schemaRegistryException == null) {
+            try {
+                return schemaDefinitionToVersionCache.getOrLoad(schema);
+            } catch (Exception ex) {
+                schemaRegistryException = ex.getCause();
+            }
+        }
+
+        String exceptionCauseMessage = schemaRegistryException.getCause().getMessage();
+
+        if (exceptionCauseMessage.contains(AWSSchemaRegistryConstants.SCHEMA_VERSION_NOT_FOUND_MSG)) {
+            if (!glueSchemaRegistryConfiguration.isSchemaAutoRegistrationEnabled()) {
+                schemaNotFoundCache.put(schema, schemaRegistryException);
+                throw new AWSSchemaRegistryException(AWSSchemaRegistryConstants.AUTO_REGISTRATION_IS_DISABLED_MSG,
+                    schemaRegistryException);
+            }
+            schemaVersionId =
+                awsSchemaRegistryClient.registerSchemaVersion(schemaDefinition, schemaName, dataFormat, metadata);
+        } else if (exceptionCauseMessage.contains(AWSSchemaRegistryConstants.SCHEMA_NOT_FOUND_MSG)) {
+            if (!glueSchemaRegistryConfiguration.isSchemaAutoRegistrationEnabled()) {
+                schemaNotFoundCache.put(schema, schemaRegistryException);
+                throw new AWSSchemaRegistryException(AWSSchemaRegistryConstants.AUTO_REGISTRATION_IS_DISABLED_MSG,
+                    schemaRegistryException);
             }
-            schemaDefinitionToVersionCache.put(schema, schemaVersionId);
+
+            schemaVersionId =
+                awsSchemaRegistryClient.createSchema(schemaName, dataFormat, schemaDefinition, metadata);
+        } else {
+            String msg =
+                String.format(
+                    "Exception occurred while fetching or registering schema definition = %s, schema name = %s ",
+                    schemaDefinition, schemaName);
+            throw new AWSSchemaRegistryException(msg, schemaRegistryException);
         }
+        schemaDefinitionToVersionCache.put(schema, schemaVersionId);
         return schemaVersionId;
     }
 
+    /**
+     * Looks up the schema version ids of the given schemas in parallel and caches them, so that the first records
+     * produced with these schemas do not wait on the registry. Schemas are never registered by this method.
+     *
+     * @param schemas schemas to look up
+     * @return number of schemas whose version id was cached
+     */
+    public int preload(@NonNull Collection<Schema> schemas) {
+        return GlueSchemaRegistryPreloader.preload(schemas, schemaDefinitionToVersionCache::getOrLoadUnchecked);
+    }
+
+    /**
+     * Get the statistics of the schema to schema version id cache.
+     *
+     * @return cache statistics
+     */
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        return schemaDefinitionToVersionCache.getCacheStats();
+    }
+
     @RequiredArgsConstructor
     private class SchemaDefinitionToVersionCache extends CacheLoader<Schema, UUID> {
         @Override
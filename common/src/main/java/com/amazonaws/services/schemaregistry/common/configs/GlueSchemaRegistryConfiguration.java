@@ -16,6 +16,12 @@
 package com.amazonaws.services.schemaregistry.common.configs;
 
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetricsFactory;
+import com.amazonaws.services.schemaregistry.metrics.NoOpGlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTracer;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTracerFactory;
+import com.amazonaws.services.schemaregistry.tracing.NoOpGlueSchemaRegistryTracer;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.amazonaws.services.schemaregistry.utils.AvroRecordType;
 import com.amazonaws.services.schemaregistry.utils.GlueSchemaRegistryUtils;
@@ -28,10 +34,14 @@ import org.apache.commons.lang3.EnumUtils;
 import software.amazon.awssdk.services.glue.model.Compatibility;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -42,10 +52,38 @@ import java.util.stream.Collectors;
 public class GlueSchemaRegistryConfiguration {
     private static final String DELIMITER = "-";
     private AWSSchemaRegistryConstants.COMPRESSION compressionType = AWSSchemaRegistryConstants.COMPRESSION.NONE;
+    private int compressionPoolSize = 0;
+    private int maxDecompressedSize = AWSSchemaRegistryConstants.DEFAULT_MAX_DECOMPRESSED_SIZE;
+    private boolean reuseDecompressionBuffer = false;
+    private boolean reuseAvroDecoder = false;
     private String endPoint;
     private String region;
     private long timeToLiveMillis = 24 * 60 * 60 * 1000L;
     private int cacheSize = 200;
+    private AWSSchemaRegistryConstants.CacheProvider cacheProviderType = AWSSchemaRegistryConstants.CacheProvider.GUAVA;
+    private int cacheRefreshJitterPercent = 10;
+    private long negativeCacheTimeToLiveMillis = 5 * 1000L;
+    private int avroDatumWriterCacheSize = AWSSchemaRegistryConstants.DEFAULT_DATA_FORMAT_CACHE_SIZE;
+    private int avroDatumReaderCacheSize = AWSSchemaRegistryConstants.DEFAULT_DATA_FORMAT_CACHE_SIZE;
+    private int protobufSchemaGeneratorCacheSize = AWSSchemaRegistryConstants.DEFAULT_DATA_FORMAT_CACHE_SIZE;
+    private int protobufSchemaParserCacheSize = AWSSchemaRegistryConstants.DEFAULT_DATA_FORMAT_CACHE_SIZE;
+    private int jsonSchemaValidatorCacheSize = AWSSchemaRegistryConstants.DEFAULT_DATA_FORMAT_CACHE_SIZE;
+    private int jsonSchemaReaderCacheSize = AWSSchemaRegistryConstants.DEFAULT_DATA_FORMAT_CACHE_SIZE;
+    private AWSSchemaRegistryConstants.JsonEnvelopeType jsonEnvelopeType =
+            AWSSchemaRegistryConstants.JsonEnvelopeType.DATA_WITH_SCHEMA;
+    private AWSSchemaRegistryConstants.JsonValidationEngine jsonValidationEngine =
+            AWSSchemaRegistryConstants.JsonValidationEngine.EVERIT;
+    private AWSSchemaRegistryConstants.JsonValidationPolicy jsonValidationPolicy =
+            AWSSchemaRegistryConstants.JsonValidationPolicy.ALWAYS;
+    private int jsonValidationRecordsPerSchema = AWSSchemaRegistryConstants.DEFAULT_JSON_VALIDATION_RECORDS_PER_SCHEMA;
+    private double jsonValidationSampleRate = AWSSchemaRegistryConstants.DEFAULT_JSON_VALIDATION_SAMPLE_RATE;
+    private long dataFormatCacheMaximumWeightBytes = 0L;
+    private GlueSchemaRegistryMetrics metrics = NoOpGlueSchemaRegistryMetrics.INSTANCE;
+    private GlueSchemaRegistryTracer tracer = NoOpGlueSchemaRegistryTracer.INSTANCE;
+    private double tracingSampleRate = AWSSchemaRegistryConstants.DEFAULT_TRACING_SAMPLE_RATE;
+    private String persistentSchemaCachePath;
+    private List<UUID> preloadSchemaVersionIds = new ArrayList<>();
+    private List<String> preloadSchemaNames = new ArrayList<>();
     private AvroRecordType avroRecordType;
     private ProtobufMessageType protobufMessageType;
     private String registryName;
@@ -94,14 +132,75 @@ public class GlueSchemaRegistryConfiguration {
         validateAndSetProtobufMessageType(configs);
         validateAndSetCompatibility(configs);
         validateAndSetCompressionType(configs);
+        validateAndSetCompressionPoolSize(configs);
+        validateAndSetMaxDecompressedSize(configs);
+        validateAndSetReuseDecompressionBuffer(configs);
+        validateAndSetReuseAvroDecoder(configs);
         validateAndSetSchemaAutoRegistrationSetting(configs);
         validateAndSetJacksonSerializationFeatures(configs);
         validateAndSetJacksonDeserializationFeatures(configs);
+        validateAndSetJsonEnvelopeType(configs);
+        validateAndSetJsonValidationEngine(configs);
+        validateAndSetJsonValidationPolicy(configs);
         validateAndSetTags(configs);
         validateAndSetMetadata(configs);
         validateAndSetUserAgent(configs);
         validateAndSetSecondaryDeserializer(configs);
         validateAndSetProxyUrl(configs);
+        validateAndSetMetrics(configs);
+        validateAndSetTracing(configs);
+    }
+
+    private void validateAndSetMetrics(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.METRICS_PROVIDER)) {
+            Object value = configs.get(AWSSchemaRegistryConstants.METRICS_PROVIDER);
+            if (value instanceof GlueSchemaRegistryMetrics) {
+                this.metrics = (GlueSchemaRegistryMetrics) value;
+                return;
+            }
+            String metricsProvider = String.valueOf(value);
+            if (!EnumUtils.isValidEnum(AWSSchemaRegistryConstants.MetricsProvider.class,
+                                       metricsProvider.toUpperCase())) {
+                String message = String.format("Invalid metrics provider : %s, accepted values are : %s",
+                                               metricsProvider,
+                                               Arrays.toString(AWSSchemaRegistryConstants.MetricsProvider.values()));
+                throw new AWSSchemaRegistryException(message);
+            }
+            this.metrics = GlueSchemaRegistryMetricsFactory.create(
+                AWSSchemaRegistryConstants.MetricsProvider.valueOf(metricsProvider.toUpperCase()));
+        }
+    }
+
+    private void validateAndSetTracing(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.TRACING_PROVIDER)) {
+            Object value = configs.get(AWSSchemaRegistryConstants.TRACING_PROVIDER);
+            if (value instanceof GlueSchemaRegistryTracer) {
+                this.tracer = (GlueSchemaRegistryTracer) value;
+            } else {
+                String tracingProvider = String.valueOf(value);
+                if (!EnumUtils.isValidEnum(AWSSchemaRegistryConstants.TracingProvider.class,
+                                           tracingProvider.toUpperCase())) {
+                    String message = String.format("Invalid tracing provider : %s, accepted values are : %s",
+                                                   tracingProvider,
+                                                   Arrays.toString(AWSSchemaRegistryConstants.TracingProvider.values()));
+                    throw new AWSSchemaRegistryException(message);
+                }
+                this.tracer = GlueSchemaRegistryTracerFactory.create(
+                    AWSSchemaRegistryConstants.TracingProvider.valueOf(tracingProvider.toUpperCase()));
+            }
+        }
+        if (isPresent(configs, AWSSchemaRegistryConstants.TRACING_SAMPLE_RATE)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.TRACING_SAMPLE_RATE));
+            String message = String.format("Tracing sample rate property is not a valid probability : %s", value);
+            try {
+                this.tracingSampleRate = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new AWSSchemaRegistryException(message, e);
+            }
+            if (!(this.tracingSampleRate >= 0.0 && this.tracingSampleRate <= 1.0)) {
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
     }
 
     private void validateAndSetSecondaryDeserializer(Map<String, ?> configs) {
@@ -120,6 +219,14 @@ public class GlueSchemaRegistryConfiguration {
     private void buildCacheConfigs(Map<String, ?> configs) {
         validateAndSetCacheSize(configs);
         validateAndSetCacheTTL(configs);
+        validateAndSetCacheProviderType(configs);
+        validateAndSetCacheRefreshJitterPercent(configs);
+        validateAndSetNegativeCacheTTL(configs);
+        validateAndSetDataFormatCacheSizes(configs);
+        validateAndSetDataFormatCacheMaximumWeight(configs);
+        validateAndSetPersistentSchemaCachePath(configs);
+        validateAndSetPreloadSchemaVersionIds(configs);
+        validateAndSetPreloadSchemaNames(configs);
     }
 
     private void validateAndSetUserAgent(Map<String, ?> configs) {
@@ -136,6 +243,52 @@ public class GlueSchemaRegistryConfiguration {
         }
     }
 
+    private void validateAndSetCompressionPoolSize(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.COMPRESSION_POOL_SIZE)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.COMPRESSION_POOL_SIZE));
+            try {
+                this.compressionPoolSize = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                String message = String.format("Compression pool size property is not a valid size : %s", value);
+                throw new AWSSchemaRegistryException(message, e);
+            }
+            if (this.compressionPoolSize < 0) {
+                String message = String.format("Compression pool size property is not a valid size : %s", value);
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+    }
+
+    private void validateAndSetMaxDecompressedSize(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.MAX_DECOMPRESSED_SIZE)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.MAX_DECOMPRESSED_SIZE));
+            try {
+                this.maxDecompressedSize = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                String message = String.format("Max decompressed size property is not a valid size : %s", value);
+                throw new AWSSchemaRegistryException(message, e);
+            }
+            if (this.maxDecompressedSize <= 0) {
+                String message = String.format("Max decompressed size property is not a valid size : %s", value);
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+    }
+
+    private void validateAndSetReuseDecompressionBuffer(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.REUSE_DECOMPRESSION_BUFFER)) {
+            this.reuseDecompressionBuffer = Boolean.parseBoolean(
+                    configs.get(AWSSchemaRegistryConstants.REUSE_DECOMPRESSION_BUFFER).toString());
+        }
+    }
+
+    private void validateAndSetReuseAvroDecoder(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.REUSE_AVRO_DECODER)) {
+            this.reuseAvroDecoder = Boolean.parseBoolean(
+                    configs.get(AWSSchemaRegistryConstants.REUSE_AVRO_DECODER).toString());
+        }
+    }
+
     private boolean validateCompressionType(String compressionType) {
         if (!EnumUtils.isValidEnum(AWSSchemaRegistryConstants.COMPRESSION.class, compressionType.toUpperCase())) {
             String errorMessage =
@@ -235,6 +388,198 @@ public class GlueSchemaRegistryConfiguration {
         }
     }
 
+    private void validateAndSetCacheProviderType(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.CACHE_PROVIDER_TYPE)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.CACHE_PROVIDER_TYPE));
+            if (!EnumUtils.isValidEnum(AWSSchemaRegistryConstants.CacheProvider.class, value.toUpperCase())) {
+                String message = String.format("Invalid cache provider type : %s, accepted values are : %s", value,
+                                               Arrays.toString(AWSSchemaRegistryConstants.CacheProvider.values()));
+                throw new AWSSchemaRegistryException(message);
+            }
+            this.cacheProviderType = AWSSchemaRegistryConstants.CacheProvider.valueOf(value.toUpperCase());
+        }
+    }
+
+    private void validateAndSetJsonEnvelopeType(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.JSON_ENVELOPE_TYPE)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.JSON_ENVELOPE_TYPE));
+            if (!EnumUtils.isValidEnum(AWSSchemaRegistryConstants.JsonEnvelopeType.class, value.toUpperCase())) {
+                String message = String.format("Invalid JSON envelope type : %s, accepted values are : %s", value,
+                        Arrays.toString(AWSSchemaRegistryConstants.JsonEnvelopeType.values()));
+                throw new AWSSchemaRegistryException(message);
+            }
+            this.jsonEnvelopeType = AWSSchemaRegistryConstants.JsonEnvelopeType.valueOf(value.toUpperCase());
+        }
+    }
+
+    private void validateAndSetJsonValidationEngine(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.JSON_VALIDATION_ENGINE)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.JSON_VALIDATION_ENGINE));
+            if (!EnumUtils.isValidEnum(AWSSchemaRegistryConstants.JsonValidationEngine.class, value.toUpperCase())) {
+                String message = String.format("Invalid JSON validation engine : %s, accepted values are : %s", value,
+                        Arrays.toString(AWSSchemaRegistryConstants.JsonValidationEngine.values()));
+                throw new AWSSchemaRegistryException(message);
+            }
+            this.jsonValidationEngine = AWSSchemaRegistryConstants.JsonValidationEngine.valueOf(value.toUpperCase());
+        }
+    }
+
+    private void validateAndSetJsonValidationPolicy(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.JSON_VALIDATION_POLICY)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.JSON_VALIDATION_POLICY));
+            if (!EnumUtils.isValidEnum(AWSSchemaRegistryConstants.JsonValidationPolicy.class, value.toUpperCase())) {
+                String message = String.format("Invalid JSON validation policy : %s, accepted values are : %s", value,
+                        Arrays.toString(AWSSchemaRegistryConstants.JsonValidationPolicy.values()));
+                throw new AWSSchemaRegistryException(message);
+            }
+            this.jsonValidationPolicy = AWSSchemaRegistryConstants.JsonValidationPolicy.valueOf(value.toUpperCase());
+        }
+        if (isPresent(configs, AWSSchemaRegistryConstants.JSON_VALIDATION_RECORDS_PER_SCHEMA)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.JSON_VALIDATION_RECORDS_PER_SCHEMA));
+            String message = String.format("JSON validation records per schema is not a valid count : %s", value);
+            try {
+                this.jsonValidationRecordsPerSchema = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new AWSSchemaRegistryException(message, e);
+            }
+            if (this.jsonValidationRecordsPerSchema < 0) {
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+        if (isPresent(configs, AWSSchemaRegistryConstants.JSON_VALIDATION_SAMPLE_RATE)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.JSON_VALIDATION_SAMPLE_RATE));
+            String message = String.format("JSON validation sample rate is not a valid probability : %s", value);
+            try {
+                this.jsonValidationSampleRate = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new AWSSchemaRegistryException(message, e);
+            }
+            if (!(this.jsonValidationSampleRate >= 0.0 && this.jsonValidationSampleRate <= 1.0)) {
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+    }
+
+    private void validateAndSetCacheRefreshJitterPercent(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.CACHE_REFRESH_JITTER_PERCENT)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.CACHE_REFRESH_JITTER_PERCENT));
+            String message = String.format("Cache refresh jitter percent property is not a valid percentage : %s", value);
+            try {
+                this.cacheRefreshJitterPercent = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new AWSSchemaRegistryException(message, e);
+            }
+            if (this.cacheRefreshJitterPercent < 0 || this.cacheRefreshJitterPercent > 99) {
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+    }
+
+    private void validateAndSetNegativeCacheTTL(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.NEGATIVE_CACHE_TIME_TO_LIVE_MILLIS)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.NEGATIVE_CACHE_TIME_TO_LIVE_MILLIS));
+            String message = String.format("Negative cache time to live property is not a valid time : %s", value);
+            try {
+                this.negativeCacheTimeToLiveMillis = Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new AWSSchemaRegistryException(message, e);
+            }
+            if (this.negativeCacheTimeToLiveMillis < 0) {
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+    }
+
+    private void validateAndSetDataFormatCacheSizes(Map<String, ?> configs) {
+        this.avroDatumWriterCacheSize = parseDataFormatCacheSize(configs,
+            AWSSchemaRegistryConstants.AVRO_DATUM_WRITER_CACHE_SIZE, this.avroDatumWriterCacheSize);
+        this.avroDatumReaderCacheSize = parseDataFormatCacheSize(configs,
+            AWSSchemaRegistryConstants.AVRO_DATUM_READER_CACHE_SIZE, this.avroDatumReaderCacheSize);
+        this.protobufSchemaGeneratorCacheSize = parseDataFormatCacheSize(configs,
+            AWSSchemaRegistryConstants.PROTOBUF_SCHEMA_GENERATOR_CACHE_SIZE, this.protobufSchemaGeneratorCacheSize);
+        this.protobufSchemaParserCacheSize = parseDataFormatCacheSize(configs,
+            AWSSchemaRegistryConstants.PROTOBUF_SCHEMA_PARSER_CACHE_SIZE, this.protobufSchemaParserCacheSize);
+        this.jsonSchemaValidatorCacheSize = parseDataFormatCacheSize(configs,
+            AWSSchemaRegistryConstants.JSON_SCHEMA_VALIDATOR_CACHE_SIZE, this.jsonSchemaValidatorCacheSize);
+        this.jsonSchemaReaderCacheSize = parseDataFormatCacheSize(configs,
+            AWSSchemaRegistryConstants.JSON_SCHEMA_READER_CACHE_SIZE, this.jsonSchemaReaderCacheSize);
+    }
+
+    private int parseDataFormatCacheSize(Map<String, ?> configs, String key, int defaultValue) {
+        if (!isPresent(configs, key)) {
+            return defaultValue;
+        }
+        String value = String.valueOf(configs.get(key));
+        String message = String.format("%s property is not a valid cache size : %s", key, value);
+        int size;
+        try {
+            size = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new AWSSchemaRegistryException(message, e);
+        }
+        if (size <= 0) {
+            throw new AWSSchemaRegistryException(message);
+        }
+        return size;
+    }
+
+    private void validateAndSetDataFormatCacheMaximumWeight(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.DATA_FORMAT_CACHE_MAXIMUM_WEIGHT_BYTES)) {
+            String value =
+                String.valueOf(configs.get(AWSSchemaRegistryConstants.DATA_FORMAT_CACHE_MAXIMUM_WEIGHT_BYTES));
+            String message = String.format("Data format cache maximum weight property is not a valid size : %s", value);
+            try {
+                this.dataFormatCacheMaximumWeightBytes = Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new AWSSchemaRegistryException(message, e);
+            }
+            if (this.dataFormatCacheMaximumWeightBytes < 0) {
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+    }
+
+    private void validateAndSetPersistentSchemaCachePath(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.PERSISTENT_SCHEMA_CACHE_PATH)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.PERSISTENT_SCHEMA_CACHE_PATH));
+            if (value.trim().isEmpty()) {
+                throw new AWSSchemaRegistryException("Persistent schema cache path property is empty");
+            }
+            this.persistentSchemaCachePath = value;
+        }
+    }
+
+    private void validateAndSetPreloadSchemaVersionIds(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.PRELOAD_SCHEMA_VERSION_IDS)) {
+            List<UUID> schemaVersionIds = new ArrayList<>();
+            for (String value : splitList(configs.get(AWSSchemaRegistryConstants.PRELOAD_SCHEMA_VERSION_IDS))) {
+                try {
+                    schemaVersionIds.add(UUID.fromString(value));
+                } catch (IllegalArgumentException e) {
+                    String message = String.format("Preload schema version id is not a valid UUID : %s", value);
+                    throw new AWSSchemaRegistryException(message, e);
+                }
+            }
+            this.preloadSchemaVersionIds = schemaVersionIds;
+        }
+    }
+
+    private void validateAndSetPreloadSchemaNames(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.PRELOAD_SCHEMA_NAMES)) {
+            this.preloadSchemaNames = splitList(configs.get(AWSSchemaRegistryConstants.PRELOAD_SCHEMA_NAMES));
+        }
+    }
+
+    private List<String> splitList(Object value) {
+        Collection<?> values = value instanceof Collection
+                ? (Collection<?>) value
+                : Arrays.asList(String.valueOf(value).split(","));
+        return values.stream()
+                .map(item -> String.valueOf(item).trim())
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+
     private void validateAndSetAvroRecordType(Map<String, ?> configs) {
         if (isPresent(configs, AWSSchemaRegistryConstants.AVRO_RECORD_TYPE)) {
             this.avroRecordType =
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.metrics;
+
+import lombok.Value;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Identifies a meter by name and tags, used by the metrics implementations to cache their meters.
+ */
+@Value
+class GlueSchemaRegistryMeterId {
+    private String name;
+    private List<String> tags;
+
+    static GlueSchemaRegistryMeterId of(String name, String... tags) {
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException(
+                String.format("Tags of meter %s must be key and value pairs : %s", name, Arrays.toString(tags)));
+        }
+        return new GlueSchemaRegistryMeterId(name, Collections.unmodifiableList(Arrays.asList(tags.clone())));
+    }
+}
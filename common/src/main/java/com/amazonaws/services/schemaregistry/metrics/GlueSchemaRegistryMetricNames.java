@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.metrics;
+
+/**
+ * Names and tag keys of the meters published through {@link GlueSchemaRegistryMetrics}.
+ */
+public final class GlueSchemaRegistryMetricNames {
+    /**
+     * Time taken to serialize and encode a record, tagged by data format.
+     */
+    public static final String SERIALIZATION_TIME = "glue.schema.registry.serialization.time";
+    /**
+     * Time taken to de-serialize a record, including the schema lookup, tagged by data format.
+     */
+    public static final String DESERIALIZATION_TIME = "glue.schema.registry.deserialization.time";
+    /**
+     * Serializations and de-serializations that failed, tagged by operation and error type.
+     */
+    public static final String SERDE_ERRORS = "glue.schema.registry.serde.errors";
+    /**
+     * Size in bytes of the data format specific payload before compression and encoding, tagged by data format.
+     */
+    public static final String PAYLOAD_SIZE = "glue.schema.registry.payload.size";
+    /**
+     * Size in bytes of the encoded record, including the header and after compression, tagged by operation, data
+     * format and compression.
+     */
+    public static final String ENCODED_SIZE = "glue.schema.registry.encoded.size";
+    /**
+     * Ratio of schema cache lookups that found a cached value, tagged by cache and by the client instance owning it.
+     */
+    public static final String CACHE_HIT_RATIO = "glue.schema.registry.cache.hit.ratio";
+    /**
+     * Number of entries evicted from a schema cache, tagged by cache and by the client instance owning it.
+     */
+    public static final String CACHE_EVICTIONS = "glue.schema.registry.cache.evictions";
+    /**
+     * Latency of Glue API calls, including SDK retries, tagged by operation and outcome.
+     */
+    public static final String API_CALL_TIME = "glue.schema.registry.api.call.time";
+    /**
+     * Glue API calls that failed, tagged by operation and error type.
+     */
+    public static final String API_CALL_ERRORS = "glue.schema.registry.api.call.errors";
+    /**
+     * Time spent waiting for the evolution check of a newly registered schema version to complete.
+     */
+    public static final String REGISTRATION_WAIT_TIME = "glue.schema.registry.registration.wait.time";
+    /**
+     * Records validated against their schema, or skipped by the validation policy, tagged by data format and outcome.
+     */
+    public static final String VALIDATIONS = "glue.schema.registry.validations";
+
+    public static final String TAG_DATA_FORMAT = "dataFormat";
+    public static final String TAG_OPERATION = "operation";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_ERROR_TYPE = "errorType";
+    public static final String TAG_COMPRESSION = "compression";
+    public static final String TAG_CACHE = "cache";
+    public static final String TAG_INSTANCE = "instance";
+
+    public static final String OPERATION_SERIALIZE = "serialize";
+    public static final String OPERATION_DESERIALIZE = "deserialize";
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_SKIPPED = "skipped";
+
+    private GlueSchemaRegistryMetricNames() {
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.metrics;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Pluggable metrics sink for the serializers, de-serializers and schema registry clients.
+ * <p>
+ * Meters are identified by a name from {@link GlueSchemaRegistryMetricNames} and tags given as alternating key and
+ * value pairs. Implementations must be thread safe and cheap to call, as they are invoked for every record.
+ */
+public interface GlueSchemaRegistryMetrics {
+    /**
+     * Records the duration of an operation.
+     *
+     * @param name          meter name
+     * @param durationNanos duration in nanoseconds
+     * @param tags          alternating tag keys and values
+     */
+    void recordTime(String name, long durationNanos, String... tags);
+
+    /**
+     * Records an amount in a distribution, such as a payload size in bytes.
+     *
+     * @param name   meter name
+     * @param amount recorded amount
+     * @param tags   alternating tag keys and values
+     */
+    void recordAmount(String name, long amount, String... tags);
+
+    /**
+     * Increments a counter by one.
+     *
+     * @param name meter name
+     * @param tags alternating tag keys and values
+     */
+    void increment(String name, String... tags);
+
+    /**
+     * Registers a gauge sampling the value of the given object. Implementations only keep a weak reference to the
+     * object, so registering a gauge does not prevent it from being garbage collected.
+     *
+     * @param name          meter name
+     * @param object        object the gauge value is derived from
+     * @param valueFunction computes the gauge value from the object
+     * @param tags          alternating tag keys and values
+     * @param <T>           object type
+     */
+    <T> void registerGauge(String name, T object, ToDoubleFunction<T> valueFunction, String... tags);
+
+    /**
+     * Whether recorded values are published, so that callers can skip measuring when they are not.
+     *
+     * @return true unless metrics are disabled
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.metrics;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.NonNull;
+
+/**
+ * Creates the {@link GlueSchemaRegistryMetrics} of a {@link AWSSchemaRegistryConstants.MetricsProvider metrics
+ * provider}.
+ */
+public final class GlueSchemaRegistryMetricsFactory {
+    private static final String MICROMETER_CLASS_NAME = "io.micrometer.core.instrument.MeterRegistry";
+
+    private GlueSchemaRegistryMetricsFactory() {
+    }
+
+    /**
+     * Creates the metrics of the given provider. Micrometer metrics are published to the Micrometer global registry;
+     * applications using another registry can configure a {@link MicrometerGlueSchemaRegistryMetrics} instance
+     * instead.
+     *
+     * @param metricsProvider metrics provider
+     * @return metrics of the provider
+     */
+    public static GlueSchemaRegistryMetrics create(@NonNull AWSSchemaRegistryConstants.MetricsProvider metricsProvider) {
+        switch (metricsProvider) {
+            case JMX:
+                return JmxGlueSchemaRegistryMetrics.getInstance();
+            case MICROMETER:
+                if (!isMicrometerAvailable()) {
+                    throw new AWSSchemaRegistryException(
+                        "Micrometer metrics provider requires io.micrometer:micrometer-core on the classpath");
+                }
+                return MicrometerGlueSchemaRegistryMetrics.global();
+            case NONE:
+            default:
+                return NoOpGlueSchemaRegistryMetrics.INSTANCE;
+        }
+    }
+
+    @VisibleForTesting
+    static boolean isMicrometerAvailable() {
+        try {
+            Class.forName(MICROMETER_CLASS_NAME, false, GlueSchemaRegistryMetricsFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.metrics;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link GlueSchemaRegistryMetrics} exposing each meter as an MXBean of the platform MBean server, under the
+ * {@value #DOMAIN} domain. Timers report their statistics in milliseconds.
+ * <p>
+ * A single instance is shared by all clients of the JVM, so that their values are aggregated in the same MXBeans.
+ */
+@Slf4j
+public final class JmxGlueSchemaRegistryMetrics implements GlueSchemaRegistryMetrics {
+    public static final String DOMAIN = "com.amazonaws.services.schemaregistry";
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final JmxGlueSchemaRegistryMetrics INSTANCE =
+        new JmxGlueSchemaRegistryMetrics(ManagementFactory.getPlatformMBeanServer(), DOMAIN);
+
+    private final MBeanServer mBeanServer;
+    private final String domain;
+    private final ConcurrentMap<GlueSchemaRegistryMeterId, Statistics> statistics = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ObjectName, Gauge<?>> gauges = new ConcurrentHashMap<>();
+
+    @VisibleForTesting
+    JmxGlueSchemaRegistryMetrics(@NonNull MBeanServer mBeanServer, @NonNull String domain) {
+        this.mBeanServer = mBeanServer;
+        this.domain = domain;
+    }
+
+    /**
+     * Returns the instance publishing to the platform MBean server.
+     *
+     * @return shared JMX metrics
+     */
+    public static JmxGlueSchemaRegistryMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void recordTime(String name, long durationNanos, String... tags) {
+        getStatistics("Timer", 1 / NANOS_PER_MILLI, name, tags).record(durationNanos);
+    }
+
+    @Override
+    public void recordAmount(String name, long amount, String... tags) {
+        getStatistics("DistributionSummary", 1, name, tags).record(amount);
+    }
+
+    @Override
+    public void increment(String name, String... tags) {
+        getStatistics("Counter", 1, name, tags).record(1);
+    }
+
+    @Override
+    public <T> void registerGauge(String name, T object, ToDoubleFunction<T> valueFunction, String... tags) {
+        removeCollectedGauges();
+        GlueSchemaRegistryMeterId meterId = GlueSchemaRegistryMeterId.of(name, tags);
+        ObjectName objectName = objectName("Gauge", meterId);
+        Gauge<T> gauge = new Gauge<>(new WeakReference<>(object), valueFunction);
+        register(objectName, gauge, GaugeMXBean.class, true);
+        gauges.put(objectName, gauge);
+    }
+
+    /**
+     * Unregisters the gauges of garbage collected objects, as gauges are registered per client instance.
+     */
+    private void removeCollectedGauges() {
+        gauges.forEach((objectName, gauge) -> {
+            if (gauge.isCollected() && gauges.remove(objectName, gauge)) {
+                try {
+                    mBeanServer.unregisterMBean(objectName);
+                } catch (JMException e) {
+                    log.debug("Failed to unregister MBean {}", objectName, e);
+                }
+            }
+        });
+    }
+
+    private Statistics getStatistics(String type, double scale, String name, String... tags) {
+        GlueSchemaRegistryMeterId meterId = GlueSchemaRegistryMeterId.of(name, tags);
+        Statistics meter = statistics.get(meterId);
+        if (meter != null) {
+            return meter;
+        }
+        return statistics.computeIfAbsent(meterId, id -> {
+            Statistics created = new Statistics(scale);
+            register(objectName(type, id), created, StatisticsMXBean.class, false);
+            return created;
+        });
+    }
+
+    private <T> void register(ObjectName objectName, T mxBean, Class<T> mxBeanInterface, boolean replace) {
+        try {
+            if (replace && mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(new StandardMBean(mxBean, mxBeanInterface, true), objectName);
+        } catch (InstanceAlreadyExistsException e) {
+            log.debug("MBean {} is already registered", objectName);
+        } catch (JMException e) {
+            log.warn("Failed to register MBean {}", objectName, e);
+        }
+    }
+
+    private ObjectName objectName(String type, GlueSchemaRegistryMeterId meterId) {
+        StringBuilder name = new StringBuilder(domain)
+            .append(":type=").append(type)
+            .append(",name=").append(quoteIfNeeded(meterId.getName()));
+        List<String> tags = meterId.getTags();
+        for (int i = 0; i < tags.size(); i += 2) {
+            name.append(',').append(tags.get(i)).append('=').append(quoteIfNeeded(tags.get(i + 1)));
+        }
+        try {
+            return new ObjectName(name.toString());
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid meter name " + meterId, e);
+        }
+    }
+
+    private static String quoteIfNeeded(String value) {
+        for (char c : value.toCharArray()) {
+            if (c == ',' || c == '=' || c == ':' || c == '"' || c == '*' || c == '?' || c == '\n') {
+                return ObjectName.quote(value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Statistics of a timer, distribution summary or counter.
+     */
+    public interface StatisticsMXBean {
+        long getCount();
+
+        double getTotal();
+
+        double getMax();
+
+        double getMean();
+    }
+
+    /**
+     * Current value of a gauge.
+     */
+    public interface GaugeMXBean {
+        double getValue();
+    }
+
+    private static final class Statistics implements StatisticsMXBean {
+        private final double scale;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private Statistics(double scale) {
+            this.scale = scale;
+        }
+
+        private void record(long amount) {
+            count.increment();
+            total.add(amount);
+            if (amount > max.get()) {
+                max.accumulateAndGet(amount, Math::max);
+            }
+        }
+
+        @Override
+        public long getCount() {
+            return count.sum();
+        }
+
+        @Override
+        public double getTotal() {
+            return total.sum() * scale;
+        }
+
+        @Override
+        public double getMax() {
+            return max.get() * scale;
+        }
+
+        @Override
+        public double getMean() {
+            long currentCount = count.sum();
+            return currentCount == 0 ? 0 : total.sum() * scale / currentCount;
+        }
+    }
+
+    private static final class Gauge<T> implements GaugeMXBean {
+        private final WeakReference<T> object;
+        private final ToDoubleFunction<T> valueFunction;
+
+        private Gauge(WeakReference<T> object, ToDoubleFunction<T> valueFunction) {
+            this.object = object;
+            this.valueFunction = valueFunction;
+        }
+
+        private boolean isCollected() {
+            return object.get() == null;
+        }
+
+        @Override
+        public double getValue() {
+            T current = object.get();
+            return current == null ? Double.NaN : valueFunction.applyAsDouble(current);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link GlueSchemaRegistryMetrics} publishing to a Micrometer {@link MeterRegistry}. Timers and distribution summaries
+ * publish percentile histograms, so that latency and size percentiles can be aggregated across clients.
+ * <p>
+ * Micrometer is an optional dependency and has to be added by applications selecting this implementation.
+ */
+public final class MicrometerGlueSchemaRegistryMetrics implements GlueSchemaRegistryMetrics {
+    private static final String BYTES = "bytes";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<GlueSchemaRegistryMeterId, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<GlueSchemaRegistryMeterId, DistributionSummary> summaries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<GlueSchemaRegistryMeterId, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Meter.Id, WeakReference<Object>> gaugeObjects = new ConcurrentHashMap<>();
+
+    /**
+     * Creates metrics publishing to the given registry.
+     *
+     * @param meterRegistry registry the meters are registered with
+     */
+    public MicrometerGlueSchemaRegistryMetrics(@NonNull MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Creates metrics publishing to the Micrometer global registry.
+     *
+     * @return metrics publishing to {@link Metrics#globalRegistry}
+     */
+    public static MicrometerGlueSchemaRegistryMetrics global() {
+        return new MicrometerGlueSchemaRegistryMetrics(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void recordTime(String name, long durationNanos, String... tags) {
+        getMeter(timers, name, tags, id -> Timer.builder(id.getName())
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordAmount(String name, long amount, String... tags) {
+        getMeter(summaries, name, tags, id -> DistributionSummary.builder(id.getName())
+            .tags(tags)
+            .baseUnit(BYTES)
+            .publishPercentileHistogram()
+            .register(meterRegistry))
+            .record(amount);
+    }
+
+    @Override
+    public void increment(String name, String... tags) {
+        getMeter(counters, name, tags, id -> Counter.builder(id.getName())
+            .tags(tags)
+            .register(meterRegistry))
+            .increment();
+    }
+
+    @Override
+    public <T> void registerGauge(String name, T object, ToDoubleFunction<T> valueFunction, String... tags) {
+        removeCollectedGauges();
+        Gauge gauge = Gauge.builder(name, object, valueFunction)
+            .tags(tags)
+            .register(meterRegistry);
+        //The registry keeps the first gauge registered with an id, so the first object is the one it reports.
+        gaugeObjects.putIfAbsent(gauge.getId(), new WeakReference<>(object));
+    }
+
+    /**
+     * Removes the gauges of garbage collected objects, as gauges are registered per client instance.
+     */
+    private void removeCollectedGauges() {
+        gaugeObjects.forEach((id, object) -> {
+            if (object.get() == null && gaugeObjects.remove(id, object)) {
+                meterRegistry.remove(id);
+            }
+        });
+    }
+
+    private static <M> M getMeter(ConcurrentMap<GlueSchemaRegistryMeterId, M> meters, String name, String[] tags,
+                                  Function<GlueSchemaRegistryMeterId, M> meterFactory) {
+        GlueSchemaRegistryMeterId meterId = GlueSchemaRegistryMeterId.of(name, tags);
+        M meter = meters.get(meterId);
+        return meter != null ? meter : meters.computeIfAbsent(meterId, meterFactory);
+    }
+}
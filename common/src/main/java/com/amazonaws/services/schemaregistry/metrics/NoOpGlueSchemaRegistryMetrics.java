@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.metrics;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link GlueSchemaRegistryMetrics} discarding all values, used when no metrics provider is configured.
+ */
+public final class NoOpGlueSchemaRegistryMetrics implements GlueSchemaRegistryMetrics {
+    public static final NoOpGlueSchemaRegistryMetrics INSTANCE = new NoOpGlueSchemaRegistryMetrics();
+
+    private NoOpGlueSchemaRegistryMetrics() {
+    }
+
+    @Override
+    public void recordTime(String name, long durationNanos, String... tags) {
+    }
+
+    @Override
+    public void recordAmount(String name, long amount, String... tags) {
+    }
+
+    @Override
+    public void increment(String name, String... tags) {
+    }
+
+    @Override
+    public <T> void registerGauge(String name, T object, ToDoubleFunction<T> valueFunction, String... tags) {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.tracing;
+
+import lombok.Getter;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timings of one serialization or de-serialization operation and of its phases, collected when the operation is
+ * sampled by a {@link GlueSchemaRegistryTraceSampler}.
+ * <p>
+ * Operations that are not sampled share the {@link #DISABLED} trace, whose methods do not read the clock nor allocate,
+ * so that instrumented code does not need to check whether it is traced:
+ * <pre>
+ *     long start = trace.now();
+ *     UUID schemaVersionId = dataParser.getSchemaVersionId(buffer);
+ *     trace.endPhase(GlueSchemaRegistryTrace.PHASE_HEADER_PARSE, start);
+ * </pre>
+ * A trace is only accessed by the thread executing its operation.
+ */
+public final class GlueSchemaRegistryTrace {
+    public static final String OPERATION_SERIALIZE = "serialize";
+    public static final String OPERATION_SERIALIZE_BATCH = "serializeBatch";
+    public static final String OPERATION_ENCODE = "encode";
+    public static final String OPERATION_DESERIALIZE = "deserialize";
+    public static final String OPERATION_DESERIALIZE_BATCH = "deserializeBatch";
+
+    /**
+     * Validation of the data against its schema before encoding it.
+     */
+    public static final String PHASE_VALIDATION = "validation";
+    /**
+     * Lookup of the schema version id of a schema when serializing, or of the schema of a schema version id when
+     * de-serializing, including calls to the schema registry on cache misses.
+     */
+    public static final String PHASE_SCHEMA_LOOKUP = "schemaLookup";
+    /**
+     * Conversion of a record to the bytes of its data format.
+     */
+    public static final String PHASE_FORMAT_ENCODE = "formatEncode";
+    /**
+     * Compression of the data format bytes and writing of the schema registry header.
+     */
+    public static final String PHASE_COMPRESSION = "compression";
+    /**
+     * Validation of the schema registry header and reading of the schema version id.
+     */
+    public static final String PHASE_HEADER_PARSE = "headerParse";
+    /**
+     * Conversion of the data format bytes to a record. Includes the decompression phase of compressed records.
+     */
+    public static final String PHASE_FORMAT_DECODE = "formatDecode";
+    /**
+     * Decompression of the data format bytes, nested in the format decode phase.
+     */
+    public static final String PHASE_DECOMPRESSION = "decompression";
+
+    /**
+     * Trace of operations that are not sampled, recording nothing.
+     */
+    public static final GlueSchemaRegistryTrace DISABLED = new GlueSchemaRegistryTrace();
+    private static final ThreadLocal<GlueSchemaRegistryTrace> CURRENT = new ThreadLocal<>();
+
+    private final boolean sampled;
+    @Getter
+    private final String operation;
+    /**
+     * Wall clock time the operation started at, in nanoseconds since the epoch with millisecond precision.
+     */
+    @Getter
+    private final long startEpochNanos;
+    private final long startNanos;
+    private final List<Phase> phases;
+    @Getter
+    private long durationNanos;
+    @Getter
+    private String dataFormat;
+    @Getter
+    private Throwable error;
+    private GlueSchemaRegistryTrace previous;
+
+    private GlueSchemaRegistryTrace() {
+        this.sampled = false;
+        this.operation = null;
+        this.startEpochNanos = 0L;
+        this.startNanos = 0L;
+        this.phases = Collections.emptyList();
+    }
+
+    GlueSchemaRegistryTrace(String operation) {
+        this.sampled = true;
+        this.operation = operation;
+        this.startEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        this.startNanos = System.nanoTime();
+        this.phases = new ArrayList<>();
+    }
+
+    /**
+     * Get the trace of the operation executing on the current thread, for phases timed outside of the facades.
+     *
+     * @return current trace, or the disabled trace when the current operation is not sampled
+     */
+    public static GlueSchemaRegistryTrace current() {
+        GlueSchemaRegistryTrace trace = CURRENT.get();
+        return trace == null ? DISABLED : trace;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    /**
+     * Reads the clock when the operation is sampled.
+     *
+     * @return {@link System#nanoTime()}, or 0 when the operation is not sampled
+     */
+    public long now() {
+        return sampled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a phase that started at the given time and ends now.
+     *
+     * @param name       phase name
+     * @param startNanos phase start, as returned by {@link #now()}
+     */
+    public void endPhase(String name, long startNanos) {
+        if (sampled) {
+            long endNanos = System.nanoTime();
+            phases.add(new Phase(name, startNanos - this.startNanos, endNanos - startNanos));
+        }
+    }
+
+    public void setDataFormat(String dataFormat) {
+        if (sampled) {
+            this.dataFormat = dataFormat;
+        }
+    }
+
+    public void setError(Throwable error) {
+        if (sampled) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * Get the phases recorded so far, in the order they ended.
+     *
+     * @return recorded phases
+     */
+    public List<Phase> getPhases() {
+        return Collections.unmodifiableList(phases);
+    }
+
+    void activate() {
+        previous = CURRENT.get();
+        CURRENT.set(this);
+    }
+
+    void end() {
+        durationNanos = System.nanoTime() - startNanos;
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Timing of a phase of a traced operation.
+     */
+    @Value
+    public static class Phase {
+        private String name;
+        /**
+         * Time elapsed between the start of the operation and the start of the phase.
+         */
+        private long startOffsetNanos;
+        private long durationNanos;
+    }
+}
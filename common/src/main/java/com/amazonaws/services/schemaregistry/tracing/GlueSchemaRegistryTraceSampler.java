@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.tracing;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which operations are traced and hands their traces over to a {@link GlueSchemaRegistryTracer}.
+ * <p>
+ * Operations are sampled independently with the configured probability. When tracing is disabled, or an operation is
+ * not sampled, {@link #start(String)} returns a shared trace that records nothing, so that tracing costs a field read
+ * per operation.
+ */
+@Slf4j
+public final class GlueSchemaRegistryTraceSampler {
+    private final GlueSchemaRegistryTracer tracer;
+    private final double sampleRate;
+    private final boolean enabled;
+
+    /**
+     * Creates a sampler.
+     *
+     * @param tracer     tracer the sampled traces are handed over to
+     * @param sampleRate probability of an operation to be traced, between 0.0 and 1.0
+     */
+    public GlueSchemaRegistryTraceSampler(@NonNull GlueSchemaRegistryTracer tracer, double sampleRate) {
+        if (!(sampleRate >= 0.0 && sampleRate <= 1.0)) {
+            throw new IllegalArgumentException("Sample rate must be between 0.0 and 1.0 : " + sampleRate);
+        }
+        this.tracer = tracer;
+        this.sampleRate = sampleRate;
+        this.enabled = tracer.isEnabled() && sampleRate > 0.0;
+    }
+
+    /**
+     * Starts the trace of an operation executed by the current thread. Sampled traces are also available from
+     * {@link GlueSchemaRegistryTrace#current()} until they are {@link #finish(GlueSchemaRegistryTrace) finished}.
+     *
+     * @param operation operation name
+     * @return trace of the operation, which records nothing when the operation is not sampled
+     */
+    public GlueSchemaRegistryTrace start(String operation) {
+        if (!enabled || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return GlueSchemaRegistryTrace.DISABLED;
+        }
+        GlueSchemaRegistryTrace trace = new GlueSchemaRegistryTrace(operation);
+        trace.activate();
+        return trace;
+    }
+
+    /**
+     * Ends the trace of an operation and emits it when it was sampled. Must be called by the thread that started it,
+     * whether the operation succeeded or not.
+     *
+     * @param trace trace returned by {@link #start(String)}
+     */
+    public void finish(GlueSchemaRegistryTrace trace) {
+        if (!trace.isSampled()) {
+            return;
+        }
+        trace.end();
+        try {
+            tracer.onTrace(trace);
+        } catch (RuntimeException e) {
+            log.warn("Failed to emit trace of {} operation", trace.getOperation(), e);
+        }
+    }
+}
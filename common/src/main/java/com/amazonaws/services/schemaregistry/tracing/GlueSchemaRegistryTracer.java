@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.tracing;
+
+/**
+ * Pluggable sink for the traces of sampled serialization and de-serialization operations, such as an OpenTelemetry
+ * exporter or a local collector.
+ * <p>
+ * Traces are handed over once their operation completes, on the thread that executed it, so that implementations can
+ * attach them to the caller's current context. Implementations must be thread safe.
+ */
+public interface GlueSchemaRegistryTracer {
+    /**
+     * Emits the trace of a completed operation.
+     *
+     * @param trace timings of the operation and of its phases
+     */
+    void onTrace(GlueSchemaRegistryTrace trace);
+
+    /**
+     * Whether traces are emitted, so that callers can skip sampling when they are not.
+     *
+     * @return true unless tracing is disabled
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.tracing;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.NonNull;
+
+/**
+ * Creates the {@link GlueSchemaRegistryTracer} of a {@link AWSSchemaRegistryConstants.TracingProvider tracing
+ * provider}.
+ */
+public final class GlueSchemaRegistryTracerFactory {
+    private static final String OPENTELEMETRY_CLASS_NAME = "io.opentelemetry.api.GlobalOpenTelemetry";
+
+    private GlueSchemaRegistryTracerFactory() {
+    }
+
+    /**
+     * Creates the tracer of the given provider. OpenTelemetry spans are emitted to the globally registered
+     * OpenTelemetry instance; applications using another instance can configure an
+     * {@link OpenTelemetryGlueSchemaRegistryTracer} instead.
+     *
+     * @param tracingProvider tracing provider
+     * @return tracer of the provider
+     */
+    public static GlueSchemaRegistryTracer create(@NonNull AWSSchemaRegistryConstants.TracingProvider tracingProvider) {
+        switch (tracingProvider) {
+            case OPENTELEMETRY:
+                if (!isOpenTelemetryAvailable()) {
+                    throw new AWSSchemaRegistryException(
+                        "OpenTelemetry tracing provider requires io.opentelemetry:opentelemetry-api on the classpath");
+                }
+                return OpenTelemetryGlueSchemaRegistryTracer.global();
+            case NONE:
+            default:
+                return NoOpGlueSchemaRegistryTracer.INSTANCE;
+        }
+    }
+
+    @VisibleForTesting
+    static boolean isOpenTelemetryAvailable() {
+        try {
+            Class.forName(OPENTELEMETRY_CLASS_NAME, false, GlueSchemaRegistryTracerFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
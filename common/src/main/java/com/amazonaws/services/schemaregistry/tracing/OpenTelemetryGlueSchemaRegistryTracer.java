@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.tracing;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import lombok.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GlueSchemaRegistryTracer} emitting each trace as an OpenTelemetry span with a child span per phase. The
+ * operation span is a child of the span current when the operation completed, such as the span of the producer send
+ * or of the consumer poll.
+ * <p>
+ * OpenTelemetry is an optional dependency and has to be added by applications selecting this implementation.
+ */
+public final class OpenTelemetryGlueSchemaRegistryTracer implements GlueSchemaRegistryTracer {
+    public static final String INSTRUMENTATION_NAME = "com.amazonaws.services.schemaregistry";
+    static final String SPAN_NAME_PREFIX = "glue.schema.registry.";
+    static final AttributeKey<String> DATA_FORMAT = AttributeKey.stringKey("glue.schema.registry.data_format");
+
+    private final Tracer tracer;
+
+    /**
+     * Creates a tracer emitting spans to the given OpenTelemetry instance.
+     *
+     * @param openTelemetry OpenTelemetry instance the spans are emitted to
+     */
+    public OpenTelemetryGlueSchemaRegistryTracer(@NonNull OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+    }
+
+    /**
+     * Creates a tracer emitting spans to the globally registered OpenTelemetry instance.
+     *
+     * @return tracer emitting to {@link GlobalOpenTelemetry}
+     */
+    public static OpenTelemetryGlueSchemaRegistryTracer global() {
+        return new OpenTelemetryGlueSchemaRegistryTracer(GlobalOpenTelemetry.get());
+    }
+
+    @Override
+    public void onTrace(GlueSchemaRegistryTrace trace) {
+        long startEpochNanos = trace.getStartEpochNanos();
+        SpanBuilder spanBuilder = tracer.spanBuilder(SPAN_NAME_PREFIX + trace.getOperation())
+            .setStartTimestamp(startEpochNanos, TimeUnit.NANOSECONDS);
+        if (trace.getDataFormat() != null) {
+            spanBuilder.setAttribute(DATA_FORMAT, trace.getDataFormat());
+        }
+        Span span = spanBuilder.startSpan();
+
+        Context context = Context.current().with(span);
+        for (GlueSchemaRegistryTrace.Phase phase : trace.getPhases()) {
+            long phaseStartEpochNanos = startEpochNanos + phase.getStartOffsetNanos();
+            tracer.spanBuilder(SPAN_NAME_PREFIX + phase.getName())
+                .setParent(context)
+                .setStartTimestamp(phaseStartEpochNanos, TimeUnit.NANOSECONDS)
+                .startSpan()
+                .end(phaseStartEpochNanos + phase.getDurationNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        if (trace.getError() != null) {
+            span.recordException(trace.getError());
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end(startEpochNanos + trace.getDurationNanos(), TimeUnit.NANOSECONDS);
+    }
+}
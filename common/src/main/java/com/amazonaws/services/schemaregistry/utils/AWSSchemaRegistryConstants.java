@@ -15,6 +15,7 @@
 
 package com.amazonaws.services.schemaregistry.utils;
 
+import lombok.Getter;
 import software.amazon.awssdk.services.glue.model.Compatibility;
 
 public final class AWSSchemaRegistryConstants {
@@ -42,6 +43,18 @@ public final class AWSSchemaRegistryConstants {
      * Compression byte.
      */
     public static final byte COMPRESSION_BYTE = (byte) 5;
+    /**
+     * Compression byte for LZ4 compressed data.
+     */
+    public static final byte LZ4_COMPRESSION_BYTE = (byte) 6;
+    /**
+     * Compression byte for Zstandard compressed data.
+     */
+    public static final byte ZSTD_COMPRESSION_BYTE = (byte) 7;
+    /**
+     * Compression byte for Snappy compressed data.
+     */
+    public static final byte SNAPPY_COMPRESSION_BYTE = (byte) 8;
     /**
      * Compression byte default when compression is not enabled.
      */
@@ -88,6 +101,135 @@ public final class AWSSchemaRegistryConstants {
      * Cache Size.
      */
     public static final String CACHE_SIZE = "cacheSize";
+    /**
+     * Cache implementation used for the schema caches, one of {@link CacheProvider}.
+     */
+    public static final String CACHE_PROVIDER_TYPE = "cacheProviderType";
+    /**
+     * Maximum percentage, from 0 to 99, by which the cache time to live is randomly shortened for each cache.
+     */
+    public static final String CACHE_REFRESH_JITTER_PERCENT = "cacheRefreshJitterPercent";
+    /**
+     * Time for which schemas that were not found in the registry are remembered, 0 disables negative caching.
+     */
+    public static final String NEGATIVE_CACHE_TIME_TO_LIVE_MILLIS = "negativeCacheTimeToLiveMillis";
+    /**
+     * Maximum number of Avro datum writers cached by the Avro serializer.
+     */
+    public static final String AVRO_DATUM_WRITER_CACHE_SIZE = "avroDatumWriterCacheSize";
+    /**
+     * Maximum number of Avro datum readers cached by the Avro de-serializer.
+     */
+    public static final String AVRO_DATUM_READER_CACHE_SIZE = "avroDatumReaderCacheSize";
+    /**
+     * Maximum number of generated Protobuf schema definitions cached by the Protobuf serializer.
+     */
+    public static final String PROTOBUF_SCHEMA_GENERATOR_CACHE_SIZE = "protobufSchemaGeneratorCacheSize";
+    /**
+     * Maximum number of parsed Protobuf schemas cached by the Protobuf de-serializer.
+     */
+    public static final String PROTOBUF_SCHEMA_PARSER_CACHE_SIZE = "protobufSchemaParserCacheSize";
+    /**
+     * Maximum number of compiled JSON schemas cached by the JSON serializer for validation.
+     */
+    public static final String JSON_SCHEMA_VALIDATOR_CACHE_SIZE = "jsonSchemaValidatorCacheSize";
+    /**
+     * Maximum number of parsed JSON schemas, with the readers of their record classes, cached by the JSON
+     * de-serializer.
+     */
+    public static final String JSON_SCHEMA_READER_CACHE_SIZE = "jsonSchemaReaderCacheSize";
+    /**
+     * Type of the records de-serialized for JSON schemas without a class name, one of {@link JsonEnvelopeType}.
+     */
+    public static final String JSON_ENVELOPE_TYPE = "jsonEnvelopeType";
+    /**
+     * How JSON records are handed to the JSON schema validator, one of {@link JsonValidationEngine}.
+     */
+    public static final String JSON_VALIDATION_ENGINE = "jsonValidationEngine";
+    /**
+     * Which JSON records are validated against their schema when serialized, one of {@link JsonValidationPolicy}.
+     */
+    public static final String JSON_VALIDATION_POLICY = "jsonValidationPolicy";
+    /**
+     * Number of records validated per schema with the {@link JsonValidationPolicy#FIRST_N_PER_SCHEMA} policy.
+     */
+    public static final String JSON_VALIDATION_RECORDS_PER_SCHEMA = "jsonValidationRecordsPerSchema";
+    /**
+     * Probability of a record to be validated with the {@link JsonValidationPolicy#SAMPLED} policy, between 0.0 and 1.0.
+     */
+    public static final String JSON_VALIDATION_SAMPLE_RATE = "jsonValidationSampleRate";
+    /**
+     * Default number of records validated per schema with the {@link JsonValidationPolicy#FIRST_N_PER_SCHEMA} policy.
+     */
+    public static final int DEFAULT_JSON_VALIDATION_RECORDS_PER_SCHEMA = 100;
+    /**
+     * Default probability of a record to be validated with the {@link JsonValidationPolicy#SAMPLED} policy.
+     */
+    public static final double DEFAULT_JSON_VALIDATION_SAMPLE_RATE = 0.01;
+    /**
+     * Approximate number of bytes each data format cache may hold, weighed by schema definition size. When set, it
+     * replaces the data format cache sizes as eviction bound. 0 bounds the caches by entry count.
+     */
+    public static final String DATA_FORMAT_CACHE_MAXIMUM_WEIGHT_BYTES = "dataFormatCacheMaximumWeightBytes";
+    /**
+     * Default maximum number of entries of each data format cache.
+     */
+    public static final int DEFAULT_DATA_FORMAT_CACHE_SIZE = 100;
+    /**
+     * Metrics implementation, one of {@link MetricsProvider}, or a
+     * {@link com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics} instance.
+     */
+    public static final String METRICS_PROVIDER = "metricsProvider";
+    /**
+     * Tracing implementation, one of {@link TracingProvider}, or a
+     * {@link com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTracer} instance.
+     */
+    public static final String TRACING_PROVIDER = "tracingProvider";
+    /**
+     * Probability of a serialization or de-serialization to be traced, between 0.0 and 1.0.
+     */
+    public static final String TRACING_SAMPLE_RATE = "tracingSampleRate";
+    /**
+     * Default probability of an operation to be traced when a tracing provider is configured.
+     */
+    public static final double DEFAULT_TRACING_SAMPLE_RATE = 0.01;
+    /**
+     * File used to persist fetched schemas across restarts of the deserializer, not set disables persistence.
+     */
+    public static final String PERSISTENT_SCHEMA_CACHE_PATH = "persistentSchemaCachePath";
+    /**
+     * Comma separated schema version ids loaded into the de-serializer caches in the background when the de-serializer
+     * is created, without delaying its creation.
+     */
+    public static final String PRELOAD_SCHEMA_VERSION_IDS = "preloadSchemaVersionIds";
+    /**
+     * Comma separated schema names, optionally prefixed with "registryName/", whose latest versions are loaded into
+     * the de-serializer caches in the background when the de-serializer is created.
+     */
+    public static final String PRELOAD_SCHEMA_NAMES = "preloadSchemaNames";
+    /**
+     * Maximum number of idle Deflater / Inflater instances pooled for ZLIB compression, 0 disables pooling.
+     * The pool is shared by the data formats of a serializer or de-serializer, each instance has its own pool.
+     */
+    public static final String COMPRESSION_POOL_SIZE = "compressionPoolSize";
+    /**
+     * Maximum size in bytes of a decompressed record. LZ4, ZSTD and SNAPPY records declare their decompressed size,
+     * records declaring a larger size are rejected before any memory is allocated for them. ZLIB records are
+     * rejected once inflating them exceeds the size.
+     */
+    public static final String MAX_DECOMPRESSED_SIZE = "maxDecompressedSize";
+    /**
+     * Default maximum size in bytes of a decompressed record.
+     */
+    public static final int DEFAULT_MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+    /**
+     * Decompress records into a re-usable per thread buffer instead of a new array per record.
+     */
+    public static final String REUSE_DECOMPRESSION_BUFFER = "reuseDecompressionBuffer";
+    /**
+     * Decode Avro records with a re-usable per thread binary decoder instead of a new decoder per record.
+     */
+    public static final String REUSE_AVRO_DECODER = "reuseAvroDecoder";
     /**
      * AVRO record type.
      */
@@ -206,14 +348,133 @@ public final class AWSSchemaRegistryConstants {
         DELETING
     }
 
+    public enum CacheProvider {
+        /**
+         * Guava cache with LRU eviction, the default.
+         */
+        GUAVA,
+        /**
+         * Caffeine cache with W-TinyLFU eviction, requires the optional Caffeine dependency.
+         */
+        CAFFEINE
+    }
+
+    public enum JsonValidationEngine {
+        /**
+         * Renders each JSON object or array to a string and parses it with org.json for validation, the default.
+         */
+        EVERIT,
+        /**
+         * Builds the org.json values for validation directly from the Jackson tree, without rendering and parsing it.
+         */
+        JACKSON_TREE
+    }
+
+    public enum JsonEnvelopeType {
+        /**
+         * {@code JsonDataWithSchema} holding the schema and the re-rendered payload as strings, the default.
+         */
+        DATA_WITH_SCHEMA,
+        /**
+         * {@code LazyJsonDataWithSchema} holding the payload bytes as read, parsed to a tree only when asked for.
+         */
+        LAZY
+    }
+
+    public enum JsonValidationPolicy {
+        /**
+         * Validates every record, the default.
+         */
+        ALWAYS,
+        /**
+         * Validates the first records of each schema, set by {@link #JSON_VALIDATION_RECORDS_PER_SCHEMA}.
+         */
+        FIRST_N_PER_SCHEMA,
+        /**
+         * Validates a random sample of the records, set by {@link #JSON_VALIDATION_SAMPLE_RATE}.
+         */
+        SAMPLED,
+        /**
+         * Does not validate records.
+         */
+        NEVER
+    }
+
+    public enum MetricsProvider {
+        /**
+         * Metrics are not recorded, the default.
+         */
+        NONE,
+        /**
+         * Metrics are exposed as MXBeans of the platform MBean server.
+         */
+        JMX,
+        /**
+         * Metrics are published to the Micrometer global registry, requires the optional Micrometer dependency.
+         */
+        MICROMETER
+    }
+
+    public enum TracingProvider {
+        /**
+         * Operations are not traced, the default.
+         */
+        NONE,
+        /**
+         * Sampled operations are emitted as spans to the global OpenTelemetry instance, requires the optional
+         * OpenTelemetry API dependency.
+         */
+        OPENTELEMETRY
+    }
+
     public enum COMPRESSION {
         /**
          * default no compression.
          */
-        NONE,
+        NONE(COMPRESSION_DEFAULT_BYTE),
         /**
          * ZLIB compression.
          */
-        ZLIB
+        ZLIB(COMPRESSION_BYTE),
+        /**
+         * LZ4 compression.
+         */
+        LZ4(LZ4_COMPRESSION_BYTE),
+        /**
+         * Zstandard compression.
+         */
+        ZSTD(ZSTD_COMPRESSION_BYTE),
+        /**
+         * Snappy compression.
+         */
+        SNAPPY(SNAPPY_COMPRESSION_BYTE);
+
+        private static final COMPRESSION[] BY_COMPRESSION_BYTE = new COMPRESSION[256];
+
+        static {
+            for (COMPRESSION compression : values()) {
+                BY_COMPRESSION_BYTE[compression.compressionByte & 0xFF] = compression;
+            }
+        }
+
+        /**
+         * Compression byte written in the header of data compressed with this algorithm.
+         */
+        @Getter
+        private final byte compressionByte;
+
+        COMPRESSION(byte compressionByte) {
+            this.compressionByte = compressionByte;
+        }
+
+        /**
+         * Finds the compression algorithm for a compression byte.
+         *
+         * @param compressionByte compression byte read from the header
+         * @return compression algorithm, or null if the byte is unknown
+         */
+        public static COMPRESSION fromCompressionByte(byte compressionByte) {
+            return BY_COMPRESSION_BYTE[compressionByte & 0xFF];
+        }
     }
 }
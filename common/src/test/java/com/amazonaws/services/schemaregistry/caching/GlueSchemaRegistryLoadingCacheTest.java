@@ -0,0 +1,301 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.caching;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.Weigher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests shared by the {@link GlueSchemaRegistryLoadingCache} implementations.
+ */
+public class GlueSchemaRegistryLoadingCacheTest {
+    private static final String KEY = "key";
+    private static final Executor REFRESH_EXECUTOR = Executors.newCachedThreadPool();
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    enum Implementation {
+        GUAVA,
+        CAFFEINE
+    }
+
+    @ParameterizedTest
+    @EnumSource(Implementation.class)
+    public void testGetOrLoad_missingAndCachedKeys_recordsStats(Implementation implementation) throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        GlueSchemaRegistryLoadingCache<String, Integer> cache =
+            newCache(implementation, 0, new CacheLoader<String, Integer>() {
+                @Override
+                public Integer load(String key) {
+                    return loads.incrementAndGet();
+                }
+            });
+
+        assertNull(cache.get(KEY));
+        assertEquals(1, cache.getOrLoad(KEY));
+        assertEquals(1, cache.getOrLoad(KEY));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getCacheSize());
+
+        GlueSchemaRegistryCacheStats stats = cache.getCacheStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(3, stats.getRequestCount());
+        assertEquals(1, stats.getLoadSuccessCount());
+        assertEquals(1.0 / 3, stats.getHitRate());
+        assertTrue(stats.getAverageLoadPenaltyNanos() >= 0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Implementation.class)
+    public void testPutDeleteAndFlush_updateEntries(Implementation implementation) {
+        GlueSchemaRegistryLoadingCache<String, Integer> cache = newCache(implementation, 0, failingLoader());
+
+        cache.put(KEY, 1);
+        cache.put("other", 2);
+        assertEquals(1, cache.get(KEY));
+
+        cache.delete(KEY);
+        assertNull(cache.get(KEY));
+        assertEquals(2, cache.get("other"));
+
+        cache.flushCache();
+        assertNull(cache.get("other"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Implementation.class)
+    public void testPut_maximumWeightExceeded_evictsAndRecordsEviction(Implementation implementation) {
+        Weigher<String, Integer> weigher = (key, value) -> 1;
+        GlueSchemaRegistryLoadingCache<String, Integer> cache;
+        if (implementation == Implementation.CAFFEINE) {
+            cache = new CaffeineGlueSchemaRegistryCache<>(40, weigher, 0, Runnable::run, failingLoader(), ticker);
+        } else {
+            cache = new GuavaGlueSchemaRegistryCache<>(40, weigher, 0, Runnable::run, failingLoader(), ticker);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(KEY + i, i);
+        }
+
+        assertTrue(cache.getCacheSize() <= 40);
+        assertEquals(100 - cache.getCacheSize(), cache.getCacheStats().getEvictionCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Implementation.class)
+    public void testPublicConstructors_loadValues(Implementation implementation) throws Exception {
+        CacheLoader<String, Integer> loader = CacheLoader.from(String::length);
+        Weigher<String, Integer> weigher = (key, value) -> value;
+        GlueSchemaRegistryLoadingCache<String, Integer> sizeBoundedCache;
+        GlueSchemaRegistryLoadingCache<String, Integer> weightBoundedCache;
+        if (implementation == Implementation.CAFFEINE) {
+            sizeBoundedCache = new CaffeineGlueSchemaRegistryCache<>(10, 1000, REFRESH_EXECUTOR, loader);
+            weightBoundedCache = new CaffeineGlueSchemaRegistryCache<>(100, weigher, REFRESH_EXECUTOR, loader);
+        } else {
+            sizeBoundedCache = new GuavaGlueSchemaRegistryCache<>(10, 1000, REFRESH_EXECUTOR, loader);
+            weightBoundedCache = new GuavaGlueSchemaRegistryCache<>(100, weigher, REFRESH_EXECUTOR, loader);
+        }
+
+        assertEquals(3, sizeBoundedCache.getOrLoad(KEY));
+        assertEquals(3, weightBoundedCache.getOrLoad(KEY));
+        assertEquals(1, weightBoundedCache.getCacheStats().getLoadSuccessCount());
+    }
+
+    @Test
+    public void testPublicConstructors_nullArguments_throwException() {
+        CacheLoader<String, Integer> loader = CacheLoader.from(String::length);
+        Weigher<String, Integer> weigher = (key, value) -> value;
+
+        assertThrows(RuntimeException.class, () -> new GuavaGlueSchemaRegistryCache<>(10, 0, null, loader));
+        assertThrows(RuntimeException.class,
+            () -> new GuavaGlueSchemaRegistryCache<String, Integer>(10, 0, REFRESH_EXECUTOR, null));
+        assertThrows(RuntimeException.class,
+            () -> new GuavaGlueSchemaRegistryCache<String, Integer>(10, null, REFRESH_EXECUTOR, loader));
+        assertThrows(RuntimeException.class, () -> new GuavaGlueSchemaRegistryCache<>(10, weigher, null, loader));
+        assertThrows(RuntimeException.class,
+            () -> new GuavaGlueSchemaRegistryCache<>(10, weigher, REFRESH_EXECUTOR, null));
+        assertThrows(RuntimeException.class, () -> new CaffeineGlueSchemaRegistryCache<>(10, 0, null, loader));
+        assertThrows(RuntimeException.class,
+            () -> new CaffeineGlueSchemaRegistryCache<String, Integer>(10, 0, REFRESH_EXECUTOR, null));
+        assertThrows(RuntimeException.class,
+            () -> new CaffeineGlueSchemaRegistryCache<String, Integer>(10, null, REFRESH_EXECUTOR, loader));
+        assertThrows(RuntimeException.class,
+            () -> new CaffeineGlueSchemaRegistryCache<>(10, weigher, null, loader));
+        assertThrows(RuntimeException.class,
+            () -> new CaffeineGlueSchemaRegistryCache<>(10, weigher, REFRESH_EXECUTOR, null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Implementation.class)
+    public void testGetOrLoad_loaderFails_wrapsCause(Implementation implementation) {
+        GlueSchemaRegistryLoadingCache<String, Integer> cache = newCache(implementation, 0, failingLoader());
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> cache.getOrLoad(KEY));
+        assertEquals(IOException.class, exception.getCause().getClass());
+
+        AWSSchemaRegistryException uncheckedException =
+            assertThrows(AWSSchemaRegistryException.class, () -> cache.getOrLoadUnchecked(KEY));
+        assertEquals(IOException.class, uncheckedException.getCause().getClass());
+        assertEquals(2, cache.getCacheStats().getLoadFailureCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Implementation.class)
+    public void testGetOrLoad_loaderThrowsRuntimeException_wrapsCause(Implementation implementation) {
+        AWSSchemaRegistryException loadException = new AWSSchemaRegistryException("Schema version is not found.");
+        GlueSchemaRegistryLoadingCache<String, Integer> cache =
+            newCache(implementation, 0, new CacheLoader<String, Integer>() {
+                @Override
+                public Integer load(String key) {
+                    throw loadException;
+                }
+            });
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> cache.getOrLoad(KEY));
+        assertSame(loadException, exception.getCause());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Implementation.class)
+    public void testGetOrLoad_entryIsStale_returnsStaleValueWhileRefreshing(Implementation implementation)
+        throws Exception {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        GlueSchemaRegistryLoadingCache<String, Integer> cache =
+            newCache(implementation, TimeUnit.MINUTES.toMillis(1), new CacheLoader<String, Integer>() {
+                @Override
+                public Integer load(String key) throws Exception {
+                    if (loads.incrementAndGet() > 1) {
+                        refreshStarted.countDown();
+                        releaseRefresh.await();
+                    }
+                    return loads.get();
+                }
+            });
+
+        assertEquals(1, cache.getOrLoad(KEY));
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+        assertEquals(1, cache.getOrLoad(KEY));
+        assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, cache.getOrLoad(KEY));
+
+        releaseRefresh.countDown();
+        awaitValue(cache, 2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Implementation.class)
+    public void testGetOrLoad_refreshFails_keepsStaleValue(Implementation implementation) throws Exception {
+        CountDownLatch refreshFailed = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        GlueSchemaRegistryLoadingCache<String, Integer> cache =
+            newCache(implementation, TimeUnit.MINUTES.toMillis(1), new CacheLoader<String, Integer>() {
+                @Override
+                public Integer load(String key) {
+                    if (loads.incrementAndGet() > 1) {
+                        refreshFailed.countDown();
+                        throw new AWSSchemaRegistryException("Rate exceeded");
+                    }
+                    return loads.get();
+                }
+            });
+
+        assertEquals(1, cache.getOrLoad(KEY));
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+        assertEquals(1, cache.getOrLoad(KEY));
+        assertTrue(refreshFailed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, cache.getOrLoad(KEY));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Implementation.class)
+    public void testRefresh_explicitRefresh_replacesValue(Implementation implementation) throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        GlueSchemaRegistryLoadingCache<String, Integer> cache =
+            newCache(implementation, TimeUnit.MINUTES.toMillis(1), new CacheLoader<String, Integer>() {
+                @Override
+                public Integer load(String key) {
+                    return loads.incrementAndGet();
+                }
+            });
+
+        assertEquals(1, cache.getOrLoad(KEY));
+        cache.refresh(KEY);
+
+        awaitValue(cache, 2);
+    }
+
+    private void awaitValue(GlueSchemaRegistryLoadingCache<String, Integer> cache, int expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.getOrLoad(KEY) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, cache.getOrLoad(KEY));
+    }
+
+    private CacheLoader<String, Integer> failingLoader() {
+        return new CacheLoader<String, Integer>() {
+            @Override
+            public Integer load(String key) throws Exception {
+                throw new IOException("Failed to load " + key);
+            }
+        };
+    }
+
+    private GlueSchemaRegistryLoadingCache<String, Integer> newCache(Implementation implementation,
+                                                                     long refreshAfterWriteMillis,
+                                                                     CacheLoader<String, Integer> loader) {
+        switch (implementation) {
+            case CAFFEINE:
+                return new CaffeineGlueSchemaRegistryCache<>(10, null, refreshAfterWriteMillis, REFRESH_EXECUTOR, loader,
+                                                             ticker);
+            case GUAVA:
+            default:
+                return new GuavaGlueSchemaRegistryCache<>(10, null, refreshAfterWriteMillis, REFRESH_EXECUTOR, loader,
+                                                          ticker);
+        }
+    }
+}
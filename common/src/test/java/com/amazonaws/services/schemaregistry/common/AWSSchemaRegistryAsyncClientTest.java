@@ -0,0 +1,405 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
+import software.amazon.awssdk.services.glue.model.AlreadyExistsException;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaResponse;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataResponse;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AWSSchemaRegistryAsyncClientTest {
+    private static final UUID SCHEMA_ID_FOR_TESTING = UUID.fromString("b7b4a7f0-9c96-4e4a-a687-fb5de9ef0c63");
+    private static final String SCHEMA_NAME = "User-Topic";
+    private static final String SCHEMA_DEFINITION = "{\"type\":\"string\"}";
+    private static final String DATA_FORMAT = "AVRO";
+
+    @Mock
+    private GlueAsyncClient mockGlueAsyncClient;
+    private GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration;
+    private ScheduledExecutorService scheduler;
+    private AWSSchemaRegistryAsyncClient asyncClient;
+
+    @BeforeEach
+    public void setup() {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_ENDPOINT, "https://test");
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.REGISTRY_NAME, "User-Registry");
+        glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(configs);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        asyncClient = new AWSSchemaRegistryAsyncClient(mockGlueAsyncClient, glueSchemaRegistryConfiguration,
+                                                       scheduler, 0, 0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testConstructor_withCredentialsAndProxy_buildsClient() {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_ENDPOINT, "https://test");
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.PROXY_URL, "http://proxy.internal:8080");
+
+        AWSSchemaRegistryAsyncClient client = new AWSSchemaRegistryAsyncClient(mock(AwsCredentialsProvider.class),
+                new GlueSchemaRegistryConfiguration(configs));
+
+        assertNotNull(client);
+        client.close();
+    }
+
+    @Test
+    public void testIsNettyAvailable_nettyOnClasspath_returnsTrue() {
+        assertTrue(AWSSchemaRegistryAsyncClient.isNettyAvailable());
+    }
+
+    @Test
+    public void testBuildGlueAsyncClient_nettyMissingWithProxy_throwsException() {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.PROXY_URL, "http://proxy.internal:8080");
+        GlueSchemaRegistryConfiguration configuration = new GlueSchemaRegistryConfiguration(configs);
+        AwsCredentialsProvider credentialsProvider = mock(AwsCredentialsProvider.class);
+
+        AWSSchemaRegistryException exception = assertThrows(AWSSchemaRegistryException.class,
+                () -> AWSSchemaRegistryAsyncClient.buildGlueAsyncClient(credentialsProvider, configuration,
+                                                                        RetryPolicy.defaultRetryPolicy(), false));
+        assertEquals("Proxy http://proxy.internal:8080 requires software.amazon.awssdk:netty-nio-client on the "
+                     + "classpath of the asynchronous client", exception.getMessage());
+    }
+
+    @Test
+    public void testBuildGlueAsyncClient_nettyMissingWithoutProxy_usesDiscoveredHttpClient() {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        AwsCredentialsProvider credentialsProvider = mock(AwsCredentialsProvider.class);
+
+        GlueAsyncClient client = AWSSchemaRegistryAsyncClient.buildGlueAsyncClient(credentialsProvider,
+                new GlueSchemaRegistryConfiguration(configs), RetryPolicy.defaultRetryPolicy(), false);
+
+        assertNotNull(client);
+        client.close();
+    }
+
+    @Test
+    public void testConstructor_withMalformedUri_throwsException() {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_ENDPOINT, "https:// test");
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        GlueSchemaRegistryConfiguration configuration = new GlueSchemaRegistryConfiguration(configs);
+        AwsCredentialsProvider credentialsProvider = mock(AwsCredentialsProvider.class);
+
+        AWSSchemaRegistryException exception = assertThrows(AWSSchemaRegistryException.class,
+                     () -> new AWSSchemaRegistryAsyncClient(credentialsProvider, configuration));
+        assertEquals("Malformed uri : https:// test, please pass the valid uri for creating the client",
+                     exception.getMessage());
+    }
+
+    @Test
+    public void testConstructor_nullGlueAsyncClient_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new AWSSchemaRegistryAsyncClient((GlueAsyncClient) null, glueSchemaRegistryConfiguration));
+    }
+
+    @Test
+    public void testGetSchemaVersionIdByDefinition_availableSchema_completesWithSchemaVersionId() {
+        GetSchemaByDefinitionRequest request =
+                asyncClient.buildGetSchemaByDefinitionRequest(SCHEMA_DEFINITION, SCHEMA_NAME);
+        when(mockGlueAsyncClient.getSchemaByDefinition(request)).thenReturn(CompletableFuture.completedFuture(
+                GetSchemaByDefinitionResponse.builder()
+                        .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+                        .status(AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE.toString())
+                        .build()));
+
+        assertEquals(SCHEMA_ID_FOR_TESTING,
+                     asyncClient.getSchemaVersionIdByDefinition(SCHEMA_DEFINITION, SCHEMA_NAME, DATA_FORMAT).join());
+        assertEquals("User-Registry", request.schemaId().registryName());
+    }
+
+    @Test
+    public void testGetSchemaVersionIdByDefinition_pendingSchema_completesExceptionally() {
+        when(mockGlueAsyncClient.getSchemaByDefinition(any(GetSchemaByDefinitionRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetSchemaByDefinitionResponse.builder()
+                        .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+                        .status(AWSSchemaRegistryConstants.SchemaVersionStatus.PENDING.toString())
+                        .build()));
+
+        assertFailsWith("Failed to get schemaVersionId by schema definition for schema name = User-Topic ",
+                        asyncClient.getSchemaVersionIdByDefinition(SCHEMA_DEFINITION, SCHEMA_NAME, DATA_FORMAT));
+    }
+
+    @Test
+    public void testGetSchemaVersionIdByDefinition_clientFails_completesExceptionally() {
+        when(mockGlueAsyncClient.getSchemaByDefinition(any(GetSchemaByDefinitionRequest.class)))
+                .thenReturn(failed(EntityNotFoundException.builder().message("not found").build()));
+
+        AWSSchemaRegistryException exception = assertFailsWith(
+                "Failed to get schemaVersionId by schema definition for schema name = User-Topic ",
+                asyncClient.getSchemaVersionIdByDefinition(SCHEMA_DEFINITION, SCHEMA_NAME, DATA_FORMAT));
+        assertTrue(exception.getCause() instanceof EntityNotFoundException);
+    }
+
+    @Test
+    public void testGetSchemaVersionResponse_existingVersion_completesWithResponse() {
+        GetSchemaVersionResponse response = GetSchemaVersionResponse.builder()
+                .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+                .schemaDefinition(SCHEMA_DEFINITION)
+                .build();
+        when(mockGlueAsyncClient.getSchemaVersion(
+                GetSchemaVersionRequest.builder().schemaVersionId(SCHEMA_ID_FOR_TESTING.toString()).build()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        assertEquals(response, asyncClient.getSchemaVersionResponse(SCHEMA_ID_FOR_TESTING.toString()).join());
+    }
+
+    @Test
+    public void testGetSchemaVersionResponse_missingVersion_completesExceptionally() {
+        when(mockGlueAsyncClient.getSchemaVersion(any(GetSchemaVersionRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetSchemaVersionResponse.builder().build()));
+
+        assertFailsWith("Failed to get schema version Id = " + SCHEMA_ID_FOR_TESTING,
+                        asyncClient.getSchemaVersionResponse(SCHEMA_ID_FOR_TESTING.toString()));
+    }
+
+    @Test
+    public void testGetSchemaVersionResponse_clientThrowsSynchronously_completesExceptionally() {
+        when(mockGlueAsyncClient.getSchemaVersion(any(GetSchemaVersionRequest.class)))
+                .thenThrow(new IllegalStateException("closed"));
+
+        AWSSchemaRegistryException exception = assertFailsWith(
+                "Failed to get schema version Id = " + SCHEMA_ID_FOR_TESTING,
+                asyncClient.getSchemaVersionResponse(SCHEMA_ID_FOR_TESTING.toString()));
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testCreateSchema_newSchema_completesWithSchemaVersionIdAndPutsMetadata() {
+        when(mockGlueAsyncClient.createSchema(any(CreateSchemaRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(CreateSchemaResponse.builder()
+                        .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+                        .build()));
+        when(mockGlueAsyncClient.putSchemaVersionMetadata(any(PutSchemaVersionMetadataRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutSchemaVersionMetadataResponse.builder().build()));
+
+        assertEquals(SCHEMA_ID_FOR_TESTING, asyncClient.createSchema(SCHEMA_NAME, DATA_FORMAT, SCHEMA_DEFINITION,
+                Collections.singletonMap("key", "value")).join());
+        verify(mockGlueAsyncClient, times(1)).putSchemaVersionMetadata(any(PutSchemaVersionMetadataRequest.class));
+    }
+
+    @Test
+    public void testCreateSchema_alreadyExists_registersSchemaVersion() {
+        when(mockGlueAsyncClient.createSchema(any(CreateSchemaRequest.class)))
+                .thenReturn(failed(AlreadyExistsException.builder().message("exists").build()));
+        when(mockGlueAsyncClient.registerSchemaVersion(any(RegisterSchemaVersionRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(registerResponse(
+                        AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE)));
+
+        assertEquals(SCHEMA_ID_FOR_TESTING, asyncClient.createSchema(SCHEMA_NAME, DATA_FORMAT, SCHEMA_DEFINITION,
+                Collections.emptyMap()).join());
+    }
+
+    @Test
+    public void testCreateSchema_clientFails_completesExceptionally() {
+        when(mockGlueAsyncClient.createSchema(any(CreateSchemaRequest.class)))
+                .thenReturn(failed(EntityNotFoundException.builder().message("no registry").build()));
+
+        assertFailsWith("Create schema :: Call failed when creating the schema with the schema registry for schema "
+                        + "name = User-Topic",
+                        asyncClient.createSchema(SCHEMA_NAME, DATA_FORMAT, SCHEMA_DEFINITION, Collections.emptyMap()));
+    }
+
+    @Test
+    public void testCreateSchema_clientThrowsSynchronously_completesExceptionally() {
+        when(mockGlueAsyncClient.createSchema(any(CreateSchemaRequest.class)))
+                .thenThrow(new IllegalStateException("closed"));
+
+        assertFailsWith("Create schema :: Call failed when creating the schema with the schema registry for schema "
+                        + "name = User-Topic",
+                        asyncClient.createSchema(SCHEMA_NAME, DATA_FORMAT, SCHEMA_DEFINITION, Collections.emptyMap()));
+    }
+
+    @Test
+    public void testRegisterSchemaVersion_pendingThenAvailable_pollsWithoutBlocking() {
+        when(mockGlueAsyncClient.registerSchemaVersion(any(RegisterSchemaVersionRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(registerResponse(
+                        AWSSchemaRegistryConstants.SchemaVersionStatus.PENDING)));
+        when(mockGlueAsyncClient.getSchemaVersion(any(GetSchemaVersionRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        versionResponse(AWSSchemaRegistryConstants.SchemaVersionStatus.PENDING)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        versionResponse(AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE)));
+        when(mockGlueAsyncClient.putSchemaVersionMetadata(any(PutSchemaVersionMetadataRequest.class)))
+                .thenReturn(failed(EntityNotFoundException.builder().message("gone").build()));
+
+        assertEquals(SCHEMA_ID_FOR_TESTING, asyncClient.registerSchemaVersion(SCHEMA_DEFINITION, SCHEMA_NAME,
+                DATA_FORMAT, Collections.singletonMap("key", "value")).join());
+        verify(mockGlueAsyncClient, times(2)).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = AWSSchemaRegistryConstants.SchemaVersionStatus.class, names = {"FAILURE", "DELETING"})
+    public void testRegisterSchemaVersion_evolutionCheckFails_completesExceptionally(
+            AWSSchemaRegistryConstants.SchemaVersionStatus status) {
+        when(mockGlueAsyncClient.registerSchemaVersion(any(RegisterSchemaVersionRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(registerResponse(
+                        AWSSchemaRegistryConstants.SchemaVersionStatus.PENDING)));
+        when(mockGlueAsyncClient.getSchemaVersion(any(GetSchemaVersionRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(versionResponse(status)));
+
+        AWSSchemaRegistryException exception = assertFailsWith(
+                "Register schema :: Call failed when registering the schema with the schema registry for schema name"
+                + " = User-Topic", asyncClient.registerSchemaVersion(SCHEMA_DEFINITION, SCHEMA_NAME, DATA_FORMAT));
+        assertEquals(String.format("Schema evolution check failed. schemaVersionId %s is in %s status.",
+                                   SCHEMA_ID_FOR_TESTING, status), exception.getCause().getCause().getMessage());
+    }
+
+    @Test
+    public void testRegisterSchemaVersion_alwaysPending_exhaustsRetries() {
+        when(mockGlueAsyncClient.registerSchemaVersion(any(RegisterSchemaVersionRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(registerResponse(
+                        AWSSchemaRegistryConstants.SchemaVersionStatus.PENDING)));
+        when(mockGlueAsyncClient.getSchemaVersion(any(GetSchemaVersionRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        versionResponse(AWSSchemaRegistryConstants.SchemaVersionStatus.PENDING)));
+
+        AWSSchemaRegistryException exception = assertFailsWith(
+                "Register schema :: Call failed when registering the schema with the schema registry for schema name"
+                + " = User-Topic", asyncClient.registerSchemaVersion(SCHEMA_DEFINITION, SCHEMA_NAME, DATA_FORMAT));
+        assertEquals("Retries exhausted for schema evolution check for schemaVersionId = " + SCHEMA_ID_FOR_TESTING,
+                     exception.getCause().getCause().getMessage());
+        verify(mockGlueAsyncClient, times(10)).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
+    @Test
+    public void testRegisterSchemaVersion_pollFails_completesExceptionally() {
+        when(mockGlueAsyncClient.registerSchemaVersion(any(RegisterSchemaVersionRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(registerResponse(
+                        AWSSchemaRegistryConstants.SchemaVersionStatus.PENDING)));
+        when(mockGlueAsyncClient.getSchemaVersion(any(GetSchemaVersionRequest.class)))
+                .thenReturn(failed(EntityNotFoundException.builder().message("gone").build()))
+                .thenThrow(new IllegalStateException("closed"));
+
+        AWSSchemaRegistryException exception = assertFailsWith(
+                "Register schema :: Call failed when registering the schema with the schema registry for schema name"
+                + " = User-Topic", asyncClient.registerSchemaVersion(SCHEMA_DEFINITION, SCHEMA_NAME, DATA_FORMAT));
+        assertTrue(exception.getCause().getCause() instanceof EntityNotFoundException);
+
+        AWSSchemaRegistryException syncFailure = assertFailsWith(
+                "Register schema :: Call failed when registering the schema with the schema registry for schema name"
+                + " = User-Topic", asyncClient.registerSchemaVersion(SCHEMA_DEFINITION, SCHEMA_NAME, DATA_FORMAT));
+        assertTrue(syncFailure.getCause().getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testRegisterSchemaVersion_schedulerShutDown_completesExceptionally() {
+        when(mockGlueAsyncClient.registerSchemaVersion(any(RegisterSchemaVersionRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(registerResponse(
+                        AWSSchemaRegistryConstants.SchemaVersionStatus.PENDING)));
+
+        asyncClient.close();
+
+        assertFailsWith("Register schema :: Call failed when registering the schema with the schema registry for "
+                        + "schema name = User-Topic",
+                        asyncClient.registerSchemaVersion(SCHEMA_DEFINITION, SCHEMA_NAME, DATA_FORMAT));
+        verify(mockGlueAsyncClient).close();
+    }
+
+    @Test
+    public void testRegisterSchemaVersion_notYetCompleted_doesNotBlockCaller() {
+        CompletableFuture<RegisterSchemaVersionResponse> pending = new CompletableFuture<>();
+        when(mockGlueAsyncClient.registerSchemaVersion(any(RegisterSchemaVersionRequest.class))).thenReturn(pending);
+
+        CompletableFuture<GetSchemaVersionResponse> result =
+                asyncClient.registerSchemaVersion(SCHEMA_DEFINITION, SCHEMA_NAME, DATA_FORMAT);
+        assertFalse(result.isDone());
+
+        pending.complete(registerResponse(AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE));
+        assertEquals(SCHEMA_ID_FOR_TESTING.toString(), result.join().schemaVersionId());
+    }
+
+    private static AWSSchemaRegistryException assertFailsWith(String message, CompletableFuture<?> future) {
+        CompletionException completionException = assertThrows(CompletionException.class, future::join);
+        assertTrue(completionException.getCause() instanceof AWSSchemaRegistryException);
+        assertEquals(message, completionException.getCause().getMessage());
+        return (AWSSchemaRegistryException) completionException.getCause();
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private static RegisterSchemaVersionResponse registerResponse(
+            AWSSchemaRegistryConstants.SchemaVersionStatus status) {
+        return RegisterSchemaVersionResponse.builder()
+                .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+                .versionNumber(1L)
+                .status(status.toString())
+                .build();
+    }
+
+    private static GetSchemaVersionResponse versionResponse(AWSSchemaRegistryConstants.SchemaVersionStatus status) {
+        return GetSchemaVersionResponse.builder()
+                .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+                .status(status.toString())
+                .build();
+    }
+}
@@ -51,6 +51,7 @@ import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
 import software.amazon.awssdk.services.glue.model.RegistryId;
 import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
 
 import java.io.File;
 import java.io.IOException;
@@ -318,6 +319,32 @@ public class AWSSchemaRegistryClientTest {
         }
     }
 
+    @Test
+    public void testGetLatestSchemaVersionResponse_validSchemaName_requestsLatestVersion() {
+        GetSchemaVersionRequest getSchemaVersionRequest = GetSchemaVersionRequest.builder()
+                .schemaId(SchemaId.builder().schemaName("User-Topic").registryName("User-Registry").build())
+                .schemaVersionNumber(SchemaVersionNumber.builder().latestVersion(true).build())
+                .build();
+        GetSchemaVersionResponse getSchemaVersionResponse = GetSchemaVersionResponse.builder()
+                .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+                .build();
+        when(mockGlueClient.getSchemaVersion(getSchemaVersionRequest)).thenReturn(getSchemaVersionResponse);
+
+        assertEquals(getSchemaVersionResponse,
+                     awsSchemaRegistryClient.getLatestSchemaVersionResponse("User-Topic", "User-Registry"));
+    }
+
+    @Test
+    public void testGetLatestSchemaVersionResponse_clientExceptionResponse_throwsAWSSchemaRegistryException() {
+        when(mockGlueClient.getSchemaVersion(any(GetSchemaVersionRequest.class))).thenThrow(EntityNotFoundException.class);
+
+        AWSSchemaRegistryException exception = assertThrows(AWSSchemaRegistryException.class,
+                () -> awsSchemaRegistryClient.getLatestSchemaVersionResponse("User-Topic", "User-Registry"));
+        assertEquals("Failed to get latest schema version for schema name = User-Topic in registry = User-Registry",
+                     exception.getMessage());
+        assertEquals(EntityNotFoundException.class, exception.getCause().getClass());
+    }
+
     @Test
     public void testCreateSchema_schemaNameWithDataFormat_returnsResponseSuccessfully() throws NoSuchFieldException, IllegalAccessException {
         awsSchemaRegistryClient = configureAWSSchemaRegistryClientWithSerdeConfig(awsSchemaRegistryClient, glueSchemaRegistryConfiguration);
@@ -515,27 +542,15 @@ public class AWSSchemaRegistryClientTest {
     }
 
     @Test
-    public void  testGetSchemaIdRequestObject_nullSchemaName_throwsException() throws NoSuchMethodException {
-        Method getSchemaIdRequestObjectMethod = AWSSchemaRegistryClient.class.getDeclaredMethod("getSchemaIdRequestObject", String.class, String.class);
-        getSchemaIdRequestObjectMethod.setAccessible(true);
-
-        try {
-            getSchemaIdRequestObjectMethod.invoke(awsSchemaRegistryClient, null, "test-registry-name");
-        } catch (Exception e) {
-            assertEquals(IllegalArgumentException.class, e.getCause().getClass());
-        }
+    public void testGetSchemaIdRequestObject_nullSchemaName_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> GlueSchemaRegistryRequestBuilder.getSchemaIdRequestObject(null, "test-registry-name"));
     }
 
     @Test
-    public void  testGetSchemaIdRequestObject_nullRegistryName_throwsException() throws NoSuchMethodException {
-        Method getSchemaIdRequestObjectMethod = AWSSchemaRegistryClient.class.getDeclaredMethod("getSchemaIdRequestObject", String.class, String.class);
-        getSchemaIdRequestObjectMethod.setAccessible(true);
-
-        try {
-            getSchemaIdRequestObjectMethod.invoke(awsSchemaRegistryClient, "test-schema-name", null);
-        } catch (Exception e) {
-            assertEquals(IllegalArgumentException.class, e.getCause().getClass());
-        }
+    public void testGetSchemaIdRequestObject_nullRegistryName_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> GlueSchemaRegistryRequestBuilder.getSchemaIdRequestObject("test-schema-name", null));
     }
 
     @Test
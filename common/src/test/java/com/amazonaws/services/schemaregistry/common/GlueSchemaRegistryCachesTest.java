@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.caching.CaffeineGlueSchemaRegistryCache;
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
+import com.amazonaws.services.schemaregistry.caching.GuavaGlueSchemaRegistryCache;
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheLoader;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the schema cache builders.
+ */
+public class GlueSchemaRegistryCachesTest {
+    private static final String KEY = "key";
+    private static final CacheLoader<String, Integer> LOADER = new CacheLoader<String, Integer>() {
+        @Override
+        public Integer load(String key) {
+            return key.length();
+        }
+    };
+
+    @Test
+    public void testNewRefreshingCache_cacheProviders_createsConfiguredImplementation() {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        assertTrue(GlueSchemaRegistryCaches.newRefreshingCache(new GlueSchemaRegistryConfiguration(configs), LOADER)
+                       instanceof GuavaGlueSchemaRegistryCache);
+
+        configs.put(AWSSchemaRegistryConstants.CACHE_PROVIDER_TYPE, "caffeine");
+        GlueSchemaRegistryLoadingCache<String, Integer> cache =
+            GlueSchemaRegistryCaches.newRefreshingCache(new GlueSchemaRegistryConfiguration(configs), LOADER);
+        assertTrue(cache instanceof CaffeineGlueSchemaRegistryCache);
+        assertEquals(3, cache.getOrLoadUnchecked(KEY));
+    }
+
+    @Test
+    public void testNewCache_caffeineProvider_createsCaffeineCache() {
+        assertTrue(GlueSchemaRegistryCaches.isCaffeineAvailable());
+        assertTrue(GlueSchemaRegistryCaches.newCache(AWSSchemaRegistryConstants.CacheProvider.CAFFEINE, 10, LOADER)
+                       instanceof CaffeineGlueSchemaRegistryCache);
+    }
+
+    @Test
+    public void testNewCache_maximumWeight_createsConfiguredImplementation() {
+        assertTrue(GlueSchemaRegistryCaches.newCache(AWSSchemaRegistryConstants.CacheProvider.GUAVA, 10, 4,
+            (key, value) -> 1, LOADER) instanceof GuavaGlueSchemaRegistryCache);
+        assertTrue(GlueSchemaRegistryCaches.newCache(AWSSchemaRegistryConstants.CacheProvider.CAFFEINE, 10, 4,
+            (key, value) -> 1, LOADER) instanceof CaffeineGlueSchemaRegistryCache);
+    }
+
+    @Test
+    public void testNewCache_noMaximumWeight_boundsByEntryCount() {
+        GlueSchemaRegistryLoadingCache<String, Integer> cache = GlueSchemaRegistryCaches.newCache(
+            AWSSchemaRegistryConstants.CacheProvider.GUAVA, 10, 0, (key, value) -> Integer.MAX_VALUE, LOADER);
+
+        cache.put("aa", 2);
+        cache.put("bb", 2);
+
+        assertEquals(2, cache.getCacheSize());
+    }
+
+    @Test
+    public void testWeighSchemaDefinition_returnsUtf16Size() {
+        assertEquals(0, GlueSchemaRegistryCaches.weighSchemaDefinition(""));
+        assertEquals(6, GlueSchemaRegistryCaches.weighSchemaDefinition(KEY));
+    }
+
+    @Test
+    public void testJitteredTimeToLiveMillis_withJitter_staysWithinBounds() {
+        for (int i = 0; i < 100; i++) {
+            long timeToLiveMillis = GlueSchemaRegistryCaches.jitteredTimeToLiveMillis(1000L, 10);
+            assertTrue(timeToLiveMillis >= 900L && timeToLiveMillis <= 1000L);
+        }
+    }
+
+    @Test
+    public void testJitteredTimeToLiveMillis_withoutJitter_returnsTimeToLive() {
+        assertEquals(1000L, GlueSchemaRegistryCaches.jitteredTimeToLiveMillis(1000L, 0));
+        assertEquals(1L, GlueSchemaRegistryCaches.jitteredTimeToLiveMillis(1L, 50));
+    }
+
+    @Test
+    public void testNewNotFoundCache_disabled_doesNotRetainEntries() {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.NEGATIVE_CACHE_TIME_TO_LIVE_MILLIS, "0");
+
+        Cache<String, Throwable> cache =
+            GlueSchemaRegistryCaches.newNotFoundCache(new GlueSchemaRegistryConfiguration(configs));
+        cache.put(KEY, new AWSSchemaRegistryException("not found"));
+
+        assertNull(cache.getIfPresent(KEY));
+    }
+
+    @Test
+    public void testIsNotFound_causeChain_detectsEntityNotFound() {
+        EntityNotFoundException entityNotFoundException = EntityNotFoundException.builder()
+            .message(AWSSchemaRegistryConstants.SCHEMA_VERSION_NOT_FOUND_MSG)
+            .build();
+
+        assertTrue(GlueSchemaRegistryCaches.isNotFound(new AWSSchemaRegistryException(entityNotFoundException)));
+        assertFalse(GlueSchemaRegistryCaches.isNotFound(new AWSSchemaRegistryException("Rate exceeded")));
+        assertFalse(GlueSchemaRegistryCaches.isNotFound(null));
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the LZ4, Zstandard and Snappy compression handlers, and for decompressing into a re-usable buffer.
+ */
+public class GlueSchemaRegistryCompressionCodecsTest {
+    private static final int[] RECORD_SIZES = {0, 1, 100, 64 * 1024};
+
+    private static Stream<Arguments> compressionHandlers() {
+        return Stream.of(
+            Arguments.of(new GlueSchemaRegistryLz4Compression()),
+            Arguments.of(new GlueSchemaRegistryZstdCompression()),
+            Arguments.of(new GlueSchemaRegistrySnappyCompression())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("compressionHandlers")
+    public void testCompress_roundTrip_returnsOriginalRecord(GlueSchemaRegistryCompressionHandler handler)
+        throws Exception {
+        for (int size : RECORD_SIZES) {
+            byte[] record = record(size);
+            byte[] compressed = handler.compress(record);
+            assertArrayEquals(record, handler.decompress(compressed, 0, compressed.length));
+        }
+    }
+
+    private static Stream<Arguments> allCompressionHandlers() {
+        GlueSchemaRegistryCompressionHandler defaultMethodsHandler = new GlueSchemaRegistryCompressionHandler() {
+        };
+        return Stream.concat(compressionHandlers(), Stream.of(
+            Arguments.of(new GlueSchemaRegistryDefaultCompression()),
+            Arguments.of(new GlueSchemaRegistryPooledCompression(1)),
+            Arguments.of(defaultMethodsHandler)
+        ));
+    }
+
+    @ParameterizedTest
+    @MethodSource("allCompressionHandlers")
+    public void testDecompressInto_reusedBuffer_replacesContent(GlueSchemaRegistryCompressionHandler handler)
+        throws Exception {
+        GlueSchemaRegistryDecompressionBuffer buffer = new GlueSchemaRegistryDecompressionBuffer(16);
+        for (int size : new int[] {64 * 1024, 0, 100, 5000}) {
+            byte[] record = record(size);
+            byte[] compressed = handler.compress(record);
+            byte[] framed = new byte[compressed.length + 3];
+            System.arraycopy(compressed, 0, framed, 3, compressed.length);
+
+            handler.decompressInto(framed, 3, compressed.length, buffer);
+
+            assertEquals(size, buffer.size());
+            assertArrayEquals(record, Arrays.copyOf(buffer.array(), buffer.size()));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("allCompressionHandlers")
+    public void testDecompressInto_corruptedInput_throwsAWSSchemaRegistryException(
+        GlueSchemaRegistryCompressionHandler handler) throws Exception {
+        byte[] compressed = handler.compress(record(4096));
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+        assertThrows(AWSSchemaRegistryException.class, () -> handler.decompressInto(truncated, 0, truncated.length,
+            new GlueSchemaRegistryDecompressionBuffer(16)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("compressionHandlers")
+    public void testDecompress_offsetWithinArray_decompressesRange(GlueSchemaRegistryCompressionHandler handler)
+        throws Exception {
+        byte[] record = record(4096);
+        byte[] compressed = handler.compress(record);
+        byte[] framed = new byte[compressed.length + 7];
+        System.arraycopy(compressed, 0, framed, 3, compressed.length);
+
+        assertArrayEquals(record, handler.decompress(framed, 3, compressed.length));
+    }
+
+    @ParameterizedTest
+    @MethodSource("compressionHandlers")
+    public void testDecompress_corruptedInput_throwsAWSSchemaRegistryException(
+        GlueSchemaRegistryCompressionHandler handler) throws Exception {
+        byte[] compressed = handler.compress(record(4096));
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                                           () -> handler.decompress(truncated, 0, truncated.length));
+        assertEquals("Error while decompressing data", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("compressionHandlers")
+    public void testDecompress_tooShortInput_throwsAWSSchemaRegistryException(
+        GlueSchemaRegistryCompressionHandler handler) {
+        byte[] invalid = {-1, -1};
+
+        assertThrows(AWSSchemaRegistryException.class, () -> handler.decompress(invalid, 0, invalid.length));
+    }
+
+    private static Stream<Arguments> forgedLengthRecords() {
+        byte[] lz4 = new GlueSchemaRegistryLz4Compression().compress(record(100));
+        ByteBuffer.wrap(lz4).putInt(Integer.MAX_VALUE);
+
+        //Single segment Zstandard frame declaring 2^40 content bytes in its 8 byte content size field.
+        byte[] zstd = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(0xFD2FB528).put((byte) 0xE0).putLong(1L << 40).put(new byte[] {1, 0, 0}).array();
+
+        //Varint declaring Integer.MAX_VALUE uncompressed bytes, followed by a valid Snappy body.
+        byte[] snappyBody = new GlueSchemaRegistrySnappyCompression().compress(record(100));
+        byte[] snappy = new byte[snappyBody.length + 4];
+        System.arraycopy(new byte[] {-1, -1, -1, -1, 7}, 0, snappy, 0, 5);
+        System.arraycopy(snappyBody, 1, snappy, 5, snappyBody.length - 1);
+
+        return Stream.of(
+            Arguments.of(new GlueSchemaRegistryLz4Compression(), lz4),
+            Arguments.of(new GlueSchemaRegistryZstdCompression(), zstd),
+            Arguments.of(new GlueSchemaRegistrySnappyCompression(), snappy)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("forgedLengthRecords")
+    public void testDecompress_forgedLength_throwsAWSSchemaRegistryException(
+        GlueSchemaRegistryCompressionHandler handler, byte[] forged) {
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                                           () -> handler.decompress(forged, 0, forged.length));
+        assertTrue(exception.getMessage().startsWith("Decompressed length"), exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("forgedLengthRecords")
+    public void testDecompressInto_forgedLength_throwsAWSSchemaRegistryException(
+        GlueSchemaRegistryCompressionHandler handler, byte[] forged) {
+        GlueSchemaRegistryDecompressionBuffer buffer = new GlueSchemaRegistryDecompressionBuffer(16);
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                                           () -> handler.decompressInto(forged, 0, forged.length, buffer));
+        assertTrue(exception.getMessage().startsWith("Decompressed length"), exception.getMessage());
+        assertEquals(16, buffer.array().length);
+    }
+
+    private static Stream<Arguments> limitedCompressionHandlers() {
+        return Stream.of(
+            Arguments.of(new GlueSchemaRegistryLz4Compression(1000)),
+            Arguments.of(new GlueSchemaRegistryZstdCompression(1000)),
+            Arguments.of(new GlueSchemaRegistrySnappyCompression(1000))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("limitedCompressionHandlers")
+    public void testDecompress_lengthAboveConfiguredMaximum_throwsAWSSchemaRegistryException(
+        GlueSchemaRegistryCompressionHandler handler) throws Exception {
+        byte[] withinLimit = handler.compress(record(1000));
+        byte[] aboveLimit = handler.compress(record(1001));
+
+        assertArrayEquals(record(1000), handler.decompress(withinLimit, 0, withinLimit.length));
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                                           () -> handler.decompress(aboveLimit, 0, aboveLimit.length));
+        assertEquals("Decompressed length 1001 is not within the maximum decompressed size 1000",
+                     exception.getMessage());
+        assertThrows(AWSSchemaRegistryException.class, () -> handler.decompressInto(aboveLimit, 0, aboveLimit.length,
+            new GlueSchemaRegistryDecompressionBuffer(16)));
+    }
+
+    private static Stream<Arguments> limitedZlibCompressionHandlers() {
+        return Stream.of(
+            Arguments.of(new GlueSchemaRegistryDefaultCompression(1000)),
+            Arguments.of(new GlueSchemaRegistryPooledCompression(1, 1000))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("limitedZlibCompressionHandlers")
+    public void testDecompress_zlibInflatedAboveConfiguredMaximum_throwsAWSSchemaRegistryException(
+        GlueSchemaRegistryCompressionHandler handler) throws Exception {
+        byte[] withinLimit = handler.compress(record(1000));
+        byte[] aboveLimit = handler.compress(new byte[64 * 1024]);
+        GlueSchemaRegistryDecompressionBuffer buffer = new GlueSchemaRegistryDecompressionBuffer(16);
+
+        assertArrayEquals(record(1000), handler.decompress(withinLimit, 0, withinLimit.length));
+        assertDecompressedLengthRejected(
+            assertThrows(AWSSchemaRegistryException.class, () -> handler.decompress(aboveLimit, 0, aboveLimit.length)));
+        assertDecompressedLengthRejected(assertThrows(AWSSchemaRegistryException.class,
+            () -> handler.decompressInto(aboveLimit, 0, aboveLimit.length, buffer)));
+    }
+
+    private static void assertDecompressedLengthRejected(Exception exception) {
+        //The default ZLIB handler wraps every decompression failure.
+        Throwable rejection = exception.getCause() instanceof AWSSchemaRegistryException ? exception.getCause() : exception;
+        assertTrue(rejection.getMessage().startsWith("Decompressed length"), rejection.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("compressionHandlers")
+    public void testCompress_nullInput_throwsAWSSchemaRegistryException(GlueSchemaRegistryCompressionHandler handler) {
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> handler.compress(null));
+        assertEquals("Error while compressing data", exception.getMessage());
+    }
+
+    private static byte[] record(int size) {
+        byte[] record = new byte[size];
+        Random random = new Random(size);
+        for (int i = 0; i < size; i++) {
+            record[i] = i % 3 == 0 ? (byte) random.nextInt() : (byte) 'x';
+        }
+        return record;
+    }
+}
@@ -1,17 +1,25 @@
 package com.amazonaws.services.schemaregistry.common;
 
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class GlueSchemaRegistryCompressionFactoryTest {
     private final Map<String, Object> configs = new HashMap<>();
@@ -71,4 +79,70 @@ public class GlueSchemaRegistryCompressionFactoryTest {
     public void testGetCompressionHandler_knownCompressionByte_returnsNull() {
         assertEquals(GlueSchemaRegistryDefaultCompression.class, glueSchemaRegistryCompressionFactory.getCompressionHandler(AWSSchemaRegistryConstants.COMPRESSION_BYTE).getClass());
     }
+
+    @Test
+    public void testGetCompressionHandler_compressionPoolSizeConfigured_returnsPooledCompression() {
+        configs.put(AWSSchemaRegistryConstants.COMPRESSION_POOL_SIZE, "4");
+        GlueSchemaRegistryCompressionFactory pooledFactory =
+            new GlueSchemaRegistryCompressionFactory(new GlueSchemaRegistryConfiguration(configs));
+
+        assertEquals(GlueSchemaRegistryPooledCompression.class,
+                     pooledFactory.getCompressionHandler(AWSSchemaRegistryConstants.COMPRESSION.ZLIB).getClass());
+        assertEquals(pooledFactory.getCompressionHandler(AWSSchemaRegistryConstants.COMPRESSION.ZLIB),
+                     pooledFactory.getCompressionHandler(AWSSchemaRegistryConstants.COMPRESSION_BYTE));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = AWSSchemaRegistryConstants.COMPRESSION.class, names = {"LZ4", "ZSTD", "SNAPPY"})
+    public void testGetCompressionHandler_maxDecompressedSizeConfigured_rejectsLargerRecords(
+        AWSSchemaRegistryConstants.COMPRESSION compressionType) throws Exception {
+        configs.put(AWSSchemaRegistryConstants.MAX_DECOMPRESSED_SIZE, "10");
+        GlueSchemaRegistryCompressionHandler handler =
+            new GlueSchemaRegistryCompressionFactory(new GlueSchemaRegistryConfiguration(configs))
+                .getCompressionHandler(compressionType);
+        byte[] compressed = handler.compress(new byte[11]);
+
+        assertThrows(AWSSchemaRegistryException.class, () -> handler.decompress(compressed, 0, compressed.length));
+    }
+
+    @Test
+    public void testIsCodecAvailable_presentAndMissingClasses_reportsAvailability() {
+        assertTrue(GlueSchemaRegistryCompressionFactory.isCodecAvailable("org.xerial.snappy.Snappy"));
+        assertFalse(GlueSchemaRegistryCompressionFactory.isCodecAvailable("org.example.MissingCodec"));
+    }
+
+    @Test
+    public void testGetCompressionHandler_compressionPoolSizeNotConfigured_returnsDefaultCompression() {
+        GlueSchemaRegistryCompressionFactory factory =
+            new GlueSchemaRegistryCompressionFactory(glueSchemaRegistryConfiguration);
+
+        assertEquals(GlueSchemaRegistryDefaultCompression.class,
+                     factory.getCompressionHandler(AWSSchemaRegistryConstants.COMPRESSION.ZLIB).getClass());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = AWSSchemaRegistryConstants.COMPRESSION.class, names = {"NONE"}, mode = EnumSource.Mode.EXCLUDE)
+    public void testGetCompressionHandler_compressionTypeAndByte_returnSameRegisteredHandler(
+        AWSSchemaRegistryConstants.COMPRESSION compressionType) {
+        GlueSchemaRegistryCompressionHandler handler =
+            glueSchemaRegistryCompressionFactory.getCompressionHandler(compressionType);
+
+        assertNotNull(handler);
+        assertSame(handler, glueSchemaRegistryCompressionFactory.getCompressionHandler(compressionType.getCompressionByte()));
+    }
+
+    @Test
+    public void testGetCompressionHandler_codecCompressionBytes_returnCodecHandlers() {
+        assertEquals(GlueSchemaRegistryLz4Compression.class,
+                     glueSchemaRegistryCompressionFactory.getCompressionHandler(AWSSchemaRegistryConstants.LZ4_COMPRESSION_BYTE).getClass());
+        assertEquals(GlueSchemaRegistryZstdCompression.class,
+                     glueSchemaRegistryCompressionFactory.getCompressionHandler(AWSSchemaRegistryConstants.ZSTD_COMPRESSION_BYTE).getClass());
+        assertEquals(GlueSchemaRegistrySnappyCompression.class,
+                     glueSchemaRegistryCompressionFactory.getCompressionHandler(AWSSchemaRegistryConstants.SNAPPY_COMPRESSION_BYTE).getClass());
+    }
+
+    @Test
+    public void testGetCompressionHandler_defaultCompressionByte_returnsNull() {
+        assertNull(glueSchemaRegistryCompressionFactory.getCompressionHandler(AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE));
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GlueSchemaRegistryDecompressionBufferTest {
+
+    @Test
+    public void testWrite_beyondCapacity_growsAndRetainsContent() {
+        GlueSchemaRegistryDecompressionBuffer buffer = new GlueSchemaRegistryDecompressionBuffer(2);
+
+        buffer.write(new byte[] {1, 2}, 0, 2);
+        buffer.write(new byte[] {9, 3, 4, 5}, 1, 3);
+
+        assertEquals(5, buffer.size());
+        ByteBuffer view = buffer.asByteBuffer();
+        byte[] content = new byte[view.remaining()];
+        view.get(content);
+        assertArrayEquals(new byte[] {1, 2, 3, 4, 5}, content);
+    }
+
+    @Test
+    public void testReset_retainsBackingArray() {
+        GlueSchemaRegistryDecompressionBuffer buffer = new GlueSchemaRegistryDecompressionBuffer(8);
+        byte[] array = buffer.array();
+        buffer.write(new byte[] {1, 2, 3}, 0, 3);
+
+        buffer.reset();
+
+        assertEquals(0, buffer.size());
+        assertSame(array, buffer.array());
+        assertSame(array, buffer.ensureCapacity(8));
+    }
+
+    @Test
+    public void testResetWithCapacity_replacesBackingArray() {
+        GlueSchemaRegistryDecompressionBuffer buffer = new GlueSchemaRegistryDecompressionBuffer(8);
+        buffer.write(new byte[] {1, 2, 3}, 0, 3);
+
+        buffer.reset(32);
+
+        assertEquals(0, buffer.size());
+        assertEquals(32, buffer.capacity());
+    }
+
+    @Test
+    public void testSetSize_outOfBounds_throwsException() {
+        GlueSchemaRegistryDecompressionBuffer buffer = new GlueSchemaRegistryDecompressionBuffer(4);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.setSize(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.setSize(-1));
+    }
+
+    @Test
+    public void testAsByteBuffer_sharesBackingArray() {
+        GlueSchemaRegistryDecompressionBuffer buffer = new GlueSchemaRegistryDecompressionBuffer(4);
+        buffer.ensureCapacity(4)[0] = 7;
+        buffer.setSize(1);
+
+        ByteBuffer view = buffer.asByteBuffer();
+
+        assertSame(buffer.array(), view.array());
+        assertEquals(1, view.remaining());
+        assertEquals(7, view.get());
+    }
+}
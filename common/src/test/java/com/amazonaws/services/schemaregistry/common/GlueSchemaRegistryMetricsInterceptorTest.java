@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetricNames;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for recording the metrics of Glue API calls.
+ */
+public class GlueSchemaRegistryMetricsInterceptorTest {
+    private static final String OPERATION_NAME = "GetSchemaVersion";
+
+    private final GlueSchemaRegistryMetrics metrics = mock(GlueSchemaRegistryMetrics.class);
+    private final GlueSchemaRegistryMetricsInterceptor interceptor = new GlueSchemaRegistryMetricsInterceptor(metrics);
+
+    @Test
+    public void testAfterExecution_recordsSuccessfulCallTime() {
+        ExecutionAttributes executionAttributes = new ExecutionAttributes();
+        executionAttributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, OPERATION_NAME);
+
+        interceptor.beforeExecution(mock(Context.BeforeExecution.class), executionAttributes);
+        interceptor.afterExecution(mock(Context.AfterExecution.class), executionAttributes);
+
+        verify(metrics).recordTime(eq(GlueSchemaRegistryMetricNames.API_CALL_TIME), anyLong(),
+                                   eq(GlueSchemaRegistryMetricNames.TAG_OPERATION), eq(OPERATION_NAME),
+                                   eq(GlueSchemaRegistryMetricNames.TAG_OUTCOME),
+                                   eq(GlueSchemaRegistryMetricNames.OUTCOME_SUCCESS));
+    }
+
+    @Test
+    public void testOnExecutionFailure_recordsFailedCallTimeAndError() {
+        ExecutionAttributes executionAttributes = new ExecutionAttributes();
+        Context.FailedExecution failedExecution = mock(Context.FailedExecution.class);
+        doReturn(EntityNotFoundException.builder().build()).when(failedExecution).exception();
+
+        interceptor.beforeExecution(mock(Context.BeforeExecution.class), executionAttributes);
+        interceptor.onExecutionFailure(failedExecution, executionAttributes);
+
+        verify(metrics).recordTime(eq(GlueSchemaRegistryMetricNames.API_CALL_TIME), anyLong(),
+                                   eq(GlueSchemaRegistryMetricNames.TAG_OPERATION), eq("Unknown"),
+                                   eq(GlueSchemaRegistryMetricNames.TAG_OUTCOME),
+                                   eq(GlueSchemaRegistryMetricNames.OUTCOME_ERROR));
+        verify(metrics).increment(GlueSchemaRegistryMetricNames.API_CALL_ERRORS,
+                                  GlueSchemaRegistryMetricNames.TAG_OPERATION, "Unknown",
+                                  GlueSchemaRegistryMetricNames.TAG_ERROR_TYPE, "EntityNotFoundException");
+    }
+
+    @Test
+    public void testAfterExecution_notStarted_recordsNothing() {
+        interceptor.afterExecution(mock(Context.AfterExecution.class), new ExecutionAttributes());
+
+        verifyNoInteractions(metrics);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GlueSchemaRegistryPersistentSchemaCacheTest {
+    private static final UUID SCHEMA_VERSION_ID = UUID.fromString("b7b4a7f0-9c96-4e4a-a687-fb5de9ef0c63");
+    private static final UUID OTHER_SCHEMA_VERSION_ID = UUID.fromString("f8b4a7f0-9c96-4e4a-a687-fb5de9ef0c63");
+    private static final Schema SCHEMA = new Schema("{\"type\":\"string\"}", "AVRO", "User-Topic");
+    private static final Schema OTHER_SCHEMA = new Schema("{\"type\":\"object\",\"description\":\"été\"}",
+                                                          "JSON", "Employee");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testPut_reopenedCache_returnsPersistedSchemas() {
+        Path path = tempDir.resolve("nested").resolve("schemas.cache");
+        GlueSchemaRegistryPersistentSchemaCache cache = new GlueSchemaRegistryPersistentSchemaCache(path);
+        cache.put(SCHEMA_VERSION_ID, SCHEMA);
+        cache.put(OTHER_SCHEMA_VERSION_ID, OTHER_SCHEMA);
+
+        GlueSchemaRegistryPersistentSchemaCache reopened = new GlueSchemaRegistryPersistentSchemaCache(path);
+
+        assertEquals(2, reopened.size());
+        assertEquals(SCHEMA, reopened.get(SCHEMA_VERSION_ID));
+        assertEquals(OTHER_SCHEMA, reopened.get(OTHER_SCHEMA_VERSION_ID));
+    }
+
+    @Test
+    public void testGet_unknownSchemaVersionId_returnsNull() {
+        GlueSchemaRegistryPersistentSchemaCache cache =
+            new GlueSchemaRegistryPersistentSchemaCache(tempDir.resolve("schemas.cache"));
+
+        assertNull(cache.get(SCHEMA_VERSION_ID));
+    }
+
+    @Test
+    public void testPut_sameSchemaTwice_appendsOnce() throws IOException {
+        Path path = tempDir.resolve("schemas.cache");
+        GlueSchemaRegistryPersistentSchemaCache cache = new GlueSchemaRegistryPersistentSchemaCache(path);
+        cache.put(SCHEMA_VERSION_ID, SCHEMA);
+        long size = Files.size(path);
+
+        cache.put(SCHEMA_VERSION_ID, new Schema(SCHEMA.getSchemaDefinition(), SCHEMA.getDataFormat(),
+                                                SCHEMA.getSchemaName()));
+
+        assertEquals(size, Files.size(path));
+    }
+
+    @Test
+    public void testLoad_truncatedRecord_discardsTailAndAcceptsAppends() throws IOException {
+        Path path = tempDir.resolve("schemas.cache");
+        GlueSchemaRegistryPersistentSchemaCache cache = new GlueSchemaRegistryPersistentSchemaCache(path);
+        cache.put(SCHEMA_VERSION_ID, SCHEMA);
+        long validSize = Files.size(path);
+        cache.put(OTHER_SCHEMA_VERSION_ID, OTHER_SCHEMA);
+        Files.write(path, truncate(Files.readAllBytes(path), 3), StandardOpenOption.TRUNCATE_EXISTING);
+
+        GlueSchemaRegistryPersistentSchemaCache reopened = new GlueSchemaRegistryPersistentSchemaCache(path);
+
+        assertEquals(1, reopened.size());
+        assertEquals(validSize, Files.size(path));
+
+        reopened.put(OTHER_SCHEMA_VERSION_ID, OTHER_SCHEMA);
+        assertEquals(OTHER_SCHEMA, new GlueSchemaRegistryPersistentSchemaCache(path).get(OTHER_SCHEMA_VERSION_ID));
+    }
+
+    @Test
+    public void testLoad_corruptRecord_discardsTail() throws IOException {
+        Path path = tempDir.resolve("schemas.cache");
+        GlueSchemaRegistryPersistentSchemaCache cache = new GlueSchemaRegistryPersistentSchemaCache(path);
+        cache.put(SCHEMA_VERSION_ID, SCHEMA);
+        long validSize = Files.size(path);
+        cache.put(OTHER_SCHEMA_VERSION_ID, OTHER_SCHEMA);
+        byte[] contents = Files.readAllBytes(path);
+        contents[contents.length - 1] ^= 0x7F;
+        Files.write(path, contents, StandardOpenOption.TRUNCATE_EXISTING);
+
+        GlueSchemaRegistryPersistentSchemaCache reopened = new GlueSchemaRegistryPersistentSchemaCache(path);
+
+        assertEquals(SCHEMA, reopened.get(SCHEMA_VERSION_ID));
+        assertNull(reopened.get(OTHER_SCHEMA_VERSION_ID));
+        assertEquals(validSize, Files.size(path));
+    }
+
+    @Test
+    public void testLoad_unrecognizedFile_startsEmpty() throws IOException {
+        Path path = tempDir.resolve("schemas.cache");
+        Files.write(path, "not a schema cache".getBytes());
+
+        GlueSchemaRegistryPersistentSchemaCache cache = new GlueSchemaRegistryPersistentSchemaCache(path);
+        cache.put(SCHEMA_VERSION_ID, SCHEMA);
+
+        assertEquals(SCHEMA, new GlueSchemaRegistryPersistentSchemaCache(path).get(SCHEMA_VERSION_ID));
+    }
+
+    @Test
+    public void testLoad_pathIsDirectory_throwsException() {
+        assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryPersistentSchemaCache(tempDir));
+    }
+
+    @Test
+    public void testPut_fileRemoved_keepsSchemaInMemory() throws IOException {
+        Path path = tempDir.resolve("schemas.cache");
+        GlueSchemaRegistryPersistentSchemaCache cache = new GlueSchemaRegistryPersistentSchemaCache(path);
+        Files.delete(path);
+
+        cache.put(SCHEMA_VERSION_ID, SCHEMA);
+
+        assertEquals(SCHEMA, cache.get(SCHEMA_VERSION_ID));
+    }
+
+    @Test
+    public void testGetInstance_samePath_returnsSharedInstance() {
+        String path = tempDir.resolve("shared.cache").toString();
+
+        assertSame(GlueSchemaRegistryPersistentSchemaCache.getInstance(path),
+                   GlueSchemaRegistryPersistentSchemaCache.getInstance(tempDir.resolve(".").resolve("shared.cache")
+                                                                           .toString()));
+    }
+
+    private static byte[] truncate(byte[] bytes, int count) {
+        byte[] truncated = new byte[bytes.length - count];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        return truncated;
+    }
+}
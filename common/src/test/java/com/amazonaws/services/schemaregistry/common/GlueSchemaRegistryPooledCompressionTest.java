@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GlueSchemaRegistryPooledCompressionTest {
+    private final GlueSchemaRegistryPooledCompression pooledCompression = new GlueSchemaRegistryPooledCompression(2);
+    private final GlueSchemaRegistryDefaultCompression defaultCompression = new GlueSchemaRegistryDefaultCompression();
+
+    @Test
+    public void testConstructor_nonPositivePoolSize_throwsException() {
+        assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryPooledCompression(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 3, 1024, 100 * 1024, 2 * GlueSchemaRegistryPooledCompression.MAX_RETAINED_BUFFER_SIZE})
+    public void testCompress_roundTrip_isCompatibleWithDefaultCompression(int size) {
+        byte[] record = randomRecord(size);
+
+        byte[] compressed = pooledCompression.compress(record);
+
+        assertArrayEquals(defaultCompression.compress(record), compressed);
+        assertArrayEquals(record, pooledCompression.decompress(compressed, 0, compressed.length));
+        assertArrayEquals(record, defaultCompression.decompress(compressed, 0, compressed.length));
+    }
+
+    @Test
+    public void testCompress_repeatedCalls_reusesPooledInstances() {
+        for (int i = 0; i < 10; i++) {
+            byte[] record = randomRecord(i * 512);
+            byte[] compressed = pooledCompression.compress(record);
+            assertArrayEquals(record, pooledCompression.decompress(compressed, 0, compressed.length));
+        }
+    }
+
+    @Test
+    public void testDecompress_offsetWithinArray_decompressesRange() {
+        byte[] record = randomRecord(2048);
+        byte[] compressed = pooledCompression.compress(record);
+        byte[] prefixed = new byte[compressed.length + 5];
+        System.arraycopy(compressed, 0, prefixed, 5, compressed.length);
+
+        assertArrayEquals(record, pooledCompression.decompress(prefixed, 5, compressed.length));
+    }
+
+    @Test
+    public void testDecompress_invalidInput_throwsAWSSchemaRegistryException() {
+        byte[] invalid = {1, 2, 3};
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                                           () -> pooledCompression.decompress(invalid, 0, invalid.length));
+        assertEquals("Bytes received is not compressed properly", exception.getMessage());
+    }
+
+    @Test
+    public void testDecompress_truncatedInput_throwsAWSSchemaRegistryException() {
+        byte[] compressed = pooledCompression.compress(randomRecord(4096));
+
+        assertThrows(AWSSchemaRegistryException.class,
+                     () -> pooledCompression.decompress(compressed, 0, compressed.length / 2));
+        //Pool remains usable after a failure.
+        byte[] record = randomRecord(100);
+        byte[] recompressed = pooledCompression.compress(record);
+        assertArrayEquals(record, pooledCompression.decompress(recompressed, 0, recompressed.length));
+    }
+
+    @Test
+    public void testCompress_nullInput_throwsAWSSchemaRegistryException() {
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> pooledCompression.compress(null));
+        assertEquals("Error while compressing data", exception.getMessage());
+    }
+
+    @Test
+    public void testCompress_concurrentCallers_produceIndependentResults() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                final byte[] record = randomRecord(i * 257);
+                results.add(executorService.submit(() -> {
+                    byte[] compressed = pooledCompression.compress(record);
+                    return Arrays.equals(record, pooledCompression.decompress(compressed, 0, compressed.length));
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertEquals(Boolean.TRUE, result.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static byte[] randomRecord(int size) {
+        byte[] record = new byte[size];
+        Random random = new Random(size);
+        //Half random, half repeated bytes, so the data is compressible but not trivially.
+        for (int i = 0; i < size; i++) {
+            record[i] = i % 2 == 0 ? (byte) random.nextInt() : (byte) 'a';
+        }
+        return record;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GlueSchemaRegistryPreloaderTest {
+
+    @Test
+    public void testPreload_emptyCollection_loadsNothing() {
+        assertEquals(0, GlueSchemaRegistryPreloader.preload(Collections.<String>emptyList(), item -> {
+            throw new IllegalStateException("Should not be called");
+        }));
+    }
+
+    @Test
+    public void testPreload_allItemsSucceed_loadsEveryItemOnRefreshThreads() {
+        Set<String> loaded = ConcurrentHashMap.newKeySet();
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+        int count = GlueSchemaRegistryPreloader.preload(Arrays.asList("a", "b", "c"), item -> {
+            loaded.add(item);
+            threadNames.add(Thread.currentThread().getName());
+        });
+
+        assertEquals(3, count);
+        assertEquals(3, loaded.size());
+        assertTrue(threadNames.stream().allMatch(name -> name.startsWith("glue-schema-registry-cache-refresh-")));
+    }
+
+    @Test
+    public void testPreload_someItemsFail_skipsFailures() {
+        int count = GlueSchemaRegistryPreloader.preload(Arrays.asList("a", "fail", "c"), item -> {
+            if ("fail".equals(item)) {
+                throw new IllegalStateException("Registry unavailable");
+            }
+        });
+
+        assertEquals(2, count);
+    }
+
+    @Test
+    public void testPreloadAsync_emptyCollection_completesWithZero() {
+        assertEquals(0, GlueSchemaRegistryPreloader.preloadAsync(Collections.<String>emptyList(), item -> {
+            throw new IllegalStateException("Should not be called");
+        }).join());
+    }
+
+    @Test
+    public void testPreloadAsync_someItemsFail_completesWithLoadedCount() {
+        Set<String> loaded = ConcurrentHashMap.newKeySet();
+
+        int count = GlueSchemaRegistryPreloader.preloadAsync(Arrays.asList("a", "fail", "c"), item -> {
+            if ("fail".equals(item)) {
+                throw new IllegalStateException("Registry unavailable");
+            }
+            loaded.add(item);
+        }).join();
+
+        assertEquals(2, count);
+        assertEquals(new HashSet<>(Arrays.asList("a", "c")), loaded);
+    }
+
+    @Test
+    public void testPreloadAsync_loadsBlocked_returnsBeforeLoadsComplete() {
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Integer> preload = GlueSchemaRegistryPreloader.preloadAsync(Arrays.asList("a", "b"), item -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertFalse(preload.isDone());
+        release.countDown();
+        assertEquals(2, preload.join());
+    }
+
+    @Test
+    public void testPreload_interrupted_stopsWaiting() {
+        Thread.currentThread().interrupt();
+        try {
+            int count = GlueSchemaRegistryPreloader.preload(Arrays.asList("a", "b"), item -> {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            assertEquals(0, count);
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+}
@@ -1,9 +1,9 @@
 package com.amazonaws.services.schemaregistry.common;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
-import com.google.common.cache.LoadingCache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,17 +22,30 @@ import software.amazon.awssdk.services.glue.model.RegistryId;
 import software.amazon.awssdk.services.glue.model.SchemaId;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class SchemaByDefinitionFetcherTest {
@@ -273,6 +286,39 @@ public class SchemaByDefinitionFetcherTest {
         assertEquals(AWSSchemaRegistryConstants.AUTO_REGISTRATION_IS_DISABLED_MSG, exception.getMessage());
     }
 
+    @Test
+    public void testGetORRegisterSchemaVersionId_autoRegistrationDisabled_cachesSchemaNotFound() throws Exception {
+        Map<String, String> configs = getConfigsWithAutoRegistrationSetting(false);
+
+        String schemaName = configs.get(AWSSchemaRegistryConstants.SCHEMA_NAME);
+        String registryName = configs.get(AWSSchemaRegistryConstants.REGISTRY_NAME);
+        String dataFormatName = DataFormat.AVRO.name();
+
+        GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(configs);
+        awsSchemaRegistryClient =
+            configureAWSSchemaRegistryClientWithSerdeConfig(awsSchemaRegistryClient,
+                glueSchemaRegistryConfiguration);
+
+        GetSchemaByDefinitionRequest getSchemaByDefinitionRequest = awsSchemaRegistryClient
+            .buildGetSchemaByDefinitionRequest(userSchemaDefinition, schemaName, registryName);
+
+        EntityNotFoundException entityNotFoundException =
+            EntityNotFoundException.builder().message(AWSSchemaRegistryConstants.SCHEMA_VERSION_NOT_FOUND_MSG).build();
+
+        when(mockGlueClient.getSchemaByDefinition(getSchemaByDefinitionRequest)).thenThrow(entityNotFoundException);
+
+        schemaByDefinitionFetcher = new SchemaByDefinitionFetcher(awsSchemaRegistryClient, glueSchemaRegistryConfiguration);
+
+        for (int i = 0; i < 3; i++) {
+            Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> schemaByDefinitionFetcher
+                .getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata()));
+            assertEquals(AWSSchemaRegistryConstants.AUTO_REGISTRATION_IS_DISABLED_MSG, exception.getMessage());
+        }
+
+        verify(mockGlueClient, times(1)).getSchemaByDefinition(getSchemaByDefinitionRequest);
+        assertEquals(1, schemaByDefinitionFetcher.schemaNotFoundCache.size());
+    }
+
     @Test
     public void testGetORRegisterSchemaVersionId_retrieveSchemaVersionId_schemaVersionIdIsCached() throws Exception {
         Map<String, String> configs = getConfigsWithAutoRegistrationSetting(false);
@@ -297,10 +343,10 @@ public class SchemaByDefinitionFetcherTest {
 
         awsSchemaRegistryClient = configureAWSSchemaRegistryClientWithSerdeConfig(awsSchemaRegistryClient, glueSchemaRegistryConfiguration);
         schemaByDefinitionFetcher = new SchemaByDefinitionFetcher(awsSchemaRegistryClient, glueSchemaRegistryConfiguration);
-        LoadingCache<Schema, UUID> cache = schemaByDefinitionFetcher.schemaDefinitionToVersionCache;
+        GlueSchemaRegistryLoadingCache<Schema, UUID> cache = schemaByDefinitionFetcher.schemaDefinitionToVersionCache;
 
         //Ensure cache is empty to start with.
-        assertEquals(0, cache.size());
+        assertEquals(0, cache.getCacheSize());
 
         //First call
         schemaByDefinitionFetcher.getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata());
@@ -310,14 +356,12 @@ public class SchemaByDefinitionFetcherTest {
         schemaByDefinitionFetcher.getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata());
 
         //Ensure cache is populated
-        assertEquals(1, cache.size());
+        assertEquals(1, cache.getCacheSize());
 
         Schema expectedSchema = new Schema(userSchemaDefinition, dataFormatName, schemaName);
-        Map.Entry<Schema, UUID> cacheEntry = (Map.Entry<Schema, UUID>) cache.asMap().entrySet().toArray()[0];
 
         //Ensure cache entries are expected
-        assertEquals(expectedSchema, cacheEntry.getKey());
-        assertEquals(SCHEMA_ID_FOR_TESTING, cacheEntry.getValue());
+        assertEquals(SCHEMA_ID_FOR_TESTING, cache.get(expectedSchema));
 
         //Ensure only 1 call happened.
         verify(mockGlueClient, times(1)).getSchemaByDefinition(getSchemaByDefinitionRequest);
@@ -347,10 +391,10 @@ public class SchemaByDefinitionFetcherTest {
 
         awsSchemaRegistryClient = configureAWSSchemaRegistryClientWithSerdeConfig(awsSchemaRegistryClient, glueSchemaRegistryConfiguration);
         schemaByDefinitionFetcher = new SchemaByDefinitionFetcher(awsSchemaRegistryClient, glueSchemaRegistryConfiguration);
-        LoadingCache<Schema, UUID> cache = schemaByDefinitionFetcher.schemaDefinitionToVersionCache;
+        GlueSchemaRegistryLoadingCache<Schema, UUID> cache = schemaByDefinitionFetcher.schemaDefinitionToVersionCache;
 
         //Ensure cache is empty to start with.
-        assertEquals(0, cache.size());
+        assertEquals(0, cache.getCacheSize());
 
         //Mock the client to return response, then fail and eventually succeed.
         when(mockGlueClient.getSchemaByDefinition(getSchemaByDefinitionRequest))
@@ -362,23 +406,143 @@ public class SchemaByDefinitionFetcherTest {
         //First call
         //As expected first call should fetch and cache the schema version.
         assertDoesNotThrow(() -> schemaByDefinitionFetcher.getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata()));
-        assertEquals(1, cache.size());
+        assertEquals(1, cache.getCacheSize());
 
         //Wait for 1.5 seconds to expire cache.
         Thread.sleep(1500L);
 
-        //Second call shouldn't fail.
-        assertDoesNotThrow(() -> schemaByDefinitionFetcher.getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata()));
+        //Second call shouldn't fail, the stale entry is served while it is refreshed in the background.
+        assertEquals(SCHEMA_ID_FOR_TESTING, schemaByDefinitionFetcher.getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata()));
+        verify(mockGlueClient, timeout(1000).times(2)).getSchemaByDefinition(getSchemaByDefinitionRequest);
 
         //Third call shouldn't fail.
-        assertDoesNotThrow(() -> schemaByDefinitionFetcher.getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata()));
+        assertEquals(SCHEMA_ID_FOR_TESTING, schemaByDefinitionFetcher.getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata()));
+        verify(mockGlueClient, timeout(1000).times(3)).getSchemaByDefinition(getSchemaByDefinitionRequest);
 
         //Verify the entry is not evicted.
-        assertEquals(1, cache.size());
+        assertEquals(1, cache.getCacheSize());
 
         //Fourth call shouldn't fail and cache is refreshed.
         assertDoesNotThrow(() -> schemaByDefinitionFetcher.getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata()));
-        verify(mockGlueClient, times(4)).getSchemaByDefinition(getSchemaByDefinitionRequest);
+        verify(mockGlueClient, timeout(1000).times(4)).getSchemaByDefinition(getSchemaByDefinitionRequest);
+    }
+
+    @Test
+    public void testGetORRegisterSchemaVersionId_concurrentMisses_registerSchemaVersionOnce() throws Exception {
+        Map<String, String> configs = getConfigsWithAutoRegistrationSetting(true);
+
+        String schemaName = configs.get(AWSSchemaRegistryConstants.SCHEMA_NAME);
+        String registryName = configs.get(AWSSchemaRegistryConstants.REGISTRY_NAME);
+        String dataFormatName = DataFormat.AVRO.name();
+
+        GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(configs);
+        awsSchemaRegistryClient = configureAWSSchemaRegistryClientWithSerdeConfig(awsSchemaRegistryClient,
+            glueSchemaRegistryConfiguration);
+
+        GetSchemaByDefinitionRequest getSchemaByDefinitionRequest = awsSchemaRegistryClient
+            .buildGetSchemaByDefinitionRequest(userSchemaDefinition, schemaName, registryName);
+        EntityNotFoundException entityNotFoundException =
+            EntityNotFoundException.builder().message(AWSSchemaRegistryConstants.SCHEMA_VERSION_NOT_FOUND_MSG)
+                .build();
+        when(mockGlueClient.getSchemaByDefinition(getSchemaByDefinitionRequest))
+            .thenThrow(new AWSSchemaRegistryException(entityNotFoundException));
+
+        RegisterSchemaVersionResponse registerSchemaVersionResponse = RegisterSchemaVersionResponse.builder()
+            .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+            .versionNumber(1L)
+            .status(AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE.toString())
+            .build();
+        when(mockGlueClient.registerSchemaVersion(any(RegisterSchemaVersionRequest.class))).thenAnswer(invocation -> {
+            Thread.sleep(200L);
+            return registerSchemaVersionResponse;
+        });
+
+        schemaByDefinitionFetcher = new SchemaByDefinitionFetcher(awsSchemaRegistryClient, glueSchemaRegistryConfiguration);
+
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<UUID>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return schemaByDefinitionFetcher
+                        .getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata());
+                }));
+            }
+            startLatch.countDown();
+
+            for (Future<UUID> result : results) {
+                assertEquals(SCHEMA_ID_FOR_TESTING, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(mockGlueClient, times(1)).getSchemaByDefinition(getSchemaByDefinitionRequest);
+        verify(mockGlueClient, times(1)).registerSchemaVersion(any(RegisterSchemaVersionRequest.class));
+        assertTrue(schemaByDefinitionFetcher.inFlightRequests.isEmpty());
+    }
+
+    @Test
+    public void testGetORRegisterSchemaVersionId_requestInFlight_waitsForItsResult() {
+        String dataFormatName = DataFormat.AVRO.name();
+        Schema schema = new Schema(userSchemaDefinition, dataFormatName, "User-Topic");
+        schemaByDefinitionFetcher.inFlightRequests.put(schema, CompletableFuture.completedFuture(SCHEMA_ID_FOR_TESTING));
+
+        assertEquals(SCHEMA_ID_FOR_TESTING, schemaByDefinitionFetcher
+            .getORRegisterSchemaVersionId(userSchemaDefinition, "User-Topic", dataFormatName, getMetadata()));
+        verifyNoInteractions(mockGlueClient);
+    }
+
+    @Test
+    public void testGetORRegisterSchemaVersionId_requestInFlightFails_rethrowsItsException() {
+        String dataFormatName = DataFormat.AVRO.name();
+        Schema schema = new Schema(userSchemaDefinition, dataFormatName, "User-Topic");
+        AWSSchemaRegistryException failure = new AWSSchemaRegistryException("Registration failed");
+        CompletableFuture<UUID> inFlightRequest = new CompletableFuture<>();
+        inFlightRequest.completeExceptionally(failure);
+        schemaByDefinitionFetcher.inFlightRequests.put(schema, inFlightRequest);
+
+        AWSSchemaRegistryException exception = assertThrows(AWSSchemaRegistryException.class,
+            () -> schemaByDefinitionFetcher
+                .getORRegisterSchemaVersionId(userSchemaDefinition, "User-Topic", dataFormatName, getMetadata()));
+        assertSame(failure, exception);
+        verifyNoInteractions(mockGlueClient);
+    }
+
+    @Test
+    public void testPreload_registeredAndUnknownSchemas_cachesRegisteredSchemaWithoutRegistering() throws Exception {
+        Map<String, String> configs = getConfigsWithAutoRegistrationSetting(true);
+        String schemaName = configs.get(AWSSchemaRegistryConstants.SCHEMA_NAME);
+        String registryName = configs.get(AWSSchemaRegistryConstants.REGISTRY_NAME);
+        String dataFormatName = DataFormat.AVRO.name();
+        String unknownSchemaDefinition = "{Unknown-avro-schema}";
+
+        GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(configs);
+        awsSchemaRegistryClient = configureAWSSchemaRegistryClientWithSerdeConfig(awsSchemaRegistryClient,
+            glueSchemaRegistryConfiguration);
+
+        when(mockGlueClient.getSchemaByDefinition(awsSchemaRegistryClient
+            .buildGetSchemaByDefinitionRequest(userSchemaDefinition, schemaName, registryName)))
+            .thenReturn(GetSchemaByDefinitionResponse.builder()
+                .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+                .status(software.amazon.awssdk.services.glue.model.SchemaVersionStatus.AVAILABLE)
+                .build());
+        when(mockGlueClient.getSchemaByDefinition(awsSchemaRegistryClient
+            .buildGetSchemaByDefinitionRequest(unknownSchemaDefinition, schemaName, registryName)))
+            .thenThrow(EntityNotFoundException.builder()
+                .message(AWSSchemaRegistryConstants.SCHEMA_VERSION_NOT_FOUND_MSG).build());
+
+        schemaByDefinitionFetcher = new SchemaByDefinitionFetcher(awsSchemaRegistryClient, glueSchemaRegistryConfiguration);
+
+        Schema schema = new Schema(userSchemaDefinition, dataFormatName, schemaName);
+        assertEquals(1, schemaByDefinitionFetcher.preload(
+            Arrays.asList(schema, new Schema(unknownSchemaDefinition, dataFormatName, schemaName))));
+
+        assertEquals(SCHEMA_ID_FOR_TESTING, schemaByDefinitionFetcher.schemaDefinitionToVersionCache.get(schema));
+        verify(mockGlueClient, times(0)).registerSchemaVersion(any(RegisterSchemaVersionRequest.class));
     }
 
     private Map<String, String> getConfigsWithAutoRegistrationSetting(boolean autoRegistrationSetting) {
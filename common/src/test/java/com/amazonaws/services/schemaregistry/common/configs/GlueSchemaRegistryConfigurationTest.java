@@ -16,24 +16,38 @@
 package com.amazonaws.services.schemaregistry.common.configs;
 
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.metrics.JmxGlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.metrics.MicrometerGlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.metrics.NoOpGlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTracer;
+import com.amazonaws.services.schemaregistry.tracing.NoOpGlueSchemaRegistryTracer;
+import com.amazonaws.services.schemaregistry.tracing.OpenTelemetryGlueSchemaRegistryTracer;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.amazonaws.services.schemaregistry.utils.AvroRecordType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import software.amazon.awssdk.services.glue.model.Compatibility;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -166,6 +180,403 @@ public class GlueSchemaRegistryConfigurationTest {
         assertEquals("Cache size property is not a valid size : Random String", exception.getMessage());
     }
 
+    /**
+     * Tests valid compressionPoolSize value.
+     */
+    @Test
+    public void testBuildConfig_validCompressionPoolSize_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.COMPRESSION_POOL_SIZE, "8");
+
+        assertEquals(8, new GlueSchemaRegistryConfiguration(props).getCompressionPoolSize());
+    }
+
+    /**
+     * Tests invalid compressionPoolSize values.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"Random String", "-1"})
+    public void testBuildConfig_invalidCompressionPoolSize_throwsException(String poolSize) {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.COMPRESSION_POOL_SIZE, poolSize);
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+
+        assertEquals("Compression pool size property is not a valid size : " + poolSize, exception.getMessage());
+    }
+
+    /**
+     * Tests valid maxDecompressedSize value.
+     */
+    @Test
+    public void testBuildConfig_validMaxDecompressedSize_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.MAX_DECOMPRESSED_SIZE, "1048576");
+
+        assertEquals(1048576, new GlueSchemaRegistryConfiguration(props).getMaxDecompressedSize());
+    }
+
+    /**
+     * Tests invalid maxDecompressedSize values.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"Random String", "0", "-1"})
+    public void testBuildConfig_invalidMaxDecompressedSize_throwsException(String maxDecompressedSize) {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.MAX_DECOMPRESSED_SIZE, maxDecompressedSize);
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+
+        assertEquals("Max decompressed size property is not a valid size : " + maxDecompressedSize,
+                     exception.getMessage());
+    }
+
+    /**
+     * Tests valid cacheRefreshJitterPercent and negativeCacheTimeToLiveMillis values.
+     */
+    @Test
+    public void testBuildConfig_validStaleWhileRevalidateSettings_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.CACHE_REFRESH_JITTER_PERCENT, "25");
+        props.put(AWSSchemaRegistryConstants.NEGATIVE_CACHE_TIME_TO_LIVE_MILLIS, "0");
+
+        GlueSchemaRegistryConfiguration configuration = new GlueSchemaRegistryConfiguration(props);
+
+        assertEquals(25, configuration.getCacheRefreshJitterPercent());
+        assertEquals(0L, configuration.getNegativeCacheTimeToLiveMillis());
+    }
+
+    /**
+     * Tests invalid cacheRefreshJitterPercent values.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"Random String", "-1", "100"})
+    public void testBuildConfig_invalidCacheRefreshJitterPercent_throwsException(String jitterPercent) {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.CACHE_REFRESH_JITTER_PERCENT, jitterPercent);
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+
+        assertEquals("Cache refresh jitter percent property is not a valid percentage : " + jitterPercent,
+                     exception.getMessage());
+    }
+
+    /**
+     * Tests invalid negativeCacheTimeToLiveMillis values.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"Random String", "-1"})
+    public void testBuildConfig_invalidNegativeCacheTimeToLive_throwsException(String timeToLive) {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.NEGATIVE_CACHE_TIME_TO_LIVE_MILLIS, timeToLive);
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+
+        assertEquals("Negative cache time to live property is not a valid time : " + timeToLive, exception.getMessage());
+    }
+
+    /**
+     * Tests valid data format cache sizes and maximum weight.
+     */
+    @Test
+    public void testBuildConfig_validDataFormatCacheSettings_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.AVRO_DATUM_WRITER_CACHE_SIZE, "10");
+        props.put(AWSSchemaRegistryConstants.AVRO_DATUM_READER_CACHE_SIZE, "20");
+        props.put(AWSSchemaRegistryConstants.PROTOBUF_SCHEMA_GENERATOR_CACHE_SIZE, "30");
+        props.put(AWSSchemaRegistryConstants.PROTOBUF_SCHEMA_PARSER_CACHE_SIZE, "40");
+        props.put(AWSSchemaRegistryConstants.JSON_SCHEMA_VALIDATOR_CACHE_SIZE, "50");
+        props.put(AWSSchemaRegistryConstants.JSON_SCHEMA_READER_CACHE_SIZE, "60");
+        props.put(AWSSchemaRegistryConstants.DATA_FORMAT_CACHE_MAXIMUM_WEIGHT_BYTES, "1048576");
+
+        GlueSchemaRegistryConfiguration configuration = new GlueSchemaRegistryConfiguration(props);
+
+        assertEquals(10, configuration.getAvroDatumWriterCacheSize());
+        assertEquals(20, configuration.getAvroDatumReaderCacheSize());
+        assertEquals(30, configuration.getProtobufSchemaGeneratorCacheSize());
+        assertEquals(40, configuration.getProtobufSchemaParserCacheSize());
+        assertEquals(50, configuration.getJsonSchemaValidatorCacheSize());
+        assertEquals(60, configuration.getJsonSchemaReaderCacheSize());
+        assertEquals(1048576L, configuration.getDataFormatCacheMaximumWeightBytes());
+    }
+
+    /**
+     * Tests invalid data format cache sizes.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"Random String", "0", "-1"})
+    public void testBuildConfig_invalidDataFormatCacheSize_throwsException(String cacheSize) {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.AVRO_DATUM_READER_CACHE_SIZE, cacheSize);
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+
+        assertEquals(AWSSchemaRegistryConstants.AVRO_DATUM_READER_CACHE_SIZE + " property is not a valid cache size : "
+                     + cacheSize, exception.getMessage());
+    }
+
+    /**
+     * Tests invalid dataFormatCacheMaximumWeightBytes values.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"Random String", "-1"})
+    public void testBuildConfig_invalidDataFormatCacheMaximumWeight_throwsException(String maximumWeight) {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.DATA_FORMAT_CACHE_MAXIMUM_WEIGHT_BYTES, maximumWeight);
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+
+        assertEquals("Data format cache maximum weight property is not a valid size : " + maximumWeight,
+                     exception.getMessage());
+    }
+
+    /**
+     * Tests metrics provider names and instances.
+     */
+    @Test
+    public void testBuildConfig_metricsProvider_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, "jmx");
+        assertSame(JmxGlueSchemaRegistryMetrics.getInstance(), new GlueSchemaRegistryConfiguration(props).getMetrics());
+
+        props.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, "MICROMETER");
+        assertTrue(new GlueSchemaRegistryConfiguration(props).getMetrics() instanceof MicrometerGlueSchemaRegistryMetrics);
+
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        GlueSchemaRegistryMetrics metrics = new MicrometerGlueSchemaRegistryMetrics(new SimpleMeterRegistry());
+        configs.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, metrics);
+        assertSame(metrics, new GlueSchemaRegistryConfiguration(configs).getMetrics());
+    }
+
+    /**
+     * Tests invalid metrics provider.
+     */
+    @Test
+    public void testBuildConfig_invalidMetricsProvider_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, "statsd");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+
+        assertEquals("Invalid metrics provider : statsd, accepted values are : [NONE, JMX, MICROMETER]",
+                     exception.getMessage());
+    }
+
+    /**
+     * Tests tracing provider names, instances and sample rate.
+     */
+    @Test
+    public void testBuildConfig_tracing_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.TRACING_PROVIDER, "opentelemetry");
+        props.put(AWSSchemaRegistryConstants.TRACING_SAMPLE_RATE, "0.5");
+        GlueSchemaRegistryConfiguration configuration = new GlueSchemaRegistryConfiguration(props);
+        assertTrue(configuration.getTracer() instanceof OpenTelemetryGlueSchemaRegistryTracer);
+        assertEquals(0.5, configuration.getTracingSampleRate());
+
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        GlueSchemaRegistryTracer tracer = trace -> { };
+        configs.put(AWSSchemaRegistryConstants.TRACING_PROVIDER, tracer);
+        assertSame(tracer, new GlueSchemaRegistryConfiguration(configs).getTracer());
+    }
+
+    /**
+     * Tests invalid tracing provider.
+     */
+    @Test
+    public void testBuildConfig_invalidTracingProvider_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.TRACING_PROVIDER, "zipkin");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+
+        assertEquals("Invalid tracing provider : zipkin, accepted values are : [NONE, OPENTELEMETRY]",
+                     exception.getMessage());
+    }
+
+    /**
+     * Tests invalid tracingSampleRate values.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"Random String", "-0.1", "1.5", "NaN"})
+    public void testBuildConfig_invalidTracingSampleRate_throwsException(String sampleRate) {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.TRACING_SAMPLE_RATE, sampleRate);
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+
+        assertEquals("Tracing sample rate property is not a valid probability : " + sampleRate, exception.getMessage());
+    }
+
+    /**
+     * Tests reuseDecompressionBuffer value.
+     */
+    @Test
+    public void testBuildConfig_reuseDecompressionBuffer_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.REUSE_DECOMPRESSION_BUFFER, "true");
+
+        assertTrue(new GlueSchemaRegistryConfiguration(props).isReuseDecompressionBuffer());
+    }
+
+    /**
+     * Tests jsonEnvelopeType value.
+     */
+    @Test
+    public void testBuildConfig_jsonEnvelopeType_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.JSON_ENVELOPE_TYPE, "lazy");
+
+        assertEquals(AWSSchemaRegistryConstants.JsonEnvelopeType.LAZY,
+                     new GlueSchemaRegistryConfiguration(props).getJsonEnvelopeType());
+    }
+
+    /**
+     * Tests invalid jsonEnvelopeType value.
+     */
+    @Test
+    public void testBuildConfig_invalidJsonEnvelopeType_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.JSON_ENVELOPE_TYPE, "unknown");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                                           () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("Invalid JSON envelope type : unknown, accepted values are : [DATA_WITH_SCHEMA, LAZY]",
+                     exception.getMessage());
+    }
+
+    /**
+     * Tests jsonValidationEngine value.
+     */
+    @Test
+    public void testBuildConfig_jsonValidationEngine_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.JSON_VALIDATION_ENGINE, "jackson_tree");
+
+        assertEquals(AWSSchemaRegistryConstants.JsonValidationEngine.JACKSON_TREE,
+                     new GlueSchemaRegistryConfiguration(props).getJsonValidationEngine());
+    }
+
+    /**
+     * Tests invalid jsonValidationEngine value.
+     */
+    @Test
+    public void testBuildConfig_invalidJsonValidationEngine_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.JSON_VALIDATION_ENGINE, "unknown");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                                           () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("Invalid JSON validation engine : unknown, accepted values are : [EVERIT, JACKSON_TREE]",
+                     exception.getMessage());
+    }
+
+    /**
+     * Tests JSON validation policy values.
+     */
+    @Test
+    public void testBuildConfig_jsonValidationPolicy_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.JSON_VALIDATION_POLICY, "first_n_per_schema");
+        props.put(AWSSchemaRegistryConstants.JSON_VALIDATION_RECORDS_PER_SCHEMA, "5");
+        props.put(AWSSchemaRegistryConstants.JSON_VALIDATION_SAMPLE_RATE, "0.5");
+
+        GlueSchemaRegistryConfiguration configuration = new GlueSchemaRegistryConfiguration(props);
+
+        assertEquals(AWSSchemaRegistryConstants.JsonValidationPolicy.FIRST_N_PER_SCHEMA,
+                     configuration.getJsonValidationPolicy());
+        assertEquals(5, configuration.getJsonValidationRecordsPerSchema());
+        assertEquals(0.5, configuration.getJsonValidationSampleRate());
+    }
+
+    /**
+     * Tests invalid JSON validation policy values.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+        AWSSchemaRegistryConstants.JSON_VALIDATION_POLICY + "=unknown",
+        AWSSchemaRegistryConstants.JSON_VALIDATION_RECORDS_PER_SCHEMA + "=-1",
+        AWSSchemaRegistryConstants.JSON_VALIDATION_RECORDS_PER_SCHEMA + "=many",
+        AWSSchemaRegistryConstants.JSON_VALIDATION_SAMPLE_RATE + "=1.5",
+        AWSSchemaRegistryConstants.JSON_VALIDATION_SAMPLE_RATE + "=half"
+    })
+    public void testBuildConfig_invalidJsonValidationPolicy_throwsException(String setting) {
+        Properties props = createTestProperties();
+        String[] keyAndValue = setting.split("=");
+        props.put(keyAndValue[0], keyAndValue[1]);
+
+        assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+    }
+
+    /**
+     * Tests reuseAvroDecoder value.
+     */
+    @Test
+    public void testBuildConfig_reuseAvroDecoder_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.REUSE_AVRO_DECODER, "true");
+
+        assertTrue(new GlueSchemaRegistryConfiguration(props).isReuseAvroDecoder());
+    }
+
+    /**
+     * Tests persistentSchemaCachePath value.
+     */
+    @Test
+    public void testBuildConfig_persistentSchemaCachePath_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.PERSISTENT_SCHEMA_CACHE_PATH, "/var/cache/schemas.cache");
+
+        assertEquals("/var/cache/schemas.cache",
+                     new GlueSchemaRegistryConfiguration(props).getPersistentSchemaCachePath());
+    }
+
+    /**
+     * Tests blank persistentSchemaCachePath value.
+     */
+    @Test
+    public void testBuildConfig_blankPersistentSchemaCachePath_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.PERSISTENT_SCHEMA_CACHE_PATH, " ");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+
+        assertEquals("Persistent schema cache path property is empty", exception.getMessage());
+    }
+
+    /**
+     * Tests preloadSchemaVersionIds and preloadSchemaNames values.
+     */
+    @Test
+    public void testBuildConfig_preloadSchemas_succeeds() {
+        UUID first = UUID.fromString("b7b4a7f0-9c96-4e4a-a687-fb5de9ef0c63");
+        UUID second = UUID.fromString("f8b4a7f0-9c96-4e4a-a687-fb5de9ef0c63");
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMA_VERSION_IDS, first + " , " + second + ",");
+        configs.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMA_NAMES, Arrays.asList("User", "other-registry/Employee"));
+
+        GlueSchemaRegistryConfiguration configuration = new GlueSchemaRegistryConfiguration(configs);
+
+        assertEquals(Arrays.asList(first, second), configuration.getPreloadSchemaVersionIds());
+        assertEquals(Arrays.asList("User", "other-registry/Employee"), configuration.getPreloadSchemaNames());
+    }
+
+    /**
+     * Tests invalid preloadSchemaVersionIds value.
+     */
+    @Test
+    public void testBuildConfig_invalidPreloadSchemaVersionId_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMA_VERSION_IDS, "not-a-uuid");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+
+        assertEquals("Preload schema version id is not a valid UUID : not-a-uuid", exception.getMessage());
+    }
+
     /**
      * Tests default values are used if not passed
      */
@@ -176,6 +587,28 @@ public class GlueSchemaRegistryConfigurationTest {
 
         GlueSchemaRegistryConfiguration serDeConfigs = new GlueSchemaRegistryConfiguration(props);
         assertNotNull(serDeConfigs.getCacheSize());
+        assertEquals(0, serDeConfigs.getCompressionPoolSize());
+        assertEquals(AWSSchemaRegistryConstants.DEFAULT_MAX_DECOMPRESSED_SIZE, serDeConfigs.getMaxDecompressedSize());
+        assertFalse(serDeConfigs.isReuseDecompressionBuffer());
+        assertFalse(serDeConfigs.isReuseAvroDecoder());
+        assertNull(serDeConfigs.getPersistentSchemaCachePath());
+        assertEquals(10, serDeConfigs.getCacheRefreshJitterPercent());
+        assertEquals(5000L, serDeConfigs.getNegativeCacheTimeToLiveMillis());
+        assertEquals(100, serDeConfigs.getAvroDatumReaderCacheSize());
+        assertEquals(100, serDeConfigs.getProtobufSchemaParserCacheSize());
+        assertEquals(100, serDeConfigs.getJsonSchemaValidatorCacheSize());
+        assertEquals(100, serDeConfigs.getJsonSchemaReaderCacheSize());
+        assertEquals(AWSSchemaRegistryConstants.JsonEnvelopeType.DATA_WITH_SCHEMA, serDeConfigs.getJsonEnvelopeType());
+        assertEquals(AWSSchemaRegistryConstants.JsonValidationEngine.EVERIT, serDeConfigs.getJsonValidationEngine());
+        assertEquals(AWSSchemaRegistryConstants.JsonValidationPolicy.ALWAYS, serDeConfigs.getJsonValidationPolicy());
+        assertEquals(100, serDeConfigs.getJsonValidationRecordsPerSchema());
+        assertEquals(0.01, serDeConfigs.getJsonValidationSampleRate());
+        assertEquals(0L, serDeConfigs.getDataFormatCacheMaximumWeightBytes());
+        assertSame(NoOpGlueSchemaRegistryMetrics.INSTANCE, serDeConfigs.getMetrics());
+        assertSame(NoOpGlueSchemaRegistryTracer.INSTANCE, serDeConfigs.getTracer());
+        assertEquals(0.01, serDeConfigs.getTracingSampleRate());
+        assertTrue(serDeConfigs.getPreloadSchemaVersionIds().isEmpty());
+        assertTrue(serDeConfigs.getPreloadSchemaNames().isEmpty());
         assertNotNull(serDeConfigs.getTimeToLiveMillis());
         assertNotNull(serDeConfigs.getCompressionType().equals(AWSSchemaRegistryConstants.COMPRESSION.NONE));
         assertNotNull(serDeConfigs.getCompatibilitySetting().equals(Compatibility.NONE));
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.metrics;
+
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants.MetricsProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for creating the metrics of a provider.
+ */
+public class GlueSchemaRegistryMetricsFactoryTest {
+    @Test
+    public void testCreate_metricsProviders_createsProviderMetrics() {
+        assertSame(NoOpGlueSchemaRegistryMetrics.INSTANCE, GlueSchemaRegistryMetricsFactory.create(MetricsProvider.NONE));
+        assertSame(JmxGlueSchemaRegistryMetrics.getInstance(),
+                   GlueSchemaRegistryMetricsFactory.create(MetricsProvider.JMX));
+        assertTrue(GlueSchemaRegistryMetricsFactory.create(MetricsProvider.MICROMETER)
+                       instanceof MicrometerGlueSchemaRegistryMetrics);
+        assertTrue(GlueSchemaRegistryMetricsFactory.isMicrometerAvailable());
+    }
+
+    @Test
+    public void testCreate_nullProvider_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> GlueSchemaRegistryMetricsFactory.create(null));
+    }
+
+    @Test
+    public void testNoOpMetrics_ignoresMeasurements() {
+        NoOpGlueSchemaRegistryMetrics metrics = NoOpGlueSchemaRegistryMetrics.INSTANCE;
+        metrics.recordTime("name", 1);
+        metrics.recordAmount("name", 1);
+        metrics.increment("name");
+        metrics.registerGauge("name", new AtomicLong(), AtomicLong::get);
+
+        assertFalse(metrics.isEnabled());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the JMX metrics.
+ */
+public class JmxGlueSchemaRegistryMetricsTest {
+    private static final String DOMAIN = "com.amazonaws.services.schemaregistry.test";
+    private static final String NAME = "glue.schema.registry.test";
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    private final JmxGlueSchemaRegistryMetrics metrics = new JmxGlueSchemaRegistryMetrics(mBeanServer, DOMAIN);
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        for (ObjectName objectName : mBeanServer.queryNames(new ObjectName(DOMAIN + ":*"), null)) {
+            mBeanServer.unregisterMBean(objectName);
+        }
+    }
+
+    @Test
+    public void testRecordTime_recordsStatisticsInMillis() throws Exception {
+        metrics.recordTime(NAME, TimeUnit.MILLISECONDS.toNanos(10), "dataFormat", "AVRO");
+        metrics.recordTime(NAME, TimeUnit.MILLISECONDS.toNanos(30), "dataFormat", "AVRO");
+
+        ObjectName objectName = new ObjectName(DOMAIN + ":type=Timer,name=" + NAME + ",dataFormat=AVRO");
+        assertEquals(2L, mBeanServer.getAttribute(objectName, "Count"));
+        assertEquals(40.0, mBeanServer.getAttribute(objectName, "Total"));
+        assertEquals(30.0, mBeanServer.getAttribute(objectName, "Max"));
+        assertEquals(20.0, mBeanServer.getAttribute(objectName, "Mean"));
+    }
+
+    @Test
+    public void testRecordAmount_quotesTagValues() throws Exception {
+        metrics.recordAmount(NAME, 100, "operation", "a,b");
+
+        ObjectName objectName = new ObjectName(
+            DOMAIN + ":type=DistributionSummary,name=" + NAME + ",operation=" + ObjectName.quote("a,b"));
+        assertEquals(1L, mBeanServer.getAttribute(objectName, "Count"));
+        assertEquals(100.0, mBeanServer.getAttribute(objectName, "Max"));
+    }
+
+    @Test
+    public void testIncrement_countsPerTags() throws Exception {
+        metrics.increment(NAME, "errorType", "A");
+        metrics.increment(NAME, "errorType", "A");
+        metrics.increment(NAME, "errorType", "B");
+
+        assertEquals(2L, mBeanServer.getAttribute(
+            new ObjectName(DOMAIN + ":type=Counter,name=" + NAME + ",errorType=A"), "Count"));
+        assertEquals(1L, mBeanServer.getAttribute(
+            new ObjectName(DOMAIN + ":type=Counter,name=" + NAME + ",errorType=B"), "Count"));
+    }
+
+    @Test
+    public void testRegisterGauge_replacesPreviousGauge() throws Exception {
+        AtomicLong first = new AtomicLong(1);
+        AtomicLong second = new AtomicLong(2);
+        ObjectName objectName = new ObjectName(DOMAIN + ":type=Gauge,name=" + NAME + ",cache=schema");
+
+        metrics.registerGauge(NAME, first, AtomicLong::get, "cache", "schema");
+        assertEquals(1.0, mBeanServer.getAttribute(objectName, "Value"));
+
+        metrics.registerGauge(NAME, second, AtomicLong::get, "cache", "schema");
+        second.set(3);
+        assertEquals(3.0, mBeanServer.getAttribute(objectName, "Value"));
+    }
+
+    @Test
+    public void testRegisterGauge_collectedObject_unregistersItsGauge() throws Exception {
+        ObjectName collectedName = new ObjectName(DOMAIN + ":type=Gauge,name=" + NAME + ",instance=collected");
+        WeakReference<AtomicLong> collected = registerCollectableGauge();
+        assumeTrue(awaitCollection(collected));
+
+        AtomicLong live = new AtomicLong(1);
+        metrics.registerGauge(NAME, live, AtomicLong::get, "instance", "live");
+
+        assertFalse(mBeanServer.isRegistered(collectedName));
+        assertEquals(1.0, mBeanServer.getAttribute(
+            new ObjectName(DOMAIN + ":type=Gauge,name=" + NAME + ",instance=live"), "Value"));
+    }
+
+    @Test
+    public void testRecord_oddTags_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> metrics.increment(NAME, "dataFormat"));
+    }
+
+    @Test
+    public void testGetInstance_returnsSharedInstance() {
+        assertSame(JmxGlueSchemaRegistryMetrics.getInstance(), JmxGlueSchemaRegistryMetrics.getInstance());
+        assertTrue(JmxGlueSchemaRegistryMetrics.getInstance().isEnabled());
+    }
+
+    private WeakReference<AtomicLong> registerCollectableGauge() {
+        AtomicLong value = new AtomicLong(1);
+        metrics.registerGauge(NAME, value, AtomicLong::get, "instance", "collected");
+        return new WeakReference<>(value);
+    }
+
+    static boolean awaitCollection(WeakReference<?> reference) throws InterruptedException {
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        return reference.get() == null;
+    }
+}
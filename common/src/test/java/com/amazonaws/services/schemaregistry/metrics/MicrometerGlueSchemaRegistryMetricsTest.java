@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the Micrometer metrics.
+ */
+public class MicrometerGlueSchemaRegistryMetricsTest {
+    private static final String NAME = "glue.schema.registry.test";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MicrometerGlueSchemaRegistryMetrics metrics = new MicrometerGlueSchemaRegistryMetrics(meterRegistry);
+
+    @Test
+    public void testRecordTime_registersTimerWithTags() {
+        metrics.recordTime(NAME, TimeUnit.MILLISECONDS.toNanos(10), "dataFormat", "AVRO");
+        metrics.recordTime(NAME, TimeUnit.MILLISECONDS.toNanos(20), "dataFormat", "AVRO");
+
+        Timer timer = meterRegistry.get(NAME).tag("dataFormat", "AVRO").timer();
+        assertEquals(2, timer.count());
+        assertEquals(30.0, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testRecordAmount_registersSummaryInBytes() {
+        metrics.recordAmount(NAME, 100, "dataFormat", "JSON");
+
+        DistributionSummary summary = meterRegistry.get(NAME).tag("dataFormat", "JSON").summary();
+        assertEquals(1, summary.count());
+        assertEquals(100.0, summary.totalAmount());
+        assertEquals("bytes", summary.getId().getBaseUnit());
+    }
+
+    @Test
+    public void testIncrement_countsPerTags() {
+        metrics.increment(NAME, "errorType", "A");
+        metrics.increment(NAME, "errorType", "A");
+        metrics.increment(NAME, "errorType", "B");
+
+        assertEquals(2.0, meterRegistry.get(NAME).tag("errorType", "A").counter().count());
+        assertEquals(1.0, meterRegistry.get(NAME).tag("errorType", "B").counter().count());
+    }
+
+    @Test
+    public void testRegisterGauge_reportsCurrentValue() {
+        AtomicLong value = new AtomicLong(1);
+        metrics.registerGauge(NAME, value, AtomicLong::get, "cache", "schema");
+        value.set(5);
+
+        assertEquals(5.0, meterRegistry.get(NAME).tag("cache", "schema").gauge().value());
+    }
+
+    @Test
+    public void testRegisterGauge_collectedObject_removesItsGauge() throws Exception {
+        WeakReference<AtomicLong> collected = registerCollectableGauge();
+        assumeTrue(JmxGlueSchemaRegistryMetricsTest.awaitCollection(collected));
+
+        metrics.registerGauge(NAME, new AtomicLong(1), AtomicLong::get, "instance", "live");
+
+        assertNull(meterRegistry.find(NAME).tag("instance", "collected").gauge());
+        assertNotNull(meterRegistry.find(NAME).tag("instance", "live").gauge());
+    }
+
+    @Test
+    public void testRecord_oddTags_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> metrics.recordAmount(NAME, 1, "dataFormat"));
+    }
+
+    @Test
+    public void testGlobal_createsMetrics() {
+        assertNotNull(MicrometerGlueSchemaRegistryMetrics.global());
+    }
+
+    private WeakReference<AtomicLong> registerCollectableGauge() {
+        AtomicLong value = new AtomicLong(1);
+        metrics.registerGauge(NAME, value, AtomicLong::get, "instance", "collected");
+        return new WeakReference<>(value);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.tracing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for sampling and collecting traces.
+ */
+public class GlueSchemaRegistryTraceSamplerTest {
+    private final List<GlueSchemaRegistryTrace> traces = new ArrayList<>();
+    private final GlueSchemaRegistryTracer tracer = traces::add;
+
+    @Test
+    public void testStart_sampled_collectsPhasesAndEmitsTrace() {
+        GlueSchemaRegistryTraceSampler sampler = new GlueSchemaRegistryTraceSampler(tracer, 1.0);
+
+        GlueSchemaRegistryTrace trace = sampler.start(GlueSchemaRegistryTrace.OPERATION_DESERIALIZE);
+        assertSame(trace, GlueSchemaRegistryTrace.current());
+        trace.setDataFormat("AVRO");
+        long start = trace.now();
+        assertTrue(start > 0);
+        trace.endPhase(GlueSchemaRegistryTrace.PHASE_HEADER_PARSE, start);
+        GlueSchemaRegistryTrace.current().endPhase(GlueSchemaRegistryTrace.PHASE_DECOMPRESSION, trace.now());
+        IllegalStateException error = new IllegalStateException();
+        trace.setError(error);
+        sampler.finish(trace);
+
+        assertSame(GlueSchemaRegistryTrace.DISABLED, GlueSchemaRegistryTrace.current());
+        assertEquals(1, traces.size());
+        assertEquals(GlueSchemaRegistryTrace.OPERATION_DESERIALIZE, trace.getOperation());
+        assertEquals("AVRO", trace.getDataFormat());
+        assertSame(error, trace.getError());
+        assertTrue(trace.getStartEpochNanos() > 0);
+        assertEquals(2, trace.getPhases().size());
+        GlueSchemaRegistryTrace.Phase phase = trace.getPhases().get(0);
+        assertEquals(GlueSchemaRegistryTrace.PHASE_HEADER_PARSE, phase.getName());
+        assertTrue(phase.getStartOffsetNanos() >= 0);
+        assertTrue(phase.getStartOffsetNanos() + phase.getDurationNanos() <= trace.getDurationNanos());
+        assertEquals(GlueSchemaRegistryTrace.PHASE_DECOMPRESSION, trace.getPhases().get(1).getName());
+    }
+
+    @Test
+    public void testStart_nestedOperation_restoresOuterTrace() {
+        GlueSchemaRegistryTraceSampler sampler = new GlueSchemaRegistryTraceSampler(tracer, 1.0);
+
+        GlueSchemaRegistryTrace outer = sampler.start(GlueSchemaRegistryTrace.OPERATION_ENCODE);
+        GlueSchemaRegistryTrace inner = sampler.start(GlueSchemaRegistryTrace.OPERATION_SERIALIZE);
+        assertSame(inner, GlueSchemaRegistryTrace.current());
+        sampler.finish(inner);
+        assertSame(outer, GlueSchemaRegistryTrace.current());
+        sampler.finish(outer);
+
+        assertSame(GlueSchemaRegistryTrace.DISABLED, GlueSchemaRegistryTrace.current());
+        assertEquals(2, traces.size());
+    }
+
+    @Test
+    public void testStart_disabled_returnsDisabledTrace() {
+        GlueSchemaRegistryTraceSampler noSampling = new GlueSchemaRegistryTraceSampler(tracer, 0.0);
+        GlueSchemaRegistryTraceSampler noTracer =
+            new GlueSchemaRegistryTraceSampler(NoOpGlueSchemaRegistryTracer.INSTANCE, 1.0);
+
+        GlueSchemaRegistryTrace trace = noSampling.start(GlueSchemaRegistryTrace.OPERATION_SERIALIZE);
+        assertSame(GlueSchemaRegistryTrace.DISABLED, trace);
+        assertSame(GlueSchemaRegistryTrace.DISABLED, noTracer.start(GlueSchemaRegistryTrace.OPERATION_SERIALIZE));
+
+        assertFalse(trace.isSampled());
+        assertEquals(0L, trace.now());
+        trace.endPhase(GlueSchemaRegistryTrace.PHASE_FORMAT_ENCODE, 0L);
+        trace.setDataFormat("AVRO");
+        trace.setError(new IllegalStateException());
+        noSampling.finish(trace);
+
+        assertTrue(trace.getPhases().isEmpty());
+        assertNull(trace.getDataFormat());
+        assertNull(trace.getError());
+        assertTrue(traces.isEmpty());
+    }
+
+    @Test
+    public void testStart_partialSampleRate_samplesSomeOperations() {
+        GlueSchemaRegistryTraceSampler sampler = new GlueSchemaRegistryTraceSampler(tracer, 0.5);
+
+        for (int i = 0; i < 1000; i++) {
+            sampler.finish(sampler.start(GlueSchemaRegistryTrace.OPERATION_SERIALIZE));
+        }
+
+        assertTrue(traces.size() > 0 && traces.size() < 1000);
+    }
+
+    @Test
+    public void testFinish_tracerThrows_ignoresFailure() {
+        GlueSchemaRegistryTraceSampler sampler = new GlueSchemaRegistryTraceSampler(trace -> {
+            throw new IllegalStateException("exporter failure");
+        }, 1.0);
+
+        sampler.finish(sampler.start(GlueSchemaRegistryTrace.OPERATION_SERIALIZE));
+
+        assertSame(GlueSchemaRegistryTrace.DISABLED, GlueSchemaRegistryTrace.current());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.1, 1.1, Double.NaN})
+    public void testConstructor_invalidSampleRate_throwsException(double sampleRate) {
+        assertThrows(IllegalArgumentException.class, () -> new GlueSchemaRegistryTraceSampler(tracer, sampleRate));
+    }
+
+    @Test
+    public void testConstructor_nullTracer_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new GlueSchemaRegistryTraceSampler(null, 1.0));
+    }
+}
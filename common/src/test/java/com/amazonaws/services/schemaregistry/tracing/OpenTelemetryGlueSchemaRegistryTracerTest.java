@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.tracing;
+
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants.TracingProvider;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for emitting traces as OpenTelemetry spans.
+ */
+public class OpenTelemetryGlueSchemaRegistryTracerTest {
+    private final InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+    private final OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+        .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(spanExporter)).build())
+        .build();
+    private final GlueSchemaRegistryTraceSampler sampler =
+        new GlueSchemaRegistryTraceSampler(new OpenTelemetryGlueSchemaRegistryTracer(openTelemetry), 1.0);
+
+    @Test
+    public void testOnTrace_emitsOperationSpanWithPhaseSpans() {
+        GlueSchemaRegistryTrace trace = sampler.start(GlueSchemaRegistryTrace.OPERATION_DESERIALIZE);
+        trace.setDataFormat("AVRO");
+        trace.endPhase(GlueSchemaRegistryTrace.PHASE_HEADER_PARSE, trace.now());
+        trace.endPhase(GlueSchemaRegistryTrace.PHASE_SCHEMA_LOOKUP, trace.now());
+        sampler.finish(trace);
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertEquals(3, spans.size());
+        SpanData operationSpan = spans.get(2);
+        assertEquals("glue.schema.registry.deserialize", operationSpan.getName());
+        assertEquals("AVRO", operationSpan.getAttributes().get(OpenTelemetryGlueSchemaRegistryTracer.DATA_FORMAT));
+        assertEquals(StatusCode.UNSET, operationSpan.getStatus().getStatusCode());
+        assertEquals(trace.getStartEpochNanos(), operationSpan.getStartEpochNanos());
+        assertEquals(trace.getStartEpochNanos() + trace.getDurationNanos(), operationSpan.getEndEpochNanos());
+
+        SpanData headerParseSpan = spans.get(0);
+        assertEquals("glue.schema.registry.headerParse", headerParseSpan.getName());
+        assertEquals("glue.schema.registry.schemaLookup", spans.get(1).getName());
+        assertEquals(operationSpan.getSpanId(), headerParseSpan.getParentSpanId());
+        assertEquals(operationSpan.getTraceId(), headerParseSpan.getTraceId());
+        assertTrue(headerParseSpan.getStartEpochNanos() >= operationSpan.getStartEpochNanos());
+        assertTrue(headerParseSpan.getEndEpochNanos() <= operationSpan.getEndEpochNanos());
+    }
+
+    @Test
+    public void testOnTrace_failedOperation_recordsError() {
+        GlueSchemaRegistryTrace trace = sampler.start(GlueSchemaRegistryTrace.OPERATION_SERIALIZE);
+        trace.setError(new IllegalStateException("serialization failure"));
+        sampler.finish(trace);
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertEquals(1, spans.size());
+        assertEquals(StatusCode.ERROR, spans.get(0).getStatus().getStatusCode());
+        assertEquals(1, spans.get(0).getEvents().size());
+    }
+
+    @Test
+    public void testCreate_tracingProviders_createsProviderTracer() {
+        assertSame(NoOpGlueSchemaRegistryTracer.INSTANCE, GlueSchemaRegistryTracerFactory.create(TracingProvider.NONE));
+        assertTrue(GlueSchemaRegistryTracerFactory.create(TracingProvider.OPENTELEMETRY)
+                       instanceof OpenTelemetryGlueSchemaRegistryTracer);
+        assertTrue(GlueSchemaRegistryTracerFactory.isOpenTelemetryAvailable());
+        assertThrows(IllegalArgumentException.class, () -> GlueSchemaRegistryTracerFactory.create(null));
+    }
+
+    @Test
+    public void testNoOpTracer_isDisabled() {
+        NoOpGlueSchemaRegistryTracer.INSTANCE.onTrace(GlueSchemaRegistryTrace.DISABLED);
+
+        assertFalse(NoOpGlueSchemaRegistryTracer.INSTANCE.isEnabled());
+    }
+}
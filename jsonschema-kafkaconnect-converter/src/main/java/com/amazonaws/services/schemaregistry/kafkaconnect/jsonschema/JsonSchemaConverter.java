@@ -20,6 +20,7 @@ import com.amazonaws.services.schemaregistry.deserializers.GlueSchemaRegistryKaf
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistryKafkaSerializer;
 import com.amazonaws.services.schemaregistry.serializers.json.JsonDataWithSchema;
+import com.amazonaws.services.schemaregistry.serializers.json.LazyJsonDataWithSchema;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -194,6 +195,13 @@ public class JsonSchemaConverter implements Converter {
             } catch (IOException e) {
                 throw new DataException("Failed to read JSON Payload : " + payload, e);
             }
+        } else if (deserialized instanceof LazyJsonDataWithSchema) {
+            try {
+                jsonNode = ((LazyJsonDataWithSchema) deserialized).getPayloadNode();
+            } catch (AWSSchemaRegistryException e) {
+                throw new DataException("Failed to read JSON Payload : "
+                                        + ((LazyJsonDataWithSchema) deserialized).getPayload(), e);
+            }
         } else {
             throw new DataException("JSON Deserialized data is not in envelope format.");
         }
@@ -139,6 +139,19 @@ public class JsonSchemaConverterTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource(value = "com.amazonaws.services.schemaregistry.kafkaconnect.jsonschema.TestDataProvider#"
+                          + "testSchemaAndValueArgumentsProvider")
+    public void testConverter_lazyEnvelopeType_equalsToConnectData(org.everit.json.schema.Schema jsonSchema,
+                                                                   Schema connectSchema,
+                                                                   JsonNode jsonValue,
+                                                                   Object connectValue) {
+        configs.put(AWSSchemaRegistryConstants.JSON_ENVELOPE_TYPE,
+                    AWSSchemaRegistryConstants.JsonEnvelopeType.LAZY.name());
+
+        testConverter_fromConnectData_equalsToConnectData(jsonSchema, connectSchema, jsonValue, connectValue);
+    }
+
     @ParameterizedTest
     @MethodSource(value = "com.amazonaws.services.schemaregistry.kafkaconnect.jsonschema.TestDataProvider#"
                           + "testSchemaAndValueArgumentsProvider")
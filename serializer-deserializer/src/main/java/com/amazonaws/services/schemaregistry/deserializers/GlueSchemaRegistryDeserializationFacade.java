@@ -14,16 +14,28 @@
  */
 package com.amazonaws.services.schemaregistry.deserializers;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
 import com.amazonaws.services.schemaregistry.common.AWSDeserializerInput;
 import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryClient;
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryCaches;
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatDeserializer;
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryPersistentSchemaCache;
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryPreloader;
 import com.amazonaws.services.schemaregistry.common.Schema;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.GlueSchemaRegistryIncompatibleDataException;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetricNames;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTrace;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTraceSampler;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
@@ -37,28 +49,56 @@ import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
 
 import java.io.Closeable;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Protocol agnostic AWS Generic de-serializer
  */
 @Slf4j
 public class GlueSchemaRegistryDeserializationFacade implements Closeable {
+    private static final String SCHEMA_CACHE = "schemaBySchemaVersionId";
+    private static final String DATA_FORMAT_CACHE = "dataFormatDeserializer";
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+    /**
+     * Tags the cache gauges of this instance. Several instances can share a metrics registry, such as the key and
+     * value de-serializers of a consumer, and each of them reports its own caches.
+     */
+    private final String metricsInstance = "deserializer-" + INSTANCE_COUNT.incrementAndGet();
+
     @Getter
     private AwsCredentialsProvider credentialsProvider;
     @Getter
     private AWSSchemaRegistryClient schemaRegistryClient;
     @Getter
     private GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration;
+    /**
+     * Background pre-load of the schemas listed in the configuration, started when the facade is created. It completes
+     * with the number of schema versions loaded; callers that need a warm cache before consuming can wait for it.
+     */
+    @Getter
+    private CompletableFuture<Integer> configuredSchemasPreload;
 
     @Setter
     private GlueSchemaRegistryDeserializerFactory deserializerFactory;
 
     @VisibleForTesting
-    protected LoadingCache<UUID, Schema> cache;
+    protected GlueSchemaRegistryLoadingCache<UUID, Schema> cache;
+    @VisibleForTesting
+    protected Cache<UUID, Throwable> schemaNotFoundCache;
+    @VisibleForTesting
+    protected GlueSchemaRegistryPersistentSchemaCache persistentCache;
+    private GlueSchemaRegistryDeserializerDataParser dataParser;
+    private GlueSchemaRegistryTraceSampler traceSampler;
 
     /**
      * Constructor accepting various dependencies.
@@ -87,24 +127,149 @@ public class GlueSchemaRegistryDeserializationFacade implements Closeable {
             this.schemaRegistryClient = new AWSSchemaRegistryClient(credentialsProvider, this.glueSchemaRegistryConfiguration);
         }
 
-        this.deserializerFactory = new GlueSchemaRegistryDeserializerFactory();
+        this.dataParser = GlueSchemaRegistryDeserializerDataParser.getInstance(this.glueSchemaRegistryConfiguration);
+        this.deserializerFactory = new GlueSchemaRegistryDeserializerFactory(this.dataParser);
+        this.persistentCache = initializePersistentCache();
         this.cache = initializeCache();
+        this.schemaNotFoundCache = GlueSchemaRegistryCaches.newNotFoundCache(this.glueSchemaRegistryConfiguration);
+        this.traceSampler = new GlueSchemaRegistryTraceSampler(this.glueSchemaRegistryConfiguration.getTracer(),
+                                                               this.glueSchemaRegistryConfiguration.getTracingSampleRate());
+        registerCacheGauges();
+        this.configuredSchemasPreload = preloadConfiguredSchemas();
+    }
+
+    private GlueSchemaRegistryPersistentSchemaCache initializePersistentCache() {
+        String persistentSchemaCachePath = glueSchemaRegistryConfiguration.getPersistentSchemaCachePath();
+        if (persistentSchemaCachePath == null) {
+            return null;
+        }
+        return GlueSchemaRegistryPersistentSchemaCache.getInstance(persistentSchemaCachePath);
     }
 
-    private LoadingCache<UUID, Schema> initializeCache() {
-        return CacheBuilder
-                .newBuilder()
-                .maximumSize(glueSchemaRegistryConfiguration.getCacheSize())
-                .refreshAfterWrite(glueSchemaRegistryConfiguration.getTimeToLiveMillis(), TimeUnit.MILLISECONDS)
-                .build(new GlueSchemaRegistryDeserializationCacheLoader());
+    private GlueSchemaRegistryLoadingCache<UUID, Schema> initializeCache() {
+        return GlueSchemaRegistryCaches.newRefreshingCache(glueSchemaRegistryConfiguration,
+                                                           new GlueSchemaRegistryDeserializationCacheLoader());
     }
 
     public GlueSchemaRegistryDeserializationFacade(@NonNull GlueSchemaRegistryConfiguration configuration, @NonNull AwsCredentialsProvider credentialsProvider) {
         this.credentialsProvider = credentialsProvider;
         this.glueSchemaRegistryConfiguration = configuration;
         this.schemaRegistryClient = new AWSSchemaRegistryClient(credentialsProvider, this.glueSchemaRegistryConfiguration);
-        this.deserializerFactory = new GlueSchemaRegistryDeserializerFactory();
+        this.dataParser = GlueSchemaRegistryDeserializerDataParser.getInstance(this.glueSchemaRegistryConfiguration);
+        this.deserializerFactory = new GlueSchemaRegistryDeserializerFactory(this.dataParser);
+        this.persistentCache = initializePersistentCache();
         this.cache = initializeCache();
+        this.schemaNotFoundCache = GlueSchemaRegistryCaches.newNotFoundCache(this.glueSchemaRegistryConfiguration);
+        this.traceSampler = new GlueSchemaRegistryTraceSampler(this.glueSchemaRegistryConfiguration.getTracer(),
+                                                               this.glueSchemaRegistryConfiguration.getTracingSampleRate());
+        registerCacheGauges();
+        this.configuredSchemasPreload = preloadConfiguredSchemas();
+    }
+
+    private void registerCacheGauges() {
+        GlueSchemaRegistryMetrics metrics = glueSchemaRegistryConfiguration.getMetrics();
+        metrics.registerGauge(GlueSchemaRegistryMetricNames.CACHE_HIT_RATIO, this,
+                              facade -> facade.getCacheStats().getHitRate(),
+                              GlueSchemaRegistryMetricNames.TAG_CACHE, SCHEMA_CACHE,
+                              GlueSchemaRegistryMetricNames.TAG_INSTANCE, metricsInstance);
+        metrics.registerGauge(GlueSchemaRegistryMetricNames.CACHE_EVICTIONS, this,
+                              facade -> facade.getCacheStats().getEvictionCount(),
+                              GlueSchemaRegistryMetricNames.TAG_CACHE, SCHEMA_CACHE,
+                              GlueSchemaRegistryMetricNames.TAG_INSTANCE, metricsInstance);
+        for (DataFormat dataFormat : DataFormat.knownValues()) {
+            metrics.registerGauge(GlueSchemaRegistryMetricNames.CACHE_HIT_RATIO, this,
+                                  facade -> facade.getDataFormatCacheStats(dataFormat).getHitRate(),
+                                  GlueSchemaRegistryMetricNames.TAG_CACHE, DATA_FORMAT_CACHE,
+                                  GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat.name(),
+                                  GlueSchemaRegistryMetricNames.TAG_INSTANCE, metricsInstance);
+            metrics.registerGauge(GlueSchemaRegistryMetricNames.CACHE_EVICTIONS, this,
+                                  facade -> facade.getDataFormatCacheStats(dataFormat).getEvictionCount(),
+                                  GlueSchemaRegistryMetricNames.TAG_CACHE, DATA_FORMAT_CACHE,
+                                  GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat.name(),
+                                  GlueSchemaRegistryMetricNames.TAG_INSTANCE, metricsInstance);
+        }
+    }
+
+    private CompletableFuture<Integer> preloadConfiguredSchemas() {
+        return GlueSchemaRegistryPreloader
+            .preloadAsync(glueSchemaRegistryConfiguration.getPreloadSchemaVersionIds(), this::preloadSchemaVersion)
+            .thenCombine(GlueSchemaRegistryPreloader.preloadAsync(
+                glueSchemaRegistryConfiguration.getPreloadSchemaNames(), this::preloadLatestSchemaVersion),
+                         Integer::sum);
+    }
+
+    /**
+     * Loads the given schema versions into the schema cache in parallel, and prepares the data format specific
+     * de-serializer for each of them, so that the first records written with these schemas are not delayed by
+     * registry calls or schema parsing. Schemas that fail to load are skipped and loaded on first use.
+     *
+     * @param schemaVersionIds schema version ids to load
+     * @return number of schema versions loaded
+     */
+    public int preload(@NonNull Collection<UUID> schemaVersionIds) {
+        return GlueSchemaRegistryPreloader.preload(schemaVersionIds, this::preloadSchemaVersion);
+    }
+
+    /**
+     * Loads the latest version of each of the given schemas, as {@link #preload(Collection)} does for version ids.
+     *
+     * @param schemaNames schema names in the configured registry, or prefixed with "registryName/" for schemas
+     *                    in another registry
+     * @return number of schema versions loaded
+     */
+    public int preloadLatestSchemaVersions(@NonNull Collection<String> schemaNames) {
+        return GlueSchemaRegistryPreloader.preload(schemaNames, this::preloadLatestSchemaVersion);
+    }
+
+    private void preloadSchemaVersion(UUID schemaVersionId) {
+        preloadDeserializer(cache.getOrLoadUnchecked(schemaVersionId));
+    }
+
+    private void preloadLatestSchemaVersion(String qualifiedSchemaName) {
+        int separator = qualifiedSchemaName.indexOf('/');
+        String registryName = separator == -1
+            ? glueSchemaRegistryConfiguration.getRegistryName()
+            : qualifiedSchemaName.substring(0, separator);
+        String schemaName = qualifiedSchemaName.substring(separator + 1);
+
+        GetSchemaVersionResponse response =
+            schemaRegistryClient.getLatestSchemaVersionResponse(schemaName, registryName);
+        UUID schemaVersionId = UUID.fromString(response.schemaVersionId());
+        Schema schema = new Schema(response.schemaDefinition(), response.dataFormat().name(), schemaName);
+        cache.put(schemaVersionId, schema);
+        if (persistentCache != null) {
+            persistentCache.put(schemaVersionId, schema);
+        }
+        preloadDeserializer(schema);
+    }
+
+    private void preloadDeserializer(Schema schema) {
+        deserializerFactory
+            .getInstance(DataFormat.valueOf(schema.getDataFormat()), glueSchemaRegistryConfiguration)
+            .preload(schema);
+    }
+
+    /**
+     * Get the statistics of the schema version id to schema cache.
+     *
+     * @return cache statistics
+     */
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        return cache.getCacheStats();
+    }
+
+    /**
+     * Get the statistics of the per schema caches of the data format de-serializers, such as their eviction counts.
+     *
+     * @return cache statistics by data format
+     */
+    public Map<DataFormat, GlueSchemaRegistryCacheStats> getDataFormatCacheStats() {
+        return deserializerFactory.getCacheStats();
+    }
+
+    private GlueSchemaRegistryCacheStats getDataFormatCacheStats(DataFormat dataFormat) {
+        GlueSchemaRegistryCacheStats cacheStats = getDataFormatCacheStats().get(dataFormat);
+        return cacheStats != null ? cacheStats : GlueSchemaRegistryCacheStats.builder().build();
     }
 
     /**
@@ -132,7 +297,7 @@ public class GlueSchemaRegistryDeserializationFacade implements Closeable {
 
     public byte[] getActualData(byte[] data) {
         ByteBuffer byteBuffer = ByteBuffer.wrap(data);
-        return GlueSchemaRegistryDeserializerDataParser.getInstance().getPlainData(byteBuffer);
+        return dataParser.getPlainData(byteBuffer);
     }
 
     public Schema getSchema(@NonNull byte[] data) {
@@ -163,15 +328,143 @@ public class GlueSchemaRegistryDeserializationFacade implements Closeable {
      * @throws AWSSchemaRegistryException Exception during de-serialization
      */
     public Object deserialize(@NonNull AWSDeserializerInput deserializerInput) throws AWSSchemaRegistryException {
+        return deserialize(deserializerInput, null);
+    }
+
+    /**
+     * De-serializes the given data, filling the given instance where the data format supports it, such as an Avro
+     * record of the same schema. Callers should use the returned object, which is a new instance when the given
+     * instance cannot be re-used.
+     *
+     * @param deserializerInput Input data object for deserializer
+     * @param reuse             previously de-serialized instance to fill, or null
+     * @return de-serialized object instance
+     * @throws AWSSchemaRegistryException Exception during de-serialization
+     */
+    public Object deserialize(@NonNull AWSDeserializerInput deserializerInput, Object reuse)
+            throws AWSSchemaRegistryException {
         ByteBuffer buffer = deserializerInput.getBuffer();
-        AwsDeserializerSchema awsDeserializerSchema = getAwsDeserializerSchema(buffer);
-        Schema schema = awsDeserializerSchema.getSchema();
+        long startNanos = System.nanoTime();
+        GlueSchemaRegistryTrace trace = traceSampler.start(GlueSchemaRegistryTrace.OPERATION_DESERIALIZE);
+        try {
+            AwsDeserializerSchema awsDeserializerSchema = getAwsDeserializerSchema(buffer, trace);
+            Schema schema = awsDeserializerSchema.getSchema();
+            trace.setDataFormat(schema.getDataFormat());
+            int encodedSize = buffer.limit();
+            Byte compressionByte = dataParser.getCompressionByte(buffer);
+
+            long phaseStart = trace.now();
+            GlueSchemaRegistryDataFormatDeserializer dataFormatDeserializer = deserializerFactory
+                    .getInstance(DataFormat.valueOf(schema.getDataFormat()), this.glueSchemaRegistryConfiguration);
+            Object result = reuse == null
+                    ? dataFormatDeserializer.deserialize(buffer, schema)
+                    : dataFormatDeserializer.deserialize(buffer, schema, reuse);
+            trace.endPhase(GlueSchemaRegistryTrace.PHASE_FORMAT_DECODE, phaseStart);
+
+            recordDeserialization(schema.getDataFormat(), startNanos, encodedSize, compressionByte);
+            return result;
+        } catch (RuntimeException e) {
+            trace.setError(e);
+            glueSchemaRegistryConfiguration.getMetrics().increment(GlueSchemaRegistryMetricNames.SERDE_ERRORS,
+                GlueSchemaRegistryMetricNames.TAG_OPERATION, GlueSchemaRegistryMetricNames.OPERATION_DESERIALIZE,
+                GlueSchemaRegistryMetricNames.TAG_ERROR_TYPE, e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            traceSampler.finish(trace);
+        }
+    }
+
+    /**
+     * De-serializes a batch of records, such as the records returned by a poll. The headers of all records are parsed
+     * first, the schema of each distinct schema version is resolved once, and the records of each schema are decoded
+     * together by the data format specific de-serializer. Null records are de-serialized to null.
+     *
+     * @param buffers data of each record to de-serialize
+     * @return de-serialized objects, in the order of the given data
+     * @throws AWSSchemaRegistryException Exception during de-serialization of any of the records
+     */
+    public List<Object> deserializeBatch(@NonNull List<ByteBuffer> buffers) throws AWSSchemaRegistryException {
+        GlueSchemaRegistryTrace trace = traceSampler.start(GlueSchemaRegistryTrace.OPERATION_DESERIALIZE_BATCH);
+        try {
+            long phaseStart = trace.now();
+            Map<UUID, List<Integer>> indicesBySchemaVersionId = new LinkedHashMap<>();
+            for (int i = 0; i < buffers.size(); i++) {
+                ByteBuffer buffer = buffers.get(i);
+                if (buffer != null) {
+                    indicesBySchemaVersionId.computeIfAbsent(dataParser.getSchemaVersionId(buffer),
+                                                             schemaVersionId -> new ArrayList<>()).add(i);
+                }
+            }
+            trace.endPhase(GlueSchemaRegistryTrace.PHASE_HEADER_PARSE, phaseStart);
 
-        Object result = deserializerFactory
-                .getInstance(DataFormat.valueOf(schema.getDataFormat()), this.glueSchemaRegistryConfiguration)
-                .deserialize(buffer, schema);
+            phaseStart = trace.now();
+            Map<UUID, Schema> schemaBySchemaVersionId = new LinkedHashMap<>();
+            for (UUID schemaVersionId : indicesBySchemaVersionId.keySet()) {
+                schemaBySchemaVersionId.put(schemaVersionId, retrieveSchemaRegistrySchema(schemaVersionId));
+            }
+            trace.endPhase(GlueSchemaRegistryTrace.PHASE_SCHEMA_LOOKUP, phaseStart);
 
-        return result;
+            phaseStart = trace.now();
+            Object[] results = new Object[buffers.size()];
+            for (Map.Entry<UUID, List<Integer>> entry : indicesBySchemaVersionId.entrySet()) {
+                Schema schema = schemaBySchemaVersionId.get(entry.getKey());
+                List<Integer> indices = entry.getValue();
+                List<ByteBuffer> schemaBuffers = new ArrayList<>(indices.size());
+                for (int index : indices) {
+                    schemaBuffers.add(buffers.get(index));
+                }
+
+                List<Object> schemaResults = deserializerFactory
+                        .getInstance(DataFormat.valueOf(schema.getDataFormat()), this.glueSchemaRegistryConfiguration)
+                        .deserializeBatch(schemaBuffers, schema);
+                for (int i = 0; i < indices.size(); i++) {
+                    results[indices.get(i)] = schemaResults.get(i);
+                }
+                recordBatchDeserialization(schema.getDataFormat(), schemaBuffers);
+            }
+            trace.endPhase(GlueSchemaRegistryTrace.PHASE_FORMAT_DECODE, phaseStart);
+
+            return Arrays.asList(results);
+        } catch (RuntimeException e) {
+            trace.setError(e);
+            glueSchemaRegistryConfiguration.getMetrics().increment(GlueSchemaRegistryMetricNames.SERDE_ERRORS,
+                GlueSchemaRegistryMetricNames.TAG_OPERATION, GlueSchemaRegistryMetricNames.OPERATION_DESERIALIZE,
+                GlueSchemaRegistryMetricNames.TAG_ERROR_TYPE, e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            traceSampler.finish(trace);
+        }
+    }
+
+    private void recordBatchDeserialization(String dataFormat, List<ByteBuffer> buffers) {
+        GlueSchemaRegistryMetrics metrics = glueSchemaRegistryConfiguration.getMetrics();
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        //Time is not recorded per record, as it is shared by the records of the batch.
+        for (ByteBuffer buffer : buffers) {
+            metrics.recordAmount(GlueSchemaRegistryMetricNames.ENCODED_SIZE, buffer.limit(),
+                                 GlueSchemaRegistryMetricNames.TAG_OPERATION,
+                                 GlueSchemaRegistryMetricNames.OPERATION_DESERIALIZE,
+                                 GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat,
+                                 GlueSchemaRegistryMetricNames.TAG_COMPRESSION,
+                                 AWSSchemaRegistryConstants.COMPRESSION
+                                         .fromCompressionByte(dataParser.getCompressionByte(buffer)).name());
+        }
+    }
+
+    private void recordDeserialization(String dataFormat, long startNanos, int encodedSize, byte compressionByte) {
+        GlueSchemaRegistryMetrics metrics = glueSchemaRegistryConfiguration.getMetrics();
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        metrics.recordTime(GlueSchemaRegistryMetricNames.DESERIALIZATION_TIME, System.nanoTime() - startNanos,
+                           GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat);
+        metrics.recordAmount(GlueSchemaRegistryMetricNames.ENCODED_SIZE, encodedSize,
+                             GlueSchemaRegistryMetricNames.TAG_OPERATION, GlueSchemaRegistryMetricNames.OPERATION_DESERIALIZE,
+                             GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat,
+                             GlueSchemaRegistryMetricNames.TAG_COMPRESSION,
+                             AWSSchemaRegistryConstants.COMPRESSION.fromCompressionByte(compressionByte).name());
     }
 
     /**
@@ -194,11 +487,20 @@ public class GlueSchemaRegistryDeserializationFacade implements Closeable {
      * @return schema version id and schema registry metadata
      */
     private AwsDeserializerSchema getAwsDeserializerSchema(@NonNull ByteBuffer buffer) {
+        return getAwsDeserializerSchema(buffer, GlueSchemaRegistryTrace.DISABLED);
+    }
+
+    private AwsDeserializerSchema getAwsDeserializerSchema(@NonNull ByteBuffer buffer, GlueSchemaRegistryTrace trace) {
         // Validate the data
         GlueSchemaRegistryDeserializerDataParser dataParser = GlueSchemaRegistryDeserializerDataParser.getInstance();
 
+        long phaseStart = trace.now();
         UUID schemaVersionId = dataParser.getSchemaVersionId(buffer);
+        trace.endPhase(GlueSchemaRegistryTrace.PHASE_HEADER_PARSE, phaseStart);
+
+        phaseStart = trace.now();
         Schema schema = retrieveSchemaRegistrySchema(schemaVersionId);
+        trace.endPhase(GlueSchemaRegistryTrace.PHASE_SCHEMA_LOOKUP, phaseStart);
 
         return new AwsDeserializerSchema(schemaVersionId, schema);
     }
@@ -212,10 +514,18 @@ public class GlueSchemaRegistryDeserializationFacade implements Closeable {
      *                                    schema registry client
      */
     private Schema retrieveSchemaRegistrySchema(UUID schemaVersionId) throws AWSSchemaRegistryException {
+        Throwable schemaNotFound = schemaNotFoundCache.getIfPresent(schemaVersionId);
+        if (schemaNotFound != null) {
+            throw new AWSSchemaRegistryException(schemaNotFound);
+        }
+
         Schema schema;
         try {
-            schema = cache.get(schemaVersionId);
+            schema = cache.getOrLoad(schemaVersionId);
         } catch (Exception e) {
+            if (GlueSchemaRegistryCaches.isNotFound(e.getCause())) {
+                schemaNotFoundCache.put(schemaVersionId, e.getCause());
+            }
             throw new AWSSchemaRegistryException(e.getCause());
         }
 
@@ -230,10 +540,8 @@ public class GlueSchemaRegistryDeserializationFacade implements Closeable {
     }
 
     /**
-     * Resource clean up for Closeable. This method internally shuts down the
-     * background thread for publishing cloud watch metrics. After this is called, a
-     * new instance of this class should be created to enable the metrics publishing
-     * feature.
+     * Resource clean up for Closeable. Metrics gauges registered by this instance hold it weakly and stop reporting
+     * once it is garbage collected, so there is nothing to release here.
      */
     @Override
     public void close() {
@@ -250,12 +558,36 @@ public class GlueSchemaRegistryDeserializationFacade implements Closeable {
         }
     }
 
+    /**
+     * Loads schemas from the persistent cache when one is configured, falling back to the schema registry and writing
+     * the fetched schema through. Refreshes always go to the schema registry.
+     */
     private class GlueSchemaRegistryDeserializationCacheLoader extends CacheLoader<UUID, Schema> {
         @Override
         public Schema load(UUID schemaVersionId) {
+            if (persistentCache != null) {
+                Schema schema = persistentCache.get(schemaVersionId);
+                if (schema != null) {
+                    return schema;
+                }
+            }
+            return fetchSchema(schemaVersionId);
+        }
+
+        @Override
+        public ListenableFuture<Schema> reload(UUID schemaVersionId, Schema oldSchema) {
+            return Futures.immediateFuture(fetchSchema(schemaVersionId));
+        }
+
+        private Schema fetchSchema(UUID schemaVersionId) {
             GetSchemaVersionResponse response =
                 schemaRegistryClient.getSchemaVersionResponse(schemaVersionId.toString());
-            return new Schema(response.schemaDefinition(), response.dataFormat().name(), getSchemaName(response.schemaArn()));
+            Schema schema =
+                new Schema(response.schemaDefinition(), response.dataFormat().name(), getSchemaName(response.schemaArn()));
+            if (persistentCache != null) {
+                persistentCache.put(schemaVersionId, schema);
+            }
+            return schema;
         }
     }
 }
@@ -15,14 +15,20 @@
 package com.amazonaws.services.schemaregistry.deserializers;
 
 import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryCompressionFactory;
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDecompressionBuffer;
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.GlueSchemaRegistryIncompatibleDataException;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTrace;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 import java.nio.ByteBuffer;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Parser that understands the schema registry data format and extracts schema
@@ -30,13 +36,41 @@ import java.util.UUID;
  */
 @Slf4j
 public final class GlueSchemaRegistryDeserializerDataParser {
+    private static final int INITIAL_DECOMPRESSION_BUFFER_SIZE = 1024;
+    /**
+     * Re-usable decompression buffers larger than this are released once records of the schema version get smaller.
+     */
+    private static final int MAX_RETAINED_DECOMPRESSION_BUFFER_SIZE = 1024 * 1024;
+
     private GlueSchemaRegistryCompressionFactory compressionFactory;
 
+    private final boolean reuseDecompressionBuffer;
+
+    private final ThreadLocal<GlueSchemaRegistryDecompressionBuffer> decompressionBuffers;
+
+    /**
+     * Decompressed size of the last record seen per schema version id, used to size the decompression buffer.
+     */
+    private final Cache<UUID, AtomicInteger> decompressedSizeHints;
+
     /**
      * Private constructor to restrict object creation.
      */
     private GlueSchemaRegistryDeserializerDataParser(GlueSchemaRegistryCompressionFactory glueSchemaRegistryCompressionFactory) {
         this.compressionFactory = glueSchemaRegistryCompressionFactory;
+        this.reuseDecompressionBuffer = false;
+        this.decompressionBuffers = null;
+        this.decompressedSizeHints = null;
+    }
+
+    private GlueSchemaRegistryDeserializerDataParser(GlueSchemaRegistryConfiguration configs) {
+        this.compressionFactory = new GlueSchemaRegistryCompressionFactory(configs);
+        this.reuseDecompressionBuffer = configs.isReuseDecompressionBuffer();
+        this.decompressionBuffers = ThreadLocal.withInitial(
+            () -> new GlueSchemaRegistryDecompressionBuffer(INITIAL_DECOMPRESSION_BUFFER_SIZE));
+        this.decompressedSizeHints = CacheBuilder.newBuilder()
+            .maximumSize(configs.getCacheSize())
+            .build();
     }
 
     /**
@@ -56,6 +90,23 @@ public final class GlueSchemaRegistryDeserializerDataParser {
         return DataParserHelper.INSTANCE;
     }
 
+    /**
+     * Returns a parser honouring the compression settings of the configuration.
+     * The singleton instance is shared unless the configuration requires its own compression setup, in which case
+     * every call creates a new parser with its own compression pool and decompression buffers. Callers should create
+     * one parser per configuration and share it, as the de-serialization facade does with its de-serializers.
+     *
+     * @param configs configuration elements, can be null
+     * @return GlueSchemaRegistryDeserializerDataParser instance
+     */
+    public static GlueSchemaRegistryDeserializerDataParser getInstance(GlueSchemaRegistryConfiguration configs) {
+        if (configs == null || (configs.getCompressionPoolSize() == 0 && !configs.isReuseDecompressionBuffer()
+            && configs.getMaxDecompressedSize() == AWSSchemaRegistryConstants.DEFAULT_MAX_DECOMPRESSED_SIZE)) {
+            return getInstance();
+        }
+        return new GlueSchemaRegistryDeserializerDataParser(configs);
+    }
+
     /**
      * Gets the schema version id embedded within the data.
      *
@@ -92,79 +143,176 @@ public final class GlueSchemaRegistryDeserializerDataParser {
      * @return true - validation success; false - otherwise
      */
     public boolean isDataCompatible(ByteBuffer byteBuffer, StringBuilder errorBuilder) {
+        String errorMessage = getValidationErrorMessage(byteBuffer);
+        if (errorMessage != null) {
+            errorBuilder.append(errorMessage);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Validates the data for compatibility with schema registry.
+     *
+     * @param byteBuffer input data as byte buffer
+     * @return error message if the validation fails; null otherwise
+     */
+    private String getValidationErrorMessage(ByteBuffer byteBuffer) {
         // Ensure that we are not changing the buffer position.
         byteBuffer.rewind();
         ByteBuffer toValidate = byteBuffer.slice();
 
         // We should be at least 18 bytes long
-        if (toValidate.limit() < 18) {
+        if (toValidate.limit() < getSchemaRegistryHeaderLength()) {
             String message = String.format("%s size: %d", GlueSchemaRegistryIncompatibleDataException.UNKNOWN_DATA_ERROR_MESSAGE,
                 toValidate.limit());
-            errorBuilder.append(message);
             log.debug(message);
-            return false;
+            return message;
         }
 
-        Byte headerVersionByte = toValidate.get();
-        if (!headerVersionByte.equals(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE)) {
+        byte headerVersionByte = toValidate.get();
+        if (headerVersionByte != AWSSchemaRegistryConstants.HEADER_VERSION_BYTE) {
             String message = GlueSchemaRegistryIncompatibleDataException.UNKNOWN_HEADER_VERSION_BYTE_ERROR_MESSAGE;
-            errorBuilder.append(message);
             log.debug(message);
-            return false;
+            return message;
         }
 
-        Byte compressionByte = toValidate.get();
-        if (!compressionByte.equals(AWSSchemaRegistryConstants.COMPRESSION_BYTE)
-                && !compressionByte.equals(AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE)) {
+        byte compressionByte = toValidate.get();
+        if (AWSSchemaRegistryConstants.COMPRESSION.fromCompressionByte(compressionByte) == null) {
             String message = GlueSchemaRegistryIncompatibleDataException.UNKNOWN_COMPRESSION_BYTE_ERROR_MESSAGE;
-            errorBuilder.append(message);
             log.debug(message);
-            return false;
+            return message;
         }
 
-        return true;
+        return null;
     }
 
+    /**
+     * Gets the actual data bytes embedded within the data, decompressing them if needed.
+     * The returned array is always a copy owned by the caller.
+     *
+     * @param byteBuffer data from where the actual data has to be extracted as ByteBuffer
+     * @return actual data bytes
+     * @throws GlueSchemaRegistryIncompatibleDataException when the data is incompatible with
+     *                                      schema registry
+     */
     public byte[] getPlainData(ByteBuffer byteBuffer) {
-        byteBuffer.rewind();
-        ByteBuffer slicedBuffer = byteBuffer.slice();
+        ByteBuffer plainData = extractPlainData(byteBuffer, false);
+
+        if (isCompressionEnabled(byteBuffer)) {
+            //Decompressed data is already a freshly allocated array.
+            return plainData.array();
+        }
 
+        byte[] data = new byte[plainData.remaining()];
+        plainData.get(data);
+        return data;
+    }
+
+    /**
+     * Gets the actual data embedded within the data without copying it when it is not compressed.
+     * For uncompressed data, the returned buffer is a view sharing the content of the given buffer,
+     * positioned past the schema registry header.
+     * For compressed data, the returned buffer wraps the decompressed bytes. When re-use of the decompression
+     * buffer is configured, it is a view over a per thread buffer that is only valid until the next call
+     * on the same thread.
+     * <p>
+     * The returned buffer is shared and is writable unless the given buffer is read-only. It is deliberately not
+     * wrapped with {@link ByteBuffer#asReadOnlyBuffer()}, which would hide the backing array from the decoders
+     * and force them to copy the data. Callers must not modify its content.
+     *
+     * @param byteBuffer data from where the actual data has to be extracted as ByteBuffer
+     * @return actual data as ByteBuffer, positioned at the first data byte
+     * @throws GlueSchemaRegistryIncompatibleDataException when the data is incompatible with
+     *                                      schema registry
+     */
+    public ByteBuffer getPlainDataAsByteBuffer(ByteBuffer byteBuffer) {
+        return extractPlainData(byteBuffer, reuseDecompressionBuffer);
+    }
+
+    private ByteBuffer extractPlainData(ByteBuffer byteBuffer, boolean reuseBuffer) {
         //Make sure we have the right bytebuffer.
-        validateData(slicedBuffer);
+        validateData(byteBuffer);
+
+        byteBuffer.rewind();
+        ByteBuffer slicedBuffer = byteBuffer.slice();
 
         //Seek header byte
         slicedBuffer.get();
 
         //Seek compression byte.
-        Byte compressionByte = slicedBuffer.get();
+        byte compressionByte = slicedBuffer.get();
 
         //Seek SchemaVersionId bytes
-        //Most significant
-        slicedBuffer.getLong();
-        //Least significant
-        slicedBuffer.getLong();
-
-        //Get the actual data.
-        byte[] plainData = new byte[slicedBuffer.remaining()];
-        slicedBuffer.get(plainData);
+        slicedBuffer.position(getSchemaRegistryHeaderLength());
 
-        boolean isCompressionEnabled = isCompressionByteSet(compressionByte);
+        //The actual data.
+        ByteBuffer dataBuffer = slicedBuffer.slice();
 
-        if (!isCompressionEnabled) {
-            return plainData;
+        if (!isCompressionByteSet(compressionByte)) {
+            return dataBuffer;
         }
 
-        //Decompress the data and return.
-        int dataStart = getSchemaRegistryHeaderLength();
-        int dataEnd = slicedBuffer.limit() - dataStart;
-        return decompressData(compressionByte, slicedBuffer, dataStart, dataEnd);
+        GlueSchemaRegistryTrace trace = GlueSchemaRegistryTrace.current();
+        long decompressionStart = trace.now();
+        ByteBuffer plainData;
+        if (reuseBuffer) {
+            //SchemaVersionId bytes follow the header version and compression bytes.
+            UUID schemaVersionId = new UUID(slicedBuffer.getLong(2), slicedBuffer.getLong(10));
+            plainData = decompressIntoReusableBuffer(compressionByte, schemaVersionId, dataBuffer);
+        } else {
+            plainData = ByteBuffer.wrap(decompressData(compressionByte, dataBuffer));
+        }
+        trace.endPhase(GlueSchemaRegistryTrace.PHASE_DECOMPRESSION, decompressionStart);
+        return plainData;
     }
 
     @SneakyThrows
-    private byte[] decompressData(Byte compressionByte, ByteBuffer compressedData, int start, int end) {
+    private byte[] decompressData(byte compressionByte, ByteBuffer compressedData) {
+        ByteBuffer source = toHeapBuffer(compressedData);
         return compressionFactory
                 .getCompressionHandler(compressionByte)
-                .decompress(compressedData.array(), start, end);
+                .decompress(source.array(), source.arrayOffset() + source.position(), source.remaining());
+    }
+
+    @SneakyThrows
+    private ByteBuffer decompressIntoReusableBuffer(byte compressionByte, UUID schemaVersionId,
+                                                    ByteBuffer compressedData) {
+        GlueSchemaRegistryDecompressionBuffer output = decompressionBuffers.get();
+
+        AtomicInteger sizeHint = decompressedSizeHints.getIfPresent(schemaVersionId);
+        if (sizeHint == null) {
+            sizeHint = new AtomicInteger(INITIAL_DECOMPRESSION_BUFFER_SIZE);
+            decompressedSizeHints.put(schemaVersionId, sizeHint);
+        }
+
+        int expectedSize = sizeHint.get();
+        if (expectedSize > output.capacity()
+            || (output.capacity() > MAX_RETAINED_DECOMPRESSION_BUFFER_SIZE
+                && expectedSize <= MAX_RETAINED_DECOMPRESSION_BUFFER_SIZE)) {
+            //Allocate the expected size up front instead of growing while decompressing.
+            output.reset(expectedSize);
+        }
+
+        ByteBuffer source = toHeapBuffer(compressedData);
+        compressionFactory
+                .getCompressionHandler(compressionByte)
+                .decompressInto(source.array(), source.arrayOffset() + source.position(), source.remaining(), output);
+
+        if (output.size() != expectedSize) {
+            sizeHint.lazySet(output.size());
+        }
+        return output.asByteBuffer();
+    }
+
+    private ByteBuffer toHeapBuffer(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return buffer;
+        }
+        byte[] data = new byte[buffer.remaining()];
+        buffer.duplicate().get(data);
+        return ByteBuffer.wrap(data);
     }
 
     /**
@@ -173,9 +321,9 @@ public final class GlueSchemaRegistryDeserializerDataParser {
      * @param buffer     data to be de-serialized as ByteBuffer
      */
     private void validateData(@NonNull ByteBuffer buffer) throws GlueSchemaRegistryIncompatibleDataException {
-        StringBuilder errorMessageBuilder = new StringBuilder();
-        if (!isDataCompatible(buffer, errorMessageBuilder)) {
-            throw new GlueSchemaRegistryIncompatibleDataException(errorMessageBuilder.toString());
+        String errorMessage = getValidationErrorMessage(buffer);
+        if (errorMessage != null) {
+            throw new GlueSchemaRegistryIncompatibleDataException(errorMessage);
         }
     }
 
@@ -195,8 +343,8 @@ public final class GlueSchemaRegistryDeserializerDataParser {
         return isCompressionByteSet(compressionByte);
     }
 
-    private boolean isCompressionByteSet(Byte compressionByte) {
-        return !compressionByte.equals(AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE);
+    private boolean isCompressionByteSet(byte compressionByte) {
+        return compressionByte != AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE;
     }
 
     /**
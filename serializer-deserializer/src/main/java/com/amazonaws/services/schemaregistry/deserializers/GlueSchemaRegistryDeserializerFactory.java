@@ -14,6 +14,7 @@
  */
 package com.amazonaws.services.schemaregistry.deserializers;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
 import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatDeserializer;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.deserializers.avro.AvroDeserializer;
@@ -23,6 +24,8 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.services.glue.model.DataFormat;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -33,10 +36,26 @@ public class GlueSchemaRegistryDeserializerFactory {
     private final ConcurrentHashMap<DataFormat, GlueSchemaRegistryDataFormatDeserializer> deserializerMap =
             new ConcurrentHashMap<>();
 
+    /**
+     * Parser shared by the created de-serializers, null lets each de-serializer create its own.
+     */
+    private final GlueSchemaRegistryDeserializerDataParser dataParser;
+
     /**
      * Constructor for de-serialization implementations.
      */
     public GlueSchemaRegistryDeserializerFactory() {
+        this(null);
+    }
+
+    /**
+     * Constructor for de-serialization implementations sharing one data parser, so the decompression pool and
+     * buffers configured for it are shared by all data formats.
+     *
+     * @param dataParser parser shared by the created de-serializers
+     */
+    public GlueSchemaRegistryDeserializerFactory(GlueSchemaRegistryDeserializerDataParser dataParser) {
+        this.dataParser = dataParser;
     }
 
     /**
@@ -52,18 +71,21 @@ public class GlueSchemaRegistryDeserializerFactory {
             case AVRO:
                 this.deserializerMap.computeIfAbsent(dataFormat, key -> AvroDeserializer.builder()
                         .configs(configs)
+                        .dataParser(dataParser)
                         .build());
                 log.debug("Returning Avro de-serializer instance from GlueSchemaRegistryDeserializerFactory");
                 return this.deserializerMap.get(dataFormat);
             case JSON:
                 this.deserializerMap.computeIfAbsent(dataFormat, key -> JsonDeserializer.builder()
                         .configs(configs)
+                        .dataParser(dataParser)
                         .build());
                 log.debug("Returning JSON de-serializer instance from GlueSchemaRegistryDeserializerFactory");
                 return this.deserializerMap.get(dataFormat);
             case PROTOBUF:
                 this.deserializerMap.computeIfAbsent(dataFormat, key -> ProtobufDeserializer.builder()
                         .configs(configs)
+                        .dataParser(dataParser)
                         .build());
                 log.debug("Returning Protobuf de-serializer instance from GlueSchemaRegistryDeserializerFactory");
                 return this.deserializerMap.get(dataFormat);
@@ -72,4 +94,15 @@ public class GlueSchemaRegistryDeserializerFactory {
                 throw new UnsupportedOperationException(message);
         }
     }
+
+    /**
+     * Statistics of the per schema caches of the de-serializers created so far, by data format.
+     *
+     * @return cache statistics of each created de-serializer
+     */
+    public Map<DataFormat, GlueSchemaRegistryCacheStats> getCacheStats() {
+        Map<DataFormat, GlueSchemaRegistryCacheStats> cacheStats = new EnumMap<>(DataFormat.class);
+        deserializerMap.forEach((dataFormat, deserializer) -> cacheStats.put(dataFormat, deserializer.getCacheStats()));
+        return cacheStats;
+    }
 }
@@ -23,11 +23,17 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.serialization.Deserializer;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 
@@ -118,6 +124,63 @@ public class GlueSchemaRegistryKafkaDeserializer implements Deserializer<Object>
         return result;
     }
 
+    /**
+     * De-serializes the values of the records returned by a poll in one batch, so the schema of each distinct schema
+     * version is resolved once and the records of each schema are decoded together.
+     *
+     * @param records records returned by a poll
+     * @return de-serialized values, in the iteration order of the records
+     */
+    public List<Object> deserializeValues(@NonNull ConsumerRecords<byte[], byte[]> records) {
+        List<String> topics = new ArrayList<>(records.count());
+        List<byte[]> values = new ArrayList<>(records.count());
+        for (ConsumerRecord<byte[], byte[]> record : records) {
+            topics.add(record.topic());
+            values.add(record.value());
+        }
+        return deserializeBatch(topics, values);
+    }
+
+    /**
+     * De-serializes a batch of byte arrays read from a topic, as {@link #deserialize(String, byte[])} does for each of
+     * them, resolving the schema of each distinct schema version once.
+     *
+     * @param topic Kafka topic name
+     * @param data  serialized data of each record
+     * @return de-serialized objects, in the order of the given data
+     */
+    public List<Object> deserializeBatch(String topic,
+                                         @NonNull List<byte[]> data) {
+        return deserializeBatch(Collections.nCopies(data.size(), topic), data);
+    }
+
+    private List<Object> deserializeBatch(List<String> topics,
+                                          List<byte[]> data) {
+        Object[] results = new Object[data.size()];
+        List<Integer> indices = new ArrayList<>(data.size());
+        List<ByteBuffer> buffers = new ArrayList<>(data.size());
+        for (int i = 0; i < data.size(); i++) {
+            byte[] bytes = data.get(i);
+            if (bytes == null) {
+                continue;
+            }
+            if (getHeaderVersionByte(bytes).equals(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE)) {
+                indices.add(i);
+                buffers.add(ByteBuffer.wrap(bytes));
+            } else {
+                results[i] = secondaryDeserializer.deserialize(topics.get(i), bytes);
+            }
+        }
+
+        if (!buffers.isEmpty()) {
+            List<Object> deserialized = this.glueSchemaRegistryDeserializationFacade.deserializeBatch(buffers);
+            for (int i = 0; i < indices.size(); i++) {
+                results[indices.get(i)] = deserialized.get(i);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
     /**
      * Resource clean up for Closeable. This method internally shuts down the
      * background thread for publishing cloud watch metrics. After this is called, a
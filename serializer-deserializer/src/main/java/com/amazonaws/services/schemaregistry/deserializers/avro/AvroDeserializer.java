@@ -14,15 +14,16 @@
  */
 package com.amazonaws.services.schemaregistry.deserializers.avro;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryCaches;
 import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatDeserializer;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.deserializers.GlueSchemaRegistryDeserializerDataParser;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AvroRecordType;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
@@ -31,8 +32,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.util.ByteBufferInputStream;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Avro specific de-serializer responsible for handling the Avro protocol
@@ -40,10 +45,10 @@ import java.nio.ByteBuffer;
  */
 @Slf4j
 public class AvroDeserializer implements GlueSchemaRegistryDataFormatDeserializer {
-    private static final GlueSchemaRegistryDeserializerDataParser DESERIALIZER_DATA_PARSER =
-        GlueSchemaRegistryDeserializerDataParser.getInstance();
-    //TODO: Make this configurable if requested by customers.
-    private static final long MAX_DATUM_READER_CACHE_SIZE = 100;
+    private static final ThreadLocal<BinaryDecoder> DECODERS = new ThreadLocal<>();
+
+    private final GlueSchemaRegistryDeserializerDataParser dataParser;
+    private final boolean reuseDecoder;
 
     @Getter
     @Setter
@@ -54,22 +59,45 @@ public class AvroDeserializer implements GlueSchemaRegistryDataFormatDeserialize
     @NonNull
     @Getter
     @VisibleForTesting
-    protected final LoadingCache<String, DatumReader<Object>> datumReaderCache;
+    protected final GlueSchemaRegistryLoadingCache<String, DatumReader<Object>> datumReaderCache;
 
     /**
      * Constructor accepting various dependencies.
      *
      * @param configs configuration elements
      */
-    @Builder
     public AvroDeserializer(GlueSchemaRegistryConfiguration configs) {
+        this(configs, null);
+    }
+
+    /**
+     * Constructor accepting various dependencies.
+     *
+     * @param configs    configuration elements
+     * @param dataParser parser shared with the other de-serializers of the facade, created from the configs if null
+     */
+    @Builder
+    public AvroDeserializer(GlueSchemaRegistryConfiguration configs,
+                            GlueSchemaRegistryDeserializerDataParser dataParser) {
         this.schemaRegistrySerDeConfigs = configs;
+        this.dataParser = dataParser != null
+            ? dataParser : GlueSchemaRegistryDeserializerDataParser.getInstance(configs);
         this.avroRecordType = configs.getAvroRecordType();
-        this.datumReaderCache =
-            CacheBuilder
-                .newBuilder()
-                .maximumSize(MAX_DATUM_READER_CACHE_SIZE)
-                .build(new DatumReaderCache());
+        this.reuseDecoder = configs.isReuseAvroDecoder();
+        this.datumReaderCache = GlueSchemaRegistryCaches.newCache(configs.getCacheProviderType(),
+            configs.getAvroDatumReaderCacheSize(), configs.getDataFormatCacheMaximumWeightBytes(),
+            (schemaDefinition, datumReader) -> GlueSchemaRegistryCaches.weighSchemaDefinition(schemaDefinition),
+            new DatumReaderCache());
+    }
+
+    /**
+     * Get the statistics of the datum reader cache.
+     *
+     * @return cache statistics
+     */
+    @Override
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        return datumReaderCache.getCacheStats();
     }
 
     /**
@@ -84,16 +112,33 @@ public class AvroDeserializer implements GlueSchemaRegistryDataFormatDeserialize
     @Override
     public Object deserialize(@NonNull ByteBuffer buffer,
         @NonNull com.amazonaws.services.schemaregistry.common.Schema schemaObject) {
+        return deserialize(buffer, schemaObject, null);
+    }
+
+    /**
+     * Deserialize the bytes to the original Avro message, filling the given record instead of allocating a new one
+     * when it was created for the same schema.
+     *
+     * @param buffer       data to be de-serialized
+     * @param schemaObject Avro schema
+     * @param reuse        previously de-serialized record to fill, or null
+     * @return de-serialized object
+     * @throws AWSSchemaRegistryException Exception during de-serialization
+     */
+    @Override
+    public Object deserialize(@NonNull ByteBuffer buffer,
+        @NonNull com.amazonaws.services.schemaregistry.common.Schema schemaObject, Object reuse) {
         try {
             String schema = schemaObject.getSchemaDefinition();
-            byte[] data = DESERIALIZER_DATA_PARSER.getPlainData(buffer);
+            ByteBuffer data = dataParser.getPlainDataAsByteBuffer(buffer);
 
-            log.debug("Length of actual message: {}", data.length);
+            log.debug("Length of actual message: {}", data.remaining());
 
-            DatumReader<Object> datumReader = datumReaderCache.get(schema);
+            DatumReader<Object> datumReader = datumReaderCache.getOrLoad(schema);
 
-            BinaryDecoder binaryDecoder = getBinaryDecoder(data, 0, data.length);
-            Object result = datumReader.read(null, binaryDecoder);
+            BinaryDecoder binaryDecoder = getBinaryDecoder(data, getReusableDecoder());
+            Object result = datumReader.read(reuse, binaryDecoder);
+            releaseDecoder(binaryDecoder);
 
             log.debug("Finished de-serializing Avro message");
 
@@ -104,8 +149,61 @@ public class AvroDeserializer implements GlueSchemaRegistryDataFormatDeserialize
         }
     }
 
-    private BinaryDecoder getBinaryDecoder(byte[] data, int start, int end) {
-        return DecoderFactory.get().binaryDecoder(data, start, end, null);
+    /**
+     * De-serializes records written with the same Avro schema, looking up the datum reader once and re-using a
+     * single binary decoder across the records.
+     *
+     * @param buffers      data of each record to be de-serialized
+     * @param schemaObject Avro schema of all records
+     * @return de-serialized objects, in the order of the given data
+     * @throws AWSSchemaRegistryException Exception during de-serialization
+     */
+    @Override
+    public List<Object> deserializeBatch(@NonNull List<ByteBuffer> buffers,
+        @NonNull com.amazonaws.services.schemaregistry.common.Schema schemaObject) {
+        try {
+            DatumReader<Object> datumReader = datumReaderCache.getOrLoad(schemaObject.getSchemaDefinition());
+
+            List<Object> results = new ArrayList<>(buffers.size());
+            BinaryDecoder binaryDecoder = getReusableDecoder();
+            for (ByteBuffer buffer : buffers) {
+                binaryDecoder = getBinaryDecoder(dataParser.getPlainDataAsByteBuffer(buffer), binaryDecoder);
+                results.add(datumReader.read(null, binaryDecoder));
+            }
+            releaseDecoder(binaryDecoder);
+            return results;
+        } catch (Exception e) {
+            String message = "Exception occurred while de-serializing Avro messages";
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    /**
+     * Creates and caches the datum reader for the schema.
+     *
+     * @param schemaObject Avro schema
+     */
+    @Override
+    public void preload(@NonNull com.amazonaws.services.schemaregistry.common.Schema schemaObject) {
+        datumReaderCache.getOrLoadUnchecked(schemaObject.getSchemaDefinition());
+    }
+
+    private BinaryDecoder getReusableDecoder() {
+        return reuseDecoder ? DECODERS.get() : null;
+    }
+
+    private void releaseDecoder(BinaryDecoder binaryDecoder) {
+        if (reuseDecoder && binaryDecoder != null) {
+            DECODERS.set(binaryDecoder);
+        }
+    }
+
+    private BinaryDecoder getBinaryDecoder(ByteBuffer data, BinaryDecoder reuse) {
+        if (data.hasArray()) {
+            return DecoderFactory.get()
+                .binaryDecoder(data.array(), data.arrayOffset() + data.position(), data.remaining(), reuse);
+        }
+        return DecoderFactory.get().binaryDecoder(new ByteBufferInputStream(Collections.singletonList(data)), reuse);
     }
 
     private class DatumReaderCache extends CacheLoader<String, DatumReader<Object>> {
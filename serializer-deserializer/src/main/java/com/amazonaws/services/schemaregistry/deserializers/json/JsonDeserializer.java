@@ -14,25 +14,37 @@
  */
 package com.amazonaws.services.schemaregistry.deserializers.json;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryCaches;
 import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatDeserializer;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.deserializers.GlueSchemaRegistryDeserializerDataParser;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.serializers.json.JsonDataWithSchema;
+import com.amazonaws.services.schemaregistry.serializers.json.LazyJsonDataWithSchema;
 import com.amazonaws.services.schemaregistry.common.Schema;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheLoader;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Json specific de-serializer responsible for handling the Json data format
@@ -41,9 +53,16 @@ import java.nio.ByteBuffer;
 @Slf4j
 @Data
 public class JsonDeserializer implements GlueSchemaRegistryDataFormatDeserializer {
-    private static final GlueSchemaRegistryDeserializerDataParser DESERIALIZER_DATA_PARSER =
-            GlueSchemaRegistryDeserializerDataParser.getInstance();
+    private final GlueSchemaRegistryDeserializerDataParser dataParser;
     private final ObjectMapper objectMapper;
+    private final AWSSchemaRegistryConstants.JsonEnvelopeType envelopeType;
+    /**
+     * Parsed schemas by schema definition, so the class name of each schema version is looked up once instead of
+     * once per record.
+     */
+    @VisibleForTesting
+    @Getter(AccessLevel.NONE)
+    protected final GlueSchemaRegistryLoadingCache<String, JsonSchemaReader> schemaReaderCache;
     @Getter
     @Setter
     private GlueSchemaRegistryConfiguration schemaRegistrySerDeConfigs;
@@ -53,9 +72,22 @@ public class JsonDeserializer implements GlueSchemaRegistryDataFormatDeserialize
      *
      * @param configs configuration elements
      */
-    @Builder
     public JsonDeserializer(GlueSchemaRegistryConfiguration configs) {
+        this(configs, null);
+    }
+
+    /**
+     * Constructor accepting various dependencies.
+     *
+     * @param configs    configuration elements
+     * @param dataParser parser shared with the other de-serializers of the facade, created from the configs if null
+     */
+    @Builder
+    public JsonDeserializer(GlueSchemaRegistryConfiguration configs,
+                            GlueSchemaRegistryDeserializerDataParser dataParser) {
         this.schemaRegistrySerDeConfigs = configs;
+        this.dataParser = dataParser != null
+            ? dataParser : GlueSchemaRegistryDeserializerDataParser.getInstance(configs);
         JsonNodeFactory jsonNodeFactory = JsonNodeFactory.withExactBigDecimals(true);
         this.objectMapper = new ObjectMapper();
         this.objectMapper.setNodeFactory(jsonNodeFactory);
@@ -69,6 +101,25 @@ public class JsonDeserializer implements GlueSchemaRegistryDataFormatDeserialize
                         .forEach(this.objectMapper::enable);
             }
         }
+        this.envelopeType = configs != null
+            ? configs.getJsonEnvelopeType() : AWSSchemaRegistryConstants.JsonEnvelopeType.DATA_WITH_SCHEMA;
+        this.schemaReaderCache = GlueSchemaRegistryCaches.newCache(
+            configs != null ? configs.getCacheProviderType() : AWSSchemaRegistryConstants.CacheProvider.GUAVA,
+            configs != null ? configs.getJsonSchemaReaderCacheSize()
+                : AWSSchemaRegistryConstants.DEFAULT_DATA_FORMAT_CACHE_SIZE,
+            configs != null ? configs.getDataFormatCacheMaximumWeightBytes() : 0L,
+            (schemaDefinition, reader) -> GlueSchemaRegistryCaches.weighSchemaDefinition(schemaDefinition),
+            new SchemaReaderCache());
+    }
+
+    /**
+     * Get the statistics of the parsed schema cache.
+     *
+     * @return cache statistics
+     */
+    @Override
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        return schemaReaderCache.getCacheStats();
     }
 
     /**
@@ -85,28 +136,78 @@ public class JsonDeserializer implements GlueSchemaRegistryDataFormatDeserialize
                               @NonNull Schema schemaObject) {
         try {
             String schema = schemaObject.getSchemaDefinition();
-            byte[] data = DESERIALIZER_DATA_PARSER.getPlainData(buffer);
+            ByteBuffer data = dataParser.getPlainDataAsByteBuffer(buffer);
+
+            log.debug("Length of actual message: {}", data.remaining());
+
+            JsonSchemaReader schemaReader = schemaReaderCache.getOrLoad(schema);
+
+            if (schemaReader.getRecordReader() != null) {
+                return readValue(data, schemaReader.getRecordReader());
+            }
+            if (envelopeType == AWSSchemaRegistryConstants.JsonEnvelopeType.LAZY) {
+                //The data buffer can be re-used for the next record, so the envelope keeps a copy.
+                byte[] payloadBytes = new byte[data.remaining()];
+                data.duplicate().get(payloadBytes);
+                return new LazyJsonDataWithSchema(schemaReader.getSchemaDefinition(), payloadBytes, objectMapper);
+            }
+            JsonNode dataNode = readTree(data);
+            return JsonDataWithSchema.builder(schemaReader.getSchemaDefinition(), dataNode.toString())
+                    .build();
+        } catch (IOException e) {
+            String message = String.format("Exception occurred while de-serializing JSON message.");
+            throw new AWSSchemaRegistryException(message, e);
+        } catch (ExecutionException e) {
+            String message = String.format("Exception occurred while de-serializing JSON message.");
+            throw new AWSSchemaRegistryException(message, e.getCause());
+        }
+    }
+
+    /**
+     * Parses and caches the schema, with the reader of its record class.
+     *
+     * @param schemaObject JSONSchema
+     */
+    @Override
+    public void preload(@NonNull Schema schemaObject) {
+        schemaReaderCache.getOrLoadUnchecked(schemaObject.getSchemaDefinition());
+    }
 
-            log.debug("Length of actual message: {}", data.length);
+    private Object readValue(ByteBuffer data, ObjectReader reader) throws IOException {
+        if (data.hasArray()) {
+            return reader.readValue(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        }
+        return reader.readValue(new ByteBufferBackedInputStream(data));
+    }
 
-            Object deserializedObject;
+    private JsonNode readTree(ByteBuffer data) throws IOException {
+        if (data.hasArray()) {
+            return objectMapper.readTree(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        }
+        return objectMapper.readTree(new ByteBufferBackedInputStream(data));
+    }
 
+    /**
+     * Schema version state shared by its records: the schema definition as handed out in envelopes, and the reader of
+     * the record class named by the schema, if any.
+     */
+    @Value
+    static class JsonSchemaReader {
+        private String schemaDefinition;
+        private ObjectReader recordReader;
+    }
+
+    private class SchemaReaderCache extends CacheLoader<String, JsonSchemaReader> {
+        @Override
+        public JsonSchemaReader load(String schema) throws Exception {
             JsonNode schemaNode = objectMapper.readTree(schema);
             JsonNode classNameNode = schemaNode.get("className");
 
+            ObjectReader recordReader = null;
             if (classNameNode != null) {
-                String className = classNameNode.asText();
-                deserializedObject = objectMapper.readValue(data, Class.forName(className));
-            } else {
-                JsonNode dataNode = objectMapper.readTree(data);
-                deserializedObject = JsonDataWithSchema.builder(schemaNode.toString(), dataNode.toString())
-                        .build();
+                recordReader = objectMapper.readerFor(Class.forName(classNameNode.asText()));
             }
-
-            return deserializedObject;
-        } catch (IOException | ClassNotFoundException e) {
-            String message = String.format("Exception occurred while de-serializing JSON message.");
-            throw new AWSSchemaRegistryException(message, e);
+            return new JsonSchemaReader(schemaNode.toString(), recordReader);
         }
     }
 }
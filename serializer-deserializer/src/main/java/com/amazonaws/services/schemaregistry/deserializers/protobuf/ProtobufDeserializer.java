@@ -14,6 +14,9 @@
  */
 package com.amazonaws.services.schemaregistry.deserializers.protobuf;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryCaches;
 import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatDeserializer;
 import com.amazonaws.services.schemaregistry.common.Schema;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
@@ -22,9 +25,7 @@ import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryExceptio
 import com.amazonaws.services.schemaregistry.serializers.protobuf.MessageIndexFinder;
 import com.amazonaws.services.schemaregistry.utils.ProtobufMessageType;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.protobuf.Descriptors;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,43 +35,60 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 @Slf4j
 public class ProtobufDeserializer implements GlueSchemaRegistryDataFormatDeserializer {
-    private static final GlueSchemaRegistryDeserializerDataParser DESERIALIZER_DATA_PARSER =
-            GlueSchemaRegistryDeserializerDataParser.getInstance();
-    //Make this configurable if required.
-    private static final long MAX_PROTOBUF_SCHEMA_PARSER_CACHE_SIZE = 100;
+    private final GlueSchemaRegistryDeserializerDataParser dataParser;
     private final ProtobufWireFormatDecoder protoDecoder;
     private final ProtobufMessageType protobufMessageType;
 
     @NonNull
     @VisibleForTesting
-    protected final LoadingCache<ProtobufSchemaParserCacheKey, Descriptors.FileDescriptor> schemaParserCache;
+    protected final GlueSchemaRegistryLoadingCache<ProtobufSchemaParserCacheKey, Descriptors.FileDescriptor>
+        schemaParserCache;
 
-    @Builder
     public ProtobufDeserializer(GlueSchemaRegistryConfiguration configs) {
+        this(configs, null);
+    }
+
+    /**
+     * Constructor accepting various dependencies.
+     *
+     * @param configs    configuration elements
+     * @param dataParser parser shared with the other de-serializers of the facade, created from the configs if null
+     */
+    @Builder
+    public ProtobufDeserializer(GlueSchemaRegistryConfiguration configs,
+                                GlueSchemaRegistryDeserializerDataParser dataParser) {
+        this.dataParser = dataParser != null
+            ? dataParser : GlueSchemaRegistryDeserializerDataParser.getInstance(configs);
         this.protoDecoder = new ProtobufWireFormatDecoder(new MessageIndexFinder());
         this.protobufMessageType = configs.getProtobufMessageType();
-        this.schemaParserCache =
-            CacheBuilder
-                .newBuilder()
-                .maximumSize(MAX_PROTOBUF_SCHEMA_PARSER_CACHE_SIZE)
-                .build(new ProtobufSchemaParserCache());
+        this.schemaParserCache = GlueSchemaRegistryCaches.newCache(configs.getCacheProviderType(),
+            configs.getProtobufSchemaParserCacheSize(), configs.getDataFormatCacheMaximumWeightBytes(),
+            (key, fileDescriptor) -> GlueSchemaRegistryCaches.weighSchemaDefinition(key.getSchemaDefinition()),
+            new ProtobufSchemaParserCache());
+
+    }
 
+    /**
+     * Get the statistics of the schema parser cache.
+     *
+     * @return cache statistics
+     */
+    @Override
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        return schemaParserCache.getCacheStats();
     }
 
     @Override
     public Object deserialize(@NonNull ByteBuffer buffer, @NonNull Schema schema) {
         try {
-            final byte[] data = DESERIALIZER_DATA_PARSER.getPlainData(buffer);
-
-            final String schemaDefinition = schema.getSchemaDefinition();
-            final String schemaName = schema.getSchemaName();
-            final String protoFileName = getProtoFileName(schemaName);
-
-            final Descriptors.FileDescriptor fileDescriptor =
-                schemaParserCache.get(new ProtobufSchemaParserCacheKey(schemaDefinition, protoFileName));
+            final ByteBuffer data = dataParser.getPlainDataAsByteBuffer(buffer);
+            final Descriptors.FileDescriptor fileDescriptor = getFileDescriptor(schema);
 
             return protoDecoder.decode(data, fileDescriptor, protobufMessageType);
         } catch (Exception e) {
@@ -78,6 +96,43 @@ public class ProtobufDeserializer implements GlueSchemaRegistryDataFormatDeseria
         }
     }
 
+    /**
+     * De-serializes records written with the same schema, looking up the parsed schema and the parser of each message
+     * type once for all records. Records are parsed in place from their buffers, through a CodedInputStream that
+     * only wraps the buffer, as the message index has to be read before the message itself.
+     */
+    @Override
+    public List<Object> deserializeBatch(@NonNull List<ByteBuffer> buffers, @NonNull Schema schema) {
+        try {
+            final ProtobufWireFormatDecoder.BatchDecoder batchDecoder =
+                protoDecoder.batchDecoder(getFileDescriptor(schema), protobufMessageType);
+
+            final List<Object> results = new ArrayList<>(buffers.size());
+            for (ByteBuffer buffer : buffers) {
+                results.add(batchDecoder.decode(dataParser.getPlainDataAsByteBuffer(buffer)));
+            }
+            return results;
+        } catch (Exception e) {
+            throw new AWSSchemaRegistryException("Exception occurred while de-serializing Protobuf messages", e);
+        }
+    }
+
+    private Descriptors.FileDescriptor getFileDescriptor(Schema schema) throws ExecutionException {
+        final String protoFileName = getProtoFileName(schema.getSchemaName());
+        return schemaParserCache.getOrLoad(new ProtobufSchemaParserCacheKey(schema.getSchemaDefinition(), protoFileName));
+    }
+
+    /**
+     * Parses and caches the file descriptor for the schema.
+     *
+     * @param schema Protobuf schema
+     */
+    @Override
+    public void preload(@NonNull Schema schema) {
+        schemaParserCache.getOrLoadUnchecked(
+            new ProtobufSchemaParserCacheKey(schema.getSchemaDefinition(), getProtoFileName(schema.getSchemaName())));
+    }
+
     /**
      * We use schemaName as protoFileName. During creation of schema, users are expected to define the schemaName same as
      * proto file name. They can optionally provide ".proto".
@@ -19,11 +19,16 @@ import com.amazonaws.services.schemaregistry.utils.ProtobufMessageType;
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 
 @RequiredArgsConstructor
 public class ProtobufWireFormatDecoder {
@@ -31,7 +36,32 @@ public class ProtobufWireFormatDecoder {
 
     public Object decode(@NonNull byte[] data, @NonNull Descriptors.FileDescriptor descriptor,
                          ProtobufMessageType messageType) throws IOException {
-        final CodedInputStream codedInputStream = CodedInputStream.newInstance(data);
+        return decode(CodedInputStream.newInstance(data), descriptor, messageType);
+    }
+
+    /**
+     * Decodes the message from the remaining bytes of the buffer. Heap buffers are read in place without copying.
+     */
+    public Object decode(@NonNull ByteBuffer data, @NonNull Descriptors.FileDescriptor descriptor,
+                         ProtobufMessageType messageType) throws IOException {
+        return decode(CodedInputStream.newInstance(data), descriptor, messageType);
+    }
+
+    /**
+     * Creates a decoder for messages that share the given file descriptor. It resolves the parser of each message
+     * type once, instead of looking up the message class for every message.
+     *
+     * @param descriptor  file descriptor shared by the messages
+     * @param messageType message type to decode into
+     * @return batch decoder, not thread safe
+     */
+    public BatchDecoder batchDecoder(@NonNull Descriptors.FileDescriptor descriptor,
+                                     ProtobufMessageType messageType) {
+        return new BatchDecoder(descriptor, messageType);
+    }
+
+    private Object decode(final CodedInputStream codedInputStream, final Descriptors.FileDescriptor descriptor,
+                          final ProtobufMessageType messageType) throws IOException {
         final int messageIndex = codedInputStream.readUInt32();
 
         final Descriptors.Descriptor messageDescriptor = messageIndexFinder.getByIndex(descriptor, messageIndex);
@@ -77,4 +107,57 @@ public class ProtobufWireFormatDecoder {
             throw new RuntimeException(errorMsg, e);
         }
     }
+
+    /**
+     * Resolves the parser of the message type, from the generated class for POJO ProtobufMessageType.
+     *
+     * @param descriptor  Descriptor associated with the message.
+     * @param messageType message type to decode into
+     * @return parser of the message type
+     */
+    private Parser<? extends Message> getParser(final Descriptors.Descriptor descriptor,
+                                                final ProtobufMessageType messageType) {
+        if (!ProtobufMessageType.POJO.equals(messageType)) {
+            return DynamicMessage.getDefaultInstance(descriptor).getParserForType();
+        }
+        final String className = ProtobufClassName.from(descriptor);
+        try {
+            final Class<?> classType = Class.forName(className);
+            final Method defaultInstanceMethod = classType.getMethod("getDefaultInstance");
+            return ((Message) defaultInstanceMethod.invoke(classType)).getParserForType();
+        } catch (Exception e) {
+            final String errorMsg = String.format("Error de-serializing data into Message class: %s", className);
+            throw new RuntimeException(errorMsg, e);
+        }
+    }
+
+    /**
+     * Decodes messages sharing a file descriptor. Each message is read in place from its buffer, and the parser of
+     * each message index is resolved on first use.
+     */
+    public final class BatchDecoder {
+        private final Descriptors.FileDescriptor descriptor;
+        private final ProtobufMessageType messageType;
+        private final Map<Integer, Parser<? extends Message>> parsers = new HashMap<>();
+
+        private BatchDecoder(Descriptors.FileDescriptor descriptor, ProtobufMessageType messageType) {
+            this.descriptor = descriptor;
+            this.messageType = messageType;
+        }
+
+        /**
+         * Decodes the message from the remaining bytes of the buffer. Heap buffers are read in place without copying.
+         */
+        public Object decode(@NonNull ByteBuffer data) throws IOException {
+            final CodedInputStream codedInputStream = CodedInputStream.newInstance(data);
+            final int messageIndex = codedInputStream.readUInt32();
+
+            Parser<? extends Message> parser = parsers.get(messageIndex);
+            if (parser == null) {
+                parser = getParser(messageIndexFinder.getByIndex(descriptor, messageIndex), messageType);
+                parsers.put(messageIndex, parser);
+            }
+            return parser.parseFrom(codedInputStream);
+        }
+    }
 }
@@ -1,7 +1,6 @@
 package com.amazonaws.services.schemaregistry.serializers;
 
 import com.amazonaws.services.schemaregistry.common.AWSSchemaNamingStrategy;
-import com.amazonaws.services.schemaregistry.common.AWSSerializerInput;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.common.configs.UserAgents;
 import com.amazonaws.services.schemaregistry.utils.GlueSchemaRegistryUtils;
@@ -109,8 +108,8 @@ public class GlueSchemaRegistryKafkaSerializer implements Serializer<Object> {
         UUID schemaVersionIdFromRegistry = null;
         if (this.schemaVersionId == null) {
             log.debug("Schema Version Id is null. Trying to register the schema.");
-            schemaVersionIdFromRegistry =
-                    glueSchemaRegistrySerializationFacade.getOrRegisterSchemaVersion(prepareInput(data, topic, isKey));
+            schemaVersionIdFromRegistry = glueSchemaRegistrySerializationFacade.getOrRegisterSchemaVersion(
+                    DataFormat.fromValue(dataFormat), data, getSchemaName(topic, data, isKey), topic);
         } else {
             schemaVersionIdFromRegistry = this.schemaVersionId;
         }
@@ -149,18 +148,4 @@ public class GlueSchemaRegistryKafkaSerializer implements Serializer<Object> {
 
         return schemaName;
     }
-
-    private AWSSerializerInput prepareInput(@NonNull Object data,
-                                            String topic,
-                                            Boolean isKey) {
-        String schemaDefinition =
-                glueSchemaRegistrySerializationFacade.getSchemaDefinition(DataFormat.fromValue(dataFormat), data);
-
-        return AWSSerializerInput.builder()
-                .schemaDefinition(schemaDefinition)
-                .schemaName(getSchemaName(topic, data, isKey))
-                .transportName(topic)
-                .dataFormat(dataFormat)
-                .build();
-    }
 }
@@ -14,6 +14,7 @@
  */
 package com.amazonaws.services.schemaregistry.serializers;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
 import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryClient;
 import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryGlueClientRetryPolicyHelper;
 import com.amazonaws.services.schemaregistry.common.AWSSerializerInput;
@@ -22,7 +23,13 @@ import com.amazonaws.services.schemaregistry.common.Schema;
 import com.amazonaws.services.schemaregistry.common.SchemaByDefinitionFetcher;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetricNames;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTrace;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTraceSampler;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.Builder;
 import lombok.NonNull;
 import lombok.SneakyThrows;
@@ -30,18 +37,46 @@ import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.services.glue.model.DataFormat;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class GlueSchemaRegistrySerializationFacade {
+    private static final String SCHEMA_VERSION_ID_CACHE = "schemaVersionIdBySchemaDefinition";
+    private static final String DATA_FORMAT_CACHE = "dataFormatSerializer";
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+    /**
+     * Tags the cache gauges of this instance. Several instances can share a metrics registry, such as the key and
+     * value serializers of a producer, and each of them reports its own caches.
+     */
+    private final String metricsInstance = "serializer-" + INSTANCE_COUNT.incrementAndGet();
+
     private SerializationDataEncoder serializationDataEncoder;
     private GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration;
+    private GlueSchemaRegistryTraceSampler traceSampler;
 
     private SchemaByDefinitionFetcher schemaByDefinitionFetcher;
 
+    /**
+     * Schema version ids by schema name, keyed by the identity of the schema object of the data, such as an Avro
+     * Schema. Lets repeated records skip generating and hashing their schema definition. Keys are held weakly, so
+     * schemas that are no longer used by the application can be collected.
+     */
+    private Cache<Object, Map<String, UUID>> schemaVersionIdsBySchemaIdentity;
+
     private GlueSchemaRegistrySerializerFactory glueSchemaRegistrySerializerFactory =
             new GlueSchemaRegistrySerializerFactory();
 
@@ -70,7 +105,39 @@ public class GlueSchemaRegistrySerializationFacade {
             this.schemaByDefinitionFetcher = new SchemaByDefinitionFetcher(client, this.glueSchemaRegistryConfiguration);
         }
 
+        this.schemaVersionIdsBySchemaIdentity = CacheBuilder.newBuilder()
+                .weakKeys()
+                .maximumSize(this.glueSchemaRegistryConfiguration.getCacheSize())
+                .expireAfterWrite(this.glueSchemaRegistryConfiguration.getTimeToLiveMillis(), TimeUnit.MILLISECONDS)
+                .build();
         this.serializationDataEncoder = new SerializationDataEncoder(this.glueSchemaRegistryConfiguration);
+        this.traceSampler = new GlueSchemaRegistryTraceSampler(this.glueSchemaRegistryConfiguration.getTracer(),
+                                                               this.glueSchemaRegistryConfiguration.getTracingSampleRate());
+        registerCacheGauges();
+    }
+
+    private void registerCacheGauges() {
+        GlueSchemaRegistryMetrics metrics = glueSchemaRegistryConfiguration.getMetrics();
+        metrics.registerGauge(GlueSchemaRegistryMetricNames.CACHE_HIT_RATIO, this,
+                              facade -> facade.getCacheStats().getHitRate(),
+                              GlueSchemaRegistryMetricNames.TAG_CACHE, SCHEMA_VERSION_ID_CACHE,
+                              GlueSchemaRegistryMetricNames.TAG_INSTANCE, metricsInstance);
+        metrics.registerGauge(GlueSchemaRegistryMetricNames.CACHE_EVICTIONS, this,
+                              facade -> facade.getCacheStats().getEvictionCount(),
+                              GlueSchemaRegistryMetricNames.TAG_CACHE, SCHEMA_VERSION_ID_CACHE,
+                              GlueSchemaRegistryMetricNames.TAG_INSTANCE, metricsInstance);
+        for (DataFormat dataFormat : DataFormat.knownValues()) {
+            metrics.registerGauge(GlueSchemaRegistryMetricNames.CACHE_HIT_RATIO, this,
+                                  facade -> facade.getDataFormatCacheStats(dataFormat).getHitRate(),
+                                  GlueSchemaRegistryMetricNames.TAG_CACHE, DATA_FORMAT_CACHE,
+                                  GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat.name(),
+                                  GlueSchemaRegistryMetricNames.TAG_INSTANCE, metricsInstance);
+            metrics.registerGauge(GlueSchemaRegistryMetricNames.CACHE_EVICTIONS, this,
+                                  facade -> facade.getDataFormatCacheStats(dataFormat).getEvictionCount(),
+                                  GlueSchemaRegistryMetricNames.TAG_CACHE, DATA_FORMAT_CACHE,
+                                  GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat.name(),
+                                  GlueSchemaRegistryMetricNames.TAG_INSTANCE, metricsInstance);
+        }
     }
 
     @SneakyThrows
@@ -88,6 +155,94 @@ public class GlueSchemaRegistrySerializationFacade {
         return schemaVersionId;
     }
 
+    /**
+     * Gets the schema version id of the schema of the given data, registering the schema if needed. Repeated calls
+     * with data referencing the same schema object skip generating the schema definition.
+     *
+     * @param dataFormat    data format of the data
+     * @param data          data whose schema version id is needed
+     * @param schemaName    name of the schema
+     * @param transportName name of the transport, such as a topic, added to the schema version metadata
+     * @return schema version id
+     */
+    public UUID getOrRegisterSchemaVersion(DataFormat dataFormat,
+                                           @NonNull Object data,
+                                           @NonNull String schemaName,
+                                           String transportName) {
+        GlueSchemaRegistryDataFormatSerializer dataFormatSerializer =
+                glueSchemaRegistrySerializerFactory.getInstance(dataFormat, glueSchemaRegistryConfiguration);
+        Object schemaIdentity = dataFormatSerializer.getSchemaIdentity(data);
+        //A schema given as a string is rarely the same instance across records, so it is not cached by identity.
+        if (schemaIdentity instanceof String) {
+            return getOrRegisterSchemaVersion(dataFormatSerializer, dataFormat, data, schemaName, transportName);
+        }
+
+        Map<String, UUID> schemaVersionIds = schemaVersionIdsBySchemaIdentity.getIfPresent(schemaIdentity);
+        if (schemaVersionIds == null) {
+            schemaVersionIds = new ConcurrentHashMap<>();
+            schemaVersionIdsBySchemaIdentity.put(schemaIdentity, schemaVersionIds);
+        }
+
+        UUID schemaVersionId = schemaVersionIds.get(schemaName);
+        if (schemaVersionId == null) {
+            schemaVersionId =
+                    getOrRegisterSchemaVersion(dataFormatSerializer, dataFormat, data, schemaName, transportName);
+            if (schemaVersionId != null) {
+                schemaVersionIds.put(schemaName, schemaVersionId);
+            }
+        }
+        return schemaVersionId;
+    }
+
+    private UUID getOrRegisterSchemaVersion(GlueSchemaRegistryDataFormatSerializer dataFormatSerializer,
+                                            DataFormat dataFormat,
+                                            Object data,
+                                            String schemaName,
+                                            String transportName) {
+        return getOrRegisterSchemaVersion(AWSSerializerInput.builder()
+                                                  .schemaDefinition(dataFormatSerializer.getSchemaDefinition(data))
+                                                  .schemaName(schemaName)
+                                                  .dataFormat(dataFormat.name())
+                                                  .transportName(transportName)
+                                                  .build());
+    }
+
+    /**
+     * Looks up and caches the schema version ids of the given schemas ahead of serialization.
+     *
+     * @param serializerInputs schema definition, name and data format of each schema
+     * @return number of schemas whose version id was cached
+     */
+    public int preload(@NonNull Collection<AWSSerializerInput> serializerInputs) {
+        List<Schema> schemas = serializerInputs.stream()
+                .map(input -> new Schema(input.getSchemaDefinition(), input.getDataFormat(), input.getSchemaName()))
+                .collect(Collectors.toList());
+        return schemaByDefinitionFetcher.preload(schemas);
+    }
+
+    /**
+     * Get the statistics of the schema to schema version id cache.
+     *
+     * @return cache statistics
+     */
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        return schemaByDefinitionFetcher.getCacheStats();
+    }
+
+    /**
+     * Get the statistics of the per schema caches of the data format serializers, such as their eviction counts.
+     *
+     * @return cache statistics by data format
+     */
+    public Map<DataFormat, GlueSchemaRegistryCacheStats> getDataFormatCacheStats() {
+        return glueSchemaRegistrySerializerFactory.getCacheStats();
+    }
+
+    private GlueSchemaRegistryCacheStats getDataFormatCacheStats(DataFormat dataFormat) {
+        GlueSchemaRegistryCacheStats cacheStats = getDataFormatCacheStats().get(dataFormat);
+        return cacheStats != null ? cacheStats : GlueSchemaRegistryCacheStats.builder().build();
+    }
+
     private Map<String, String> constructSchemaVersionMetadata(String transportName) {
         Map<String, String> metadata = new HashMap<>();
         metadata.put(AWSSchemaRegistryConstants.TRANSPORT_METADATA_KEY, transportName);
@@ -102,11 +257,139 @@ public class GlueSchemaRegistrySerializationFacade {
     public byte[] serialize(DataFormat dataFormat,
                             @NonNull Object data,
                             @NonNull UUID schemaVersionId) {
-        GlueSchemaRegistryDataFormatSerializer dataFormatSerializer =
-                glueSchemaRegistrySerializerFactory.getInstance(dataFormat, glueSchemaRegistryConfiguration);
+        long startNanos = System.nanoTime();
+        GlueSchemaRegistryTrace trace = traceSampler.start(GlueSchemaRegistryTrace.OPERATION_SERIALIZE);
+        try {
+            trace.setDataFormat(String.valueOf(dataFormat));
+            long phaseStart = trace.now();
+            GlueSchemaRegistryDataFormatSerializer dataFormatSerializer =
+                    glueSchemaRegistrySerializerFactory.getInstance(dataFormat, glueSchemaRegistryConfiguration);
+
+            byte[] encodedBytes;
+            int payloadSize;
+            if (serializationDataEncoder.isCompressionEnabled()) {
+                byte[] serializedBytes = dataFormatSerializer.serialize(data);
+                trace.endPhase(GlueSchemaRegistryTrace.PHASE_FORMAT_ENCODE, phaseStart);
 
-        byte[] serializedBytes = dataFormatSerializer.serialize(data);
-        return serializationDataEncoder.write(serializedBytes, schemaVersionId);
+                phaseStart = trace.now();
+                encodedBytes = serializationDataEncoder.write(serializedBytes, schemaVersionId);
+                payloadSize = serializedBytes.length;
+            } else {
+                // Serialize after a reserved header so the header is written in place, without another copy.
+                byte[] serializedBytes = dataFormatSerializer.serialize(data, SerializationDataEncoder.HEADER_SIZE);
+                trace.endPhase(GlueSchemaRegistryTrace.PHASE_FORMAT_ENCODE, phaseStart);
+
+                phaseStart = trace.now();
+                encodedBytes = serializationDataEncoder.writeHeaderInPlace(serializedBytes, schemaVersionId);
+                payloadSize = serializedBytes.length - SerializationDataEncoder.HEADER_SIZE;
+            }
+            trace.endPhase(GlueSchemaRegistryTrace.PHASE_COMPRESSION, phaseStart);
+            recordSerialization(dataFormat.name(), startNanos, payloadSize, encodedBytes.length);
+            return encodedBytes;
+        } catch (RuntimeException e) {
+            trace.setError(e);
+            recordSerializationError(e);
+            throw e;
+        } finally {
+            traceSampler.finish(trace);
+        }
+    }
+
+    /**
+     * Serializes a batch of records into a single buffer. Records are grouped by their schema instance, so the
+     * schema definition and schema version id of each schema are resolved once per batch instead of once per record.
+     *
+     * @param dataFormat data format of the records
+     * @param records records to serialize
+     * @param schemaNameProvider gives the schema name to register the schema of a record under
+     * @param transportName name of the transport, such as a stream name, added to the schema version metadata
+     * @return encoded records, in the order of the given records
+     */
+    public GlueSchemaRegistrySerializedBatch serializeBatch(DataFormat dataFormat,
+                                                            @NonNull List<?> records,
+                                                            @NonNull Function<Object, String> schemaNameProvider,
+                                                            String transportName) {
+        return serializeBatch(dataFormat, records, (dataFormatSerializer, schemaVersionIds) -> {
+            //Equal schema objects can have different definitions, such as Avro schemas differing only in doc, so
+            //they are grouped by instance. Schemas given as strings are their definition, so they are grouped by value.
+            Map<Object, Map<String, UUID>> schemaVersionIdsBySchemaIdentity = new IdentityHashMap<>();
+            Map<Object, Map<String, UUID>> schemaVersionIdsBySchemaDefinition = new HashMap<>();
+            for (int i = 0; i < schemaVersionIds.length; i++) {
+                Object record = getRecord(records, i);
+                String schemaName = schemaNameProvider.apply(record);
+                Object schemaIdentity = dataFormatSerializer.getSchemaIdentity(record);
+                Map<String, UUID> schemaVersionIdsBySchemaName = (schemaIdentity instanceof String
+                        ? schemaVersionIdsBySchemaDefinition : schemaVersionIdsBySchemaIdentity)
+                        .computeIfAbsent(schemaIdentity, identity -> new HashMap<>());
+
+                UUID schemaVersionId = schemaVersionIdsBySchemaName.get(schemaName);
+                if (schemaVersionId == null) {
+                    schemaVersionId = getOrRegisterSchemaVersion(dataFormat, record, schemaName, transportName);
+                    schemaVersionIdsBySchemaName.put(schemaName, schemaVersionId);
+                }
+                schemaVersionIds[i] = schemaVersionId;
+            }
+        });
+    }
+
+    /**
+     * Serializes a batch of records sharing a schema version into a single buffer.
+     *
+     * @param dataFormat data format of the records
+     * @param records records to serialize
+     * @param schemaVersionId schema version id of the writer schema of all records
+     * @return encoded records, in the order of the given records
+     */
+    public GlueSchemaRegistrySerializedBatch serializeBatch(DataFormat dataFormat,
+                                                            @NonNull List<?> records,
+                                                            @NonNull UUID schemaVersionId) {
+        return serializeBatch(dataFormat, records,
+                              (dataFormatSerializer, schemaVersionIds) -> Arrays.fill(schemaVersionIds, schemaVersionId));
+    }
+
+    private GlueSchemaRegistrySerializedBatch serializeBatch(
+            DataFormat dataFormat,
+            List<?> records,
+            BiConsumer<GlueSchemaRegistryDataFormatSerializer, UUID[]> schemaVersionIdResolver) {
+        GlueSchemaRegistryTrace trace = traceSampler.start(GlueSchemaRegistryTrace.OPERATION_SERIALIZE_BATCH);
+        try {
+            trace.setDataFormat(String.valueOf(dataFormat));
+            GlueSchemaRegistryDataFormatSerializer dataFormatSerializer =
+                    glueSchemaRegistrySerializerFactory.getInstance(dataFormat, glueSchemaRegistryConfiguration);
+
+            long phaseStart = trace.now();
+            UUID[] schemaVersionIds = new UUID[records.size()];
+            schemaVersionIdResolver.accept(dataFormatSerializer, schemaVersionIds);
+            trace.endPhase(GlueSchemaRegistryTrace.PHASE_SCHEMA_LOOKUP, phaseStart);
+
+            phaseStart = trace.now();
+            byte[][] serializedBytes = new byte[schemaVersionIds.length][];
+            for (int i = 0; i < serializedBytes.length; i++) {
+                serializedBytes[i] = dataFormatSerializer.serialize(getRecord(records, i));
+            }
+            trace.endPhase(GlueSchemaRegistryTrace.PHASE_FORMAT_ENCODE, phaseStart);
+
+            phaseStart = trace.now();
+            GlueSchemaRegistrySerializedBatch batch =
+                    serializationDataEncoder.writeBatch(serializedBytes, schemaVersionIds);
+            trace.endPhase(GlueSchemaRegistryTrace.PHASE_COMPRESSION, phaseStart);
+            recordBatchSerialization(dataFormat.name(), serializedBytes, batch);
+            return batch;
+        } catch (RuntimeException e) {
+            trace.setError(e);
+            recordSerializationError(e);
+            throw e;
+        } finally {
+            traceSampler.finish(trace);
+        }
+    }
+
+    private static Object getRecord(List<?> records, int index) {
+        Object record = records.get(index);
+        if (record == null) {
+            throw new IllegalArgumentException(String.format("Record at index %d of the batch is null", index));
+        }
+        return record;
     }
 
     public byte[] encode(String transportName,
@@ -116,20 +399,80 @@ public class GlueSchemaRegistrySerializationFacade {
         final String schemaDefinition = schema.getSchemaDefinition();
         final String schemaName = schema.getSchemaName();
 
-        GlueSchemaRegistryDataFormatSerializer dataFormatSerializer =
-            glueSchemaRegistrySerializerFactory.getInstance(
-                DataFormat.valueOf(dataFormat), glueSchemaRegistryConfiguration);
-        //Ensures the data bytes conform to schema definition for data formats like JSON.
-        dataFormatSerializer.validate(schemaDefinition, data);
-
-        UUID schemaVersionId = getOrRegisterSchemaVersion(AWSSerializerInput.builder()
-                                                                  .schemaDefinition(schemaDefinition)
-                                                                  .schemaName(schemaName)
-                                                                  .dataFormat(dataFormat)
-                                                                  .transportName(transportName)
-                                                                  .build());
-
-        return serializationDataEncoder.write(data, schemaVersionId);
+        long startNanos = System.nanoTime();
+        GlueSchemaRegistryTrace trace = traceSampler.start(GlueSchemaRegistryTrace.OPERATION_ENCODE);
+        try {
+            trace.setDataFormat(dataFormat);
+            long phaseStart = trace.now();
+            GlueSchemaRegistryDataFormatSerializer dataFormatSerializer =
+                glueSchemaRegistrySerializerFactory.getInstance(
+                    DataFormat.valueOf(dataFormat), glueSchemaRegistryConfiguration);
+            //Ensures the data bytes conform to schema definition for data formats like JSON.
+            dataFormatSerializer.validate(schemaDefinition, data);
+            trace.endPhase(GlueSchemaRegistryTrace.PHASE_VALIDATION, phaseStart);
+
+            phaseStart = trace.now();
+            UUID schemaVersionId = getOrRegisterSchemaVersion(AWSSerializerInput.builder()
+                                                                      .schemaDefinition(schemaDefinition)
+                                                                      .schemaName(schemaName)
+                                                                      .dataFormat(dataFormat)
+                                                                      .transportName(transportName)
+                                                                      .build());
+            trace.endPhase(GlueSchemaRegistryTrace.PHASE_SCHEMA_LOOKUP, phaseStart);
+
+            phaseStart = trace.now();
+            byte[] encodedBytes = serializationDataEncoder.write(data, schemaVersionId);
+            trace.endPhase(GlueSchemaRegistryTrace.PHASE_COMPRESSION, phaseStart);
+            recordSerialization(dataFormat, startNanos, data.length, encodedBytes.length);
+            return encodedBytes;
+        } catch (RuntimeException e) {
+            trace.setError(e);
+            recordSerializationError(e);
+            throw e;
+        } finally {
+            traceSampler.finish(trace);
+        }
+    }
+
+    private void recordSerialization(String dataFormat, long startNanos, int payloadSize, int encodedSize) {
+        GlueSchemaRegistryMetrics metrics = glueSchemaRegistryConfiguration.getMetrics();
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        metrics.recordTime(GlueSchemaRegistryMetricNames.SERIALIZATION_TIME, System.nanoTime() - startNanos,
+                           GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat);
+        metrics.recordAmount(GlueSchemaRegistryMetricNames.PAYLOAD_SIZE, payloadSize,
+                             GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat);
+        metrics.recordAmount(GlueSchemaRegistryMetricNames.ENCODED_SIZE, encodedSize,
+                             GlueSchemaRegistryMetricNames.TAG_OPERATION, GlueSchemaRegistryMetricNames.OPERATION_SERIALIZE,
+                             GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat,
+                             GlueSchemaRegistryMetricNames.TAG_COMPRESSION,
+                             glueSchemaRegistryConfiguration.getCompressionType().name());
+    }
+
+    private void recordBatchSerialization(String dataFormat, byte[][] serializedBytes,
+                                          GlueSchemaRegistrySerializedBatch batch) {
+        GlueSchemaRegistryMetrics metrics = glueSchemaRegistryConfiguration.getMetrics();
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        //Time is not recorded per record, as it is shared by the records of the batch.
+        for (int i = 0; i < serializedBytes.length; i++) {
+            metrics.recordAmount(GlueSchemaRegistryMetricNames.PAYLOAD_SIZE, serializedBytes[i].length,
+                                 GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat);
+            metrics.recordAmount(GlueSchemaRegistryMetricNames.ENCODED_SIZE, batch.getLength(i),
+                                 GlueSchemaRegistryMetricNames.TAG_OPERATION,
+                                 GlueSchemaRegistryMetricNames.OPERATION_SERIALIZE,
+                                 GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, dataFormat,
+                                 GlueSchemaRegistryMetricNames.TAG_COMPRESSION,
+                                 glueSchemaRegistryConfiguration.getCompressionType().name());
+        }
+    }
+
+    private void recordSerializationError(RuntimeException e) {
+        glueSchemaRegistryConfiguration.getMetrics().increment(GlueSchemaRegistryMetricNames.SERDE_ERRORS,
+            GlueSchemaRegistryMetricNames.TAG_OPERATION, GlueSchemaRegistryMetricNames.OPERATION_SERIALIZE,
+            GlueSchemaRegistryMetricNames.TAG_ERROR_TYPE, e.getClass().getSimpleName());
     }
 
     public String getSchemaDefinition(DataFormat dataFormat,
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.serializers;
+
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Schema Registry encoded records of a batch, laid out back to back in a single byte array. Record {@code i} occupies
+ * the bytes from {@code getOffset(i)} up to {@code getOffset(i) + getLength(i)}.
+ */
+public final class GlueSchemaRegistrySerializedBatch {
+    private final byte[] bytes;
+
+    /**
+     * Start offset of each record, followed by the end offset of the last record.
+     */
+    private final int[] offsets;
+
+    GlueSchemaRegistrySerializedBatch(@NonNull byte[] bytes, @NonNull int[] offsets) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+    }
+
+    /**
+     * @return number of records in the batch
+     */
+    public int getRecordCount() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @param index index of the record in the batch
+     * @return offset of the encoded record in {@link #getBytes()}
+     */
+    public int getOffset(int index) {
+        checkIndex(index);
+        return offsets[index];
+    }
+
+    /**
+     * @param index index of the record in the batch
+     * @return length of the encoded record
+     */
+    public int getLength(int index) {
+        checkIndex(index);
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Gets a read-only view of an encoded record, sharing the batch bytes without copying them.
+     *
+     * @param index index of the record in the batch
+     * @return buffer positioned at the start of the encoded record
+     */
+    public ByteBuffer getRecord(int index) {
+        return ByteBuffer.wrap(bytes, getOffset(index), getLength(index)).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets a copy of an encoded record, for clients that require a byte array per record.
+     *
+     * @param index index of the record in the batch
+     * @return encoded record bytes
+     */
+    public byte[] getRecordBytes(int index) {
+        int offset = getOffset(index);
+        return Arrays.copyOfRange(bytes, offset, offset + getLength(index));
+    }
+
+    /**
+     * Gets the bytes of all encoded records. The returned array is not copied and must not be modified.
+     *
+     * @return encoded records
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= getRecordCount()) {
+            throw new IndexOutOfBoundsException(
+                String.format("Record index %d is out of bounds for batch of %d records", index, getRecordCount()));
+        }
+    }
+}
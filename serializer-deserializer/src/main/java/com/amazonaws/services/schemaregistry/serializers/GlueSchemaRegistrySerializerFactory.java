@@ -14,6 +14,7 @@
  */
 package com.amazonaws.services.schemaregistry.serializers;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
 import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatSerializer;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
@@ -24,6 +25,8 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.services.glue.model.DataFormat;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -45,7 +48,7 @@ public class GlueSchemaRegistrySerializerFactory {
                                                               @NonNull GlueSchemaRegistryConfiguration glueSchemaRegistryConfig) {
         switch (dataFormat) {
             case AVRO:
-                this.serializerMap.computeIfAbsent(dataFormat, key -> new AvroSerializer());
+                this.serializerMap.computeIfAbsent(dataFormat, key -> new AvroSerializer(glueSchemaRegistryConfig));
 
                 log.debug("Returning Avro serializer instance from GlueSchemaRegistrySerializerFactory");
                 return this.serializerMap.get(dataFormat);
@@ -64,4 +67,15 @@ public class GlueSchemaRegistrySerializerFactory {
                 throw new AWSSchemaRegistryException(message);
         }
     }
+
+    /**
+     * Statistics of the per schema caches of the serializers created so far, by data format.
+     *
+     * @return cache statistics of each created serializer
+     */
+    public Map<DataFormat, GlueSchemaRegistryCacheStats> getCacheStats() {
+        Map<DataFormat, GlueSchemaRegistryCacheStats> cacheStats = new EnumMap<>(DataFormat.class);
+        serializerMap.forEach((dataFormat, serializer) -> cacheStats.put(dataFormat, serializer.getCacheStats()));
+        return cacheStats;
+    }
 }
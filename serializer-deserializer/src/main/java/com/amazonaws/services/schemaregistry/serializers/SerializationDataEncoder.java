@@ -20,15 +20,22 @@ import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryCo
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.UUID;
 
 /**
  * Encodes Schema Register headers into byte buffers.
  */
 public class SerializationDataEncoder {
+    /**
+     * Total size of the Schema Registry header that precedes the data bytes.
+     */
+    public static final int HEADER_SIZE = AWSSchemaRegistryConstants.HEADER_VERSION_BYTE_SIZE
+                                          + AWSSchemaRegistryConstants.COMPRESSION_BYTE_SIZE
+                                          + AWSSchemaRegistryConstants.SCHEMA_VERSION_ID_SIZE;
 
     private final GlueSchemaRegistryCompressionHandler compressionHandler;
 
@@ -37,7 +44,7 @@ public class SerializationDataEncoder {
     public SerializationDataEncoder(GlueSchemaRegistryConfiguration schemaRegistrySerDeConfigs) {
         this.schemaRegistrySerDeConfigs = schemaRegistrySerDeConfigs;
         this.compressionHandler =
-            new GlueSchemaRegistryCompressionFactory()
+            new GlueSchemaRegistryCompressionFactory(schemaRegistrySerDeConfigs)
             .getCompressionHandler(schemaRegistrySerDeConfigs.getCompressionType());
     }
 
@@ -48,49 +55,155 @@ public class SerializationDataEncoder {
      * 3. Schema Version UUID Id that represents the writer schema.
      * 4. Actual data bytes. The data can be compressed based on configuration.
      *
+     * The output array is allocated once with the exact encoded length.
+     *
      * @param objectBytes bytes to add header to.
+     * @param schemaVersionId schema version id of the writer schema.
      * @return Schema Registry header encoded data.
      */
     public byte[] write(final byte[] objectBytes, UUID schemaVersionId) {
-        byte[] bytes;
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        try {
+            byte[] dataBytes = getDataBytes(objectBytes);
+            byte[] bytes = new byte[HEADER_SIZE + dataBytes.length];
 
-            writeHeaderVersionBytes(out);
-            writeCompressionBytes(out);
-            writeSchemaVersionId(out, schemaVersionId);
-
-            boolean shouldCompress = this.compressionHandler != null;
-            bytes = writeToExistingStream(out, shouldCompress ? compressData(objectBytes) : objectBytes);
+            writeHeader(bytes, 0, schemaVersionId);
+            System.arraycopy(dataBytes, 0, bytes, HEADER_SIZE, dataBytes.length);
 
+            return bytes;
         } catch (Exception e) {
             throw new AWSSchemaRegistryException(e.getMessage(), e);
         }
+    }
+
+    /**
+     * Fills the Schema Registry header into the first {@link #HEADER_SIZE} bytes of the given array, which are
+     * followed by the data bytes. Without compression the header is written in place and the given array is returned,
+     * so the data bytes are not copied.
+     *
+     * @param bytes reserved header bytes followed by the data bytes.
+     * @param schemaVersionId schema version id of the writer schema.
+     * @return Schema Registry header encoded data.
+     */
+    public byte[] writeHeaderInPlace(final byte[] bytes, UUID schemaVersionId) {
+        if (isCompressionEnabled()) {
+            return write(Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length), schemaVersionId);
+        }
 
+        writeHeader(bytes, 0, schemaVersionId);
         return bytes;
     }
 
-    private void writeCompressionBytes(ByteArrayOutputStream out) {
-        out.write(compressionHandler != null ? AWSSchemaRegistryConstants.COMPRESSION_BYTE
-            : AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE);
+    /**
+     * Whether the data bytes are compressed before they are written after the header.
+     *
+     * @return true if compression is configured.
+     */
+    public boolean isCompressionEnabled() {
+        return this.compressionHandler != null;
     }
 
-    private void writeHeaderVersionBytes(ByteArrayOutputStream out) {
-        out.write(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE);
+    /**
+     * Writes the Schema Registry header followed by the (optionally compressed) data bytes into the given buffer,
+     * starting at its current position. On success, the buffer position is advanced past the written bytes.
+     *
+     * @param objectBytes bytes to add header to.
+     * @param schemaVersionId schema version id of the writer schema.
+     * @param destination buffer to write the encoded data into.
+     * @return number of bytes written.
+     * @throws AWSSchemaRegistryException if the destination does not have enough remaining space.
+     */
+    public int write(final byte[] objectBytes, UUID schemaVersionId, ByteBuffer destination) {
+        byte[] dataBytes;
+        try {
+            dataBytes = getDataBytes(objectBytes);
+        } catch (Exception e) {
+            throw new AWSSchemaRegistryException(e.getMessage(), e);
+        }
+
+        int length = HEADER_SIZE + dataBytes.length;
+        if (destination.remaining() < length) {
+            throw new AWSSchemaRegistryException(
+                String.format("Destination buffer has %d bytes remaining, %d bytes are required",
+                              destination.remaining(), length));
+        }
+
+        destination.put(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE);
+        destination.put(getCompressionByte());
+        putSchemaVersionId(destination, schemaVersionId);
+        destination.put(dataBytes);
+
+        return length;
     }
 
-    private void writeSchemaVersionId(ByteArrayOutputStream out, UUID schemaVersionId) throws IOException {
-        ByteBuffer buffer = ByteBuffer.wrap(new byte[AWSSchemaRegistryConstants.SCHEMA_VERSION_ID_SIZE]);
-        buffer.putLong(schemaVersionId.getMostSignificantBits());
-        buffer.putLong(schemaVersionId.getLeastSignificantBits());
-        out.write(buffer.array());
+    /**
+     * Encodes a batch of records into a single byte array, each record preceded by its Schema Registry header. The
+     * output array is allocated once with the exact encoded length of all records.
+     *
+     * @param objectBytes bytes of each record.
+     * @param schemaVersionIds schema version id of the writer schema of each record.
+     * @return encoded records with their offsets.
+     */
+    public GlueSchemaRegistrySerializedBatch writeBatch(final byte[][] objectBytes, final UUID[] schemaVersionIds) {
+        if (objectBytes.length != schemaVersionIds.length) {
+            throw new AWSSchemaRegistryException(
+                String.format("Batch has %d records but %d schema version ids",
+                              objectBytes.length, schemaVersionIds.length));
+        }
+
+        try {
+            byte[][] dataBytes = new byte[objectBytes.length][];
+            int[] offsets = new int[objectBytes.length + 1];
+            for (int i = 0; i < objectBytes.length; i++) {
+                dataBytes[i] = getDataBytes(objectBytes[i]);
+                offsets[i + 1] = Math.addExact(offsets[i], HEADER_SIZE + dataBytes[i].length);
+            }
+
+            byte[] bytes = new byte[offsets[objectBytes.length]];
+            for (int i = 0; i < dataBytes.length; i++) {
+                writeHeader(bytes, offsets[i], schemaVersionIds[i]);
+                System.arraycopy(dataBytes[i], 0, bytes, offsets[i] + HEADER_SIZE, dataBytes[i].length);
+            }
+
+            return new GlueSchemaRegistrySerializedBatch(bytes, offsets);
+        } catch (IOException | ArithmeticException e) {
+            throw new AWSSchemaRegistryException(e.getMessage(), e);
+        }
     }
 
-    private byte[] compressData(byte[] actualDataBytes) throws IOException {
-        return this.compressionHandler.compress(actualDataBytes);
+    private byte[] getDataBytes(byte[] objectBytes) throws IOException {
+        return isCompressionEnabled() ? compressData(objectBytes) : objectBytes;
     }
 
-    private byte[] writeToExistingStream(ByteArrayOutputStream toStream, byte[] fromStream) throws IOException {
-        toStream.write(fromStream);
-        return toStream.toByteArray();
+    private void writeHeader(byte[] bytes, int offset, UUID schemaVersionId) {
+        bytes[offset] = AWSSchemaRegistryConstants.HEADER_VERSION_BYTE;
+        bytes[offset + AWSSchemaRegistryConstants.HEADER_VERSION_BYTE_SIZE] = getCompressionByte();
+        putSchemaVersionId(ByteBuffer.wrap(bytes,
+                                           offset + AWSSchemaRegistryConstants.HEADER_VERSION_BYTE_SIZE
+                                           + AWSSchemaRegistryConstants.COMPRESSION_BYTE_SIZE,
+                                           AWSSchemaRegistryConstants.SCHEMA_VERSION_ID_SIZE),
+                           schemaVersionId);
+    }
+
+    private byte getCompressionByte() {
+        return isCompressionEnabled() ? schemaRegistrySerDeConfigs.getCompressionType().getCompressionByte()
+            : AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE;
+    }
+
+    /**
+     * Writes the schema version id as two big-endian longs, whatever the byte order of the destination.
+     */
+    private static void putSchemaVersionId(ByteBuffer destination, UUID schemaVersionId) {
+        long mostSignificantBits = schemaVersionId.getMostSignificantBits();
+        long leastSignificantBits = schemaVersionId.getLeastSignificantBits();
+        if (destination.order() == ByteOrder.LITTLE_ENDIAN) {
+            mostSignificantBits = Long.reverseBytes(mostSignificantBits);
+            leastSignificantBits = Long.reverseBytes(leastSignificantBits);
+        }
+        destination.putLong(mostSignificantBits);
+        destination.putLong(leastSignificantBits);
+    }
+
+    private byte[] compressData(byte[] actualDataBytes) throws IOException {
+        return this.compressionHandler.compress(actualDataBytes);
     }
 }
@@ -14,14 +14,17 @@
  */
 package com.amazonaws.services.schemaregistry.serializers.avro;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryCaches;
 import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatSerializer;
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AVROUtils;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.amazonaws.services.schemaregistry.utils.AvroRecordType;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -37,25 +40,56 @@ import org.apache.avro.io.EncoderFactory;
 import org.apache.avro.specific.SpecificRecord;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * Avro serialization helper.
  */
 @Slf4j
 public class AvroSerializer implements GlueSchemaRegistryDataFormatSerializer {
+    /**
+     * Initial size of the per thread output buffer.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    /**
+     * Output buffers grown beyond this size by a large record are not kept for the next record.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<EncoderBuffer> ENCODER_BUFFERS = ThreadLocal.withInitial(EncoderBuffer::new);
+
     private AVROUtils avroUtils = AVROUtils.getInstance();
-    private static final long MAX_DATUM_WRITER_CACHE_SIZE = 100;
 
     @NonNull
     @VisibleForTesting
-    protected final LoadingCache<DatumWriterCacheKey, DatumWriter<Object>> datumWriterCache;
+    protected final GlueSchemaRegistryLoadingCache<DatumWriterCacheKey, DatumWriter<Object>> datumWriterCache;
 
     public AvroSerializer() {
-        this.datumWriterCache =
-            CacheBuilder
-                .newBuilder()
-                .maximumSize(MAX_DATUM_WRITER_CACHE_SIZE)
-                .build(new DatumWriterCache());
+        this(AWSSchemaRegistryConstants.CacheProvider.GUAVA, AWSSchemaRegistryConstants.DEFAULT_DATA_FORMAT_CACHE_SIZE,
+             0L);
+    }
+
+    public AvroSerializer(@NonNull GlueSchemaRegistryConfiguration configs) {
+        this(configs.getCacheProviderType(), configs.getAvroDatumWriterCacheSize(),
+             configs.getDataFormatCacheMaximumWeightBytes());
+    }
+
+    private AvroSerializer(AWSSchemaRegistryConstants.CacheProvider cacheProvider,
+                           long maximumSize,
+                           long maximumWeightBytes) {
+        this.datumWriterCache = GlueSchemaRegistryCaches.newCache(cacheProvider, maximumSize, maximumWeightBytes,
+            (key, datumWriter) -> GlueSchemaRegistryCaches.weighSchemaDefinition(key.getSchema().toString()),
+            new DatumWriterCache());
+    }
+
+    /**
+     * Get the statistics of the datum writer cache.
+     *
+     * @return cache statistics
+     */
+    @Override
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        return datumWriterCache.getCacheStats();
     }
 
     @Override
@@ -66,6 +100,19 @@ public class AvroSerializer implements GlueSchemaRegistryDataFormatSerializer {
         return bytes;
     }
 
+    /**
+     * Serializes the Avro message directly after the reserved header bytes, so the header can be filled in without
+     * copying the encoded data again.
+     *
+     * @param data       the Avro message for serialization
+     * @param headerSize number of leading bytes to reserve
+     * @return the serialized byte array, starting with the reserved bytes
+     */
+    @Override
+    public byte[] serialize(@NonNull Object data, int headerSize) {
+        return encodeData(data, createDatumWriter(data), headerSize);
+    }
+
     /**
      * This method is used to create Avro datum writer for serialization. Based on
      * the Avro record type, GenericDatumWriter or SpecificDatumWriter will be
@@ -97,13 +144,13 @@ public class AvroSerializer implements GlueSchemaRegistryDataFormatSerializer {
     @SneakyThrows
     private DatumWriter<Object> getSpecificDatumWriter(Schema schema) {
         DatumWriterCacheKey datumWriterCacheKey = new DatumWriterCacheKey(schema, AvroRecordType.SPECIFIC_RECORD);
-        return datumWriterCache.get(datumWriterCacheKey);
+        return datumWriterCache.getOrLoad(datumWriterCacheKey);
     }
 
     @SneakyThrows
     private DatumWriter<Object> getGenericDatumWriter(Schema schema) {
         DatumWriterCacheKey datumWriterCacheKey = new DatumWriterCacheKey(schema, AvroRecordType.GENERIC_RECORD);
-        return datumWriterCache.get(datumWriterCacheKey);
+        return datumWriterCache.getOrLoad(datumWriterCacheKey);
     }
 
     /**
@@ -115,19 +162,15 @@ public class AvroSerializer implements GlueSchemaRegistryDataFormatSerializer {
      * @throws AWSSchemaRegistryException AWS Schema Registry Exception
      */
     private byte[] serialize(Object data, DatumWriter<Object> writer) {
-        return encodeData(data, writer);
+        return encodeData(data, writer, 0);
     }
 
-    private byte[] encodeData(Object object, DatumWriter<Object> writer) {
-        ByteArrayOutputStream actualDataBytes = new ByteArrayOutputStream();
-        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(actualDataBytes, null);
+    private byte[] encodeData(Object object, DatumWriter<Object> writer, int headerSize) {
         try {
-            writer.write(object, encoder);
-            encoder.flush();
+            return ENCODER_BUFFERS.get().encode(object, writer, headerSize);
         } catch (Exception e) {
             throw new AWSSchemaRegistryException(e.getMessage(), e);
         }
-        return actualDataBytes.toByteArray();
     }
 
     /**
@@ -141,6 +184,12 @@ public class AvroSerializer implements GlueSchemaRegistryDataFormatSerializer {
         return avroUtils.getSchemaDefinition(object);
     }
 
+    @Override
+    public Object getSchemaIdentity(@NonNull Object object) {
+        Schema schema = avroUtils.getSchema(object);
+        return schema != null ? schema : getSchemaDefinition(object);
+    }
+
     public void validate(Object data) {
         //No-op
         //Avro format assumes that the passed object contains schema and data that are mutually conformant.
@@ -162,6 +211,38 @@ public class AvroSerializer implements GlueSchemaRegistryDataFormatSerializer {
         private final AvroRecordType avroRecordType;
     }
 
+    /**
+     * Per thread output buffer with the buffered binary encoder writing into it. Both are re-used across records.
+     */
+    private static final class EncoderBuffer extends ByteArrayOutputStream {
+        private BinaryEncoder encoder;
+
+        EncoderBuffer() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        byte[] encode(Object object, DatumWriter<Object> writer, int headerSize) throws IOException {
+            // Re-configuring flushes any bytes left over from a failed record, so reset the buffer afterwards.
+            encoder = EncoderFactory.get().binaryEncoder(this, encoder);
+            reset();
+            if (buf.length < headerSize) {
+                buf = new byte[Math.max(INITIAL_BUFFER_SIZE, headerSize)];
+            }
+            Arrays.fill(buf, 0, headerSize, (byte) 0);
+            count = headerSize;
+
+            writer.write(object, encoder);
+            encoder.flush();
+
+            byte[] bytes = toByteArray();
+            if (buf.length > MAX_RETAINED_BUFFER_SIZE) {
+                buf = new byte[INITIAL_BUFFER_SIZE];
+            }
+            reset();
+            return bytes;
+        }
+    }
+
     private static class DatumWriterCache extends CacheLoader<DatumWriterCacheKey, DatumWriter<Object>> {
         @Override
         public DatumWriter<Object> load(DatumWriterCacheKey datumWriterCacheKey) {
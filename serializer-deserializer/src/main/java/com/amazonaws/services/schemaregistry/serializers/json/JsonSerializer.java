@@ -14,6 +14,7 @@
  */
 package com.amazonaws.services.schemaregistry.serializers.json;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
 import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatSerializer;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
@@ -21,6 +22,10 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.kjetland.jackson.jsonSchema.JsonSchemaGenerator;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,14 +35,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Json serialization helper.
  */
 @Slf4j
 public class JsonSerializer implements GlueSchemaRegistryDataFormatSerializer {
-    private static final JsonValidator JSON_VALIDATOR = new JsonValidator();
+    private final JsonValidator jsonValidator;
+    private final JsonValidationSampler validationSampler;
     private final JsonSchemaGenerator jsonSchemaGenerator;
+    /**
+     * Schema definitions generated from specific record classes. The classes are weakly referenced, so the schema of a
+     * class is dropped together with the class when it is unloaded, such as on a reload.
+     */
+    @VisibleForTesting
+    final Cache<Class<?>, String> generatedSchemaDefinitions = CacheBuilder.newBuilder().weakKeys().build();
     private final ObjectMapper objectMapper;
     @Getter
     @Setter
@@ -65,6 +78,18 @@ public class JsonSerializer implements GlueSchemaRegistryDataFormatSerializer {
             }
         }
         this.jsonSchemaGenerator = new JsonSchemaGenerator(this.objectMapper);
+        this.jsonValidator = configs != null ? new JsonValidator(configs) : new JsonValidator();
+        this.validationSampler = new JsonValidationSampler(configs);
+    }
+
+    /**
+     * Get the statistics of the compiled schema cache used for validation.
+     *
+     * @return cache statistics
+     */
+    @Override
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        return jsonValidator.getCacheStats();
     }
 
     /**
@@ -79,8 +104,8 @@ public class JsonSerializer implements GlueSchemaRegistryDataFormatSerializer {
         byte[] bytes;
 
         final JsonNode dataNode = getDataNode(data);
-        final JsonNode schemaNode = getSchemaNode(data);
-        JSON_VALIDATOR.validateDataWithSchema(schemaNode, dataNode);
+        validationSampler.validate(getSchemaIdentity(data),
+            () -> jsonValidator.validateDataWithSchema(getValidationSchemaDefinition(data), dataNode));
 
         bytes = writeBytes(dataNode);
         return bytes;
@@ -115,24 +140,35 @@ public class JsonSerializer implements GlueSchemaRegistryDataFormatSerializer {
      */
     @Override
     public String getSchemaDefinition(@NonNull Object object) {
-        JsonNode schema = getSchemaNode(object);
-        return schema.toString();
-    }
-
-    private JsonNode getSchemaNode(@NonNull Object object) {
-        JsonNode schemaNode;
         if (isWrapper(object)) {
-            schemaNode = getSchemaNodeFromWrapperObject((JsonDataWithSchema) object);
-        } else {
-            try {
-                schemaNode = jsonSchemaGenerator.generateJsonSchema(object.getClass());
-            } catch (Exception e) {
-                throw new AWSSchemaRegistryException(
-                        "Could not generate schema from the type provided " + object.getClass(), e);
-            }
+            return getSchemaNodeFromWrapperObject((JsonDataWithSchema) object).toString();
         }
+        return getGeneratedSchemaDefinition(object.getClass());
+    }
+
+    @Override
+    public Object getSchemaIdentity(@NonNull Object object) {
+        //Specific records have the schema generated from their class.
+        return isWrapper(object) ? ((JsonDataWithSchema) object).getSchema() : object.getClass();
+    }
+
+    /**
+     * Schema definition used as key of the compiled schema cache. Wrapper schemas are used as given, without parsing
+     * them, as they are only parsed when the schema is compiled.
+     */
+    private String getValidationSchemaDefinition(@NonNull Object object) {
+        return isWrapper(object)
+            ? ((JsonDataWithSchema) object).getSchema()
+            : getGeneratedSchemaDefinition(object.getClass());
+    }
 
-        return schemaNode;
+    private String getGeneratedSchemaDefinition(Class<?> type) {
+        try {
+            return generatedSchemaDefinitions.get(type, () -> jsonSchemaGenerator.generateJsonSchema(type).toString());
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new AWSSchemaRegistryException("Could not generate schema from the type provided " + type,
+                                                 e.getCause());
+        }
     }
 
     private JsonNode getDataNode(@NonNull Object object) {
@@ -180,8 +216,9 @@ public class JsonSerializer implements GlueSchemaRegistryDataFormatSerializer {
     }
 
     public void validate(Object jsonDataWithSchema) {
-        JsonNode schemaNode = getSchemaNode(jsonDataWithSchema);
-        JsonNode dataNode = getDataNode(jsonDataWithSchema);
-        JSON_VALIDATOR.validateDataWithSchema(schemaNode, dataNode);
+        validationSampler.validate(getSchemaIdentity(jsonDataWithSchema), () -> {
+            JsonNode dataNode = getDataNode(jsonDataWithSchema);
+            jsonValidator.validateDataWithSchema(getValidationSchemaDefinition(jsonDataWithSchema), dataNode);
+        });
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.serializers.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.POJONode;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Converts Jackson trees to the org.json values the JSON schema validator works on, walking the tree instead of
+ * rendering it to a string and parsing that string again. Numbers are converted to the types org.json parses them to.
+ */
+final class JsonTreeConverter {
+    private final ObjectMapper mapper;
+
+    JsonTreeConverter(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Converts the given node and its children.
+     *
+     * @param node Jackson node
+     * @return JSONObject, JSONArray, String, Number, Boolean or JSONObject.NULL
+     */
+    Object toJsonValue(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                JSONObject object = new JSONObject();
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    object.put(field.getKey(), toJsonValue(field.getValue()));
+                }
+                return object;
+            case ARRAY:
+                JSONArray array = new JSONArray();
+                for (JsonNode element : node) {
+                    array.put(toJsonValue(element));
+                }
+                return array;
+            case POJO:
+                return toJsonValue(mapper.valueToTree(((POJONode) node).getPojo()));
+            case NUMBER:
+                return toNumber(node);
+            case BOOLEAN:
+                return node.booleanValue();
+            case NULL: case MISSING:
+                return JSONObject.NULL;
+            case STRING: case BINARY: default:
+                //Binary nodes are rendered as base64 text.
+                return node.asText();
+        }
+    }
+
+    private static Object toNumber(JsonNode node) {
+        if (node.isIntegralNumber()) {
+            BigInteger value = node.bigIntegerValue();
+            if (value.bitLength() < Integer.SIZE) {
+                return value.intValue();
+            }
+            if (value.bitLength() < Long.SIZE) {
+                return value.longValue();
+            }
+            return value;
+        }
+        if (!Double.isFinite(node.doubleValue()) && !node.isBigDecimal()) {
+            return node.doubleValue();
+        }
+        return node.decimalValue();
+    }
+}
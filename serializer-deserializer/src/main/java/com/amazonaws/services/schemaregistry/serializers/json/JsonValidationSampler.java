@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.serializers.json;
+
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetricNames;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.metrics.NoOpGlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.NonNull;
+import software.amazon.awssdk.services.glue.model.DataFormat;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies the configured {@link AWSSchemaRegistryConstants.JsonValidationPolicy} to JSON record validations and counts
+ * the validated, failed and skipped records through the configured metrics.
+ */
+final class JsonValidationSampler {
+    private final AWSSchemaRegistryConstants.JsonValidationPolicy policy;
+    private final long recordsPerSchema;
+    private final double sampleRate;
+    private final GlueSchemaRegistryMetrics metrics;
+
+    /**
+     * Number of records validated so far by schema definition, for the first N per schema policy.
+     */
+    private final Cache<Object, AtomicLong> validationsBySchemaDefinition;
+
+    /**
+     * Number of records validated so far by POJO class, for the first N per schema policy. The classes are held
+     * weakly, so the sampler does not keep the class loaders of redeployed applications alive.
+     */
+    @VisibleForTesting
+    final Cache<Object, AtomicLong> validationsByClass;
+
+    JsonValidationSampler(GlueSchemaRegistryConfiguration configs) {
+        if (configs == null) {
+            this.policy = AWSSchemaRegistryConstants.JsonValidationPolicy.ALWAYS;
+            this.recordsPerSchema = AWSSchemaRegistryConstants.DEFAULT_JSON_VALIDATION_RECORDS_PER_SCHEMA;
+            this.sampleRate = AWSSchemaRegistryConstants.DEFAULT_JSON_VALIDATION_SAMPLE_RATE;
+            this.metrics = NoOpGlueSchemaRegistryMetrics.INSTANCE;
+        } else {
+            this.policy = configs.getJsonValidationPolicy();
+            this.recordsPerSchema = configs.getJsonValidationRecordsPerSchema();
+            this.sampleRate = configs.getJsonValidationSampleRate();
+            this.metrics = configs.getMetrics();
+        }
+        long cacheSize = configs != null ? configs.getJsonSchemaValidatorCacheSize()
+            : AWSSchemaRegistryConstants.DEFAULT_DATA_FORMAT_CACHE_SIZE;
+        this.validationsBySchemaDefinition = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+        this.validationsByClass = CacheBuilder.newBuilder()
+                .weakKeys()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * Runs the validation if the policy selects the record, counting the outcome. Validation failures are re-thrown.
+     *
+     * @param schemaIdentity identity of the record's schema
+     * @param validation     validates the record, throwing if it does not conform to its schema
+     */
+    void validate(@NonNull Object schemaIdentity, @NonNull Runnable validation) {
+        if (!shouldValidate(schemaIdentity)) {
+            count(GlueSchemaRegistryMetricNames.OUTCOME_SKIPPED);
+            return;
+        }
+        try {
+            validation.run();
+        } catch (RuntimeException e) {
+            count(GlueSchemaRegistryMetricNames.OUTCOME_ERROR);
+            throw e;
+        }
+        count(GlueSchemaRegistryMetricNames.OUTCOME_SUCCESS);
+    }
+
+    private boolean shouldValidate(Object schemaIdentity) {
+        switch (policy) {
+            case NEVER:
+                return false;
+            case SAMPLED:
+                return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+            case FIRST_N_PER_SCHEMA:
+                Cache<Object, AtomicLong> validations = schemaIdentity instanceof String
+                    ? validationsBySchemaDefinition : validationsByClass;
+                return validations.asMap().computeIfAbsent(schemaIdentity, identity -> new AtomicLong())
+                           .incrementAndGet() <= recordsPerSchema;
+            case ALWAYS:
+            default:
+                return true;
+        }
+    }
+
+    private void count(String outcome) {
+        metrics.increment(GlueSchemaRegistryMetricNames.VALIDATIONS,
+                          GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, DataFormat.JSON.name(),
+                          GlueSchemaRegistryMetricNames.TAG_OUTCOME, outcome);
+    }
+}
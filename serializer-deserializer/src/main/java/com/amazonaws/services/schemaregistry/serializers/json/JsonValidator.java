@@ -14,9 +14,18 @@
  */
 package com.amazonaws.services.schemaregistry.serializers.json;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryCaches;
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheLoader;
+import lombok.NonNull;
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.ValidationException;
 import org.everit.json.schema.loader.SchemaClient;
@@ -30,25 +39,67 @@ import java.io.InputStream;
  * Json validator
  */
 public class JsonValidator {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonTreeConverter TREE_CONVERTER = new JsonTreeConverter(MAPPER);
+
+    /**
+     * Compiled schemas by schema definition, so each schema is loaded once instead of once per validated record.
+     */
+    @VisibleForTesting
+    protected final GlueSchemaRegistryLoadingCache<String, Schema> schemaCache;
+
+    private final AWSSchemaRegistryConstants.JsonValidationEngine validationEngine;
+
+    public JsonValidator() {
+        this(AWSSchemaRegistryConstants.CacheProvider.GUAVA, AWSSchemaRegistryConstants.DEFAULT_DATA_FORMAT_CACHE_SIZE,
+             0L, AWSSchemaRegistryConstants.JsonValidationEngine.EVERIT);
+    }
+
+    public JsonValidator(@NonNull GlueSchemaRegistryConfiguration configs) {
+        this(configs.getCacheProviderType(), configs.getJsonSchemaValidatorCacheSize(),
+             configs.getDataFormatCacheMaximumWeightBytes(), configs.getJsonValidationEngine());
+    }
+
+    private JsonValidator(AWSSchemaRegistryConstants.CacheProvider cacheProvider,
+                          long maximumSize,
+                          long maximumWeightBytes,
+                          AWSSchemaRegistryConstants.JsonValidationEngine validationEngine) {
+        this.validationEngine = validationEngine;
+        this.schemaCache = GlueSchemaRegistryCaches.newCache(cacheProvider, maximumSize, maximumWeightBytes,
+            (schemaDefinition, schema) -> GlueSchemaRegistryCaches.weighSchemaDefinition(schemaDefinition),
+            new SchemaCache());
+    }
+
+    /**
+     * Get the statistics of the compiled schema cache.
+     *
+     * @return cache statistics
+     */
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        return schemaCache.getCacheStats();
+    }
+
     /**
      * Validates data against JsonSchema
      * @param schemaNode
      * @param dataNode
      */
     public void validateDataWithSchema(JsonNode schemaNode, JsonNode dataNode) {
+        validateDataWithSchema(schemaNode.toString(), dataNode);
+    }
+
+    /**
+     * Validates data against JsonSchema, compiling the schema only the first time it is seen.
+     * @param schemaDefinition JSON schema definition
+     * @param dataNode data to validate
+     */
+    public void validateDataWithSchema(String schemaDefinition, JsonNode dataNode) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            JSONObject rawSchema = new JSONObject(mapper.writeValueAsString(schemaNode));
-            Schema schema = SchemaLoader.load(rawSchema, new ReferenceDisabledSchemaClient());
+            Schema schema = schemaCache.getOrLoad(schemaDefinition);
 
             switch (dataNode.getNodeType()) {
-                case OBJECT: case POJO:
-                    JSONObject rawObjectJson = new JSONObject(mapper.writeValueAsString(dataNode));
-                    schema.validate(rawObjectJson);
-                    break;
-                case ARRAY:
-                    JSONArray rawArrayJson = new JSONArray(mapper.writeValueAsString(dataNode));
-                    schema.validate(rawArrayJson);
+                case OBJECT: case POJO: case ARRAY:
+                    schema.validate(toJsonValue(dataNode));
                     break;
                 case STRING:
                     schema.validate(dataNode.textValue());
@@ -74,6 +125,26 @@ public class JsonValidator {
         }
     }
 
+    private Object toJsonValue(JsonNode dataNode) throws JsonProcessingException {
+        if (validationEngine == AWSSchemaRegistryConstants.JsonValidationEngine.JACKSON_TREE) {
+            return TREE_CONVERTER.toJsonValue(dataNode);
+        }
+        if (dataNode.isArray()) {
+            return new JSONArray(MAPPER.writeValueAsString(dataNode));
+        }
+        return new JSONObject(MAPPER.writeValueAsString(dataNode));
+    }
+
+    private class SchemaCache extends CacheLoader<String, Schema> {
+        @Override
+        public Schema load(String schemaDefinition) throws Exception {
+            //Parsed with Jackson first, so malformed schemas are rejected as strictly as the data.
+            JsonNode schemaNode = MAPPER.readTree(schemaDefinition);
+            JSONObject rawSchema = new JSONObject(MAPPER.writeValueAsString(schemaNode));
+            return SchemaLoader.load(rawSchema, new ReferenceDisabledSchemaClient());
+        }
+    }
+
     /**
      * The override SchemaClient which disables external schema reference.
      */
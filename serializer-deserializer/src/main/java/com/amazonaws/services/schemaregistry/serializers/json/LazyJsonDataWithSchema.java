@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.serializers.json;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wrapper object that contains the schema string and the json data bytes as read from a record.
+ * Unlike {@link JsonDataWithSchema}, the data is not parsed and rendered again when the record is
+ * de-serialized; it is parsed to a tree only the first time the tree is asked for.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class LazyJsonDataWithSchema {
+    /**
+     * Json Schema string
+     */
+    @Getter
+    @EqualsAndHashCode.Include
+    private final String schema;
+    /**
+     * json data/payload/document bytes, UTF-8 encoded
+     */
+    @EqualsAndHashCode.Include
+    private final byte[] payloadBytes;
+    private final ObjectMapper objectMapper;
+    private volatile JsonNode payloadNode;
+
+    /**
+     * Constructor.
+     *
+     * @param schema       json schema string
+     * @param payloadBytes json data bytes, owned by this object
+     * @param objectMapper mapper used to parse the data
+     */
+    public LazyJsonDataWithSchema(@NonNull String schema,
+                                  @NonNull byte[] payloadBytes,
+                                  @NonNull ObjectMapper objectMapper) {
+        this.schema = schema;
+        this.payloadBytes = payloadBytes;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Get the json data bytes, without copying them. The returned array must not be modified.
+     *
+     * @return json data bytes, UTF-8 encoded
+     */
+    public byte[] getPayloadBytes() {
+        return payloadBytes;
+    }
+
+    /**
+     * Get the json data as read from the record, without parsing it.
+     *
+     * @return json data string
+     */
+    public String getPayload() {
+        return new String(payloadBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the json data as a tree, parsing it on the first call only.
+     *
+     * @return json data tree
+     * @throws AWSSchemaRegistryException if the data is not valid json
+     */
+    public JsonNode getPayloadNode() {
+        JsonNode node = payloadNode;
+        if (node == null) {
+            try {
+                node = objectMapper.readTree(payloadBytes);
+            } catch (IOException e) {
+                throw new AWSSchemaRegistryException("Exception occurred while parsing JSON payload.", e);
+            }
+            payloadNode = node;
+        }
+        return node;
+    }
+
+    /**
+     * Converts this object to a {@link JsonDataWithSchema}, with the data rendered from its tree.
+     *
+     * @return JsonDataWithSchema holding the same schema and data
+     */
+    public JsonDataWithSchema toJsonDataWithSchema() {
+        return JsonDataWithSchema.builder(schema, getPayloadNode().toString()).build();
+    }
+
+    @Override
+    public String toString() {
+        return "LazyJsonDataWithSchema(schema=" + schema + ", payload=" + getPayload() + ")";
+    }
+}
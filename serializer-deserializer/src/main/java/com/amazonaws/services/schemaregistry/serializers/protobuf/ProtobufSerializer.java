@@ -14,14 +14,15 @@
  */
 package com.amazonaws.services.schemaregistry.serializers.protobuf;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryCaches;
 import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatSerializer;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.apicurio.FileDescriptorUtils;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.protobuf.DescriptorProtos;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.Message;
@@ -38,15 +39,12 @@ import org.jetbrains.annotations.NotNull;
  */
 @Slf4j
 public class ProtobufSerializer implements GlueSchemaRegistryDataFormatSerializer {
-    //Make this configurable if requested by customers.
-    private static final long MAX_SCHEMA_GENERATOR_CACHE = 100;
-
     private GlueSchemaRegistryConfiguration schemaRegistrySerDeConfigs;
     private ProtobufWireFormatEncoder protoEncoder;
 
     @NonNull
     @VisibleForTesting
-    protected final LoadingCache<DescriptorProtos.FileDescriptorProto, String> schemaGeneratorCache;
+    protected final GlueSchemaRegistryLoadingCache<DescriptorProtos.FileDescriptorProto, String> schemaGeneratorCache;
 
     /**
      * Constructor
@@ -57,11 +55,20 @@ public class ProtobufSerializer implements GlueSchemaRegistryDataFormatSerialize
     public ProtobufSerializer(GlueSchemaRegistryConfiguration configs) {
         this.schemaRegistrySerDeConfigs = configs;
         this.protoEncoder = new ProtobufWireFormatEncoder(new MessageIndexFinder());
-        this.schemaGeneratorCache =
-            CacheBuilder
-                .newBuilder()
-                .maximumSize(MAX_SCHEMA_GENERATOR_CACHE)
-                .build(new SchemaGeneratorCache());
+        this.schemaGeneratorCache = GlueSchemaRegistryCaches.newCache(configs.getCacheProviderType(),
+            configs.getProtobufSchemaGeneratorCacheSize(), configs.getDataFormatCacheMaximumWeightBytes(),
+            (fileDescriptorProto, definition) -> GlueSchemaRegistryCaches.weighSchemaDefinition(definition),
+            new SchemaGeneratorCache());
+    }
+
+    /**
+     * Get the statistics of the schema generator cache.
+     *
+     * @return cache statistics
+     */
+    @Override
+    public GlueSchemaRegistryCacheStats getCacheStats() {
+        return schemaGeneratorCache.getCacheStats();
     }
 
     /**
@@ -96,13 +103,20 @@ public class ProtobufSerializer implements GlueSchemaRegistryDataFormatSerialize
             Message message = (Message) object;
             Descriptors.FileDescriptor fileDescriptor = message.getDescriptorForType().getFile();
             DescriptorProtos.FileDescriptorProto fileDescriptorProto = fileDescriptor.toProto();
-            return schemaGeneratorCache.get(fileDescriptorProto);
+            return schemaGeneratorCache.getOrLoad(fileDescriptorProto);
         } catch (Exception e) {
             throw new AWSSchemaRegistryException(
                     "Could not generate schema from the type provided", e);
         }
     }
 
+    @Override
+    public Object getSchemaIdentity(@NonNull Object object) {
+        validate(object);
+        //The schema definition is generated from the file the message type is defined in.
+        return ((Message) object).getDescriptorForType().getFile();
+    }
+
     @Override
     public void validate(@NonNull String schemaDefinition, @NonNull byte[] data) {
         //TODO: Implement
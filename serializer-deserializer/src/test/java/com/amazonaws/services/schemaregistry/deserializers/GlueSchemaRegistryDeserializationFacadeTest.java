@@ -14,6 +14,7 @@
  */
 package com.amazonaws.services.schemaregistry.deserializers;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryLoadingCache;
 import com.amazonaws.services.schemaregistry.common.AWSDeserializerInput;
 import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryClient;
 import com.amazonaws.services.schemaregistry.common.AWSSerializerInput;
@@ -23,7 +24,12 @@ import com.amazonaws.services.schemaregistry.common.SchemaByDefinitionFetcher;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.exception.GlueSchemaRegistryIncompatibleDataException;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetricNames;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.metrics.MicrometerGlueSchemaRegistryMetrics;
 import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistrySerializationFacade;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTrace;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTracer;
 import com.amazonaws.services.schemaregistry.serializers.avro.User;
 import com.amazonaws.services.schemaregistry.serializers.json.Car;
 import com.amazonaws.services.schemaregistry.serializers.json.Employee;
@@ -35,7 +41,8 @@ import com.amazonaws.services.schemaregistry.utils.RecordGenerator;
 import com.amazonaws.services.schemaregistry.utils.SchemaLoader;
 import com.amazonaws.services.schemaregistry.utils.SerializedByteArrayGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.google.common.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
@@ -44,6 +51,7 @@ import org.apache.avro.io.EncoderFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -57,13 +65,16 @@ import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.services.glue.model.Compatibility;
 import software.amazon.awssdk.services.glue.model.DataFormat;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,9 +85,12 @@ import java.util.stream.Collectors;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -475,6 +489,31 @@ public class GlueSchemaRegistryDeserializationFacadeTest {
                      () -> glueSchemaRegistryDeserializationFacade.getSchemaDefinition(serializedData));
     }
 
+    /**
+     * Tests that a schema version id missing from the registry is not looked up again while it is negatively cached.
+     */
+    @Test
+    public void testGetSchemaDefinition_schemaVersionNotFound_lookupIsNegativelyCached() {
+        UUID schemaVersionId = UUID.randomUUID();
+        when(mockSchemaRegistryClient.getSchemaVersionResponse(Mockito.eq(schemaVersionId.toString())))
+                .thenThrow(new AWSSchemaRegistryException("Failed to get schema version Id",
+                        EntityNotFoundException.builder().message(AWSSchemaRegistryConstants.SCHEMA_VERSION_NOT_FOUND_MSG)
+                                .build()));
+
+        GlueSchemaRegistryDeserializationFacade glueSchemaRegistryDeserializationFacade =
+                createGSRDeserializationFacade(mockSchemaRegistryClient);
+        byte[] serializedData = createSerializedData(genericUserAvroRecord, DataFormat.AVRO, userSchemaDefinition,
+                                                     schemaVersionId);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(AWSSchemaRegistryException.class,
+                         () -> glueSchemaRegistryDeserializationFacade.getSchemaDefinition(serializedData));
+        }
+
+        verify(mockSchemaRegistryClient, times(1)).getSchemaVersionResponse(Mockito.eq(schemaVersionId.toString()));
+        assertEquals(1, glueSchemaRegistryDeserializationFacade.schemaNotFoundCache.size());
+    }
+
     /**
      * Tests the getSchemaVersionId for exception case where data length is invalid.
      */
@@ -675,6 +714,211 @@ public class GlueSchemaRegistryDeserializationFacadeTest {
         assertEquals(genericEmployeeAvroRecord, deserializedEmployeeObject);
     }
 
+    /**
+     * Tests the de-serialization records its latency, encoded size and the schema cache gauges.
+     */
+    @Test
+    public void testDeserialize_metricsConfigured_recordsMetrics() {
+        GlueSchemaRegistryMetrics metrics = Mockito.mock(GlueSchemaRegistryMetrics.class);
+        when(metrics.isEnabled()).thenReturn(true);
+        configs.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, metrics);
+        UUID schemaVersionId = compressingGlueSchemaRegistrySerializationFacade.getOrRegisterSchemaVersion(
+                prepareSerializerInput(userSchemaDefinition, USER_SCHEMA_NAME, DataFormat.AVRO.name()));
+        byte[] serializedData = compressingGlueSchemaRegistrySerializationFacade.serialize(DataFormat.AVRO,
+                genericUserAvroRecord, schemaVersionId);
+
+        GlueSchemaRegistryDeserializationFacade glueSchemaRegistryDeserializationFacade =
+                createGSRDeserializationFacade(mockDeserializerFactory);
+        glueSchemaRegistryDeserializationFacade.deserialize(prepareDeserializerInput(serializedData));
+
+        verify(metrics).recordTime(Mockito.eq(GlueSchemaRegistryMetricNames.DESERIALIZATION_TIME), Mockito.anyLong(),
+                Mockito.eq(GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT), Mockito.eq(DataFormat.AVRO.name()));
+        verify(metrics).recordAmount(GlueSchemaRegistryMetricNames.ENCODED_SIZE, serializedData.length,
+                GlueSchemaRegistryMetricNames.TAG_OPERATION, GlueSchemaRegistryMetricNames.OPERATION_DESERIALIZE,
+                GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, DataFormat.AVRO.name(),
+                GlueSchemaRegistryMetricNames.TAG_COMPRESSION, AWSSchemaRegistryConstants.COMPRESSION.ZLIB.name());
+        verify(metrics, times(2 + 2 * DataFormat.knownValues().size())).registerGauge(Mockito.anyString(),
+                Mockito.eq(glueSchemaRegistryDeserializationFacade), Mockito.any(), Mockito.any());
+
+        configs.remove(AWSSchemaRegistryConstants.METRICS_PROVIDER);
+    }
+
+    /**
+     * Tests two facades sharing a metrics registry, such as the key and value de-serializers of a consumer, each
+     * report their own cache gauges.
+     */
+    @Test
+    public void testBuildDeserializationFacade_twoFacadesSharingRegistry_registerGaugesPerFacade() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        configs.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, new MicrometerGlueSchemaRegistryMetrics(meterRegistry));
+
+        GlueSchemaRegistryDeserializationFacade keyFacade = createGSRDeserializationFacade();
+        GlueSchemaRegistryDeserializationFacade valueFacade = createGSRDeserializationFacade();
+
+        Collection<Gauge> gauges = meterRegistry.find(GlueSchemaRegistryMetricNames.CACHE_HIT_RATIO)
+                .tag(GlueSchemaRegistryMetricNames.TAG_CACHE, "schemaBySchemaVersionId")
+                .gauges();
+        assertEquals(2, gauges.size());
+        assertEquals(2, gauges.stream().map(gauge -> gauge.getId().getTag(GlueSchemaRegistryMetricNames.TAG_INSTANCE))
+                .distinct().count());
+        gauges.forEach(gauge -> assertEquals(1.0, gauge.value()));
+        //Gauges hold their facade weakly, so the facades are kept reachable until the gauges are read.
+        assertNotNull(keyFacade.getCacheStats());
+        assertNotNull(valueFacade.getCacheStats());
+
+        configs.remove(AWSSchemaRegistryConstants.METRICS_PROVIDER);
+    }
+
+    /**
+     * Tests sampled de-serializations are traced with the timings of their phases.
+     */
+    @Test
+    public void testDeserialize_tracingConfigured_emitsTraceWithPhases() {
+        List<GlueSchemaRegistryTrace> traces = new ArrayList<>();
+        configs.put(AWSSchemaRegistryConstants.TRACING_PROVIDER, (GlueSchemaRegistryTracer) traces::add);
+        configs.put(AWSSchemaRegistryConstants.TRACING_SAMPLE_RATE, "1.0");
+        configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+        UUID schemaVersionId = compressingGlueSchemaRegistrySerializationFacade.getOrRegisterSchemaVersion(
+                prepareSerializerInput(userSchemaDefinition, USER_SCHEMA_NAME, DataFormat.AVRO.name()));
+        byte[] serializedData = compressingGlueSchemaRegistrySerializationFacade.serialize(DataFormat.AVRO,
+                genericUserAvroRecord, schemaVersionId);
+
+        GlueSchemaRegistryDeserializationFacade glueSchemaRegistryDeserializationFacade =
+                createGSRDeserializationFacade(mockSchemaRegistryClient);
+        Object deserializedObject =
+                glueSchemaRegistryDeserializationFacade.deserialize(prepareDeserializerInput(serializedData));
+
+        assertEquals(genericUserAvroRecord.toString(), deserializedObject.toString());
+        assertEquals(1, traces.size());
+        GlueSchemaRegistryTrace trace = traces.get(0);
+        assertEquals(GlueSchemaRegistryTrace.OPERATION_DESERIALIZE, trace.getOperation());
+        assertEquals(DataFormat.AVRO.name(), trace.getDataFormat());
+        assertEquals(Arrays.asList(GlueSchemaRegistryTrace.PHASE_HEADER_PARSE, GlueSchemaRegistryTrace.PHASE_SCHEMA_LOOKUP,
+                                   GlueSchemaRegistryTrace.PHASE_DECOMPRESSION, GlueSchemaRegistryTrace.PHASE_FORMAT_DECODE),
+                     trace.getPhases().stream().map(GlueSchemaRegistryTrace.Phase::getName).collect(Collectors.toList()));
+
+        assertThrows(GlueSchemaRegistryIncompatibleDataException.class,
+                     () -> glueSchemaRegistryDeserializationFacade.deserialize(prepareDeserializerInput(new byte[] {1})));
+        assertEquals(2, traces.size());
+        assertTrue(traces.get(1).getError() instanceof GlueSchemaRegistryIncompatibleDataException);
+
+        configs.remove(AWSSchemaRegistryConstants.TRACING_PROVIDER);
+        configs.remove(AWSSchemaRegistryConstants.TRACING_SAMPLE_RATE);
+        configs.remove(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE);
+    }
+
+    /**
+     * Tests the given Avro record is filled when de-serializing with a record to re-use.
+     */
+    @Test
+    public void testDeserialize_reuseRecord_fillsGivenRecord() {
+        configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+        configs.put(AWSSchemaRegistryConstants.REUSE_AVRO_DECODER, "true");
+        byte[] userData = createSerializedUserData(genericUserAvroRecord, DataFormat.AVRO);
+        GlueSchemaRegistryDeserializationFacade glueSchemaRegistryDeserializationFacade =
+                createGSRDeserializationFacade(mockSchemaRegistryClient);
+
+        Object first = glueSchemaRegistryDeserializationFacade.deserialize(prepareDeserializerInput(userData));
+        Object second = glueSchemaRegistryDeserializationFacade.deserialize(prepareDeserializerInput(userData), first);
+
+        assertSame(first, second);
+        assertEquals(genericUserAvroRecord.toString(), second.toString());
+        configs.remove(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE);
+        configs.remove(AWSSchemaRegistryConstants.REUSE_AVRO_DECODER);
+    }
+
+    /**
+     * Tests a batch of records of two schemas is de-serialized in order, resolving each schema version once.
+     */
+    @Test
+    public void testDeserializeBatch_recordsOfTwoSchemas_recordsMatch() {
+        configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+        byte[] userData = createSerializedUserData(genericUserAvroRecord, DataFormat.AVRO);
+        byte[] employeeData = createSerializedEmployeeData(genericEmployeeAvroRecord, DataFormat.AVRO);
+        byte[] compressedEmployeeData = createSerializedCompressedEmployeeData(genericEmployeeAvroRecord, DataFormat.AVRO);
+        GlueSchemaRegistryDeserializationFacade glueSchemaRegistryDeserializationFacade =
+                createGSRDeserializationFacade(mockSchemaRegistryClient);
+
+        List<Object> results = glueSchemaRegistryDeserializationFacade.deserializeBatch(Arrays.asList(
+                ByteBuffer.wrap(userData), null, ByteBuffer.wrap(employeeData), ByteBuffer.wrap(userData),
+                ByteBuffer.wrap(compressedEmployeeData)));
+
+        assertEquals(5, results.size());
+        assertEquals(genericUserAvroRecord.toString(), results.get(0).toString());
+        assertEquals(null, results.get(1));
+        assertEquals(genericEmployeeAvroRecord.toString(), results.get(2).toString());
+        assertEquals(genericUserAvroRecord.toString(), results.get(3).toString());
+        assertEquals(genericEmployeeAvroRecord.toString(), results.get(4).toString());
+        verify(mockSchemaRegistryClient, times(1)).getSchemaVersionResponse(USER_SCHEMA_VERSION_ID.toString());
+        verify(mockSchemaRegistryClient, times(1)).getSchemaVersionResponse(EMPLOYEE_SCHEMA_VERSION_ID.toString());
+        configs.remove(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE);
+    }
+
+    /**
+     * Tests batch de-serialization is traced, records sizes per record and counts failures.
+     */
+    @Test
+    public void testDeserializeBatch_metricsAndTracingConfigured_recordsMetricsAndTrace() {
+        List<GlueSchemaRegistryTrace> traces = new ArrayList<>();
+        GlueSchemaRegistryMetrics metrics = Mockito.mock(GlueSchemaRegistryMetrics.class);
+        when(metrics.isEnabled()).thenReturn(true);
+        configs.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, metrics);
+        configs.put(AWSSchemaRegistryConstants.TRACING_PROVIDER, (GlueSchemaRegistryTracer) traces::add);
+        configs.put(AWSSchemaRegistryConstants.TRACING_SAMPLE_RATE, "1.0");
+        configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+        byte[] userData = createSerializedUserData(genericUserAvroRecord, DataFormat.AVRO);
+        GlueSchemaRegistryDeserializationFacade glueSchemaRegistryDeserializationFacade =
+                createGSRDeserializationFacade(mockSchemaRegistryClient);
+
+        glueSchemaRegistryDeserializationFacade.deserializeBatch(
+                Arrays.asList(ByteBuffer.wrap(userData), ByteBuffer.wrap(userData)));
+        assertThrows(GlueSchemaRegistryIncompatibleDataException.class,
+                     () -> glueSchemaRegistryDeserializationFacade.deserializeBatch(
+                             Arrays.asList(ByteBuffer.wrap(userData), ByteBuffer.wrap(new byte[] {1}))));
+
+        verify(metrics, times(2)).recordAmount(GlueSchemaRegistryMetricNames.ENCODED_SIZE, userData.length,
+                GlueSchemaRegistryMetricNames.TAG_OPERATION, GlueSchemaRegistryMetricNames.OPERATION_DESERIALIZE,
+                GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, DataFormat.AVRO.name(),
+                GlueSchemaRegistryMetricNames.TAG_COMPRESSION, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        verify(metrics).increment(GlueSchemaRegistryMetricNames.SERDE_ERRORS,
+                GlueSchemaRegistryMetricNames.TAG_OPERATION, GlueSchemaRegistryMetricNames.OPERATION_DESERIALIZE,
+                GlueSchemaRegistryMetricNames.TAG_ERROR_TYPE, "GlueSchemaRegistryIncompatibleDataException");
+        assertEquals(2, traces.size());
+        assertEquals(GlueSchemaRegistryTrace.OPERATION_DESERIALIZE_BATCH, traces.get(0).getOperation());
+        assertEquals(Arrays.asList(GlueSchemaRegistryTrace.PHASE_HEADER_PARSE, GlueSchemaRegistryTrace.PHASE_SCHEMA_LOOKUP,
+                                   GlueSchemaRegistryTrace.PHASE_FORMAT_DECODE),
+                     traces.get(0).getPhases().stream().map(GlueSchemaRegistryTrace.Phase::getName)
+                             .collect(Collectors.toList()));
+        assertTrue(traces.get(1).getError() instanceof GlueSchemaRegistryIncompatibleDataException);
+
+        configs.remove(AWSSchemaRegistryConstants.METRICS_PROVIDER);
+        configs.remove(AWSSchemaRegistryConstants.TRACING_PROVIDER);
+        configs.remove(AWSSchemaRegistryConstants.TRACING_SAMPLE_RATE);
+        configs.remove(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE);
+    }
+
+    /**
+     * Tests the de-serialization failures are counted by error type.
+     */
+    @Test
+    public void testDeserialize_metricsConfiguredInvalidData_countsError() {
+        GlueSchemaRegistryMetrics metrics = Mockito.mock(GlueSchemaRegistryMetrics.class);
+        configs.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, metrics);
+        GlueSchemaRegistryDeserializationFacade glueSchemaRegistryDeserializationFacade =
+                createGSRDeserializationFacade();
+        byte[] serializedData =
+                new byte[]{AWSSchemaRegistryConstants.HEADER_VERSION_BYTE, AWSSchemaRegistryConstants.COMPRESSION_BYTE};
+
+        assertThrows(GlueSchemaRegistryIncompatibleDataException.class,
+                     () -> glueSchemaRegistryDeserializationFacade.deserialize(
+                             prepareDeserializerInput(serializedData)));
+
+        verify(metrics).increment(GlueSchemaRegistryMetricNames.SERDE_ERRORS,
+                GlueSchemaRegistryMetricNames.TAG_OPERATION, GlueSchemaRegistryMetricNames.OPERATION_DESERIALIZE,
+                GlueSchemaRegistryMetricNames.TAG_ERROR_TYPE, "GlueSchemaRegistryIncompatibleDataException");
+        configs.remove(AWSSchemaRegistryConstants.METRICS_PROVIDER);
+    }
+
     /**
      * Tests the de-serialization negative case UnknownDataException.
      */
@@ -754,23 +998,21 @@ public class GlueSchemaRegistryDeserializationFacadeTest {
         GlueSchemaRegistryDeserializationFacade glueSchemaRegistryDeserializationFacade =
                 createGSRDeserializationFacade(mockSchemaRegistryClient);
 
-        LoadingCache<UUID, Schema> cache = glueSchemaRegistryDeserializationFacade.cache;
+        GlueSchemaRegistryLoadingCache<UUID, Schema> cache = glueSchemaRegistryDeserializationFacade.cache;
 
         //Make sure cache is empty to start with.
-        assertEquals(0, cache.size());
+        assertEquals(0, cache.getCacheSize());
 
         assertDoesNotThrow(
             () -> glueSchemaRegistryDeserializationFacade.deserialize(prepareDeserializerInput(serializedData)));
 
         //Ensure cache only one value as desired.
-        assertEquals(1, cache.size());
+        assertEquals(1, cache.getCacheSize());
 
-        Map.Entry<UUID, Schema> cacheEntry = (Map.Entry<UUID, Schema>) cache.asMap().entrySet().toArray()[0];
         Schema expectedSchema = new Schema(inputSchemaDefinition, dataFormat, "test_schema");
 
         //Verify cache contents.
-        assertEquals(schemaVersionId, cacheEntry.getKey());
-        assertEquals(expectedSchema, cacheEntry.getValue());
+        assertEquals(expectedSchema, cache.get(schemaVersionId));
 
         //Expire cache.
         cache.refresh(schemaVersionId);
@@ -778,7 +1020,7 @@ public class GlueSchemaRegistryDeserializationFacadeTest {
         //Failed service call shouldn't result in exceptions.
         assertDoesNotThrow(
             () -> glueSchemaRegistryDeserializationFacade.deserialize(prepareDeserializerInput(serializedData)));
-        assertEquals(1, cache.size());
+        assertEquals(1, cache.getCacheSize());
 
         //Subsequent calls shouldn't fail either.
         assertDoesNotThrow(
@@ -786,12 +1028,162 @@ public class GlueSchemaRegistryDeserializationFacadeTest {
         assertDoesNotThrow(
             () ->glueSchemaRegistryDeserializationFacade.deserialize(prepareDeserializerInput(serializedData)));
 
-        verify(mockSchemaRegistryClient, times(2)).getSchemaVersionResponse(Mockito.eq(schemaVersionId.toString()));
+        verify(mockSchemaRegistryClient, timeout(1000).times(2))
+                .getSchemaVersionResponse(Mockito.eq(schemaVersionId.toString()));
 
         configs.remove(AWSSchemaRegistryConstants.COMPRESSION_TYPE);
         configs.remove(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE);
     }
 
+    /**
+     * Tests that schemas fetched by one facade are served from the persistent cache to a new facade.
+     */
+    @Test
+    public void testDeserializer_persistentCacheConfigured_newFacadeSkipsRegistry(@TempDir Path tempDir) {
+        String dataFormat = DataFormat.AVRO.name();
+        UUID schemaVersionId = UUID.randomUUID();
+
+        configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+        configs.put(AWSSchemaRegistryConstants.PERSISTENT_SCHEMA_CACHE_PATH,
+                    tempDir.resolve("schemas.cache").toString());
+
+        byte[] serializedData = createSerializedData(genericUserAvroRecord, DataFormat.valueOf(dataFormat),
+                                                     userSchemaDefinition, schemaVersionId);
+
+        GetSchemaVersionResponse schemaVersionResponse = GetSchemaVersionResponse.builder()
+                .schemaDefinition(userSchemaDefinition)
+                .dataFormat(dataFormat)
+                .schemaArn(TEST_SCHEMA_ARN)
+                .build();
+        when(mockSchemaRegistryClient.getSchemaVersionResponse(Mockito.eq(schemaVersionId.toString())))
+                .thenReturn(schemaVersionResponse);
+
+        GlueSchemaRegistryDeserializationFacade firstFacade = createGSRDeserializationFacade(mockSchemaRegistryClient);
+        assertEquals(genericUserAvroRecord, firstFacade.deserialize(prepareDeserializerInput(serializedData)));
+
+        GlueSchemaRegistryDeserializationFacade restartedFacade =
+                createGSRDeserializationFacade(mockSchemaRegistryClient);
+        assertEquals(genericUserAvroRecord, restartedFacade.deserialize(prepareDeserializerInput(serializedData)));
+        assertEquals(new Schema(userSchemaDefinition, dataFormat, "test_schema"),
+                     restartedFacade.persistentCache.get(schemaVersionId));
+
+        //Refreshing bypasses the persistent cache.
+        restartedFacade.cache.refresh(schemaVersionId);
+
+        verify(mockSchemaRegistryClient, timeout(1000).times(2))
+                .getSchemaVersionResponse(Mockito.eq(schemaVersionId.toString()));
+
+        configs.remove(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE);
+        configs.remove(AWSSchemaRegistryConstants.PERSISTENT_SCHEMA_CACHE_PATH);
+    }
+
+    /**
+     * Tests pre-loading schema version ids populates the cache and prepares the de-serializer.
+     */
+    @Test
+    public void testPreload_schemaVersionIds_loadsCacheAndPreparesDeserializer() {
+        UUID schemaVersionId = UUID.randomUUID();
+        UUID missingSchemaVersionId = UUID.randomUUID();
+        GetSchemaVersionResponse schemaVersionResponse = GetSchemaVersionResponse.builder()
+                .schemaDefinition(userSchemaDefinition)
+                .dataFormat(DataFormat.AVRO)
+                .schemaArn(TEST_SCHEMA_ARN)
+                .build();
+        when(mockSchemaRegistryClient.getSchemaVersionResponse(Mockito.eq(schemaVersionId.toString())))
+                .thenReturn(schemaVersionResponse);
+        when(mockSchemaRegistryClient.getSchemaVersionResponse(Mockito.eq(missingSchemaVersionId.toString())))
+                .thenThrow(new AWSSchemaRegistryException("Schema version not found"));
+        when(mockDeserializerFactory.getInstance(Mockito.eq(DataFormat.AVRO), Mockito.any()))
+                .thenReturn(mockDataFormatDeserializer);
+
+        GlueSchemaRegistryDeserializationFacade glueSchemaRegistryDeserializationFacade =
+                createGSRDeserializationFacade(mockDeserializerFactory);
+
+        assertEquals(1, glueSchemaRegistryDeserializationFacade.preload(
+                Arrays.asList(schemaVersionId, missingSchemaVersionId)));
+
+        Schema expectedSchema = new Schema(userSchemaDefinition, DataFormat.AVRO.name(), "test_schema");
+        assertEquals(expectedSchema, glueSchemaRegistryDeserializationFacade.cache.get(schemaVersionId));
+        verify(mockDataFormatDeserializer).preload(expectedSchema);
+    }
+
+    /**
+     * Tests pre-loading the latest versions of schema names, with and without a registry name.
+     */
+    @Test
+    public void testPreloadLatestSchemaVersions_schemaNames_loadsLatestVersions() {
+        UUID userSchemaVersionId = UUID.randomUUID();
+        UUID employeeSchemaVersionId = UUID.randomUUID();
+        when(mockSchemaRegistryClient.getLatestSchemaVersionResponse(USER_SCHEMA_NAME,
+                                                                     AWSSchemaRegistryConstants.DEFAULT_REGISTRY_NAME))
+                .thenReturn(GetSchemaVersionResponse.builder()
+                        .schemaVersionId(userSchemaVersionId.toString())
+                        .schemaDefinition(userSchemaDefinition)
+                        .dataFormat(DataFormat.AVRO)
+                        .build());
+        when(mockSchemaRegistryClient.getLatestSchemaVersionResponse(EMPLOYEE_SCHEMA_NAME, "other-registry"))
+                .thenReturn(GetSchemaVersionResponse.builder()
+                        .schemaVersionId(employeeSchemaVersionId.toString())
+                        .schemaDefinition(employeeSchemaDefinition)
+                        .dataFormat(DataFormat.AVRO)
+                        .build());
+        when(mockDeserializerFactory.getInstance(Mockito.eq(DataFormat.AVRO), Mockito.any()))
+                .thenReturn(mockDataFormatDeserializer);
+
+        GlueSchemaRegistryDeserializationFacade glueSchemaRegistryDeserializationFacade =
+                createGSRDeserializationFacade(mockDeserializerFactory);
+
+        assertEquals(2, glueSchemaRegistryDeserializationFacade.preloadLatestSchemaVersions(
+                Arrays.asList(USER_SCHEMA_NAME, "other-registry/" + EMPLOYEE_SCHEMA_NAME)));
+
+        Schema expectedEmployeeSchema =
+                new Schema(employeeSchemaDefinition, DataFormat.AVRO.name(), EMPLOYEE_SCHEMA_NAME);
+        assertEquals(new Schema(userSchemaDefinition, DataFormat.AVRO.name(), USER_SCHEMA_NAME),
+                     glueSchemaRegistryDeserializationFacade.cache.get(userSchemaVersionId));
+        assertEquals(expectedEmployeeSchema,
+                     glueSchemaRegistryDeserializationFacade.cache.get(employeeSchemaVersionId));
+        verify(mockDataFormatDeserializer).preload(expectedEmployeeSchema);
+    }
+
+    /**
+     * Tests schemas listed in the configuration are pre-loaded in the background when the facade is created.
+     */
+    @Test
+    public void testConstructor_preloadConfigured_loadsSchemasInBackground(@TempDir Path tempDir) {
+        UUID schemaVersionId = UUID.randomUUID();
+        when(mockSchemaRegistryClient.getSchemaVersionResponse(Mockito.eq(schemaVersionId.toString())))
+                .thenReturn(GetSchemaVersionResponse.builder()
+                        .schemaDefinition(userSchemaDefinition)
+                        .dataFormat(DataFormat.AVRO)
+                        .schemaArn(TEST_SCHEMA_ARN)
+                        .build());
+        when(mockSchemaRegistryClient.getLatestSchemaVersionResponse(EMPLOYEE_SCHEMA_NAME,
+                                                                     AWSSchemaRegistryConstants.DEFAULT_REGISTRY_NAME))
+                .thenReturn(GetSchemaVersionResponse.builder()
+                        .schemaVersionId(EMPLOYEE_SCHEMA_VERSION_ID.toString())
+                        .schemaDefinition(employeeSchemaDefinition)
+                        .dataFormat(DataFormat.AVRO)
+                        .build());
+
+        configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+        configs.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMA_VERSION_IDS, schemaVersionId.toString());
+        configs.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMA_NAMES, EMPLOYEE_SCHEMA_NAME);
+        configs.put(AWSSchemaRegistryConstants.PERSISTENT_SCHEMA_CACHE_PATH,
+                    tempDir.resolve("schemas.cache").toString());
+
+        GlueSchemaRegistryDeserializationFacade glueSchemaRegistryDeserializationFacade =
+                createGSRDeserializationFacade(mockSchemaRegistryClient);
+
+        assertEquals(2, glueSchemaRegistryDeserializationFacade.getConfiguredSchemasPreload().join());
+        assertEquals(2, glueSchemaRegistryDeserializationFacade.cache.getCacheSize());
+        assertNotNull(glueSchemaRegistryDeserializationFacade.persistentCache.get(EMPLOYEE_SCHEMA_VERSION_ID));
+
+        configs.remove(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE);
+        configs.remove(AWSSchemaRegistryConstants.PRELOAD_SCHEMA_VERSION_IDS);
+        configs.remove(AWSSchemaRegistryConstants.PRELOAD_SCHEMA_NAMES);
+        configs.remove(AWSSchemaRegistryConstants.PERSISTENT_SCHEMA_CACHE_PATH);
+    }
+
     /**
      * Tests invoking close method.
      */
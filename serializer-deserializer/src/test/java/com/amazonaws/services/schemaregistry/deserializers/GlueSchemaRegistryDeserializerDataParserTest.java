@@ -14,8 +14,11 @@
  */
 package com.amazonaws.services.schemaregistry.deserializers;
 
+import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDefaultCompression;
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.GlueSchemaRegistryIncompatibleDataException;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -25,12 +28,16 @@ import org.junit.platform.commons.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -142,9 +149,121 @@ public class GlueSchemaRegistryDeserializerDataParserTest {
                                                                                            errorBuilder));
     }
 
+    /**
+     * Tests that uncompressed data is returned as a view over the input without copying.
+     */
+    @Test
+    public void test_GetPlainDataAsByteBuffer_Uncompressed_SharesInputContent() {
+        byte[] payload = new byte[] { 1, 2, 3, 4 };
+        byte[] serializedData = withPayload(constructSerializedData(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE,
+            AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE, UUID.randomUUID()), payload);
+
+        ByteBuffer plainData =
+            GlueSchemaRegistryDeserializerDataParser.getInstance().getPlainDataAsByteBuffer(ByteBuffer.wrap(serializedData));
+
+        assertEquals(payload.length, plainData.remaining());
+        assertSame(serializedData, plainData.array());
+        assertEquals(18, plainData.arrayOffset() + plainData.position());
+        assertArrayEquals(payload, GlueSchemaRegistryDeserializerDataParser.getInstance()
+            .getPlainData(ByteBuffer.wrap(serializedData)));
+    }
+
+    /**
+     * Tests that the read-only property of the input is retained by the returned view.
+     */
+    @Test
+    public void test_GetPlainDataAsByteBuffer_ReadOnlyInput_ReturnsReadOnlyView() {
+        byte[] payload = new byte[] { 1, 2, 3, 4 };
+        byte[] serializedData = withPayload(constructSerializedData(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE,
+            AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE, UUID.randomUUID()), payload);
+
+        ByteBuffer plainData = GlueSchemaRegistryDeserializerDataParser.getInstance()
+            .getPlainDataAsByteBuffer(ByteBuffer.wrap(serializedData).asReadOnlyBuffer());
+
+        assertTrue(plainData.isReadOnly());
+        byte[] actual = new byte[plainData.remaining()];
+        plainData.get(actual);
+        assertArrayEquals(payload, actual);
+    }
+
+    /**
+     * Tests that compressed data held in a sliced buffer is decompressed from the right offset.
+     */
+    @Test
+    public void test_GetPlainDataAsByteBuffer_CompressedSlicedInput_Decompresses() throws Exception {
+        byte[] payload = "Some data that is compressed".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = new GlueSchemaRegistryDefaultCompression().compress(payload);
+        byte[] serializedData = withPayload(constructSerializedData(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE,
+            AWSSchemaRegistryConstants.COMPRESSION_BYTE, UUID.randomUUID()), compressed);
+
+        byte[] prefixed = new byte[serializedData.length + 3];
+        System.arraycopy(serializedData, 0, prefixed, 3, serializedData.length);
+        ByteBuffer input = ByteBuffer.wrap(prefixed);
+        input.position(3);
+
+        ByteBuffer plainData =
+            GlueSchemaRegistryDeserializerDataParser.getInstance().getPlainDataAsByteBuffer(input.slice());
+
+        byte[] actual = new byte[plainData.remaining()];
+        plainData.get(actual);
+        assertArrayEquals(payload, actual);
+    }
+
+    /**
+     * Tests that with decompression buffer re-use, compressed data is decompressed into a per thread buffer.
+     */
+    @Test
+    public void test_GetPlainDataAsByteBuffer_ReuseDecompressionBuffer_ReusesBufferAcrossRecords() {
+        GlueSchemaRegistryDeserializerDataParser parser = GlueSchemaRegistryDeserializerDataParser.getInstance(
+            new GlueSchemaRegistryConfiguration(ImmutableMap.of(
+                AWSSchemaRegistryConstants.AWS_REGION, "us-west-2",
+                AWSSchemaRegistryConstants.REUSE_DECOMPRESSION_BUFFER, "true")));
+        GlueSchemaRegistryDefaultCompression compression = new GlueSchemaRegistryDefaultCompression();
+        UUID schemaVersionId = UUID.randomUUID();
+
+        ByteBuffer previous = null;
+        for (int size : new int[] {100, 3000, 3000, 10}) {
+            byte[] payload = new byte[size];
+            Arrays.fill(payload, (byte) size);
+            byte[] serializedData = withPayload(constructSerializedData(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE,
+                AWSSchemaRegistryConstants.COMPRESSION_BYTE, schemaVersionId), compression.compress(payload));
+
+            ByteBuffer plainData = parser.getPlainDataAsByteBuffer(ByteBuffer.wrap(serializedData));
+
+            byte[] actual = new byte[plainData.remaining()];
+            plainData.duplicate().get(actual);
+            assertArrayEquals(payload, actual);
+            if (previous != null && size <= previous.capacity()) {
+                assertSame(previous.array(), plainData.array());
+            }
+            previous = plainData;
+
+            //getPlainData always returns a copy owned by the caller.
+            assertArrayEquals(payload, parser.getPlainData(ByteBuffer.wrap(serializedData)));
+            assertFalse(parser.getPlainData(ByteBuffer.wrap(serializedData)) == plainData.array());
+        }
+    }
+
+    @Test
+    public void test_GetInstance_DefaultConfiguration_ReturnsSingleton() {
+        assertSame(GlueSchemaRegistryDeserializerDataParser.getInstance(),
+                   GlueSchemaRegistryDeserializerDataParser.getInstance(
+                       new GlueSchemaRegistryConfiguration(ImmutableMap.of(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2"))));
+        assertSame(GlueSchemaRegistryDeserializerDataParser.getInstance(),
+                   GlueSchemaRegistryDeserializerDataParser.getInstance(null));
+    }
+
+    private static byte[] withPayload(byte[] header, byte[] payload) {
+        byte[] data = new byte[header.length + payload.length];
+        System.arraycopy(header, 0, data, 0, header.length);
+        System.arraycopy(payload, 0, data, header.length, payload.length);
+        return data;
+    }
+
     private static Stream<Arguments> testAWSDeserializeDataParserMethods() {
         return ImmutableSet.of(
             "getPlainData",
+            "getPlainDataAsByteBuffer",
             "getSchemaVersionId",
             "isCompressionEnabled",
             "getCompressionByte",
@@ -14,6 +14,7 @@
  */
 package com.amazonaws.services.schemaregistry.deserializers;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
 import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatDeserializer;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.deserializers.avro.AvroDeserializer;
@@ -27,10 +28,13 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.glue.model.DataFormat;
 
+import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -75,6 +79,50 @@ public class GlueSchemaRegistryDeserializerFactoryTest {
         }
     }
 
+    /**
+     * Test for cache statistics reported for the created de-serializers only.
+     */
+    @Test
+    public void testGetCacheStats_createdDeserializers_reportsStatsByDataFormat() {
+        GlueSchemaRegistryConfiguration configs = new GlueSchemaRegistryConfiguration(getTestConfigMap());
+        GlueSchemaRegistryDeserializerFactory glueSchemaRegistryDeserializerFactory =
+                new GlueSchemaRegistryDeserializerFactory();
+        glueSchemaRegistryDeserializerFactory.getInstance(DataFormat.AVRO, configs);
+        glueSchemaRegistryDeserializerFactory.getInstance(DataFormat.JSON, configs);
+
+        Map<DataFormat, GlueSchemaRegistryCacheStats> cacheStats = glueSchemaRegistryDeserializerFactory.getCacheStats();
+
+        assertEquals(2, cacheStats.size());
+        assertEquals(0L, cacheStats.get(DataFormat.AVRO).getEvictionCount());
+        assertEquals(0L, cacheStats.get(DataFormat.JSON).getRequestCount());
+    }
+
+    /**
+     * Test for the de-serializers of all data formats sharing the data parser given to the factory.
+     */
+    @ParameterizedTest
+    @EnumSource(value = DataFormat.class, mode = EnumSource.Mode.EXCLUDE, names = {"UNKNOWN_TO_SDK_VERSION"})
+    public void testGetInstance_sharedDataParser_usedByDeserializer(DataFormat dataFormat) throws Exception {
+        Map<String, Object> configMap = getTestConfigMap();
+        configMap.put(AWSSchemaRegistryConstants.COMPRESSION_POOL_SIZE, "4");
+        GlueSchemaRegistryConfiguration configs = new GlueSchemaRegistryConfiguration(configMap);
+        GlueSchemaRegistryDeserializerDataParser dataParser = GlueSchemaRegistryDeserializerDataParser.getInstance(configs);
+        GlueSchemaRegistryDeserializerFactory glueSchemaRegistryDeserializerFactory =
+                new GlueSchemaRegistryDeserializerFactory(dataParser);
+
+        GlueSchemaRegistryDataFormatDeserializer deserializer =
+                glueSchemaRegistryDeserializerFactory.getInstance(dataFormat, configs);
+
+        assertSame(dataParser, getDataParser(deserializer));
+        assertNotSame(dataParser, getDataParser(new GlueSchemaRegistryDeserializerFactory().getInstance(dataFormat, configs)));
+    }
+
+    private static Object getDataParser(GlueSchemaRegistryDataFormatDeserializer deserializer) throws Exception {
+        Field dataParserField = deserializer.getClass().getDeclaredField("dataParser");
+        dataParserField.setAccessible(true);
+        return dataParserField.get(deserializer);
+    }
+
     /**
      * Test for unsupported de-serializer instance creation with combinations of
      * configurations.
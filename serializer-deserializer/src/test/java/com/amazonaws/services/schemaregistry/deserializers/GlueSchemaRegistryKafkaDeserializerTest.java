@@ -16,6 +16,9 @@ package com.amazonaws.services.schemaregistry.deserializers;
 
 import com.amazonaws.services.schemaregistry.common.AWSDeserializerInput;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,13 +27,18 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -176,4 +184,55 @@ public class GlueSchemaRegistryKafkaDeserializerTest {
 
         assertDoesNotThrow(() -> glueSchemaRegistryKafkaDeserializer.close());
     }
+
+    /**
+     * Tests the values of polled records are de-serialized in one batch, falling back to the secondary de-serializer
+     * for records not written by a Glue Schema Registry serializer.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDeserializeValues_mixedRecords_deserializesInOrder() {
+        Object expectedObject = new Object();
+        GlueSchemaRegistryDeserializationFacade
+                glueSchemaRegistryDeserializationFacade = mock(GlueSchemaRegistryDeserializationFacade.class);
+        when(glueSchemaRegistryDeserializationFacade.deserializeBatch(Mockito.anyList()))
+                .thenReturn(Collections.singletonList(expectedObject));
+        GlueSchemaRegistryKafkaDeserializer glueSchemaRegistryKafkaDeserializer =
+                new GlueSchemaRegistryKafkaDeserializer(this.mockCredProvider, null);
+        glueSchemaRegistryKafkaDeserializer.setGlueSchemaRegistryDeserializationFacade(glueSchemaRegistryDeserializationFacade);
+        configs.put(AWSSchemaRegistryConstants.SECONDARY_DESERIALIZER,
+                    "com.amazonaws.services.schemaregistry.deserializers.external.ThirdPartyDeserializer");
+        glueSchemaRegistryKafkaDeserializer.configure(configs, false);
+        byte[] glueData = new byte[] { AWSSchemaRegistryConstants.HEADER_VERSION_BYTE };
+        ConsumerRecords<byte[], byte[]> records = new ConsumerRecords<>(Collections.singletonMap(
+                new TopicPartition("TestTopic", 0),
+                Arrays.asList(new ConsumerRecord<>("TestTopic", 0, 0L, null, glueData),
+                              new ConsumerRecord<>("TestTopic", 0, 1L, null, null),
+                              new ConsumerRecord<>("TestTopic", 0, 2L, null, new byte[] { 1, 2 }))));
+
+        List<Object> results = glueSchemaRegistryKafkaDeserializer.deserializeValues(records);
+
+        assertEquals(3, results.size());
+        assertSame(expectedObject, results.get(0));
+        assertNull(results.get(1));
+        assertNotNull(results.get(2));
+        Mockito.verify(glueSchemaRegistryDeserializationFacade)
+                .deserializeBatch(Collections.singletonList(ByteBuffer.wrap(glueData)));
+    }
+
+    /**
+     * Tests a batch without Glue Schema Registry data does not call the facade.
+     */
+    @Test
+    public void testDeserializeBatch_onlyNullData_returnsNulls() {
+        GlueSchemaRegistryDeserializationFacade
+                glueSchemaRegistryDeserializationFacade = mock(GlueSchemaRegistryDeserializationFacade.class);
+        GlueSchemaRegistryKafkaDeserializer glueSchemaRegistryKafkaDeserializer =
+                new GlueSchemaRegistryKafkaDeserializer(this.mockCredProvider, null);
+        glueSchemaRegistryKafkaDeserializer.setGlueSchemaRegistryDeserializationFacade(glueSchemaRegistryDeserializationFacade);
+
+        assertEquals(Arrays.asList(null, null),
+                     glueSchemaRegistryKafkaDeserializer.deserializeBatch("TestTopic", Arrays.asList(null, null)));
+        Mockito.verifyNoInteractions(glueSchemaRegistryDeserializationFacade);
+    }
 }
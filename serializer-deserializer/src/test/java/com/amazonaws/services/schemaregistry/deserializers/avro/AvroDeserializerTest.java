@@ -46,13 +46,16 @@ import software.amazon.awssdk.services.glue.model.DataFormat;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -295,7 +298,72 @@ public class AvroDeserializerTest {
         Object deserializedObject = avroDeserializer.deserialize(serializedData, schemaObject);
         assertGenericRecord(genericRecord, deserializedObject);
         //Assert the instance is getting cached.
-        assertEquals(1, avroDeserializer.getDatumReaderCache().size());
+        assertEquals(1, avroDeserializer.getDatumReaderCache().getCacheSize());
+    }
+
+    /**
+     * Test whether a batch of serialized generic records is de-serialized back in order
+     * while resolving the datum reader once.
+     */
+    @ParameterizedTest
+    @EnumSource(AWSSchemaRegistryConstants.COMPRESSION.class)
+    public void testDeserializeBatch_genericRecords_equalsOriginal(AWSSchemaRegistryConstants.COMPRESSION compressionType) {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, compressionType.name(), DataFormat.AVRO);
+        org.apache.avro.Schema schema = SchemaLoader.loadAvroSchema(AVRO_USER_SCHEMA_FILE);
+        AvroDeserializer avroDeserializer = createAvroDeserializer(AvroRecordType.GENERIC_RECORD);
+
+        com.amazonaws.services.schemaregistry.common.Schema schemaObject = new com.amazonaws.services.schemaregistry.common.Schema(
+                schema.toString(), DataFormat.AVRO.name(), "testAvroSchema");
+
+        List<Object> deserializedObjects = avroDeserializer.deserializeBatch(
+                Arrays.asList(serializedData, serializedData.duplicate()), schemaObject);
+        assertEquals(2, deserializedObjects.size());
+        assertGenericRecord(genericRecord, deserializedObjects.get(0));
+        assertGenericRecord(genericRecord, deserializedObjects.get(1));
+        assertEquals(1, avroDeserializer.getDatumReaderCache().getCacheSize());
+    }
+
+    /**
+     * Test whether records are de-serialized into the given record with a re-used per thread decoder.
+     */
+    @ParameterizedTest
+    @EnumSource(AWSSchemaRegistryConstants.COMPRESSION.class)
+    public void testDeserialize_reuseDecoderAndRecord_fillsGivenRecord(AWSSchemaRegistryConstants.COMPRESSION compressionType) {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, compressionType.name(), DataFormat.AVRO);
+        org.apache.avro.Schema schema = SchemaLoader.loadAvroSchema(AVRO_USER_SCHEMA_FILE);
+        com.amazonaws.services.schemaregistry.common.Schema schemaObject = new com.amazonaws.services.schemaregistry.common.Schema(
+                schema.toString(), DataFormat.AVRO.name(), "testAvroSchema");
+
+        this.configs.put(AWSSchemaRegistryConstants.REUSE_AVRO_DECODER, "true");
+        this.schemaRegistrySerDeConfigs = new GlueSchemaRegistryConfiguration(this.configs);
+        AvroDeserializer avroDeserializer = createAvroDeserializer(AvroRecordType.GENERIC_RECORD);
+
+        Object first = avroDeserializer.deserialize(serializedData, schemaObject);
+        Object second = avroDeserializer.deserialize(serializedData.duplicate(), schemaObject, first);
+        List<Object> batch = avroDeserializer.deserializeBatch(Arrays.asList(serializedData.duplicate()), schemaObject);
+
+        assertGenericRecord(genericRecord, first);
+        assertSame(first, second);
+        assertGenericRecord(genericRecord, batch.get(0));
+        this.configs.remove(AWSSchemaRegistryConstants.REUSE_AVRO_DECODER);
+    }
+
+    /**
+     * Test whether a batch containing an invalid record surfaces an AWSSchemaRegistryException.
+     */
+    @Test
+    public void testDeserializeBatch_invalidBytes_throwsException() {
+        org.apache.avro.Schema schema = SchemaLoader.loadAvroSchema(AVRO_USER_SCHEMA_FILE);
+        AvroDeserializer avroDeserializer = createAvroDeserializer(AvroRecordType.GENERIC_RECORD);
+        com.amazonaws.services.schemaregistry.common.Schema schemaObject = new com.amazonaws.services.schemaregistry.common.Schema(
+                schema.toString(), DataFormat.AVRO.name(), "testAvroSchema");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                () -> avroDeserializer.deserializeBatch(Arrays.asList(ByteBuffer.wrap(new byte[] {1, 2, 3})), schemaObject));
+        assertEquals("Exception occurred while de-serializing Avro messages", exception.getMessage());
     }
 
     public void assertGenericRecord(GenericRecord genericRecord, Object deserializedObject) {
@@ -323,7 +391,7 @@ public class AvroDeserializerTest {
         Object deserializedObject = avroDeserializer.deserialize(serializedData, schemaObject);
 
         //Assert the instance is getting cached.
-        assertEquals(1, avroDeserializer.getDatumReaderCache().size());
+        assertEquals(1, avroDeserializer.getDatumReaderCache().getCacheSize());
         assertGenericRecordWithSpecificRecordMode(genericRecord, deserializedObject);
     }
 
@@ -787,6 +855,20 @@ public class AvroDeserializerTest {
         assertThrows((IllegalArgumentException.class), () -> avroDeserializer.deserialize(serializedByteBuffer, null));
     }
 
+    /**
+     * Test preload creates the datum reader for the schema.
+     */
+    @Test
+    public void testPreload_validSchema_cachesDatumReader() {
+        AvroDeserializer avroDeserializer = createAvroDeserializer(AvroRecordType.GENERIC_RECORD);
+        com.amazonaws.services.schemaregistry.common.Schema schemaObject = new com.amazonaws.services.schemaregistry.common.Schema(
+                "{\"type\": \"string\"}", DataFormat.AVRO.name(), "testAvroSchema");
+
+        avroDeserializer.preload(schemaObject);
+
+        assertEquals(1, avroDeserializer.getDatumReaderCache().getCacheSize());
+    }
+
     /**
      * Helper method to get SerializedByteBuffer Data for test
      */
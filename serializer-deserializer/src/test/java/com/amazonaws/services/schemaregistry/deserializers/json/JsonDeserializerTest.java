@@ -14,6 +14,16 @@
  */
 package com.amazonaws.services.schemaregistry.deserializers.json;
 
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.serializers.SerializationDataEncoder;
+import com.amazonaws.services.schemaregistry.serializers.json.Car;
+import com.amazonaws.services.schemaregistry.serializers.json.JsonDataWithSchema;
+import com.amazonaws.services.schemaregistry.serializers.json.JsonSerializer;
+import com.amazonaws.services.schemaregistry.serializers.json.LazyJsonDataWithSchema;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.amazonaws.services.schemaregistry.utils.RecordGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
 import java.nio.ByteBuffer;
@@ -21,11 +31,21 @@ import java.nio.charset.StandardCharsets;
 import com.amazonaws.services.schemaregistry.common.Schema;
 import software.amazon.awssdk.services.glue.model.DataFormat;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class JsonDeserializerTest {
+    private static final UUID SCHEMA_VERSION_ID = UUID.randomUUID();
+    private static final JsonDataWithSchema GENERIC_TEST_RECORD =
+            RecordGenerator.createGenericJsonRecord(RecordGenerator.TestJsonRecord.GEOLOCATION);
+    private static final Car SPECIFIC_TEST_RECORD = RecordGenerator.createSpecificJsonRecord();
     private JsonDeserializer jsonDeserializer = new JsonDeserializer(null);
 
     @Test
@@ -46,4 +66,107 @@ public class JsonDeserializerTest {
         assertThrows(IllegalArgumentException.class, () -> jsonDeserializer.deserialize(ByteBuffer.wrap(testBytes),
                                                                                         null));
     }
+
+    @Test
+    public void testDeserialize_specificRecordTwice_parsesSchemaOnce() {
+        JsonSerializer jsonSerializer = new JsonSerializer(null);
+        Schema schema = new Schema(jsonSerializer.getSchemaDefinition(SPECIFIC_TEST_RECORD), DataFormat.JSON.name(),
+                                   "testJson");
+        ByteBuffer data = encode(jsonSerializer.serialize(SPECIFIC_TEST_RECORD));
+
+        assertEquals(SPECIFIC_TEST_RECORD, jsonDeserializer.deserialize(data, schema));
+        assertEquals(SPECIFIC_TEST_RECORD, jsonDeserializer.deserialize(data, schema));
+        assertEquals(1L, jsonDeserializer.schemaReaderCache.getCacheSize());
+        assertEquals(1L, jsonDeserializer.getCacheStats().getHitCount());
+    }
+
+    @Test
+    public void testDeserialize_genericRecord_returnsJsonDataWithSchema() throws Exception {
+        Schema schema = new Schema(GENERIC_TEST_RECORD.getSchema(), DataFormat.JSON.name(), "testJson");
+        ByteBuffer data = encode(GENERIC_TEST_RECORD.getPayload().getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(normalize(GENERIC_TEST_RECORD), jsonDeserializer.deserialize(data, schema));
+    }
+
+    @Test
+    public void testDeserialize_lazyEnvelopeType_returnsLazyJsonDataWithSchema() throws Exception {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.JSON_ENVELOPE_TYPE, "LAZY");
+        JsonDeserializer lazyDeserializer = new JsonDeserializer(new GlueSchemaRegistryConfiguration(configs));
+        Schema schema = new Schema(GENERIC_TEST_RECORD.getSchema(), DataFormat.JSON.name(), "testJson");
+        byte[] payload = GENERIC_TEST_RECORD.getPayload().getBytes(StandardCharsets.UTF_8);
+
+        Object deserialized = lazyDeserializer.deserialize(encode(payload), schema);
+
+        assertTrue(deserialized instanceof LazyJsonDataWithSchema);
+        LazyJsonDataWithSchema envelope = (LazyJsonDataWithSchema) deserialized;
+        assertEquals(normalize(GENERIC_TEST_RECORD).getSchema(), envelope.getSchema());
+        assertArrayEquals(payload, envelope.getPayloadBytes());
+        assertEquals(GENERIC_TEST_RECORD.getPayload(), envelope.getPayload());
+        assertEquals(new ObjectMapper().readTree(payload), envelope.getPayloadNode());
+        assertSame(envelope.getPayloadNode(), envelope.getPayloadNode());
+        assertEquals(normalize(GENERIC_TEST_RECORD), envelope.toJsonDataWithSchema());
+    }
+
+    @Test
+    public void testDeserialize_directBuffers_equalsOriginal() throws Exception {
+        JsonSerializer jsonSerializer = new JsonSerializer(null);
+        Schema specificSchema = new Schema(jsonSerializer.getSchemaDefinition(SPECIFIC_TEST_RECORD),
+                                           DataFormat.JSON.name(), "testJson");
+        Schema genericSchema = new Schema(GENERIC_TEST_RECORD.getSchema(), DataFormat.JSON.name(), "testJson");
+
+        assertEquals(SPECIFIC_TEST_RECORD,
+                     jsonDeserializer.deserialize(toDirect(encode(jsonSerializer.serialize(SPECIFIC_TEST_RECORD))),
+                                                  specificSchema));
+        assertEquals(normalize(GENERIC_TEST_RECORD), jsonDeserializer.deserialize(
+                toDirect(encode(GENERIC_TEST_RECORD.getPayload().getBytes(StandardCharsets.UTF_8))), genericSchema));
+    }
+
+    @Test
+    public void testPreload_schema_loadsSchemaReader() {
+        Schema schema = new Schema(GENERIC_TEST_RECORD.getSchema(), DataFormat.JSON.name(), "testJson");
+
+        jsonDeserializer.preload(schema);
+        jsonDeserializer.deserialize(encode(GENERIC_TEST_RECORD.getPayload().getBytes(StandardCharsets.UTF_8)), schema);
+
+        assertEquals(1L, jsonDeserializer.getCacheStats().getMissCount());
+        assertEquals(1L, jsonDeserializer.getCacheStats().getHitCount());
+    }
+
+    @Test
+    public void testDeserialize_invalidPayload_throwsException() {
+        Schema schema = new Schema(GENERIC_TEST_RECORD.getSchema(), DataFormat.JSON.name(), "testJson");
+        ByteBuffer data = encode("{\"latitude\":".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(AWSSchemaRegistryException.class, () -> jsonDeserializer.deserialize(data, schema));
+    }
+
+    @Test
+    public void testDeserialize_unknownClassName_throwsException() {
+        Schema schema = new Schema("{\"type\":\"object\",\"className\":\"com.example.UnknownRecord\"}",
+                                   DataFormat.JSON.name(), "testJson");
+        ByteBuffer data = encode("{}".getBytes(StandardCharsets.UTF_8));
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                                           () -> jsonDeserializer.deserialize(data, schema));
+        assertTrue(exception.getCause() instanceof ClassNotFoundException);
+    }
+
+    private JsonDataWithSchema normalize(JsonDataWithSchema record) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        return JsonDataWithSchema.builder(objectMapper.readTree(record.getSchema()).toString(),
+                                          objectMapper.readTree(record.getPayload()).toString()).build();
+    }
+
+    private ByteBuffer toDirect(ByteBuffer buffer) {
+        ByteBuffer direct = ByteBuffer.allocateDirect(buffer.remaining());
+        direct.put(buffer);
+        direct.flip();
+        return direct;
+    }
+
+    private ByteBuffer encode(byte[] payload) {
+        return ByteBuffer.wrap(new SerializationDataEncoder(new GlueSchemaRegistryConfiguration("us-west-2")).write(payload, SCHEMA_VERSION_ID));
+    }
 }
@@ -17,6 +17,7 @@ import software.amazon.awssdk.services.glue.model.DataFormat;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -167,6 +168,32 @@ public class ProtobufDeserializerTest {
         assertArrayEquals(message.toByteArray(), deserializedObject.toByteArray());
     }
 
+    @ParameterizedTest
+    @MethodSource("testDeserializationMessageProvider")
+    public void testDeserializeBatch_DynamicMessages_Succeeds(Message message, String schemaDef, String schemaName) {
+        byte[] serializedData = protobufSerializer.serialize(message);
+        com.amazonaws.services.schemaregistry.common.Schema schemaObject =
+            new com.amazonaws.services.schemaregistry.common.Schema(
+                schemaDef, DataFormat.PROTOBUF.name(), schemaName);
+        byte[] encodedData = SERIALIZATION_DATA_ENCODER.write(serializedData, SCHEMA_VERSION_ID_FOR_TESTING);
+
+        List<Object> deserializedObjects = protobufDynamicMessageDeserializer.deserializeBatch(
+            Arrays.asList(ByteBuffer.wrap(encodedData), ByteBuffer.wrap(encodedData)), schemaObject);
+
+        assertEquals(2, deserializedObjects.size());
+        for (Object deserializedObject : deserializedObjects) {
+            assertArrayEquals(message.toByteArray(), ((DynamicMessage) deserializedObject).toByteArray());
+        }
+    }
+
+    @Test
+    public void testDeserializeBatch_InvalidBytes_ThrowsException() {
+        ByteBuffer invalidBytes = ByteBuffer.wrap("invalid bytes".getBytes(StandardCharsets.UTF_8));
+        Exception ex = assertThrows(AWSSchemaRegistryException.class,
+            () -> protobufDynamicMessageDeserializer.deserializeBatch(Arrays.asList(invalidBytes), ANY_SCHEMA));
+        assertEquals("Exception occurred while de-serializing Protobuf messages", ex.getMessage());
+    }
+
     @ParameterizedTest
     @MethodSource("testDeserializationMessageProvider")
     public void testDeserialize_WhenDeserializedToPOJO_Succeeds(Message message, String schemaDef, String schemaName) {
@@ -217,6 +244,17 @@ public class ProtobufDeserializerTest {
             protobufDynamicMessageDeserializer.deserialize(byteBuffer, schemaObject);
         }
 
-        assertEquals(3, protobufDynamicMessageDeserializer.schemaParserCache.size());
+        assertEquals(3, protobufDynamicMessageDeserializer.schemaParserCache.getCacheSize());
+    }
+
+    @Test
+    public void testPreload_WhenPreloadIsCalled_CachesFileDescriptor() {
+        Schema schema = new Schema(getTestCaseByName("ComplexNestingSyntax3.proto").getRawSchema(),
+            DataFormat.PROTOBUF.name(), "ComplexNestingSyntax3");
+
+        protobufDynamicMessageDeserializer.preload(schema);
+        protobufDynamicMessageDeserializer.preload(schema);
+
+        assertEquals(1, protobufDynamicMessageDeserializer.schemaParserCache.getCacheSize());
     }
 }
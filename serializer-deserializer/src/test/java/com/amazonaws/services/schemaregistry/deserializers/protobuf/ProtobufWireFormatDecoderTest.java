@@ -31,6 +31,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 
@@ -50,7 +51,7 @@ public class ProtobufWireFormatDecoderTest {
     @Test
     public void testDecodeDynamicMessage_NullInputStream_ThrowsException() {
         Exception ex = assertThrows(IllegalArgumentException.class,
-            () -> decoder.decode(null, basicFileDescriptor,
+            () -> decoder.decode((byte[]) null, basicFileDescriptor,
                 ProtobufMessageType.DYNAMIC_MESSAGE));
         assertEquals("data is marked non-null but is null", ex.getMessage());
     }
@@ -70,6 +71,32 @@ public class ProtobufWireFormatDecoderTest {
         assertArrayEquals(dynamicMessage.toByteArray(), decoded.toByteArray());
     }
 
+    @ParameterizedTest
+    @MethodSource("getDynamicMessageDecoderTestCases")
+    public void testDecodeBuffer_ValidInputs_ToDynamicMessage_Succeeds(DynamicMessage dynamicMessage, ProtobufMessageType protobufMessageType) throws IOException {
+        byte[] serializedBytes = protobufSerializer.serialize(dynamicMessage);
+        byte[] prefixedBytes = new byte[serializedBytes.length + 2];
+        System.arraycopy(serializedBytes, 0, prefixedBytes, 2, serializedBytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(prefixedBytes);
+        buffer.position(2);
+
+        DynamicMessage decoded = (DynamicMessage) decoder.decode(buffer.slice(), dynamicMessage.getDescriptorForType().getFile(), protobufMessageType);
+        assertArrayEquals(dynamicMessage.toByteArray(), decoded.toByteArray());
+    }
+
+    @ParameterizedTest
+    @MethodSource("getDynamicMessageDecoderTestCases")
+    public void testBatchDecoder_ValidInputs_ToDynamicMessage_Succeeds(DynamicMessage dynamicMessage, ProtobufMessageType protobufMessageType) throws IOException {
+        byte[] serializedBytes = protobufSerializer.serialize(dynamicMessage);
+        ProtobufWireFormatDecoder.BatchDecoder batchDecoder =
+            decoder.batchDecoder(dynamicMessage.getDescriptorForType().getFile(), protobufMessageType);
+
+        for (int i = 0; i < 2; i++) {
+            DynamicMessage decoded = (DynamicMessage) batchDecoder.decode(ByteBuffer.wrap(serializedBytes));
+            assertArrayEquals(dynamicMessage.toByteArray(), decoded.toByteArray());
+        }
+    }
+
     @Test
     public void testDecode_DynamicMessage_CorruptedMessageIndex_ThrowsException() {
         byte[] invalidData = "\uD83D\uDE0B".getBytes(StandardCharsets.UTF_8);
@@ -93,6 +120,36 @@ public class ProtobufWireFormatDecoderTest {
         assertEquals(message, decodedObject);
     }
 
+    @ParameterizedTest
+    @MethodSource("getPOJODecoderTestCases")
+    public void testBatchDecoder_WhenMessagesArePassed_DeserializesThemIntoCorrectPOJOs(Message message, Class<?> expectedClass)
+        throws IOException {
+        byte[] data = protobufSerializer.serialize(message);
+        ProtobufWireFormatDecoder.BatchDecoder batchDecoder =
+            decoder.batchDecoder(message.getDescriptorForType().getFile(), ProtobufMessageType.POJO);
+
+        for (int i = 0; i < 2; i++) {
+            Object decodedObject = batchDecoder.decode(ByteBuffer.wrap(data));
+            assertTrue(expectedClass.isInstance(decodedObject));
+            assertEquals(message, decodedObject);
+        }
+    }
+
+    @Test
+    public void testBatchDecoder_WhenPOJOClassIsNotFound_ThrowsRuntimeException()
+        throws Descriptors.DescriptorValidationException {
+
+        Message nonPOJOExistentMessage = ProtobufGenerator.createRuntimeCompiledRecord();
+        byte[] nonExistentMessageBytes = protobufSerializer.serialize(nonPOJOExistentMessage);
+        ProtobufWireFormatDecoder.BatchDecoder batchDecoder =
+            decoder.batchDecoder(nonPOJOExistentMessage.getDescriptorForType().getFile(), ProtobufMessageType.POJO);
+
+        Exception ex = assertThrows(RuntimeException.class,
+            () -> batchDecoder.decode(ByteBuffer.wrap(nonExistentMessageBytes)));
+        assertEquals("Error de-serializing data into Message class: foo.NonExistent$NonExistentSchema", ex.getMessage());
+        assertEquals(ClassNotFoundException.class, ex.getCause().getClass());
+    }
+
     @Test
     public void testDecode_WhenPOJOClassIsNotFound_ThrowsRuntimeException()
         throws Descriptors.DescriptorValidationException {
@@ -37,7 +37,6 @@ import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.services.glue.model.DataFormat;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -361,17 +360,4 @@ public class GlueSchemaRegistryKafkaSerializerTest extends GlueSchemaRegistryVal
         assertThrows(AWSSchemaRegistryException.class, () -> glueSchemaRegistryKafkaSerializer.serialize("test-topic", array2));
         assertNull(glueSchemaRegistryKafkaSerializer.getSchemaVersionId());
     }
-
-    @Test
-    public void testPrepareInput_nullDefinitionData_throwsException() throws NoSuchMethodException {
-        GlueSchemaRegistryKafkaSerializer glueSchemaRegistryKafkaSerializer = new GlueSchemaRegistryKafkaSerializer();
-        Method method = GlueSchemaRegistryKafkaSerializer.class.getDeclaredMethod("prepareInput", Object.class,
-                                                                                  String.class, Boolean.class);
-        method.setAccessible(true);
-        try {
-            method.invoke(glueSchemaRegistryKafkaSerializer,  null, "User-Topic", true);
-        } catch(Exception e) {
-            assertEquals(IllegalArgumentException.class, e.getCause().getClass());
-        }
-    }
 }
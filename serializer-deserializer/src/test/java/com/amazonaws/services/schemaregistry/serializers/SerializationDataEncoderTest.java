@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.serializers;
+
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.deserializers.GlueSchemaRegistryDeserializerDataParser;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SerializationDataEncoderTest {
+    private static final UUID SCHEMA_VERSION_ID = UUID.fromString("b7b4a7f0-9c96-4e4a-a687-fb5de9ef0c63");
+    private static final byte[] DATA = "Some data to encode".getBytes(StandardCharsets.UTF_8);
+
+    private final SerializationDataEncoder encoder = new SerializationDataEncoder(
+        new GlueSchemaRegistryConfiguration(ImmutableMap.of(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2")));
+
+    @Test
+    public void testWrite_uncompressed_writesHeaderAndData() {
+        byte[] encoded = encoder.write(DATA, SCHEMA_VERSION_ID);
+
+        assertEquals(SerializationDataEncoder.HEADER_SIZE + DATA.length, encoded.length);
+        assertEquals(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE, encoded[0]);
+        assertEquals(AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE, encoded[1]);
+        assertEquals(SCHEMA_VERSION_ID,
+                     GlueSchemaRegistryDeserializerDataParser.getInstance().getSchemaVersionId(ByteBuffer.wrap(encoded)));
+        assertArrayEquals(DATA, Arrays.copyOfRange(encoded, SerializationDataEncoder.HEADER_SIZE, encoded.length));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = AWSSchemaRegistryConstants.COMPRESSION.class, names = {"NONE"}, mode = EnumSource.Mode.EXCLUDE)
+    public void testWrite_compressed_roundTripsThroughParser(AWSSchemaRegistryConstants.COMPRESSION compressionType) {
+        SerializationDataEncoder compressingEncoder = new SerializationDataEncoder(
+            new GlueSchemaRegistryConfiguration(ImmutableMap.of(
+                AWSSchemaRegistryConstants.AWS_REGION, "us-west-2",
+                AWSSchemaRegistryConstants.COMPRESSION_TYPE, compressionType.name())));
+
+        byte[] encoded = compressingEncoder.write(DATA, SCHEMA_VERSION_ID);
+
+        assertEquals(compressionType.getCompressionByte(), encoded[1]);
+        assertArrayEquals(DATA,
+                          GlueSchemaRegistryDeserializerDataParser.getInstance().getPlainData(ByteBuffer.wrap(encoded)));
+    }
+
+    @Test
+    public void testWriteHeaderInPlace_uncompressed_fillsReservedHeader() {
+        byte[] bytes = new byte[SerializationDataEncoder.HEADER_SIZE + DATA.length];
+        System.arraycopy(DATA, 0, bytes, SerializationDataEncoder.HEADER_SIZE, DATA.length);
+
+        byte[] encoded = encoder.writeHeaderInPlace(bytes, SCHEMA_VERSION_ID);
+
+        assertSame(bytes, encoded);
+        assertArrayEquals(encoder.write(DATA, SCHEMA_VERSION_ID), encoded);
+    }
+
+    @Test
+    public void testWriteHeaderInPlace_compressed_roundTripsThroughParser() {
+        SerializationDataEncoder compressingEncoder = new SerializationDataEncoder(
+            new GlueSchemaRegistryConfiguration(ImmutableMap.of(
+                AWSSchemaRegistryConstants.AWS_REGION, "us-west-2",
+                AWSSchemaRegistryConstants.COMPRESSION_TYPE, AWSSchemaRegistryConstants.COMPRESSION.ZLIB.name())));
+        byte[] bytes = new byte[SerializationDataEncoder.HEADER_SIZE + DATA.length];
+        System.arraycopy(DATA, 0, bytes, SerializationDataEncoder.HEADER_SIZE, DATA.length);
+
+        byte[] encoded = compressingEncoder.writeHeaderInPlace(bytes, SCHEMA_VERSION_ID);
+
+        assertTrue(compressingEncoder.isCompressionEnabled());
+        assertEquals(AWSSchemaRegistryConstants.COMPRESSION.ZLIB.getCompressionByte(), encoded[1]);
+        assertArrayEquals(DATA,
+                          GlueSchemaRegistryDeserializerDataParser.getInstance().getPlainData(ByteBuffer.wrap(encoded)));
+    }
+
+    @Test
+    public void testWrite_repeatedSchemaVersionId_producesSameHeader() {
+        byte[] first = encoder.write(DATA, SCHEMA_VERSION_ID);
+        byte[] second = encoder.write(DATA, SCHEMA_VERSION_ID);
+
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    public void testWrite_toByteBuffer_writesAtPositionAndAdvances() {
+        ByteBuffer destination = ByteBuffer.allocate(5 + SerializationDataEncoder.HEADER_SIZE + DATA.length);
+        destination.position(5);
+
+        int written = encoder.write(DATA, SCHEMA_VERSION_ID, destination);
+
+        assertEquals(SerializationDataEncoder.HEADER_SIZE + DATA.length, written);
+        assertEquals(destination.capacity(), destination.position());
+        assertArrayEquals(encoder.write(DATA, SCHEMA_VERSION_ID),
+                          Arrays.copyOfRange(destination.array(), 5, destination.capacity()));
+    }
+
+    @Test
+    public void testWrite_toLittleEndianByteBuffer_writesBigEndianSchemaVersionId() {
+        ByteBuffer destination = ByteBuffer.allocate(SerializationDataEncoder.HEADER_SIZE + DATA.length)
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+        encoder.write(DATA, SCHEMA_VERSION_ID, destination);
+
+        assertArrayEquals(encoder.write(DATA, SCHEMA_VERSION_ID), destination.array());
+    }
+
+    @Test
+    public void testWrite_toByteBufferWithoutEnoughSpace_throwsException() {
+        ByteBuffer destination = ByteBuffer.allocate(SerializationDataEncoder.HEADER_SIZE);
+
+        assertThrows(AWSSchemaRegistryException.class, () -> encoder.write(DATA, SCHEMA_VERSION_ID, destination));
+        assertEquals(0, destination.position());
+    }
+
+    @Test
+    public void testWriteBatch_multipleRecords_encodesEachRecordAtItsOffset() {
+        UUID otherSchemaVersionId = UUID.fromString("e2d0ab03-6d8e-4a8b-8a3c-1c3a8b7c9d10");
+        byte[] otherData = "Other".getBytes(StandardCharsets.UTF_8);
+
+        GlueSchemaRegistrySerializedBatch batch = encoder.writeBatch(new byte[][] {DATA, otherData, DATA},
+            new UUID[] {SCHEMA_VERSION_ID, otherSchemaVersionId, SCHEMA_VERSION_ID});
+
+        assertEquals(3, batch.getRecordCount());
+        assertEquals(0, batch.getOffset(0));
+        assertEquals(SerializationDataEncoder.HEADER_SIZE + DATA.length, batch.getOffset(1));
+        assertEquals(batch.getOffset(1) + batch.getLength(1), batch.getOffset(2));
+        assertEquals(batch.getBytes().length, batch.getOffset(2) + batch.getLength(2));
+        assertArrayEquals(encoder.write(DATA, SCHEMA_VERSION_ID), batch.getRecordBytes(0));
+        assertArrayEquals(encoder.write(otherData, otherSchemaVersionId), batch.getRecordBytes(1));
+        assertArrayEquals(encoder.write(DATA, SCHEMA_VERSION_ID), batch.getRecordBytes(2));
+
+        ByteBuffer record = batch.getRecord(1);
+        assertEquals(otherSchemaVersionId,
+                     GlueSchemaRegistryDeserializerDataParser.getInstance().getSchemaVersionId(record.duplicate()));
+        assertArrayEquals(otherData, GlueSchemaRegistryDeserializerDataParser.getInstance().getPlainData(record));
+    }
+
+    @Test
+    public void testWriteBatch_emptyBatch_returnsEmptyBatch() {
+        GlueSchemaRegistrySerializedBatch batch = encoder.writeBatch(new byte[0][], new UUID[0]);
+
+        assertEquals(0, batch.getRecordCount());
+        assertEquals(0, batch.getBytes().length);
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getRecord(0));
+    }
+
+    @Test
+    public void testWriteBatch_mismatchedSchemaVersionIds_throwsException() {
+        assertThrows(AWSSchemaRegistryException.class,
+                     () -> encoder.writeBatch(new byte[][] {DATA, DATA}, new UUID[] {SCHEMA_VERSION_ID}));
+    }
+}
@@ -1,10 +1,20 @@
 package com.amazonaws.services.schemaregistry.serializers.avro;
 
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.amazonaws.services.schemaregistry.utils.RecordGenerator;
 import org.apache.avro.generic.GenericRecord;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class AvroSerializerTest {
 
@@ -20,6 +30,68 @@ public class AvroSerializerTest {
         //Same schema won't be cached again.
         avroSerializer.serialize(genericUserRecord);
 
-        assertEquals(2, avroSerializer.datumWriterCache.size());
+        assertEquals(2, avroSerializer.datumWriterCache.getCacheSize());
+    }
+
+    @Test
+    public void serialize_WhenCacheSizeIsConfigured_EvictsAndReportsEvictions() {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.AVRO_DATUM_WRITER_CACHE_SIZE, "1");
+        AvroSerializer avroSerializer = new AvroSerializer(new GlueSchemaRegistryConfiguration(configs));
+
+        avroSerializer.serialize(RecordGenerator.createSpecificAvroRecord());
+        avroSerializer.serialize(RecordGenerator.createGenericUserMapAvroRecord());
+
+        assertEquals(1, avroSerializer.datumWriterCache.getCacheSize());
+        assertEquals(1, avroSerializer.getCacheStats().getEvictionCount());
+    }
+
+    @Test
+    public void serialize_WhenCacheMaximumWeightIsConfigured_CachesWithinWeight() {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.DATA_FORMAT_CACHE_MAXIMUM_WEIGHT_BYTES, "1048576");
+        AvroSerializer avroSerializer = new AvroSerializer(new GlueSchemaRegistryConfiguration(configs));
+
+        avroSerializer.serialize(RecordGenerator.createSpecificAvroRecord());
+        avroSerializer.serialize(RecordGenerator.createGenericUserMapAvroRecord());
+
+        assertEquals(2, avroSerializer.datumWriterCache.getCacheSize());
+        assertEquals(0, avroSerializer.getCacheStats().getEvictionCount());
+    }
+
+    @Test
+    public void getSchemaIdentity_WhenCalled_ReturnsSchemaOfRecord() {
+        AvroSerializer avroSerializer = new AvroSerializer();
+        GenericRecord genericUserRecord = RecordGenerator.createGenericUserMapAvroRecord();
+
+        assertSame(genericUserRecord.getSchema(), avroSerializer.getSchemaIdentity(genericUserRecord));
+        assertThrows(AWSSchemaRegistryException.class, () -> avroSerializer.getSchemaIdentity("not a record"));
+    }
+
+    @Test
+    public void serialize_WhenHeaderSizeIsReserved_WritesDataAfterReservedBytes() {
+        AvroSerializer avroSerializer = new AvroSerializer();
+        User specificUserRecord = RecordGenerator.createSpecificAvroRecord();
+
+        byte[] expected = avroSerializer.serialize(specificUserRecord);
+        byte[] withHeader = avroSerializer.serialize(specificUserRecord, 18);
+
+        assertEquals(18 + expected.length, withHeader.length);
+        assertArrayEquals(new byte[18], Arrays.copyOfRange(withHeader, 0, 18));
+        assertArrayEquals(expected, Arrays.copyOfRange(withHeader, 18, withHeader.length));
+    }
+
+    @Test
+    public void serialize_WhenPreviousRecordFailed_DoesNotCarryOverPartialData() {
+        AvroSerializer avroSerializer = new AvroSerializer();
+        GenericRecord genericUserRecord = RecordGenerator.createGenericUserMapAvroRecord();
+        byte[] expected = avroSerializer.serialize(genericUserRecord);
+
+        assertThrows(AWSSchemaRegistryException.class,
+                     () -> avroSerializer.serialize(RecordGenerator.createGenericInvalidMapAvroRecord()));
+
+        assertArrayEquals(expected, avroSerializer.serialize(genericUserRecord));
     }
-}
\ No newline at end of file
+}
@@ -15,17 +15,24 @@
 
 package com.amazonaws.services.schemaregistry.serializers.avro;
 
+import com.amazonaws.services.schemaregistry.caching.GlueSchemaRegistryCacheStats;
 import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryClient;
 import com.amazonaws.services.schemaregistry.common.AWSSerializerInput;
 import com.amazonaws.services.schemaregistry.common.GlueSchemaRegistryDataFormatSerializer;
 import com.amazonaws.services.schemaregistry.common.SchemaByDefinitionFetcher;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.deserializers.GlueSchemaRegistryDeserializerDataParser;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetricNames;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics;
 import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistryKafkaSerializer;
 import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistrySerializationFacade;
+import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistrySerializedBatch;
 import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistrySerializerFactory;
 import com.amazonaws.services.schemaregistry.serializers.json.Car;
 import com.amazonaws.services.schemaregistry.serializers.json.JsonDataWithSchema;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTrace;
+import com.amazonaws.services.schemaregistry.tracing.GlueSchemaRegistryTracer;
 import com.amazonaws.services.schemaregistry.utils.AVROUtils;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.amazonaws.services.schemaregistry.utils.RecordGenerator;
@@ -41,6 +48,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
@@ -60,20 +68,26 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GlueSchemaRegistrySerializationFacadeTest extends GlueSchemaRegistryValidationUtil {
@@ -720,6 +734,339 @@ public class GlueSchemaRegistrySerializationFacadeTest extends GlueSchemaRegistr
         assertEquals("JSON data validation against schema failed.", ex.getMessage());
     }
 
+    /**
+     * Tests serialization records its latency and sizes, tagged with the data format and compression.
+     */
+    @Test
+    public void testSerialize_metricsConfigured_recordsMetrics() {
+        GlueSchemaRegistryMetrics metrics = mock(GlueSchemaRegistryMetrics.class);
+        when(metrics.isEnabled()).thenReturn(true);
+        configs.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, metrics);
+        configs.put(AWSSchemaRegistryConstants.COMPRESSION_TYPE, AWSSchemaRegistryConstants.COMPRESSION.ZLIB.name());
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+
+        byte[] serializedData = glueSchemaRegistrySerializationFacade.serialize(DataFormat.AVRO, genericAvroRecord,
+                                                                                SCHEMA_VERSION_ID_FOR_TESTING);
+
+        verify(metrics).recordTime(eq(GlueSchemaRegistryMetricNames.SERIALIZATION_TIME), anyLong(),
+                                   eq(GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT), eq(DataFormat.AVRO.name()));
+        verify(metrics).recordAmount(eq(GlueSchemaRegistryMetricNames.PAYLOAD_SIZE), anyLong(),
+                                     eq(GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT), eq(DataFormat.AVRO.name()));
+        verify(metrics).recordAmount(GlueSchemaRegistryMetricNames.ENCODED_SIZE, serializedData.length,
+                                     GlueSchemaRegistryMetricNames.TAG_OPERATION,
+                                     GlueSchemaRegistryMetricNames.OPERATION_SERIALIZE,
+                                     GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, DataFormat.AVRO.name(),
+                                     GlueSchemaRegistryMetricNames.TAG_COMPRESSION,
+                                     AWSSchemaRegistryConstants.COMPRESSION.ZLIB.name());
+    }
+
+    /**
+     * Tests encoding records its sizes and failed serializations are counted by error type.
+     */
+    @Test
+    public void testEncode_metricsConfigured_recordsMetricsAndErrors() {
+        GlueSchemaRegistryMetrics metrics = mock(GlueSchemaRegistryMetrics.class);
+        when(metrics.isEnabled()).thenReturn(true);
+        configs.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, metrics);
+        String schemaDefinition = AVROUtils.getInstance().getSchemaDefinition(genericAvroRecord);
+        byte[] payload = new byte[] {1, 2, 3};
+        com.amazonaws.services.schemaregistry.common.Schema schema =
+                new com.amazonaws.services.schemaregistry.common.Schema(schemaDefinition, DataFormat.AVRO.name(), TEST_SCHEMA);
+        when(mockSchemaByDefinitionFetcher.getORRegisterSchemaVersionId(eq(schemaDefinition), eq(TEST_SCHEMA),
+                eq(DataFormat.AVRO.name()), anyMap())).thenReturn(SCHEMA_VERSION_ID_FOR_TESTING);
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+
+        glueSchemaRegistrySerializationFacade.encode(TRANSPORT_NAME, schema, payload);
+        assertThrows(AWSSchemaRegistryException.class, () -> glueSchemaRegistrySerializationFacade.serialize(
+                DataFormat.UNKNOWN_TO_SDK_VERSION, genericAvroRecord, SCHEMA_VERSION_ID_FOR_TESTING));
+
+        verify(metrics).recordAmount(GlueSchemaRegistryMetricNames.PAYLOAD_SIZE, payload.length,
+                                     GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, DataFormat.AVRO.name());
+        verify(metrics).increment(GlueSchemaRegistryMetricNames.SERDE_ERRORS,
+                                  GlueSchemaRegistryMetricNames.TAG_OPERATION,
+                                  GlueSchemaRegistryMetricNames.OPERATION_SERIALIZE,
+                                  GlueSchemaRegistryMetricNames.TAG_ERROR_TYPE, "AWSSchemaRegistryException");
+    }
+
+    /**
+     * Tests sampled serializations and encodings are traced with the timings of their phases.
+     */
+    @Test
+    public void testSerializeAndEncode_tracingConfigured_emitsTracesWithPhases() {
+        List<GlueSchemaRegistryTrace> traces = new ArrayList<>();
+        configs.put(AWSSchemaRegistryConstants.TRACING_PROVIDER, (GlueSchemaRegistryTracer) traces::add);
+        configs.put(AWSSchemaRegistryConstants.TRACING_SAMPLE_RATE, 1.0);
+        String schemaDefinition = AVROUtils.getInstance().getSchemaDefinition(genericAvroRecord);
+        com.amazonaws.services.schemaregistry.common.Schema schema =
+                new com.amazonaws.services.schemaregistry.common.Schema(schemaDefinition, DataFormat.AVRO.name(), TEST_SCHEMA);
+        when(mockSchemaByDefinitionFetcher.getORRegisterSchemaVersionId(eq(schemaDefinition), eq(TEST_SCHEMA),
+                eq(DataFormat.AVRO.name()), anyMap())).thenReturn(SCHEMA_VERSION_ID_FOR_TESTING);
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+
+        glueSchemaRegistrySerializationFacade.serialize(DataFormat.AVRO, genericAvroRecord, SCHEMA_VERSION_ID_FOR_TESTING);
+        glueSchemaRegistrySerializationFacade.encode(TRANSPORT_NAME, schema, new byte[] {1, 2, 3});
+
+        assertEquals(2, traces.size());
+        assertEquals(GlueSchemaRegistryTrace.OPERATION_SERIALIZE, traces.get(0).getOperation());
+        assertEquals(Arrays.asList(GlueSchemaRegistryTrace.PHASE_FORMAT_ENCODE, GlueSchemaRegistryTrace.PHASE_COMPRESSION),
+                     traces.get(0).getPhases().stream().map(GlueSchemaRegistryTrace.Phase::getName)
+                             .collect(Collectors.toList()));
+        assertEquals(GlueSchemaRegistryTrace.OPERATION_ENCODE, traces.get(1).getOperation());
+        assertEquals(DataFormat.AVRO.name(), traces.get(1).getDataFormat());
+        assertEquals(Arrays.asList(GlueSchemaRegistryTrace.PHASE_VALIDATION, GlueSchemaRegistryTrace.PHASE_SCHEMA_LOOKUP,
+                                   GlueSchemaRegistryTrace.PHASE_COMPRESSION),
+                     traces.get(1).getPhases().stream().map(GlueSchemaRegistryTrace.Phase::getName)
+                             .collect(Collectors.toList()));
+
+        assertThrows(AWSSchemaRegistryException.class, () -> glueSchemaRegistrySerializationFacade.serialize(
+                DataFormat.UNKNOWN_TO_SDK_VERSION, genericAvroRecord, SCHEMA_VERSION_ID_FOR_TESTING));
+        assertTrue(traces.get(2).getError() instanceof AWSSchemaRegistryException);
+    }
+
+    /**
+     * Tests the cache gauges registered by the facade report the statistics of its caches.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBuildGSRSerializationFacade_metricsConfigured_registersCacheGauges() {
+        GlueSchemaRegistryMetrics metrics = mock(GlueSchemaRegistryMetrics.class);
+        configs.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, metrics);
+        when(mockSchemaByDefinitionFetcher.getCacheStats()).thenReturn(
+                GlueSchemaRegistryCacheStats.builder().hitCount(3).missCount(1).evictionCount(2).build());
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+
+        ArgumentCaptor<ToDoubleFunction<GlueSchemaRegistrySerializationFacade>> hitRatio =
+                ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(metrics).registerGauge(eq(GlueSchemaRegistryMetricNames.CACHE_HIT_RATIO),
+                                      eq(glueSchemaRegistrySerializationFacade), hitRatio.capture(),
+                                      eq(GlueSchemaRegistryMetricNames.TAG_CACHE),
+                                      eq("schemaVersionIdBySchemaDefinition"),
+                                      eq(GlueSchemaRegistryMetricNames.TAG_INSTANCE), startsWith("serializer-"));
+        assertEquals(0.75, hitRatio.getValue().applyAsDouble(glueSchemaRegistrySerializationFacade));
+
+        ArgumentCaptor<ToDoubleFunction<GlueSchemaRegistrySerializationFacade>> evictions =
+                ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(metrics).registerGauge(eq(GlueSchemaRegistryMetricNames.CACHE_EVICTIONS),
+                                      eq(glueSchemaRegistrySerializationFacade), evictions.capture(),
+                                      eq(GlueSchemaRegistryMetricNames.TAG_CACHE),
+                                      eq("dataFormatSerializer"),
+                                      eq(GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT), eq(DataFormat.AVRO.name()),
+                                      eq(GlueSchemaRegistryMetricNames.TAG_INSTANCE), startsWith("serializer-"));
+        assertEquals(0.0, evictions.getValue().applyAsDouble(glueSchemaRegistrySerializationFacade));
+    }
+
+    /**
+     * Tests records referencing the same schema object resolve their schema version id once per schema name.
+     */
+    @Test
+    public void testGetOrRegisterSchemaVersion_sameSchemaObject_resolvesOncePerSchemaName() {
+        String schemaDefinition = AVROUtils.getInstance().getSchemaDefinition(genericAvroRecord);
+        when(mockSchemaByDefinitionFetcher.getORRegisterSchemaVersionId(eq(schemaDefinition), eq(TEST_SCHEMA),
+                eq(DataFormat.AVRO.name()), anyMap())).thenReturn(SCHEMA_VERSION_ID_FOR_TESTING);
+        when(mockSchemaByDefinitionFetcher.getORRegisterSchemaVersionId(eq(schemaDefinition), eq(USER_SCHEMA),
+                eq(DataFormat.AVRO.name()), anyMap())).thenReturn(null);
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+        GenericRecord sameSchemaRecord = new GenericData.Record(genericAvroRecord.getSchema());
+
+        for (Object record : Arrays.asList(genericAvroRecord, sameSchemaRecord, genericAvroRecord)) {
+            assertEquals(SCHEMA_VERSION_ID_FOR_TESTING, glueSchemaRegistrySerializationFacade
+                    .getOrRegisterSchemaVersion(DataFormat.AVRO, record, TEST_SCHEMA, TRANSPORT_NAME));
+        }
+        //Missing schema version ids are not cached.
+        glueSchemaRegistrySerializationFacade
+                .getOrRegisterSchemaVersion(DataFormat.AVRO, genericAvroRecord, USER_SCHEMA, TRANSPORT_NAME);
+        glueSchemaRegistrySerializationFacade
+                .getOrRegisterSchemaVersion(DataFormat.AVRO, genericAvroRecord, USER_SCHEMA, TRANSPORT_NAME);
+
+        verify(mockSchemaByDefinitionFetcher, times(1)).getORRegisterSchemaVersionId(eq(schemaDefinition),
+                eq(TEST_SCHEMA), eq(DataFormat.AVRO.name()), anyMap());
+        verify(mockSchemaByDefinitionFetcher, times(2)).getORRegisterSchemaVersionId(eq(schemaDefinition),
+                eq(USER_SCHEMA), eq(DataFormat.AVRO.name()), anyMap());
+    }
+
+    @Test
+    public void testGetOrRegisterSchemaVersion_nullData_throwsException() {
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+
+        assertThrows(IllegalArgumentException.class, () -> glueSchemaRegistrySerializationFacade
+                .getOrRegisterSchemaVersion(DataFormat.AVRO, null, TEST_SCHEMA, TRANSPORT_NAME));
+    }
+
+    /**
+     * Tests JSON records carrying their schema as a string are resolved by their schema definition.
+     */
+    @Test
+    public void testGetOrRegisterSchemaVersion_jsonSchemaString_resolvesBySchemaDefinition() {
+        JsonDataWithSchema record = RecordGenerator.createGenericJsonRecord(RecordGenerator.TestJsonRecord.GEOLOCATION);
+        String schemaDefinition = glueSchemaRegistrySerializerFactory
+                .getInstance(DataFormat.JSON, new GlueSchemaRegistryConfiguration(configs))
+                .getSchemaDefinition(record);
+        when(mockSchemaByDefinitionFetcher.getORRegisterSchemaVersionId(eq(schemaDefinition), eq(TEST_SCHEMA),
+                eq(DataFormat.JSON.name()), anyMap())).thenReturn(SCHEMA_VERSION_ID_FOR_TESTING);
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+
+        assertEquals(SCHEMA_VERSION_ID_FOR_TESTING, glueSchemaRegistrySerializationFacade
+                .getOrRegisterSchemaVersion(DataFormat.JSON, record, TEST_SCHEMA, TRANSPORT_NAME));
+        assertEquals(SCHEMA_VERSION_ID_FOR_TESTING, glueSchemaRegistrySerializationFacade
+                .getOrRegisterSchemaVersion(DataFormat.JSON, record, TEST_SCHEMA, TRANSPORT_NAME));
+        verify(mockSchemaByDefinitionFetcher, times(2)).getORRegisterSchemaVersionId(eq(schemaDefinition),
+                eq(TEST_SCHEMA), eq(DataFormat.JSON.name()), anyMap());
+    }
+
+    /**
+     * Tests a batch is serialized with one schema version lookup per distinct schema, in the order of the records.
+     */
+    @Test
+    public void testSerializeBatch_recordsOfTwoSchemas_resolvesEachSchemaOnce() {
+        //Records are grouped by schema instance, as producers build the records of a schema from one instance.
+        GenericRecord otherUserRecord = GenericData.get()
+                .deepCopy(genericAvroRecord.getSchema(), RecordGenerator.createGenericAvroRecord());
+        UUID mapSchemaVersionId = UUID.fromString("e2d0ab03-6d8e-4a8b-8a3c-1c3a8b7c9d10");
+        String userSchemaDefinition = AVROUtils.getInstance().getSchemaDefinition(genericAvroRecord);
+        String mapSchemaDefinition = AVROUtils.getInstance().getSchemaDefinition(genericUserMapAvroRecord);
+        when(mockSchemaByDefinitionFetcher.getORRegisterSchemaVersionId(eq(userSchemaDefinition), eq(TEST_SCHEMA),
+                eq(DataFormat.AVRO.name()), anyMap())).thenReturn(SCHEMA_VERSION_ID_FOR_TESTING);
+        when(mockSchemaByDefinitionFetcher.getORRegisterSchemaVersionId(eq(mapSchemaDefinition), eq(TEST_SCHEMA),
+                eq(DataFormat.AVRO.name()), anyMap())).thenReturn(mapSchemaVersionId);
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+
+        GlueSchemaRegistrySerializedBatch batch = glueSchemaRegistrySerializationFacade.serializeBatch(
+                DataFormat.AVRO, Arrays.asList(genericAvroRecord, genericUserMapAvroRecord, otherUserRecord),
+                record -> TEST_SCHEMA, TRANSPORT_NAME);
+
+        verify(mockSchemaByDefinitionFetcher, times(1)).getORRegisterSchemaVersionId(eq(userSchemaDefinition),
+                eq(TEST_SCHEMA), eq(DataFormat.AVRO.name()), anyMap());
+        verify(mockSchemaByDefinitionFetcher, times(1)).getORRegisterSchemaVersionId(eq(mapSchemaDefinition),
+                eq(TEST_SCHEMA), eq(DataFormat.AVRO.name()), anyMap());
+        assertEquals(3, batch.getRecordCount());
+        assertArrayEquals(glueSchemaRegistrySerializationFacade.serialize(DataFormat.AVRO, genericAvroRecord,
+                SCHEMA_VERSION_ID_FOR_TESTING), batch.getRecordBytes(0));
+        assertArrayEquals(glueSchemaRegistrySerializationFacade.serialize(DataFormat.AVRO, genericUserMapAvroRecord,
+                mapSchemaVersionId), batch.getRecordBytes(1));
+        assertArrayEquals(glueSchemaRegistrySerializationFacade.serialize(DataFormat.AVRO, otherUserRecord,
+                SCHEMA_VERSION_ID_FOR_TESTING), batch.getRecordBytes(2));
+    }
+
+    /**
+     * Tests records of equal Avro schemas that differ only in doc are resolved to their own schema versions.
+     */
+    @Test
+    public void testSerializeBatch_schemasDifferingOnlyInDoc_resolvesEachSchema() {
+        String schemaTemplate = "{\"type\":\"record\",\"name\":\"Doc\",\"doc\":\"%s\","
+                                + "\"fields\":[{\"name\":\"id\",\"type\":\"string\"}]}";
+        Schema firstSchema = new Schema.Parser().parse(String.format(schemaTemplate, "first"));
+        Schema secondSchema = new Schema.Parser().parse(String.format(schemaTemplate, "second"));
+        assertEquals(firstSchema, secondSchema);
+        GenericRecord firstRecord = new GenericData.Record(firstSchema);
+        firstRecord.put("id", "1");
+        GenericRecord secondRecord = new GenericData.Record(secondSchema);
+        secondRecord.put("id", "2");
+        UUID secondSchemaVersionId = UUID.fromString("e2d0ab03-6d8e-4a8b-8a3c-1c3a8b7c9d10");
+        when(mockSchemaByDefinitionFetcher.getORRegisterSchemaVersionId(eq(firstSchema.toString()), eq(TEST_SCHEMA),
+                eq(DataFormat.AVRO.name()), anyMap())).thenReturn(SCHEMA_VERSION_ID_FOR_TESTING);
+        when(mockSchemaByDefinitionFetcher.getORRegisterSchemaVersionId(eq(secondSchema.toString()), eq(TEST_SCHEMA),
+                eq(DataFormat.AVRO.name()), anyMap())).thenReturn(secondSchemaVersionId);
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+
+        GlueSchemaRegistrySerializedBatch batch = glueSchemaRegistrySerializationFacade.serializeBatch(
+                DataFormat.AVRO, Arrays.asList(firstRecord, secondRecord), record -> TEST_SCHEMA, TRANSPORT_NAME);
+
+        assertEquals(SCHEMA_VERSION_ID_FOR_TESTING, GlueSchemaRegistryDeserializerDataParser.getInstance()
+                .getSchemaVersionId(batch.getRecord(0)));
+        assertEquals(secondSchemaVersionId, GlueSchemaRegistryDeserializerDataParser.getInstance()
+                .getSchemaVersionId(batch.getRecord(1)));
+    }
+
+    /**
+     * Tests records sharing a schema are registered under each schema name given to them.
+     */
+    @Test
+    public void testSerializeBatch_sameSchemaWithDifferentNames_resolvesEachName() {
+        String schemaDefinition = glueSchemaRegistrySerializerFactory
+                .getInstance(DataFormat.JSON, new GlueSchemaRegistryConfiguration(configs))
+                .getSchemaDefinition(specificJsonCarRecord);
+        UUID otherSchemaVersionId = UUID.fromString("e2d0ab03-6d8e-4a8b-8a3c-1c3a8b7c9d10");
+        when(mockSchemaByDefinitionFetcher.getORRegisterSchemaVersionId(eq(schemaDefinition), eq(TEST_SCHEMA),
+                eq(DataFormat.JSON.name()), anyMap())).thenReturn(SCHEMA_VERSION_ID_FOR_TESTING);
+        when(mockSchemaByDefinitionFetcher.getORRegisterSchemaVersionId(eq(schemaDefinition), eq(USER_SCHEMA),
+                eq(DataFormat.JSON.name()), anyMap())).thenReturn(otherSchemaVersionId);
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+        List<Object> records = Arrays.asList(specificJsonCarRecord, RecordGenerator.createSpecificJsonRecord());
+
+        GlueSchemaRegistrySerializedBatch batch = glueSchemaRegistrySerializationFacade.serializeBatch(
+                DataFormat.JSON, records, record -> record == specificJsonCarRecord ? TEST_SCHEMA : USER_SCHEMA,
+                TRANSPORT_NAME);
+
+        assertEquals(SCHEMA_VERSION_ID_FOR_TESTING, GlueSchemaRegistryDeserializerDataParser.getInstance()
+                .getSchemaVersionId(batch.getRecord(0)));
+        assertEquals(otherSchemaVersionId, GlueSchemaRegistryDeserializerDataParser.getInstance()
+                .getSchemaVersionId(batch.getRecord(1)));
+    }
+
+    /**
+     * Tests a batch sharing a schema version id is traced and a null record fails the batch.
+     */
+    @Test
+    public void testSerializeBatch_schemaVersionIdGiven_encodesRecordsAndRejectsNullRecord() {
+        List<GlueSchemaRegistryTrace> traces = new ArrayList<>();
+        configs.put(AWSSchemaRegistryConstants.TRACING_PROVIDER, (GlueSchemaRegistryTracer) traces::add);
+        configs.put(AWSSchemaRegistryConstants.TRACING_SAMPLE_RATE, 1.0);
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+
+        GlueSchemaRegistrySerializedBatch batch = glueSchemaRegistrySerializationFacade.serializeBatch(
+                DataFormat.AVRO, Arrays.asList(genericAvroRecord, genericAvroRecord), SCHEMA_VERSION_ID_FOR_TESTING);
+
+        assertEquals(2, batch.getRecordCount());
+        assertArrayEquals(batch.getRecordBytes(0), batch.getRecordBytes(1));
+        assertEquals(GlueSchemaRegistryTrace.OPERATION_SERIALIZE_BATCH, traces.get(0).getOperation());
+        assertEquals(Arrays.asList(GlueSchemaRegistryTrace.PHASE_SCHEMA_LOOKUP, GlueSchemaRegistryTrace.PHASE_FORMAT_ENCODE,
+                                   GlueSchemaRegistryTrace.PHASE_COMPRESSION),
+                     traces.get(0).getPhases().stream().map(GlueSchemaRegistryTrace.Phase::getName)
+                             .collect(Collectors.toList()));
+
+        Exception ex = assertThrows(IllegalArgumentException.class,
+                () -> glueSchemaRegistrySerializationFacade.serializeBatch(DataFormat.AVRO,
+                        Arrays.asList(genericAvroRecord, null), SCHEMA_VERSION_ID_FOR_TESTING));
+        assertEquals("Record at index 1 of the batch is null", ex.getMessage());
+        assertTrue(traces.get(1).getError() instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Tests batch serialization records the sizes of each record.
+     */
+    @Test
+    public void testSerializeBatch_metricsConfigured_recordsSizesPerRecord() {
+        GlueSchemaRegistryMetrics metrics = mock(GlueSchemaRegistryMetrics.class);
+        when(metrics.isEnabled()).thenReturn(true);
+        configs.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, metrics);
+        GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade =
+                createGlueSerializationFacade(configs, mockSchemaByDefinitionFetcher);
+
+        GlueSchemaRegistrySerializedBatch batch = glueSchemaRegistrySerializationFacade.serializeBatch(
+                DataFormat.AVRO, Arrays.asList(genericAvroRecord, genericAvroRecord), SCHEMA_VERSION_ID_FOR_TESTING);
+
+        verify(metrics, times(2)).recordAmount(eq(GlueSchemaRegistryMetricNames.PAYLOAD_SIZE), anyLong(),
+                                               eq(GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT),
+                                               eq(DataFormat.AVRO.name()));
+        verify(metrics, times(2)).recordAmount(GlueSchemaRegistryMetricNames.ENCODED_SIZE, batch.getLength(0),
+                                               GlueSchemaRegistryMetricNames.TAG_OPERATION,
+                                               GlueSchemaRegistryMetricNames.OPERATION_SERIALIZE,
+                                               GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, DataFormat.AVRO.name(),
+                                               GlueSchemaRegistryMetricNames.TAG_COMPRESSION,
+                                               AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+    }
+
     private AWSSerializerInput prepareInput(String schemaDefinition,
                                             String schemaName,
                                             String dataFormat) {
@@ -249,11 +249,7 @@ public class GlueSchemaRegistryValidationUtil {
         assertEquals((byte) 3, headerVersionByte);
         assertEquals(testGenericSchemaVersionId, schemaVersionId);
 
-        if (compressionType.name().equals(AWSSchemaRegistryConstants.COMPRESSION.NONE.name())) {
-            assertEquals((byte) 0, compressionByte);
-        } else {
-            assertEquals((byte) 5, compressionByte);
-        }
+        assertEquals(compressionType.getCompressionByte(), compressionByte);
 
         if (expectedPayload != null) {
             byte[] actualPayload = new byte[buffer.remaining()];
@@ -28,6 +28,7 @@ import java.util.HashMap;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JsonSerializerTest {
@@ -47,6 +48,48 @@ public class JsonSerializerTest {
         assertArrayEquals(expectedBytes, serializedBytes);
     }
 
+    @Test
+    public void testSerialize_sameSchemaTwice_reportsCompiledSchemaCacheHit() {
+        JsonSerializer serializer = new JsonSerializer(null);
+
+        serializer.serialize(GENERIC_TEST_RECORD);
+        serializer.serialize(GENERIC_TEST_RECORD);
+
+        assertEquals(1, serializer.getCacheStats().getHitCount());
+        assertEquals(1, serializer.getCacheStats().getMissCount());
+    }
+
+    @Test
+    public void testValidate_jacksonTreeEngine_validatesRecords() {
+        JsonSerializer serializer =
+                new JsonSerializer(new GlueSchemaRegistryConfiguration(new HashMap<String, String>() {{
+                    put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+                    put(AWSSchemaRegistryConstants.JSON_VALIDATION_ENGINE,
+                        AWSSchemaRegistryConstants.JsonValidationEngine.JACKSON_TREE.name());
+                }}));
+
+        assertDoesNotThrow(() -> serializer.validate(GENERIC_TEST_RECORD));
+        assertDoesNotThrow(() -> serializer.validate(SPECIFIC_TEST_RECORD));
+        Exception ex = assertThrows(AWSSchemaRegistryException.class,
+                                    () -> serializer.validate(RecordGenerator.createNonSchemaConformantJsonData()));
+        assertEquals("JSON data validation against schema failed.", ex.getMessage());
+    }
+
+    @Test
+    public void testSerialize_neverValidationPolicy_skipsValidation() {
+        JsonSerializer serializer =
+                new JsonSerializer(new GlueSchemaRegistryConfiguration(new HashMap<String, String>() {{
+                    put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+                    put(AWSSchemaRegistryConstants.JSON_VALIDATION_POLICY,
+                        AWSSchemaRegistryConstants.JsonValidationPolicy.NEVER.name());
+                }}));
+        JsonDataWithSchema nonSchemaConformantRecord = RecordGenerator.createNonSchemaConformantJsonData();
+
+        assertDoesNotThrow(() -> serializer.serialize(nonSchemaConformantRecord));
+        assertDoesNotThrow(() -> serializer.validate(nonSchemaConformantRecord));
+        assertEquals(0, serializer.getCacheStats().getRequestCount());
+    }
+
     @Test
     public void testWrapper_serializeWithSpecificRecord_bytesMatch() throws JsonProcessingException {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -137,6 +180,19 @@ public class JsonSerializerTest {
         assertEquals(schemaDefinition, jsonSerializer.getSchemaDefinition(SPECIFIC_TEST_RECORD));
     }
 
+    @Test
+    public void testPojo_getSchemaDefinitionTwice_generatesSchemaOnce() {
+        JsonSerializer serializer = new JsonSerializer(null);
+
+        String schemaDefinition = serializer.getSchemaDefinition(SPECIFIC_TEST_RECORD);
+        serializer.serialize(SPECIFIC_TEST_RECORD);
+        serializer.getSchemaDefinition(GENERIC_TEST_RECORD);
+
+        assertSame(schemaDefinition, serializer.getSchemaDefinition(SPECIFIC_TEST_RECORD));
+        assertEquals(1, serializer.generatedSchemaDefinitions.size());
+        assertEquals(schemaDefinition, serializer.generatedSchemaDefinitions.getIfPresent(Car.class));
+    }
+
     @Test
     public void testGetSchemaDefinition_nullObject_throwsException() {
         assertThrows(IllegalArgumentException.class, () -> jsonSerializer.getSchemaDefinition(null));
@@ -146,4 +202,10 @@ public class JsonSerializerTest {
     public void testSerialize_nullObject_throwsException() {
         assertThrows(IllegalArgumentException.class, () -> jsonSerializer.serialize(null));
     }
+
+    @Test
+    public void testGetSchemaIdentity_wrapperAndPojo_returnsSchemaAndClass() {
+        assertEquals(GENERIC_TEST_RECORD.getSchema(), jsonSerializer.getSchemaIdentity(GENERIC_TEST_RECORD));
+        assertEquals(Car.class, jsonSerializer.getSchemaIdentity(SPECIFIC_TEST_RECORD));
+    }
 }
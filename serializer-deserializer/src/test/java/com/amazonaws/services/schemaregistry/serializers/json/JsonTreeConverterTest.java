@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.serializers.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonTreeConverterTest {
+    private static final String DOCUMENT = "{\"int\":1,\"long\":4294967296,\"bigInteger\":18446744073709551616,"
+            + "\"decimal\":48.858093,\"exponent\":1E+2,\"text\":\"abc\",\"flag\":true,\"nothing\":null,"
+            + "\"nested\":{\"list\":[1,\"two\",[3.5,null],{}]}}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonTreeConverter converter = new JsonTreeConverter(mapper);
+
+    @Test
+    public void testToJsonValue_object_matchesParsedJson() throws Exception {
+        JSONObject expected = new JSONObject(DOCUMENT);
+
+        JSONObject actual = (JSONObject) converter.toJsonValue(mapper.readTree(DOCUMENT));
+
+        assertTrue(expected.similar(actual));
+        for (String key : expected.keySet()) {
+            assertEquals(expected.get(key).getClass(), actual.get(key).getClass(), key);
+        }
+    }
+
+    @Test
+    public void testToJsonValue_exactDecimals_matchesParsedJson() throws Exception {
+        ObjectMapper exactMapper = new ObjectMapper();
+        exactMapper.setNodeFactory(JsonNodeFactory.withExactBigDecimals(true));
+
+        JSONObject actual = (JSONObject) new JsonTreeConverter(exactMapper).toJsonValue(exactMapper.readTree(DOCUMENT));
+
+        assertEquals(new BigDecimal("48.858093"), actual.get("decimal"));
+        assertEquals(new BigInteger("18446744073709551616"), actual.get("bigInteger"));
+        assertEquals(4294967296L, actual.get("long"));
+    }
+
+    @Test
+    public void testToJsonValue_array_matchesParsedJson() throws Exception {
+        String document = "[1,\"two\",[3.5,null],{\"a\":false}]";
+
+        JSONArray actual = (JSONArray) converter.toJsonValue(mapper.readTree(document));
+
+        assertTrue(new JSONArray(document).similar(actual));
+    }
+
+    @Test
+    public void testToJsonValue_binaryAndPojoNodes_convertsAsRendered() {
+        byte[] bytes = "Test String".getBytes(StandardCharsets.UTF_8);
+        ObjectNode node = mapper.createObjectNode();
+        node.put("binary", bytes);
+        node.putPOJO("pojo", Collections.singletonMap("key", "value"));
+
+        JSONObject actual = (JSONObject) converter.toJsonValue(node);
+
+        assertEquals(Base64.getEncoder().encodeToString(bytes), actual.get("binary"));
+        assertEquals("value", actual.getJSONObject("pojo").get("key"));
+    }
+
+    @Test
+    public void testToJsonValue_nullNode_convertsToJsonNull() {
+        JsonNode node = mapper.nullNode();
+
+        assertSame(JSONObject.NULL, converter.toJsonValue(node));
+    }
+}
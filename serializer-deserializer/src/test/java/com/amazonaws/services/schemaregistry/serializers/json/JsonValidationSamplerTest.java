@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.serializers.json;
+
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetricNames;
+import com.amazonaws.services.schemaregistry.metrics.GlueSchemaRegistryMetrics;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.DataFormat;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class JsonValidationSamplerTest {
+    private final GlueSchemaRegistryMetrics metrics = mock(GlueSchemaRegistryMetrics.class);
+    private final AtomicInteger validations = new AtomicInteger();
+
+    @Test
+    public void testValidate_defaultPolicy_validatesEveryRecord() {
+        JsonValidationSampler sampler = new JsonValidationSampler(null);
+
+        validateRecords(sampler, "schema", 3);
+
+        assertEquals(3, validations.get());
+    }
+
+    @Test
+    public void testValidate_firstNPerSchemaPolicy_validatesFirstRecordsOfEachSchema() {
+        JsonValidationSampler sampler = createSampler(AWSSchemaRegistryConstants.JsonValidationPolicy.FIRST_N_PER_SCHEMA);
+
+        validateRecords(sampler, "schema", 5);
+        validateRecords(sampler, Car.class, 1);
+
+        assertEquals(3, validations.get());
+        verifyCount(GlueSchemaRegistryMetricNames.OUTCOME_SUCCESS, 3);
+        verifyCount(GlueSchemaRegistryMetricNames.OUTCOME_SKIPPED, 3);
+    }
+
+    @Test
+    public void testValidate_firstNPerSchemaPolicy_holdsClassIdentitiesWeakly() {
+        JsonValidationSampler sampler = createSampler(AWSSchemaRegistryConstants.JsonValidationPolicy.FIRST_N_PER_SCHEMA);
+        Object identity = new Object();
+        WeakReference<Object> reference = new WeakReference<>(identity);
+
+        validateRecords(sampler, identity, 1);
+        validateRecords(sampler, "schema", 1);
+        assertEquals(1, sampler.validationsByClass.size());
+
+        identity = null;
+        for (int i = 0; i < 100 && (reference.get() != null || sampler.validationsByClass.size() > 0); i++) {
+            System.gc();
+            sampler.validationsByClass.cleanUp();
+        }
+        assumeTrue(reference.get() == null, "Identity was not garbage collected");
+
+        assertEquals(0, sampler.validationsByClass.size());
+    }
+
+    @Test
+    public void testValidate_sampledPolicy_validatesSampledRecords() {
+        Map<String, Object> configs = createConfigs(AWSSchemaRegistryConstants.JsonValidationPolicy.SAMPLED);
+        configs.put(AWSSchemaRegistryConstants.JSON_VALIDATION_SAMPLE_RATE, "1.0");
+        JsonValidationSampler alwaysSampled = new JsonValidationSampler(new GlueSchemaRegistryConfiguration(configs));
+        configs.put(AWSSchemaRegistryConstants.JSON_VALIDATION_SAMPLE_RATE, "0.0");
+        JsonValidationSampler neverSampled = new JsonValidationSampler(new GlueSchemaRegistryConfiguration(configs));
+
+        validateRecords(alwaysSampled, "schema", 4);
+        validateRecords(neverSampled, "schema", 4);
+
+        assertEquals(4, validations.get());
+        verifyCount(GlueSchemaRegistryMetricNames.OUTCOME_SKIPPED, 4);
+    }
+
+    @Test
+    public void testValidate_neverPolicy_skipsValidation() {
+        JsonValidationSampler sampler = createSampler(AWSSchemaRegistryConstants.JsonValidationPolicy.NEVER);
+
+        validateRecords(sampler, "schema", 2);
+
+        assertEquals(0, validations.get());
+        verifyCount(GlueSchemaRegistryMetricNames.OUTCOME_SKIPPED, 2);
+    }
+
+    @Test
+    public void testValidate_validationFails_countsAndRethrowsFailure() {
+        JsonValidationSampler sampler = createSampler(AWSSchemaRegistryConstants.JsonValidationPolicy.ALWAYS);
+
+        assertThrows(AWSSchemaRegistryException.class, () -> sampler.validate("schema", () -> {
+            throw new AWSSchemaRegistryException("JSON data validation against schema failed.");
+        }));
+
+        verifyCount(GlueSchemaRegistryMetricNames.OUTCOME_ERROR, 1);
+    }
+
+    private JsonValidationSampler createSampler(AWSSchemaRegistryConstants.JsonValidationPolicy policy) {
+        return new JsonValidationSampler(new GlueSchemaRegistryConfiguration(createConfigs(policy)));
+    }
+
+    private Map<String, Object> createConfigs(AWSSchemaRegistryConstants.JsonValidationPolicy policy) {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.METRICS_PROVIDER, metrics);
+        configs.put(AWSSchemaRegistryConstants.JSON_VALIDATION_POLICY, policy.name());
+        configs.put(AWSSchemaRegistryConstants.JSON_VALIDATION_RECORDS_PER_SCHEMA, "2");
+        return configs;
+    }
+
+    private void validateRecords(JsonValidationSampler sampler, Object schemaIdentity, int count) {
+        for (int i = 0; i < count; i++) {
+            sampler.validate(schemaIdentity, validations::incrementAndGet);
+        }
+    }
+
+    private void verifyCount(String outcome, int count) {
+        verify(metrics, times(count)).increment(GlueSchemaRegistryMetricNames.VALIDATIONS,
+                                                GlueSchemaRegistryMetricNames.TAG_DATA_FORMAT, DataFormat.JSON.name(),
+                                                GlueSchemaRegistryMetricNames.TAG_OUTCOME, outcome);
+    }
+}
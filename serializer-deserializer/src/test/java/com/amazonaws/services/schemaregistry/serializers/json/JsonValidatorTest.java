@@ -41,4 +41,25 @@ public class JsonValidatorTest {
             validator.validateDataWithSchema(schemaNode, dataNode);
         });
     }
+
+    @Test
+    public void testValidateDataWithSchema_sameSchemaTwice_compilesSchemaOnce() throws JsonProcessingException {
+        JsonNode dataNode = mapper.readTree("\"Test String\"");
+
+        validator.validateDataWithSchema(stringSchema, dataNode);
+        validator.validateDataWithSchema(stringSchema, dataNode);
+
+        assertEquals(1, validator.schemaCache.getCacheSize());
+        assertEquals(1, validator.getCacheStats().getHitCount());
+    }
+
+    @Test
+    public void testValidateDataWithSchema_malformedSchema_throwsException() throws JsonProcessingException {
+        JsonNode dataNode = mapper.readTree("\"Test String\"");
+        String malformedSchema = "{\"type\": \"string\",}";
+
+        assertThrows(AWSSchemaRegistryException.class,
+                     () -> validator.validateDataWithSchema(malformedSchema, dataNode));
+        assertEquals(0, validator.schemaCache.getCacheSize());
+    }
 }
@@ -186,10 +186,49 @@ public class ProtobufSerializerTest {
             .map(objects -> objects[0])
             .forEach(protobufSerializer::getSchemaDefinition);
 
-        assertEquals(3, protobufSerializer.schemaGeneratorCache.size());
+        assertEquals(3, protobufSerializer.schemaGeneratorCache.getCacheSize());
+    }
+
+    @Test
+    public void testSerialize_CacheSizeConfigured_EvictsGeneratedSchemas() {
+        ProtobufSerializer smallCacheSerializer =
+            new ProtobufSerializer(new GlueSchemaRegistryConfiguration(new HashMap<String, String>() {{
+                put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+                put(AWSSchemaRegistryConstants.PROTOBUF_SCHEMA_GENERATOR_CACHE_SIZE, "1");
+            }}));
+
+        smallCacheSerializer.getSchemaDefinition(BASIC_SYNTAX2_MESSAGE);
+        smallCacheSerializer.getSchemaDefinition(BASIC_SYNTAX3_MESSAGE);
+
+        assertEquals(1, smallCacheSerializer.schemaGeneratorCache.getCacheSize());
+        assertEquals(1, smallCacheSerializer.getCacheStats().getEvictionCount());
+        assertEquals(2, smallCacheSerializer.getCacheStats().getMissCount());
+    }
+
+    @Test
+    public void testSerialize_CacheMaximumWeightConfigured_CachesGeneratedSchemas() {
+        ProtobufSerializer weighedCacheSerializer =
+            new ProtobufSerializer(new GlueSchemaRegistryConfiguration(new HashMap<String, String>() {{
+                put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+                put(AWSSchemaRegistryConstants.DATA_FORMAT_CACHE_MAXIMUM_WEIGHT_BYTES, "1048576");
+            }}));
+
+        weighedCacheSerializer.getSchemaDefinition(BASIC_SYNTAX2_MESSAGE);
+        weighedCacheSerializer.getSchemaDefinition(BASIC_SYNTAX3_MESSAGE);
+
+        assertEquals(2, weighedCacheSerializer.schemaGeneratorCache.getCacheSize());
+        assertEquals(0, weighedCacheSerializer.getCacheStats().getEvictionCount());
     }
 
     private Descriptors.FileDescriptor getFileDescriptor(Message message) {
         return message.getDescriptorForType().getFile();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetSchemaIdentity_messagesOfSameFile_returnsFileDescriptor() {
+        assertEquals(getFileDescriptor(BASIC_SYNTAX2_MESSAGE), protobufSerializer.getSchemaIdentity(BASIC_SYNTAX2_MESSAGE));
+        assertEquals(protobufSerializer.getSchemaIdentity(NESTING_MESSAGE_PROTO3),
+                     protobufSerializer.getSchemaIdentity(NESTING_MESSAGE_PROTO3.toBuilder().build()));
+        assertThrows(AWSSchemaRegistryException.class, () -> protobufSerializer.getSchemaIdentity("not a message"));
+    }
+}